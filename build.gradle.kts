@@ -52,6 +52,24 @@ dependencies {
 
 tasks.withType<JavaCompile> {
     options.compilerArgs.add("-Xlint:-requires-transitive-automatic") // Adventure dependencies are automatic until 5.0.0, see https://github.com/KyoriPowered/adventure/issues/1287
+    options.compilerArgs.add("-Xlint:-incubating") // jdk.incubator.vector is an optional dependency of the palettes
+}
+
+// The main suite runs the scalar palette operations, the palette tests are run again vectorized
+val testVectorized = tasks.register<Test>("testVectorized") {
+    group = "verification"
+    description = "Runs the palette tests with the Vector API module."
+
+    testClassesDirs = sourceSets["test"].output.classesDirs
+    classpath = sourceSets["test"].runtimeClasspath
+    filter {
+        includeTestsMatching("net.minestom.server.instance.palette.*")
+    }
+    jvmArgs("--add-modules=jdk.incubator.vector")
+}
+
+tasks.check {
+    dependsOn(testVectorized)
 }
 
 // GraalVM Native Image configuration
@@ -0,0 +1,69 @@
+package net.minestom.server.instance;
+
+import net.kyori.adventure.key.Key;
+import net.minestom.server.MinecraftServer;
+import net.minestom.server.instance.block.Block;
+import net.minestom.server.instance.block.BlockHandler;
+import net.minestom.server.world.DimensionType;
+import org.openjdk.jcstress.annotations.*;
+import org.openjdk.jcstress.infra.results.Z_Result;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import static org.openjdk.jcstress.annotations.Expect.ACCEPTABLE;
+import static org.openjdk.jcstress.annotations.Expect.FORBIDDEN;
+
+@JCStressTest
+@Outcome(id = "true", expect = ACCEPTABLE, desc = "The distant change completed while the first one held its stripes")
+@Outcome(id = "false", expect = FORBIDDEN, desc = "The distant change waited for the first one")
+@State
+public class BlockSetStripeIndependenceTest {
+    private static final long TIMEOUT = TimeUnit.SECONDS.toNanos(1);
+
+    static {
+        MinecraftServer.init();
+    }
+
+    // With the default 256 stripes, the areas of chunks 0 and 16 do not share any
+    private final InstanceContainer instance = new InstanceContainer(UUID.randomUUID(), DimensionType.OVERWORLD, ChunkLoader.noop());
+
+    {
+        instance.loadChunk(0, 0).join();
+        instance.loadChunk(16, 0).join();
+    }
+
+    private volatile boolean distantChanged;
+    private boolean observed;
+
+    // Holds the stripes of chunk 0 until the distant change is done
+    private final BlockHandler waiting = new BlockHandler() {
+        @Override
+        public void onPlace(Placement placement) {
+            final long deadline = System.nanoTime() + TIMEOUT;
+            while (!distantChanged && System.nanoTime() < deadline) Thread.onSpinWait();
+            observed = distantChanged;
+        }
+
+        @Override
+        public Key getKey() {
+            return Key.key("minestom:waiting");
+        }
+    };
+
+    @Actor
+    public void actor1() {
+        instance.setBlock(0, 0, 0, Block.STONE.withHandler(waiting));
+    }
+
+    @Actor
+    public void actor2() {
+        instance.setBlock(256, 0, 0, Block.DIRT);
+        distantChanged = true;
+    }
+
+    @Arbiter
+    public void arbiter(Z_Result r) {
+        r.r1 = observed;
+    }
+}
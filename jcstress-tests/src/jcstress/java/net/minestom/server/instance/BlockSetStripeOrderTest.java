@@ -0,0 +1,67 @@
+package net.minestom.server.instance;
+
+import net.kyori.adventure.key.Key;
+import net.minestom.server.MinecraftServer;
+import net.minestom.server.instance.block.Block;
+import net.minestom.server.instance.block.BlockHandler;
+import net.minestom.server.world.DimensionType;
+import org.openjdk.jcstress.annotations.*;
+import org.openjdk.jcstress.infra.results.ZZ_Result;
+
+import java.util.Objects;
+import java.util.UUID;
+
+import static org.openjdk.jcstress.annotations.Expect.ACCEPTABLE;
+
+@JCStressTest
+@Outcome(id = "true, true", expect = ACCEPTABLE)
+@State
+public class BlockSetStripeOrderTest {
+    static {
+        MinecraftServer.init();
+    }
+
+    // Placing the block changes the other chunk, locking its stripes while holding those of the first one
+    private static final BlockHandler UPDATE_CHUNK_1 = new UpdatingHandler(16, Block.GOLD_BLOCK);
+    private static final BlockHandler UPDATE_CHUNK_0 = new UpdatingHandler(15, Block.DIAMOND_BLOCK);
+
+    private final InstanceContainer instance = new InstanceContainer(UUID.randomUUID(), DimensionType.OVERWORLD, ChunkLoader.noop());
+
+    {
+        instance.loadChunk(0, 0).join();
+        instance.loadChunk(1, 0).join();
+    }
+
+    @Actor
+    public void actor1() {
+        // Chunk 0, then chunk 1
+        instance.setBlock(15, 0, 0, Block.STONE.withHandler(UPDATE_CHUNK_1));
+    }
+
+    @Actor
+    public void actor2() {
+        // Chunk 1, then chunk 0
+        instance.setBlock(16, 0, 0, Block.DIRT.withHandler(UPDATE_CHUNK_0));
+    }
+
+    @Arbiter
+    public void arbiter(ZZ_Result r) {
+        // Nested changes unable to lock their stripes are deferred to the chunk tick
+        Objects.requireNonNull(instance.getChunk(0, 0)).tick(0);
+        Objects.requireNonNull(instance.getChunk(1, 0)).tick(0);
+        r.r1 = instance.getBlock(15, 0, 0).compare(Block.STONE) && instance.getBlock(16, 0, 0).compare(Block.DIRT);
+        r.r2 = instance.getBlock(16, 1, 0).compare(Block.GOLD_BLOCK) && instance.getBlock(15, 1, 0).compare(Block.DIAMOND_BLOCK);
+    }
+
+    private record UpdatingHandler(int x, Block block) implements BlockHandler {
+        @Override
+        public void onPlace(Placement placement) {
+            placement.getInstance().setBlock(x, 1, 0, block);
+        }
+
+        @Override
+        public Key getKey() {
+            return Key.key("minestom:updating");
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package net.minestom.server.instance;
+
+import net.minestom.server.MinecraftServer;
+import net.minestom.server.instance.block.Block;
+import net.minestom.server.world.DimensionType;
+import org.openjdk.jcstress.annotations.*;
+import org.openjdk.jcstress.infra.results.ZZ_Result;
+
+import java.util.UUID;
+
+import static org.openjdk.jcstress.annotations.Expect.ACCEPTABLE;
+
+@JCStressTest
+@Outcome(id = "true, true", expect = ACCEPTABLE)
+@State
+public class BlockSetStripeTest {
+    static {
+        MinecraftServer.init();
+    }
+
+    private final InstanceContainer instance = new InstanceContainer(UUID.randomUUID(), DimensionType.OVERWORLD, ChunkLoader.noop());
+
+    {
+        instance.loadChunk(0, 0).join();
+        instance.loadChunk(1, 0).join();
+    }
+
+    @Actor
+    public void actor1() {
+        // Last block of chunk 0
+        instance.setBlock(15, 0, 0, Block.STONE);
+        instance.setBlock(15, 1, 0, Block.STONE);
+    }
+
+    @Actor
+    public void actor2() {
+        // First block of chunk 1
+        instance.setBlock(16, 0, 0, Block.DIRT);
+        instance.setBlock(15, 1, 0, Block.DIRT);
+    }
+
+    @Arbiter
+    public void arbiter(ZZ_Result r) {
+        r.r1 = instance.getBlock(15, 0, 0).compare(Block.STONE) && instance.getBlock(16, 0, 0).compare(Block.DIRT);
+        final Block contested = instance.getBlock(15, 1, 0);
+        r.r2 = contested.compare(Block.STONE) || contested.compare(Block.DIRT);
+    }
+}
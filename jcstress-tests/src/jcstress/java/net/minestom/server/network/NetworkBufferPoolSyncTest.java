@@ -1,7 +1,5 @@
-package net.minestom.server.utils;
+package net.minestom.server.network;
 
-import net.minestom.server.network.NetworkBuffer;
-import net.minestom.server.network.packet.PacketVanilla;
 import org.openjdk.jcstress.annotations.*;
 import org.openjdk.jcstress.infra.results.L_Result;
 
@@ -11,8 +9,8 @@ import static org.openjdk.jcstress.annotations.Expect.ACCEPTABLE;
 @Outcome(id = "1", expect = ACCEPTABLE)
 @Outcome(id = "2", expect = ACCEPTABLE)
 @State
-public class ObjectPoolTest {
-    private final ObjectPool<NetworkBuffer> pool = PacketVanilla.PACKET_POOL;
+public class NetworkBufferPoolSyncTest {
+    private final NetworkBufferPool pool = new NetworkBufferPool(NetworkBuffer::staticBuffer, 16 * 1024, 1024 * 1024, false);
 
     @Actor
     public void actor1() {
@@ -28,6 +26,6 @@ public class ObjectPoolTest {
 
     @Arbiter
     public void arbiter(L_Result r) {
-        r.r1 = pool.count();
+        r.r1 = pool.stats().get(1).pooled();
     }
 }
@@ -0,0 +1,88 @@
+package net.minestom.server.entity.pathfinding;
+
+import net.minestom.server.MinecraftServer;
+import net.minestom.server.collision.BoundingBox;
+import net.minestom.server.coordinate.Pos;
+import net.minestom.server.coordinate.Vec;
+import net.minestom.server.entity.pathfinding.generators.FlyingNodeGenerator;
+import net.minestom.server.entity.pathfinding.generators.GroundNodeGenerator;
+import net.minestom.server.entity.pathfinding.generators.NodeGenerator;
+import net.minestom.server.entity.pathfinding.generators.PreciseGroundNodeGenerator;
+import net.minestom.server.instance.block.Block;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Paths of 48 blocks over canned terrain, read from an array instead of an instance.
+ * <ul>
+ *     <li>flat: open ground, the search goes straight to the target</li>
+ *     <li>pillars: 1x1 pillars on a third of the ground</li>
+ *     <li>maze: walls with a single opening each, forcing detours</li>
+ * </ul>
+ */
+@Warmup(iterations = 3, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+@Measurement(iterations = 5, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+@Fork(1)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class PathfindingBenchmark {
+    private static final int SIZE = 64;
+    private static final int HEIGHT = 8;
+    private static final int FLOOR = 1; // Ground at y 0
+
+    @Param({"flat", "pillars", "maze"})
+    public String terrain;
+
+    @Param({"ground", "precise", "flying"})
+    public String generator;
+
+    private Block.Getter getter;
+    private NodeGenerator nodeGenerator;
+    private final BoundingBox boundingBox = new BoundingBox(0.6, 1.95, 0.6);
+    private final Pos start = new Pos(8.5, FLOOR, 8.5);
+    private final Vec target = new Vec(56.5, FLOOR, 56.5);
+
+    @Setup
+    public void setup() {
+        MinecraftServer.init();
+        final Block[] blocks = new Block[SIZE * HEIGHT * SIZE];
+        final Random random = new Random(0);
+        for (int x = 0; x < SIZE; x++) {
+            for (int z = 0; z < SIZE; z++) {
+                for (int y = 0; y < HEIGHT; y++) {
+                    final boolean solid = switch (terrain) {
+                        case "flat" -> y < FLOOR;
+                        case "pillars" -> y < FLOOR || (y < 4 && random.nextInt(3) == 0 && !nearEnds(x, z));
+                        case "maze" -> y < FLOOR || (y < 4 && x % 8 == 4 && z % 32 != (x % 16 == 4 ? 2 : 29));
+                        default -> throw new IllegalArgumentException(terrain);
+                    };
+                    blocks[(y * SIZE + z) * SIZE + x] = solid ? Block.STONE : Block.AIR;
+                }
+            }
+        }
+        getter = (x, y, z, condition) -> {
+            if (x < 0 || x >= SIZE || z < 0 || z >= SIZE || y < 0) return Block.BARRIER;
+            if (y >= HEIGHT) return Block.AIR;
+            return blocks[(y * SIZE + z) * SIZE + x];
+        };
+        nodeGenerator = switch (generator) {
+            case "ground" -> new GroundNodeGenerator();
+            case "precise" -> new PreciseGroundNodeGenerator();
+            case "flying" -> new FlyingNodeGenerator();
+            default -> throw new IllegalArgumentException(generator);
+        };
+    }
+
+    @Benchmark
+    public PPath generate() {
+        return PathGenerator.generate(getter, start, target, 1, 100, 100, boundingBox, true, nodeGenerator, null);
+    }
+
+    private boolean nearEnds(int x, int z) {
+        return (Math.abs(x - start.blockX()) <= 1 && Math.abs(z - start.blockZ()) <= 1) ||
+                (Math.abs(x - target.blockX()) <= 1 && Math.abs(z - target.blockZ()) <= 1);
+    }
+}
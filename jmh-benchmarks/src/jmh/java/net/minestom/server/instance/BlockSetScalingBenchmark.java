@@ -0,0 +1,62 @@
+package net.minestom.server.instance;
+
+import net.minestom.server.MinecraftServer;
+import net.minestom.server.instance.block.Block;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+
+/**
+ * Sets blocks from several threads at once, each thread in its own distant chunk.
+ * <p>
+ * Every thread does the same amount of work, the time per invocation stays constant when changes scale linearly.
+ */
+@Warmup(iterations = 3, time = 2000, timeUnit = TimeUnit.MILLISECONDS)
+@Measurement(iterations = 5, time = 2000, timeUnit = TimeUnit.MILLISECONDS)
+@Fork(1)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class BlockSetScalingBenchmark {
+    private static final int CHANGES_PER_THREAD = 4096;
+    private static final int CHUNK_SPACING = 8;
+
+    @Param({"1", "2", "4", "8", "16"})
+    public int threads;
+
+    private InstanceContainer instance;
+    private ExecutorService executor;
+
+    @Setup
+    public void setup() {
+        MinecraftServer.init();
+        instance = MinecraftServer.getInstanceManager().createInstanceContainer(ChunkLoader.noop());
+        List<CompletableFuture<Chunk>> futures = new ArrayList<>();
+        for (int i = 0; i < threads; i++) futures.add(instance.loadChunk(i * CHUNK_SPACING, 0));
+        futures.forEach(CompletableFuture::join);
+        executor = Executors.newFixedThreadPool(threads);
+    }
+
+    @TearDown
+    public void tearDown() {
+        executor.shutdownNow();
+        MinecraftServer.stopCleanly();
+    }
+
+    @Benchmark
+    public void setBlocks() throws Exception {
+        List<Future<?>> futures = new ArrayList<>(threads);
+        for (int i = 0; i < threads; i++) {
+            final int startX = i * CHUNK_SPACING * Chunk.CHUNK_SIZE_X;
+            futures.add(executor.submit(() -> {
+                for (int j = 0; j < CHANGES_PER_THREAD; j++) {
+                    final int x = startX + (j & 15), y = (j >> 8) & 15, z = (j >> 4) & 15;
+                    instance.setBlock(x, y, z, (j & 1) == 0 ? Block.STONE : Block.DIRT);
+                }
+            }));
+        }
+        for (Future<?> future : futures) future.get();
+    }
+}
@@ -0,0 +1,65 @@
+package net.minestom.server.instance;
+
+import net.minestom.server.MinecraftServer;
+import net.minestom.server.instance.block.Block;
+import net.minestom.server.network.ConnectionState;
+import net.minestom.server.network.packet.server.CachedPacket;
+import net.minestom.server.network.packet.server.ServerPacket;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Creates the chunk data packet of a generated chunk after a number of random block changes.
+ */
+@Warmup(iterations = 3, time = 2000, timeUnit = TimeUnit.MILLISECONDS)
+@Measurement(iterations = 5, time = 2000, timeUnit = TimeUnit.MILLISECONDS)
+@Fork(1)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class ChunkPacketBenchmark {
+    private static final Block[] BLOCKS = {Block.STONE, Block.DIRT, Block.OAK_PLANKS, Block.GLASS, Block.AIR, Block.COBBLESTONE};
+
+    @Param({"1", "16", "4096"})
+    public int changes;
+
+    private final Random random = new Random(0);
+    private Chunk chunk;
+    private CachedPacket packet;
+
+    @Setup
+    public void setup() {
+        MinecraftServer.init();
+        InstanceContainer instance = MinecraftServer.getInstanceManager().createInstanceContainer();
+        instance.setGenerator(unit -> {
+            unit.modifier().fillHeight(-64, 0, Block.DEEPSLATE);
+            unit.modifier().fillHeight(0, 60, Block.STONE);
+            unit.modifier().fillHeight(60, 64, Block.DIRT);
+        });
+        this.chunk = instance.loadChunk(0, 0).join();
+        this.packet = (CachedPacket) chunk.getFullDataPacket();
+        packet.packet(ConnectionState.PLAY);
+    }
+
+    @Setup(Level.Invocation)
+    public void changeBlocks() {
+        synchronized (chunk) {
+            for (int i = 0; i < changes; i++) {
+                chunk.setBlock(random.nextInt(16), random.nextInt(-64, 320), random.nextInt(16),
+                        BLOCKS[random.nextInt(BLOCKS.length)]);
+            }
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        MinecraftServer.stopCleanly();
+    }
+
+    @Benchmark
+    public ServerPacket createPacket() {
+        return packet.packet(ConnectionState.PLAY);
+    }
+}
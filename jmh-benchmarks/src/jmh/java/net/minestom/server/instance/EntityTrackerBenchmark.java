@@ -0,0 +1,81 @@
+package net.minestom.server.instance;
+
+import net.minestom.server.MinecraftServer;
+import net.minestom.server.coordinate.Vec;
+import net.minestom.server.entity.Entity;
+import net.minestom.server.entity.EntityType;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Range queries on a tracker holding a dense mob farm, entities spread over 4x4 chunks.
+ */
+@Warmup(iterations = 3, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+@Measurement(iterations = 5, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+@Fork(1)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class EntityTrackerBenchmark {
+    private static final int AREA = 64; // In blocks
+    private static final int QUERIES = 256;
+
+    @Param({"100", "2000", "10000"})
+    public int entityCount;
+
+    @Param({"4", "16"})
+    public double range;
+
+    private EntityTracker tracker;
+    private Entity[] entities;
+    private Vec[] queryPoints;
+    private Vec[] movePoints;
+    private int cursor;
+
+    @Setup
+    public void setup() {
+        MinecraftServer.init();
+        final Random random = new Random(0);
+        tracker = EntityTracker.newTracker();
+        entities = new Entity[entityCount];
+        for (int i = 0; i < entityCount; i++) {
+            final Entity entity = new Entity(EntityType.ZOMBIE);
+            tracker.register(entity, randomPoint(random), EntityTracker.Target.ENTITIES, null);
+            entities[i] = entity;
+        }
+        queryPoints = new Vec[QUERIES];
+        movePoints = new Vec[QUERIES];
+        for (int i = 0; i < QUERIES; i++) {
+            queryPoints[i] = randomPoint(random);
+            movePoints[i] = randomPoint(random);
+        }
+    }
+
+    @Benchmark
+    public void nearbyEntities(Blackhole blackhole) {
+        final Vec point = queryPoints[cursor++ & (QUERIES - 1)];
+        tracker.nearbyEntities(point, range, EntityTracker.Target.ENTITIES, blackhole::consume);
+    }
+
+    @Benchmark
+    public void nearbyPlayers(Blackhole blackhole) {
+        // Empty target, measures the cell lookups alone
+        final Vec point = queryPoints[cursor++ & (QUERIES - 1)];
+        tracker.nearbyEntities(point, range, EntityTracker.Target.PLAYERS, blackhole::consume);
+    }
+
+    @Benchmark
+    public void move() {
+        final int index = cursor++;
+        final Entity entity = entities[index % entityCount];
+        tracker.move(entity, movePoints[index & (QUERIES - 1)], EntityTracker.Target.ENTITIES, null);
+    }
+
+    private static Vec randomPoint(Random random) {
+        return new Vec(random.nextDouble(-AREA / 2d, AREA / 2d), random.nextDouble(0, 8),
+                random.nextDouble(-AREA / 2d, AREA / 2d));
+    }
+}
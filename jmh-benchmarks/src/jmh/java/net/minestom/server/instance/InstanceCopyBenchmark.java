@@ -0,0 +1,87 @@
+package net.minestom.server.instance;
+
+import net.minestom.server.MinecraftServer;
+import net.minestom.server.instance.block.Block;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Copies an arena-sized instance (20x20 chunks) several times, as done when starting matches from a template.
+ * <p>
+ * The retained heap per copy is measured after each iteration and reported as a secondary result.
+ */
+@Warmup(iterations = 3, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+@Measurement(iterations = 5, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+@Fork(1)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class InstanceCopyBenchmark {
+    private static final int RADIUS = 10;
+
+    @Param({"1", "10", "100"})
+    public int copies;
+
+    private InstanceContainer source;
+
+    @Setup
+    public void setup() {
+        MinecraftServer.init();
+        source = MinecraftServer.getInstanceManager().createInstanceContainer();
+        source.setGenerator(unit -> {
+            final Random random = new Random(unit.absoluteStart().hashCode());
+            unit.modifier().fillHeight(-64, 0, Block.DEEPSLATE);
+            unit.modifier().fillHeight(0, 60, Block.STONE);
+            unit.modifier().fillHeight(60, 64, Block.DIRT);
+            unit.modifier().fillHeight(64, 65, Block.GRASS_BLOCK);
+            final Block[] decoration = {Block.COAL_ORE, Block.IRON_ORE, Block.GRAVEL, Block.OAK_LOG, Block.GLASS};
+            for (int i = 0; i < 256; i++) {
+                unit.modifier().setBlock(unit.absoluteStart().add(random.nextInt(16), random.nextInt(-64, 80), random.nextInt(16)),
+                        decoration[random.nextInt(decoration.length)]);
+            }
+        });
+        List<CompletableFuture<Chunk>> futures = new ArrayList<>();
+        for (int x = -RADIUS; x < RADIUS; x++) {
+            for (int z = -RADIUS; z < RADIUS; z++) {
+                futures.add(source.loadChunk(x, z));
+            }
+        }
+        futures.forEach(CompletableFuture::join);
+    }
+
+    @TearDown
+    public void tearDown() {
+        MinecraftServer.stopCleanly();
+    }
+
+    @Benchmark
+    public List<InstanceContainer> copy(Retained retained) {
+        List<InstanceContainer> result = new ArrayList<>(copies);
+        for (int i = 0; i < copies; i++) result.add(source.copy());
+        return result;
+    }
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Retained {
+        public long bytesPerCopy;
+
+        @TearDown(Level.Iteration)
+        public void measure(InstanceCopyBenchmark benchmark) {
+            final MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+            System.gc();
+            final long before = memory.getHeapMemoryUsage().getUsed();
+            final List<InstanceContainer> copies = benchmark.copy(this);
+            System.gc();
+            final long after = memory.getHeapMemoryUsage().getUsed();
+            bytesPerCopy = (after - before) / copies.size();
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package net.minestom.server.instance.anvil;
+
+import net.minestom.server.MinecraftServer;
+import net.minestom.server.instance.Chunk;
+import net.minestom.server.instance.InstanceContainer;
+import net.minestom.server.instance.block.Block;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Simulates players spawning at the same time into an Anvil world, each loading the chunks around them.
+ * <p>
+ * Spawn points are clustered so that most loads hit the same few region files.
+ */
+@Warmup(iterations = 3, time = 2000, timeUnit = TimeUnit.MILLISECONDS)
+@Measurement(iterations = 5, time = 2000, timeUnit = TimeUnit.MILLISECONDS)
+@Fork(1)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class AnvilLoadBenchmark {
+    private static final int WORLD_RADIUS = 32; // 64x64 chunks, 4 regions
+    private static final int VIEW_RADIUS = 2;
+
+    @Param({"1000"})
+    public int players;
+
+    @Param({"true", "false"})
+    public boolean concurrent;
+
+    private Path worldFolder;
+    private InstanceContainer instance;
+    private AnvilLoader loader;
+    private ExecutorService executor;
+    private final Random random = new Random(0);
+
+    @Setup
+    public void setup() throws IOException {
+        MinecraftServer.init();
+        worldFolder = Files.createTempDirectory("minestom-anvil-benchmark");
+
+        // Generate and save the world once
+        InstanceContainer generating = MinecraftServer.getInstanceManager().createInstanceContainer(new AnvilLoader(worldFolder));
+        generating.setGenerator(unit -> {
+            unit.modifier().fillHeight(-64, 0, Block.DEEPSLATE);
+            unit.modifier().fillHeight(0, 60, Block.STONE);
+            unit.modifier().fillHeight(60, 64, Block.DIRT);
+            unit.modifier().fillHeight(64, 65, Block.GRASS_BLOCK);
+        });
+        List<CompletableFuture<Chunk>> futures = new ArrayList<>();
+        for (int x = -WORLD_RADIUS; x < WORLD_RADIUS; x++) {
+            for (int z = -WORLD_RADIUS; z < WORLD_RADIUS; z++) {
+                futures.add(generating.loadChunk(x, z));
+            }
+        }
+        futures.forEach(CompletableFuture::join);
+        generating.saveChunksToStorage().join();
+        MinecraftServer.getInstanceManager().unregisterInstance(generating);
+
+        instance = MinecraftServer.getInstanceManager().createInstanceContainer();
+        loader = new AnvilLoader(worldFolder);
+        executor = concurrent ? Executors.newVirtualThreadPerTaskExecutor() : Executors.newSingleThreadExecutor();
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        executor.shutdownNow();
+        MinecraftServer.stopCleanly();
+        try (Stream<Path> files = Files.walk(worldFolder)) {
+            files.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    @Benchmark
+    public int spawn() throws Exception {
+        List<Future<Integer>> results = new ArrayList<>(players);
+        for (int i = 0; i < players; i++) {
+            final int spawnX = random.nextInt(-WORLD_RADIUS + VIEW_RADIUS, WORLD_RADIUS - VIEW_RADIUS);
+            final int spawnZ = random.nextInt(-WORLD_RADIUS + VIEW_RADIUS, WORLD_RADIUS - VIEW_RADIUS);
+            results.add(executor.submit(() -> {
+                int loaded = 0;
+                for (int x = spawnX - VIEW_RADIUS; x <= spawnX + VIEW_RADIUS; x++) {
+                    for (int z = spawnZ - VIEW_RADIUS; z <= spawnZ + VIEW_RADIUS; z++) {
+                        if (loader.loadChunk(instance, x, z) != null) loaded++;
+                    }
+                }
+                return loaded;
+            }));
+        }
+        int loaded = 0;
+        for (Future<Integer> result : results) loaded += result.get();
+        return loaded;
+    }
+}
@@ -1,11 +1,19 @@
 package net.minestom.server.instance.light;
 
 import it.unimi.dsi.fastutil.shorts.ShortArrayFIFOQueue;
+import net.minestom.server.MinecraftServer;
+import net.minestom.server.instance.Chunk;
+import net.minestom.server.instance.ChunkLoader;
+import net.minestom.server.instance.InstanceContainer;
+import net.minestom.server.instance.LightingChunk;
 import net.minestom.server.instance.block.Block;
 import net.minestom.server.instance.palette.Palette;
 import org.openjdk.jmh.annotations.*;
 import org.openjdk.jmh.infra.Blackhole;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
 
 @Warmup(iterations = 5, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
@@ -121,5 +129,72 @@ public class LightComputeBenchmark {
         byte[] result = LightCompute.bake(content1, content2);
         blackhole.consume(result);
     }
-}
 
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public void relight_singleBlockChange(LightingWorld world, Blackhole blackhole) {
+        world.toggle();
+        world.instance.setBlock(8, 50, 8, world.lit ? Block.GLOWSTONE : Block.AIR);
+        blackhole.consume(world.instance.getBlockLight(8, 50, 8));
+        blackhole.consume(world.instance.getSkyLight(8, 50, 8));
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public void relight_paste10k(LightingWorld world, Blackhole blackhole) {
+        world.toggle();
+        final Block block = world.lit ? Block.GLOWSTONE : Block.STONE;
+        // 25x16x25 blocks above the ground, spanning 3x3 chunks
+        for (int x = -12; x <= 12; x++) {
+            for (int y = 41; y < 57; y++) {
+                for (int z = -12; z <= 12; z++) {
+                    world.instance.setBlock(x, y, z, block);
+                }
+            }
+        }
+        blackhole.consume(world.instance.getBlockLight(0, 50, 0));
+        blackhole.consume(world.instance.getSkyLight(0, 50, 0));
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public void relight_generatedChunk(LightingWorld world, Blackhole blackhole) {
+        blackhole.consume(LightingChunk.relight(world.instance, List.of(world.center)));
+    }
+
+    /**
+     * Flat world of 5x5 lighting chunks, with stone up to y 40.
+     */
+    @State(Scope.Benchmark)
+    public static class LightingWorld {
+        InstanceContainer instance;
+        Chunk center;
+        boolean lit;
+
+        @Setup
+        public void setup() {
+            MinecraftServer.init();
+            instance = MinecraftServer.getInstanceManager().createInstanceContainer(ChunkLoader.noop());
+            instance.setChunkSupplier(LightingChunk::new);
+            instance.setGenerator(unit -> unit.modifier().fillHeight(0, 40, Block.STONE));
+            List<CompletableFuture<Chunk>> futures = new ArrayList<>();
+            for (int x = -2; x <= 2; x++) {
+                for (int z = -2; z <= 2; z++) {
+                    futures.add(instance.loadChunk(x, z));
+                }
+            }
+            futures.forEach(CompletableFuture::join);
+            center = instance.getChunk(0, 0);
+            LightingChunk.relight(instance, instance.getChunks());
+        }
+
+        @TearDown
+        public void tearDown() {
+            MinecraftServer.stopCleanly();
+        }
+
+        void toggle() {
+            lit = !lit;
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package net.minestom.server.instance.mapped;
+
+import net.minestom.server.MinecraftServer;
+import net.minestom.server.instance.Chunk;
+import net.minestom.server.instance.ChunkLoader;
+import net.minestom.server.instance.InstanceContainer;
+import net.minestom.server.instance.anvil.AnvilLoader;
+import net.minestom.server.instance.block.Block;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Chunks loaded per second from the same world stored as Anvil or as a mapped chunk file.
+ */
+@Warmup(iterations = 3, time = 2000, timeUnit = TimeUnit.MILLISECONDS)
+@Measurement(iterations = 5, time = 2000, timeUnit = TimeUnit.MILLISECONDS)
+@Fork(1)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class MappedChunkLoadBenchmark {
+    private static final int WORLD_RADIUS = 16; // 32x32 chunks, one region
+
+    @Param({"anvil", "mapped"})
+    public String format;
+
+    private Path worldFolder;
+    private Path mappedFile;
+    private InstanceContainer instance;
+    private ChunkLoader loader;
+    private int next;
+
+    @Setup
+    public void setup() throws IOException {
+        MinecraftServer.init();
+        worldFolder = Files.createTempDirectory("minestom-mapped-benchmark");
+        mappedFile = worldFolder.resolve("world.msmc");
+
+        // Generate and save the world once, with ores so that palettes are not trivial
+        InstanceContainer generating = MinecraftServer.getInstanceManager().createInstanceContainer(new AnvilLoader(worldFolder));
+        generating.setGenerator(unit -> {
+            final Random random = new Random(unit.absoluteStart().hashCode());
+            unit.modifier().fillHeight(-64, 0, Block.DEEPSLATE);
+            unit.modifier().fillHeight(0, 60, Block.STONE);
+            unit.modifier().fillHeight(60, 64, Block.DIRT);
+            unit.modifier().fillHeight(64, 65, Block.GRASS_BLOCK);
+            final Block[] ores = {Block.COAL_ORE, Block.IRON_ORE, Block.GOLD_ORE, Block.DIAMOND_ORE, Block.GRAVEL, Block.ANDESITE};
+            for (int i = 0; i < 512; i++) {
+                unit.modifier().setBlock(unit.absoluteStart().add(random.nextInt(16), random.nextInt(-64, 60), random.nextInt(16)),
+                        ores[random.nextInt(ores.length)]);
+            }
+        });
+        List<CompletableFuture<Chunk>> futures = new ArrayList<>();
+        for (int x = -WORLD_RADIUS; x < WORLD_RADIUS; x++) {
+            for (int z = -WORLD_RADIUS; z < WORLD_RADIUS; z++) {
+                futures.add(generating.loadChunk(x, z));
+            }
+        }
+        futures.forEach(CompletableFuture::join);
+        generating.saveChunksToStorage().join();
+        MinecraftServer.getInstanceManager().unregisterInstance(generating);
+
+        MappedChunkWriter.convertAnvil(worldFolder, mappedFile);
+
+        instance = MinecraftServer.getInstanceManager().createInstanceContainer();
+        loader = switch (format) {
+            case "anvil" -> new AnvilLoader(worldFolder);
+            case "mapped" -> new MappedChunkLoader(mappedFile);
+            default -> throw new IllegalArgumentException(format);
+        };
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        MinecraftServer.stopCleanly();
+        try (Stream<Path> files = Files.walk(worldFolder)) {
+            files.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    @Benchmark
+    public Chunk load() {
+        final int index = next++ & (4 * WORLD_RADIUS * WORLD_RADIUS - 1);
+        final int chunkX = index % (2 * WORLD_RADIUS) - WORLD_RADIUS;
+        final int chunkZ = index / (2 * WORLD_RADIUS) - WORLD_RADIUS;
+        return loader.loadChunk(instance, chunkX, chunkZ);
+    }
+}
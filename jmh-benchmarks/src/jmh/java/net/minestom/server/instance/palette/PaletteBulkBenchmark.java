@@ -0,0 +1,57 @@
+package net.minestom.server.instance.palette;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the scalar and Vector API implementations of the palette bulk operations on a full section.
+ */
+@Warmup(iterations = 5, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+@Measurement(iterations = 10, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+@Fork(value = 3, jvmArgsAppend = "--add-modules=jdk.incubator.vector")
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class PaletteBulkBenchmark {
+    private static final int SIZE = 16 * 16 * 16;
+
+    @Param({"false", "true"})
+    public boolean vectorized;
+
+    @Param({"4", "5", "8", "15"})
+    public int bitsPerEntry;
+
+    private PaletteBulk.Operations operations;
+    private int[] entries;
+    private long[] packed;
+
+    @Setup
+    public void setup() {
+        operations = vectorized ? PaletteBulk.OPERATIONS : PaletteBulk.SCALAR;
+        if (vectorized && operations == PaletteBulk.SCALAR) {
+            throw new IllegalStateException("The Vector API is not available");
+        }
+        final Random random = new Random(0);
+        entries = random.ints(SIZE, 0, 1 << bitsPerEntry).toArray();
+        packed = Palettes.pack(entries, bitsPerEntry);
+    }
+
+    @Benchmark
+    public int[] unpack() {
+        operations.unpack(packed, bitsPerEntry, SIZE, entries);
+        return entries;
+    }
+
+    @Benchmark
+    public long[] pack() {
+        operations.pack(entries, bitsPerEntry, SIZE, packed);
+        return packed;
+    }
+
+    @Benchmark
+    public int count() {
+        return operations.count(packed, bitsPerEntry, SIZE, 1);
+    }
+}
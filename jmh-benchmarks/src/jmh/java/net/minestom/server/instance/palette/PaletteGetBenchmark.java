@@ -8,7 +8,7 @@ import java.util.concurrent.atomic.AtomicInteger;
 
 @Warmup(iterations = 5, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
 @Measurement(iterations = 10, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
-@Fork(3)
+@Fork(value = 3, jvmArgsAppend = "--add-modules=jdk.incubator.vector")
 @BenchmarkMode(Mode.AverageTime)
 @OutputTimeUnit(TimeUnit.NANOSECONDS)
 @State(Scope.Benchmark)
@@ -42,4 +42,9 @@ public class PaletteGetBenchmark {
     public void readAll(Blackhole blackHole) {
         palette.getAll((x, y, z, value) -> blackHole.consume(value));
     }
+
+    @Benchmark
+    public int count() {
+        return palette.count(1);
+    }
 }
@@ -6,7 +6,7 @@ import java.util.concurrent.TimeUnit;
 
 @Warmup(iterations = 5, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
 @Measurement(iterations = 10, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
-@Fork(3)
+@Fork(value = 3, jvmArgsAppend = "--add-modules=jdk.incubator.vector")
 @BenchmarkMode(Mode.AverageTime)
 @OutputTimeUnit(TimeUnit.NANOSECONDS)
 @State(Scope.Benchmark)
@@ -16,6 +16,7 @@ public class PaletteReplaceBenchmark {
     //public int dimension;
 
     private Palette palette;
+    private long[] indirectValues;
 
     @Setup
     public void setup() {
@@ -23,6 +24,9 @@ public class PaletteReplaceBenchmark {
         // palette = Palette.newPalette(dimension, 15, 4, 1);
         palette = Palette.blocks();
         palette.setAll((x, y, z) -> x + y + z + 1);
+        final int[] indexes = new int[palette.maxSize()];
+        for (int i = 0; i < indexes.length; i++) indexes[i] = i & 15;
+        indirectValues = Palettes.pack(indexes, 4);
     }
 
     @Benchmark
@@ -30,6 +34,11 @@ public class PaletteReplaceBenchmark {
         palette.replaceAll((x, y, z, value) -> value + 1);
     }
 
+    @Benchmark
+    public long[] remapToDirect() {
+        return Palettes.remap(palette.dimension(), 4, 15, indirectValues, value -> value * 31);
+    }
+
     @Benchmark
     public void replaceLoop() {
         final int dimension = palette.dimension();
@@ -7,7 +7,7 @@ import java.util.concurrent.atomic.AtomicInteger;
 
 @Warmup(iterations = 5, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
 @Measurement(iterations = 10, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
-@Fork(3)
+@Fork(value = 3, jvmArgsAppend = "--add-modules=jdk.incubator.vector")
 @BenchmarkMode(Mode.AverageTime)
 @OutputTimeUnit(TimeUnit.NANOSECONDS)
 @State(Scope.Benchmark)
@@ -17,10 +17,19 @@ public class PaletteSetBenchmark {
     public int dimension;
 
     private Palette palette;
+    // More entries than an indirect palette can hold, loaded as direct values
+    private int[] loadPalette;
+    private long[] loadValues;
 
     @Setup
     public void setup() {
         palette = Palette.sized(dimension, 4, 8, 15, 4);
+        loadPalette = new int[300];
+        for (int i = 0; i < loadPalette.length; i++) loadPalette[i] = i * 7 + 1;
+        final int size = dimension * dimension * dimension;
+        final int[] indexes = new int[size];
+        for (int i = 0; i < size; i++) indexes[i] = i % loadPalette.length;
+        loadValues = Palettes.pack(indexes, 9);
     }
 
     @Benchmark
@@ -67,4 +76,9 @@ public class PaletteSetBenchmark {
     public void fill() {
         palette.fill(5);
     }
+
+    @Benchmark
+    public void load() {
+        palette.load(loadPalette, loadValues);
+    }
 }
@@ -0,0 +1,133 @@
+package net.minestom.server.network;
+
+import net.minestom.server.MinecraftServer;
+import net.minestom.server.entity.Entity;
+import net.minestom.server.entity.EntityType;
+import net.minestom.server.instance.Chunk;
+import net.minestom.server.instance.InstanceContainer;
+import net.minestom.server.instance.block.Block;
+import net.minestom.server.network.packet.PacketVanilla;
+import net.minestom.server.network.packet.server.SendablePacket;
+import net.minestom.server.network.packet.server.ServerPacket;
+import net.minestom.server.network.packet.server.play.MapDataPacket;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.DataFormatException;
+
+/**
+ * Measures deflate CPU time against output size for each level, on packets the server actually sends.
+ * <p>
+ * The compress benchmark reports the bytes read and written as secondary results, their ratio is the compression ratio.
+ */
+@Warmup(iterations = 5, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+@Measurement(iterations = 10, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+@Fork(3)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class CompressionStrategyBenchmark {
+
+    @Param({"chunk", "registry", "metadata", "map"})
+    public String corpus;
+
+    @Param({"1", "6", "9"})
+    public int level;
+
+    private NetworkBuffer payload;
+    private NetworkBuffer compressed;
+    private NetworkBuffer output;
+
+    @Setup
+    public void setup() {
+        MinecraftServer.init();
+        final ServerPacket packet = switch (corpus) {
+            case "chunk" -> chunkPacket();
+            case "registry" -> SendablePacket.extractServerPacket(ConnectionState.CONFIGURATION,
+                    MinecraftServer.getBiomeRegistry().registryDataPacket(MinecraftServer.process(), false));
+            case "metadata" -> new Entity(EntityType.ARMOR_STAND).getMetadataPacket();
+            case "map" -> mapPacket();
+            default -> throw new IllegalArgumentException(corpus);
+        };
+        final ConnectionState state = corpus.equals("registry") ? ConnectionState.CONFIGURATION : ConnectionState.PLAY;
+        final var packetInfo = PacketVanilla.SERVER_PACKET_PARSER.stateRegistry(state).packetInfo(packet);
+
+        payload = NetworkBuffer.resizableBuffer(MinecraftServer.process());
+        payload.write(NetworkBuffer.VAR_INT, packetInfo.id());
+        payload.write(packetInfo.serializer(), packet);
+
+        final long size = payload.writeIndex();
+        compressed = NetworkBuffer.staticBuffer(size + 1024);
+        payload.compress(0, size, compressed, level);
+        output = NetworkBuffer.staticBuffer(size + 1024);
+    }
+
+    @TearDown
+    public void tearDown() {
+        MinecraftServer.stopCleanly();
+    }
+
+    @Benchmark
+    public long compress(Sizes sizes) {
+        output.clear();
+        final long length = payload.writeIndex();
+        final long written = payload.compress(0, length, output, level);
+        sizes.bytesIn += length;
+        sizes.bytesOut += written;
+        return written;
+    }
+
+    @Benchmark
+    public long decompress() throws DataFormatException {
+        output.clear();
+        return compressed.decompress(0, compressed.writeIndex(), output);
+    }
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Sizes {
+        public long bytesIn;
+        public long bytesOut;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            bytesIn = 0;
+            bytesOut = 0;
+        }
+    }
+
+    private static ServerPacket chunkPacket() {
+        InstanceContainer instance = MinecraftServer.getInstanceManager().createInstanceContainer();
+        final Random random = new Random(0);
+        instance.setGenerator(unit -> {
+            unit.modifier().fillHeight(-64, 0, Block.DEEPSLATE);
+            unit.modifier().fillHeight(0, 60, Block.STONE);
+            unit.modifier().fillHeight(60, 64, Block.DIRT);
+            unit.modifier().fillHeight(64, 65, Block.GRASS_BLOCK);
+            // Ores and caves break the single-value palettes like real terrain does
+            final var start = unit.absoluteStart();
+            for (int i = 0; i < 512; i++) {
+                final Block block = switch (random.nextInt(4)) {
+                    case 0 -> Block.AIR;
+                    case 1 -> Block.COAL_ORE;
+                    case 2 -> Block.IRON_ORE;
+                    default -> Block.GRAVEL;
+                };
+                unit.modifier().setBlock(start.add(random.nextInt(16), random.nextInt(-64, 64), random.nextInt(16)), block);
+            }
+        });
+        final Chunk chunk = instance.loadChunk(0, 0).join();
+        return SendablePacket.extractServerPacket(ConnectionState.PLAY, chunk.getFullDataPacket());
+    }
+
+    private static MapDataPacket mapPacket() {
+        // Dithered image-like content
+        final Random random = new Random(0);
+        final byte[] colors = new byte[128 * 128];
+        for (int i = 0; i < colors.length; i++) colors[i] = (byte) (4 + random.nextInt(244));
+        return new MapDataPacket(0, (byte) 0, false, false, List.of(),
+                new MapDataPacket.ColorContent((byte) 128, (byte) 128, (byte) 0, (byte) 0, colors));
+    }
+}
@@ -0,0 +1,56 @@
+package net.minestom.server.network;
+
+import net.minestom.server.extras.mojangAuth.MojangCrypt;
+import org.openjdk.jmh.annotations.*;
+
+import javax.crypto.Cipher;
+import javax.crypto.spec.SecretKeySpec;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares ciphering each packet individually against ciphering the whole flush buffer once.
+ */
+@Warmup(iterations = 5, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+@Measurement(iterations = 10, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+@Fork(3)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class EncryptionBenchmark {
+
+    @Param({"1", "50", "500"})
+    public int packetsPerFlush;
+
+    // Typical entity movement packet
+    @Param({"32"})
+    public int packetSize;
+
+    private Cipher cipher;
+    private NetworkBuffer buffer;
+
+    @Setup
+    public void setup() {
+        final Random random = new Random(0);
+        final byte[] key = new byte[16];
+        random.nextBytes(key);
+        cipher = MojangCrypt.getCipher(Cipher.ENCRYPT_MODE, new SecretKeySpec(key, "AES"));
+
+        final byte[] content = new byte[packetsPerFlush * packetSize];
+        random.nextBytes(content);
+        buffer = NetworkBuffer.staticBuffer(content.length);
+        buffer.write(NetworkBuffer.RAW_BYTES, content);
+    }
+
+    @Benchmark
+    public void perPacket() {
+        for (int i = 0; i < packetsPerFlush; i++) {
+            buffer.cipher(cipher, (long) i * packetSize, packetSize);
+        }
+    }
+
+    @Benchmark
+    public void perFlush() {
+        buffer.cipher(cipher, 0, buffer.writeIndex());
+    }
+}
@@ -0,0 +1,120 @@
+package net.minestom.server.network;
+
+import net.minestom.server.MinecraftServer;
+import net.minestom.server.network.packet.PacketReading;
+import net.minestom.server.network.packet.PacketVanilla;
+import net.minestom.server.network.packet.PacketWriting;
+import net.minestom.server.network.packet.client.handshake.ClientHandshakePacket;
+import net.minestom.server.network.packet.client.status.StatusRequestPacket;
+import net.minestom.server.network.packet.server.ServerPacket;
+import net.minestom.server.network.socket.Server;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.net.InetSocketAddress;
+import java.nio.channels.SocketChannel;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.DataFormatException;
+
+/**
+ * Compares the thread-per-connection transport against the selector transport.
+ * <p>
+ * Most connections stay idle (like lobby players), a random one performs a status round-trip per invocation.
+ * Platform thread count and process CPU time are reported as secondary results, percentiles are given by the sample mode.
+ */
+@Warmup(iterations = 3, time = 2000, timeUnit = TimeUnit.MILLISECONDS)
+@Measurement(iterations = 5, time = 2000, timeUnit = TimeUnit.MILLISECONDS)
+@Fork(1)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class SocketTransportBenchmark {
+
+    @Param({"0", "4"})
+    public int selectorThreads;
+
+    @Param({"1000", "5000"})
+    public int connections;
+
+    private Server server;
+    private final List<SocketChannel> clients = new ArrayList<>();
+
+    @Setup
+    public void setup() throws IOException {
+        MinecraftServer.init();
+        server = new Server(PacketVanilla.CLIENT_PACKET_PARSER, selectorThreads);
+        server.init(new InetSocketAddress("localhost", 0));
+        server.start();
+        for (int i = 0; i < connections; i++) {
+            SocketChannel client = SocketChannel.open(new InetSocketAddress("localhost", server.getPort()));
+            NetworkBuffer buffer = NetworkBuffer.resizableBuffer(MinecraftServer.process());
+            PacketWriting.writeFramedPacket(buffer, ConnectionState.HANDSHAKE,
+                    new ClientHandshakePacket(MinecraftServer.PROTOCOL_VERSION, "localhost", server.getPort(), ClientHandshakePacket.Intent.STATUS), 0);
+            while (!buffer.writeChannel(client)) ;
+            clients.add(client);
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        for (SocketChannel client : clients) client.close();
+        clients.clear();
+        server.stop();
+        MinecraftServer.stopCleanly();
+    }
+
+    @Benchmark
+    public ServerPacket statusRoundTrip(Resources resources) throws IOException, DataFormatException {
+        final SocketChannel client = clients.get(ThreadLocalRandom.current().nextInt(clients.size()));
+        NetworkBuffer buffer = NetworkBuffer.resizableBuffer(MinecraftServer.process());
+        PacketWriting.writeFramedPacket(buffer, ConnectionState.STATUS, new StatusRequestPacket(), 0);
+        while (!buffer.writeChannel(client)) ;
+
+        buffer.clear();
+        ServerPacket packet = null;
+        while (packet == null) {
+            buffer.ensureWritable(1024);
+            buffer.readChannel(client);
+            final long readIndex = buffer.readIndex();
+            if (PacketReading.readServer(buffer, ConnectionState.STATUS, false) instanceof PacketReading.Result.Success<ServerPacket> success) {
+                packet = success.packets().getFirst().packet();
+            } else {
+                buffer.readIndex(readIndex);
+            }
+        }
+        return packet;
+    }
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Resources {
+        public long platformThreads;
+        public long processCpuMs;
+        private long startCpuTime;
+
+        @Setup(Level.Iteration)
+        public void start() {
+            platformThreads = 0;
+            processCpuMs = 0;
+            startCpuTime = processCpuTime();
+        }
+
+        @TearDown(Level.Iteration)
+        public void stop() {
+            // Virtual threads are not reported by the thread bean, but their carriers are
+            platformThreads = ManagementFactory.getThreadMXBean().getThreadCount();
+            processCpuMs = TimeUnit.NANOSECONDS.toMillis(processCpuTime() - startCpuTime);
+        }
+    }
+
+    private static long processCpuTime() {
+        if (ManagementFactory.getOperatingSystemMXBean() instanceof com.sun.management.OperatingSystemMXBean os) {
+            return os.getProcessCpuTime();
+        }
+        return 0;
+    }
+}
@@ -4,6 +4,7 @@ module net.minestom.server {
     requires it.unimi.dsi.fastutil;
     requires space.vectrix.flare.fastutil;
     requires jdk.unsupported; // Unsafe
+    requires static jdk.incubator.vector; // Palette bulk operations, used when present
     requires transitive net.kyori.adventure;
     requires transitive net.kyori.adventure.nbt;
     requires transitive net.kyori.adventure.key;
@@ -24,6 +24,7 @@ import net.minestom.server.item.instrument.Instrument;
 import net.minestom.server.listener.manager.PacketListenerManager;
 import net.minestom.server.message.ChatType;
 import net.minestom.server.monitoring.BenchmarkManager;
+import net.minestom.server.network.CompressionStrategy;
 import net.minestom.server.network.ConnectionManager;
 import net.minestom.server.network.packet.PacketParser;
 import net.minestom.server.network.packet.client.ClientPacket;
@@ -73,6 +74,7 @@ public final class MinecraftServer implements MinecraftConstants {
     private static volatile @UnknownNullability ServerProcess serverProcess;
 
     private static int compressionThreshold = 256;
+    private static volatile CompressionStrategy compressionStrategy = CompressionStrategy.vanilla();
     private static String brandName = "Minestom";
     private static Difficulty difficulty = Difficulty.NORMAL;
 
@@ -251,6 +253,25 @@ public final class MinecraftServer implements MinecraftConstants {
         MinecraftServer.compressionThreshold = compressionThreshold;
     }
 
+    /**
+     * Gets the strategy used to compress packets above the {@link #getCompressionThreshold() threshold}.
+     *
+     * @return the compression strategy
+     */
+    public static CompressionStrategy getCompressionStrategy() {
+        return compressionStrategy;
+    }
+
+    /**
+     * Changes the compression strategy of the server.
+     *
+     * @param compressionStrategy the new compression strategy
+     */
+    public static void setCompressionStrategy(CompressionStrategy compressionStrategy) {
+        Check.notNull(compressionStrategy, "The compression strategy cannot be null");
+        MinecraftServer.compressionStrategy = compressionStrategy;
+    }
+
     public static AdvancementManager getAdvancementManager() {
         return serverProcess.advancement();
     }
@@ -38,6 +38,10 @@ public final class ServerFlag {
     public static final boolean SOCKET_NO_DELAY = booleanProperty("minestom.tcp-no-delay", true);
     public static final int SOCKET_TIMEOUT = intProperty("minestom.socket-timeout", 15_000);
     public static final int POOLED_BUFFER_SIZE = intProperty("minestom.pooled-buffer-size", 16_383);
+    public static final long BUFFER_POOL_MAX_BYTES = longProperty("minestom.buffer-pool.max-bytes", 32 * 1024 * 1024); // Per size class
+    public static final boolean BUFFER_POOL_LEAK_DETECTION = booleanProperty("minestom.buffer-pool.leak-detection");
+    public static final long COMPRESSION_CACHE_SIZE = longProperty("minestom.compression-cache-size", 16 * 1024 * 1024); // 0 to disable
+    public static final int COMPRESSION_CACHE_MIN_PACKET_SIZE = intProperty("minestom.compression-cache-min-packet-size", 4096);
 
     // Chunk update
     public static final float MIN_CHUNKS_PER_TICK = floatProperty("minestom.chunk-queue.min-per-tick", 0.01f);
@@ -48,6 +52,8 @@ public final class ServerFlag {
     public static final boolean GROUPED_PACKET = booleanProperty("minestom.grouped-packet", true);
     public static final boolean CACHED_PACKET = booleanProperty("minestom.cached-packet", true);
     public static final boolean VIEWABLE_PACKET = booleanProperty("minestom.viewable-packet", true);
+    public static final boolean BLOCK_CHANGE_BATCHING = booleanProperty("minestom.block-change-batching", false); // Instances send block changes at the end of the tick
+    public static final int BLOCK_CHANGE_RESEND_THRESHOLD = intProperty("minestom.block-change-resend-threshold", 4096, 0, Integer.MAX_VALUE); // Changes in a tick after which the chunk is sent again
 
     // Tags
     public static final boolean TAG_HANDLER_CACHE_ENABLED = booleanProperty("minestom.tag-handler-cache", true);
@@ -59,6 +65,16 @@ public final class ServerFlag {
 
     // World
     public static final int WORLD_BORDER_SIZE = intProperty("minestom.world-border-size", 29999984);
+    public static final int ANVIL_COMPRESSION_THREADS = intProperty("minestom.anvil.compression-threads",
+            Math.max(1, Runtime.getRuntime().availableProcessors() / 2), 1, Integer.MAX_VALUE);
+    public static final int GENERATION_THREADS = intProperty("minestom.generation-threads",
+            Runtime.getRuntime().availableProcessors(), 1, Integer.MAX_VALUE);
+    public static final int BLOCK_LOCK_STRIPES = intProperty("minestom.block-lock-stripes", 256, 1, 1 << 20); // Per instance
+    public static final int LIGHT_LOCK_STRIPES = intProperty("minestom.light-lock-stripes", 64, 1, 1 << 20); // Per instance, each covering regions of 3x3 chunks
+    public static final boolean ANVIL_FSYNC = booleanProperty("minestom.anvil.fsync"); // Force region files to disk after each batch
+    public static final boolean SECTION_INTERNING = booleanProperty("minestom.section-interning", false); // Default of InstanceContainer#enableSectionInterning
+    public static final int SECTION_INTERNING_CAPACITY = intProperty("minestom.section-interning.capacity", 1024, 0, Integer.MAX_VALUE); // Distinct palettes remembered per instance
+    public static final boolean PALETTE_VECTORIZATION = booleanProperty("minestom.palette-vectorization", true); // Requires the jdk.incubator.vector module
 
     // Maps
     public static final String MAP_RGB_MAPPING = stringProperty("minestom.map.rgbmapping", "lazy");
@@ -66,11 +82,18 @@ public final class ServerFlag {
 
     // Entities
     public static final boolean ENFORCE_INTERACTION_LIMIT = booleanProperty("minestom.enforce-entity-interaction-range", true);
+    public static final boolean ASYNC_PATHFINDING = booleanProperty("minestom.pathfinding.async", false); // Navigators use PathfindingService#shared by default
+    public static final int PATHFINDING_THREADS = intProperty("minestom.pathfinding.threads",
+            Math.max(1, Runtime.getRuntime().availableProcessors() / 2), 1, Integer.MAX_VALUE);
+    public static final int PATHFINDING_NODE_BUDGET = intProperty("minestom.pathfinding.node-budget", 20_000, 0, Integer.MAX_VALUE); // Nodes expanded per tick by the shared service, 0 = unlimited
+    public static final boolean ENTITY_TICK_LOD = booleanProperty("minestom.entity-tick-lod", false); // Instances use EntityTickPolicy#DEFAULT instead of ticking every entity every tick
 
     // Experimental/Unstable
     public static final boolean REGISTRY_UNSAFE_OPS = booleanProperty("minestom.registry.unsafe-ops");
     public static final boolean EVENT_NODE_ALLOW_MULTIPLE_PARENTS = booleanProperty("minestom.event.multiple-parents");
     public static final boolean FASTER_SOCKET_WRITES = booleanProperty("minestom.new-socket-write-lock"); // TODO: promote to default
+    public static final boolean SOCKET_TICK_FLUSH = booleanProperty("minestom.socket-tick-flush"); // Flush play packets at the end of the tick
+    public static final int SOCKET_SELECTOR_THREADS = intProperty("minestom.socket-selector-threads", 0, 0, Integer.MAX_VALUE); // 0 = one reader/writer virtual thread per connection
     public static final boolean ACQUIRABLE_STRICT = booleanProperty("minestom.acquirable-strict", false);
     public static final boolean UNSAFE_COLLECTIONS = booleanProperty("minestom.unsafe-collections", false); // Likely to be removed in the future
 
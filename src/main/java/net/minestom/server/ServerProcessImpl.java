@@ -33,6 +33,7 @@ import net.minestom.server.listener.manager.PacketListenerManager;
 import net.minestom.server.message.ChatType;
 import net.minestom.server.monitoring.BenchmarkManager;
 import net.minestom.server.monitoring.EventsJFR;
+import net.minestom.server.monitoring.NetworkMetrics;
 import net.minestom.server.monitoring.TickMonitor;
 import net.minestom.server.network.ConnectionManager;
 import net.minestom.server.network.packet.PacketParser;
@@ -468,6 +469,8 @@ final class ServerProcessImpl implements ServerProcess {
     }
 
     private final class TickerImpl implements Ticker {
+        private NetworkMetrics.Snapshot lastNetworkSnapshot = NetworkMetrics.snapshot();
+
         @Override
         public void tick(long nanoTime) {
             var serverTickEvent = EventsJFR.newServerTick();
@@ -487,12 +490,16 @@ final class ServerProcessImpl implements ServerProcess {
 
             // Flush all waiting packets
             PacketViewableUtils.flush();
+            connection().flushConnections();
 
             // Monitoring
             {
                 final double acquisitionTimeMs = Acquirable.resetAcquiringTime() / 1e6D;
                 final double tickTimeMs = (System.nanoTime() - nanoTime) / 1e6D;
-                final TickMonitor tickMonitor = new TickMonitor(tickTimeMs, acquisitionTimeMs);
+                final NetworkMetrics.Snapshot network = NetworkMetrics.snapshot();
+                final TickMonitor tickMonitor = new TickMonitor(tickTimeMs, acquisitionTimeMs,
+                        network.minus(lastNetworkSnapshot), connection().getOnlinePlayerCount());
+                this.lastNetworkSnapshot = network;
                 EventDispatcher.call(new ServerTickMonitorEvent(tickMonitor));
             }
             serverTickEvent.commit();
@@ -193,6 +193,12 @@ public class Entity implements Viewable, Tickable, Schedulable, Snapshotable, Ev
 
     // Tick related
     private long ticks;
+    // Reduced tick rate, see EntityTickPolicy
+    private int tickInterval = 1;
+    private int ticksUntilUpdate;
+    private volatile boolean viewerAdded; // Set from the viewer thread, applied by the next tick
+    private int skippedTicks;
+    private int movementTicks = 1; // Ticks covered by the current movement tick
 
     private final Acquirable<Entity> acquirable = Acquirable.unassigned(this);
 
@@ -534,6 +540,8 @@ public class Entity implements Viewable, Tickable, Schedulable, Snapshotable, Ev
      */
     @ApiStatus.Internal
     public void updateNewViewer(Player player) {
+        // Back to the full tick rate until the next tick decides
+        this.viewerAdded = true;
         player.sendPacket(getSpawnPacket());
         if (hasVelocity()) player.sendPacket(getVelocityPacket());
         player.sendPacket(this.getMetadataPacket());
@@ -619,10 +627,28 @@ public class Entity implements Viewable, Tickable, Schedulable, Snapshotable, Ev
         this.scheduler.processTick();
         if (isRemoved()) return;
 
+        final Instance instance = this.instance;
+        if (viewerAdded) {
+            this.viewerAdded = false;
+            this.tickInterval = 1;
+            this.ticksUntilUpdate = 1;
+        }
+        if (--ticksUntilUpdate > 0) {
+            this.skippedTicks++;
+            instance.recordEntityTick(true);
+            this.scheduler.processTickEnd();
+            return;
+        }
+        instance.recordEntityTick(false);
+        final int elapsedTicks = skippedTicks + 1;
+        this.skippedTicks = 0;
+
         // Entity tick
         {
-            // handle position and velocity updates
+            // handle position and velocity updates, including the skipped ticks
+            this.movementTicks = elapsedTicks;
             movementTick();
+            this.movementTicks = 1;
 
             // handle block contacts
             touchTick();
@@ -630,7 +656,7 @@ public class Entity implements Viewable, Tickable, Schedulable, Snapshotable, Ev
             // Call the abstract update method
             update(time);
 
-            ticks++;
+            ticks += elapsedTicks;
             EventDispatcher.call(new EntityTickEvent(this));
 
             // remove expired effects
@@ -641,12 +667,45 @@ public class Entity implements Viewable, Tickable, Schedulable, Snapshotable, Ev
             synchronizePosition();
             sendPacketToViewers(getVelocityPacket());
         }
+        refreshTickInterval(instance);
         // End of tick scheduled tasks
         this.scheduler.processTickEnd();
     }
 
+    private void refreshTickInterval(Instance instance) {
+        final int interval;
+        if (this instanceof Player || vehicle != null || !passengers.isEmpty()) {
+            interval = 1;
+        } else {
+            interval = instance.getEntityTickPolicy(entityType).interval(this);
+        }
+        if (interval != tickInterval) {
+            // Spread the entities changing together over the interval
+            this.tickInterval = interval;
+            this.ticksUntilUpdate = 1 + Math.floorMod(getEntityId(), interval);
+        } else {
+            this.ticksUntilUpdate = interval;
+        }
+    }
+
     @ApiStatus.Internal
     protected void movementTick() {
+        // Skipped ticks are simulated one by one, until the entity comes to rest
+        final int movementTicks = this.movementTicks;
+        for (int i = 0; i < movementTicks; i++) {
+            final Pos previousPosition = this.position;
+            final Vec previousVelocity = this.velocity;
+            final boolean previousOnGround = this.onGround;
+            movementStep();
+            if (i + 1 < movementTicks && position.samePoint(previousPosition) &&
+                    velocity.samePoint(previousVelocity) && onGround == previousOnGround) {
+                if (!onGround) this.gravityTickCount += movementTicks - i - 1;
+                break;
+            }
+        }
+    }
+
+    private void movementStep() {
         this.gravityTickCount = onGround ? 0 : gravityTickCount + 1;
         if (vehicle != null) return;
 
@@ -0,0 +1,75 @@
+package net.minestom.server.entity;
+
+import net.minestom.server.coordinate.Pos;
+import net.minestom.server.instance.Instance;
+import net.minestom.server.utils.validate.Check;
+import org.jetbrains.annotations.ApiStatus;
+
+/**
+ * Defines how often the entities of an {@link Instance} are ticked, depending on the closest player viewing them.
+ * <p>
+ * Entities viewed by a player within {@code fullRange} are ticked every tick, those viewed within {@code reducedRange}
+ * every {@code reducedInterval} ticks, and within {@code farRange} every {@code farInterval} ticks.
+ * Entities without viewers, or only viewed from further away, are ticked every {@code idleInterval} ticks.
+ * <p>
+ * Scheduled tasks still run every tick. When an entity is ticked, its movement simulates the skipped ticks
+ * one by one until it comes to rest. Players, and entities riding or ridden by another, are always ticked.
+ *
+ * @param fullRange       the distance within which viewed entities are ticked every tick
+ * @param reducedRange    the distance within which viewed entities are ticked every {@code reducedInterval} ticks
+ * @param reducedInterval the interval of entities within {@code reducedRange}
+ * @param farRange        the distance within which viewed entities are ticked every {@code farInterval} ticks
+ * @param farInterval     the interval of entities within {@code farRange}
+ * @param idleInterval    the interval of entities without viewers, or viewed from further than {@code farRange}
+ * @see Instance#setEntityTickPolicy(EntityTickPolicy)
+ * @see Instance#setEntityTickPolicy(EntityType, EntityTickPolicy)
+ */
+@ApiStatus.Experimental
+public record EntityTickPolicy(double fullRange, double reducedRange, int reducedInterval,
+                               double farRange, int farInterval, int idleInterval) {
+    /**
+     * Ticks every entity every tick.
+     */
+    public static final EntityTickPolicy EVERY_TICK = new EntityTickPolicy(0, 0, 1, 0, 1, 1);
+
+    /**
+     * Ticks entities every tick within 32 blocks, every 2 ticks within 64 blocks, every 4 ticks within 128 blocks
+     * and every 20 ticks otherwise.
+     */
+    public static final EntityTickPolicy DEFAULT = new EntityTickPolicy(32, 64, 2, 128, 4, 20);
+
+    public EntityTickPolicy {
+        Check.argCondition(fullRange < 0, "Full range cannot be negative");
+        Check.argCondition(reducedRange < fullRange, "Reduced range must be at least the full range");
+        Check.argCondition(farRange < reducedRange, "Far range must be at least the reduced range");
+        Check.argCondition(reducedInterval < 1 || farInterval < 1 || idleInterval < 1, "Intervals must be positive");
+    }
+
+    public EntityTickPolicy withRanges(double fullRange, double reducedRange, double farRange) {
+        return new EntityTickPolicy(fullRange, reducedRange, reducedInterval, farRange, farInterval, idleInterval);
+    }
+
+    public EntityTickPolicy withIntervals(int reducedInterval, int farInterval, int idleInterval) {
+        return new EntityTickPolicy(fullRange, reducedRange, reducedInterval, farRange, farInterval, idleInterval);
+    }
+
+    /**
+     * Gets the interval at which an entity is currently ticked.
+     *
+     * @param entity the entity
+     * @return the number of ticks until the next tick of the entity
+     */
+    public int interval(Entity entity) {
+        if (reducedInterval == 1 && farInterval == 1 && idleInterval == 1) return 1;
+        // Viewers are the players in range, no need to look any further
+        final Pos position = entity.getPosition();
+        double closest = Double.MAX_VALUE;
+        for (Player viewer : entity.getViewers()) {
+            closest = Math.min(closest, viewer.getPosition().distanceSquared(position));
+        }
+        if (closest <= fullRange * fullRange) return 1;
+        if (closest <= reducedRange * reducedRange) return reducedInterval;
+        if (closest <= farRange * farRange) return farInterval;
+        return idleInterval;
+    }
+}
@@ -0,0 +1,144 @@
+package net.minestom.server.entity.pathfinding;
+
+import net.minestom.server.collision.BoundingBox;
+import net.minestom.server.coordinate.Point;
+import net.minestom.server.coordinate.Pos;
+import net.minestom.server.coordinate.Vec;
+import net.minestom.server.entity.pathfinding.generators.NodeGenerator;
+import net.minestom.server.instance.block.Block;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+
+/**
+ * Directions towards a single target, shared by the navigators going there.
+ * <p>
+ * The field is a Dijkstra search from the target over the section graph of a {@link HierarchicalPathfinder},
+ * giving each region the next region on its way to the target. Navigators only refine the portals from their region,
+ * the search itself is extended when an entity comes from a region that has not been reached yet.
+ * It starts over when a section it may have used changes.
+ *
+ * @see HierarchicalPathfinder#flowField(Point)
+ * @see Navigator#followFlowField(FlowField)
+ */
+@ApiStatus.Experimental
+public final class FlowField {
+    private final HierarchicalPathfinder pathfinder;
+    private final Point target;
+    private final Flow[] flows = new Flow[SectionGraph.Layer.values().length];
+
+    final PathGenerator.Planner planner = this::compute;
+
+    FlowField(HierarchicalPathfinder pathfinder, Point target) {
+        this.pathfinder = pathfinder;
+        this.target = target;
+        for (SectionGraph.Layer layer : SectionGraph.Layer.values()) flows[layer.ordinal()] = new Flow(layer);
+    }
+
+    public HierarchicalPathfinder getPathfinder() {
+        return pathfinder;
+    }
+
+    public Point getTarget() {
+        return target;
+    }
+
+    private void compute(Block.Getter getter, Pos start, Point target,
+                         double closeDistance, double maxDistance, double pathVariance,
+                         BoundingBox boundingBox, boolean isOnGround, NodeGenerator generator,
+                         PPath path, @Nullable PathGenerator.Throttle throttle) {
+        if (start.distance(target) >= HierarchicalPathfinder.MIN_DISTANCE) {
+            final HierarchicalPathfinder.Route route = flows[SectionGraph.Layer.of(generator).ordinal()].route(getter, start);
+            if (route != null && HierarchicalPathfinder.refine(getter, start, route, closeDistance, pathVariance,
+                    boundingBox, isOnGround, generator, path, throttle)) return;
+        }
+        // Unreached region, search the route alone
+        pathfinder.planner.compute(getter, start, target, closeDistance, maxDistance, pathVariance,
+                boundingBox, isOnGround, generator, path, throttle);
+    }
+
+    /**
+     * @param next     the next region towards the target, null for the region of the target
+     * @param distance the distance to the target
+     */
+    private record Step(@Nullable SectionGraph.Region next, int x, int y, int z, double distance) {
+    }
+
+    private final class Flow {
+        private final SectionGraph.Layer layer;
+        private long epoch = -1;
+        private final Map<SectionGraph.Region, Step> steps = new HashMap<>(); // Settled regions
+        private final Map<SectionGraph.Region, Double> distances = new HashMap<>();
+        private final PriorityQueue<Pending> frontier = new PriorityQueue<>(Comparator.comparingDouble(Pending::distance));
+
+        private record Pending(SectionGraph.Region region, Step step) {
+            double distance() {
+                return step.distance();
+            }
+        }
+
+        Flow(SectionGraph.Layer layer) {
+            this.layer = layer;
+        }
+
+        synchronized @Nullable HierarchicalPathfinder.Route route(Block.Getter getter, Pos start) {
+            final SectionGraph graph = pathfinder.graph;
+            if (graph.epoch() != epoch) reset(getter);
+            final SectionGraph.Region region = graph.locate(getter, layer, start, HierarchicalPathfinder.LOCATE_DEPTH);
+            if (region == null) return null;
+            Step step = steps.get(region);
+            if (step == null) step = extend(getter, region);
+            if (step == null) return null;
+
+            final List<Point> waypoints = new ArrayList<>();
+            Point previous = start;
+            double length = 0;
+            while (step.next() != null) {
+                final Point portal = new Vec(step.x() + 0.5, step.y(), step.z() + 0.5);
+                waypoints.add(portal);
+                length += previous.distance(portal);
+                previous = portal;
+                // Only the beginning is refined
+                if (length > HierarchicalPathfinder.REFINED_LENGTH + HierarchicalPathfinder.SEGMENT_LENGTH) {
+                    return new HierarchicalPathfinder.Route(waypoints, false);
+                }
+                step = steps.get(step.next());
+            }
+            waypoints.add(target);
+            return new HierarchicalPathfinder.Route(waypoints, true);
+        }
+
+        private @Nullable Step extend(Block.Getter getter, SectionGraph.Region region) {
+            final SectionGraph graph = pathfinder.graph;
+            while (!frontier.isEmpty() && steps.size() < HierarchicalPathfinder.MAX_REGIONS) {
+                final Pending pending = frontier.poll();
+                final SectionGraph.Region settled = pending.region();
+                if (steps.containsKey(settled)) continue;
+                steps.put(settled, pending.step());
+                for (SectionGraph.Edge edge : graph.edges(getter, settled)) {
+                    // Edges are symmetric, the neighbor enters the settled region through the portal
+                    final SectionGraph.Region neighbor = edge.to();
+                    if (steps.containsKey(neighbor)) continue;
+                    final double distance = pending.distance() + edge.cost();
+                    final Double known = distances.get(neighbor);
+                    if (known != null && known <= distance) continue;
+                    distances.put(neighbor, distance);
+                    frontier.add(new Pending(neighbor, new Step(settled, edge.fromX(), edge.fromY(), edge.fromZ(), distance)));
+                }
+                if (settled == region) return pending.step();
+            }
+            return null;
+        }
+
+        private void reset(Block.Getter getter) {
+            final SectionGraph graph = pathfinder.graph;
+            this.epoch = graph.epoch();
+            this.steps.clear();
+            this.distances.clear();
+            this.frontier.clear();
+            final SectionGraph.Region origin = graph.locate(getter, layer, target, HierarchicalPathfinder.LOCATE_DEPTH);
+            if (origin != null) frontier.add(new Pending(origin, new Step(null, 0, 0, 0, 0)));
+        }
+    }
+}
@@ -0,0 +1,244 @@
+package net.minestom.server.entity.pathfinding;
+
+import net.minestom.server.collision.BoundingBox;
+import net.minestom.server.coordinate.BlockVec;
+import net.minestom.server.coordinate.Point;
+import net.minestom.server.coordinate.Pos;
+import net.minestom.server.coordinate.Vec;
+import net.minestom.server.entity.pathfinding.generators.NodeGenerator;
+import net.minestom.server.event.EventFilter;
+import net.minestom.server.event.EventNode;
+import net.minestom.server.event.instance.InstanceBlockUpdateEvent;
+import net.minestom.server.event.instance.InstanceChunkLoadEvent;
+import net.minestom.server.event.instance.InstanceChunkUnloadEvent;
+import net.minestom.server.event.instance.InstanceSectionInvalidateEvent;
+import net.minestom.server.event.trait.InstanceEvent;
+import net.minestom.server.instance.Instance;
+import net.minestom.server.instance.block.Block;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+
+/**
+ * Finds long paths in two steps: a route through the sections of the instance, then block paths between
+ * the portals of consecutive sections.
+ * <p>
+ * The sections are analyzed once and shared by all the navigators of the instance, block updates only drop
+ * the sections they touch. Each computation refines the first blocks of the route, the navigator
+ * continues the path once they are walked. Paths shorter than a few sections are searched directly.
+ * <p>
+ * Entities going to the same target can share a {@link FlowField} instead.
+ *
+ * @see Navigator#setHierarchicalPathfinder(HierarchicalPathfinder)
+ */
+@ApiStatus.Experimental
+public final class HierarchicalPathfinder implements AutoCloseable {
+    static final double MIN_DISTANCE = 32; // Shorter paths are searched directly
+    static final double SEGMENT_LENGTH = 24; // Maximum distance between two refined waypoints
+    static final double REFINED_LENGTH = 96; // Refined per computation
+    static final int MAX_REGIONS = 8192; // Regions visited by a route search
+    static final int LOCATE_DEPTH = 4; // Blocks below a position to find the ground
+
+    private final Instance instance;
+    final SectionGraph graph;
+    private final EventNode<InstanceEvent> eventNode;
+
+    final PathGenerator.Planner planner = this::compute;
+
+    /**
+     * Creates a pathfinder listening to the changes of an instance, until closed.
+     *
+     * @param instance the instance
+     */
+    public HierarchicalPathfinder(Instance instance) {
+        this.instance = instance;
+        this.graph = new SectionGraph(instance);
+        this.eventNode = EventNode.type("hierarchical-pathfinder", EventFilter.INSTANCE)
+                .addListener(InstanceBlockUpdateEvent.class, event -> {
+                    final BlockVec position = event.getBlockPosition();
+                    graph.blockChanged(position.blockX(), position.blockY(), position.blockZ());
+                })
+                .addListener(InstanceSectionInvalidateEvent.class, event -> {
+                    for (int sectionY = event.sectionY() - 1; sectionY <= event.sectionY() + 1; sectionY++) {
+                        graph.invalidate(event.sectionX(), sectionY, event.sectionZ());
+                    }
+                })
+                .addListener(InstanceChunkLoadEvent.class, event -> graph.chunkLoaded(event.getChunkX(), event.getChunkZ()))
+                .addListener(InstanceChunkUnloadEvent.class, event -> graph.chunkUnloaded(event.getChunkX(), event.getChunkZ()));
+        instance.eventNode().addChild(eventNode);
+    }
+
+    public Instance getInstance() {
+        return instance;
+    }
+
+    /**
+     * Creates a flow field towards a target, to share between the navigators going there.
+     *
+     * @param target the target of the navigators
+     * @return a new flow field
+     * @see Navigator#followFlowField(FlowField)
+     */
+    public FlowField flowField(Point target) {
+        return new FlowField(this, target);
+    }
+
+    /**
+     * Stops listening to the instance, the pathfinder must not be used anymore.
+     */
+    @Override
+    public void close() {
+        this.instance.eventNode().removeChild(eventNode);
+    }
+
+    private void compute(Block.Getter getter, Pos start, Point target,
+                         double closeDistance, double maxDistance, double pathVariance,
+                         BoundingBox boundingBox, boolean isOnGround, NodeGenerator generator,
+                         PPath path, @Nullable PathGenerator.Throttle throttle) {
+        if (start.distance(target) >= MIN_DISTANCE) {
+            final Route route = route(getter, SectionGraph.Layer.of(generator), start, target, maxDistance);
+            if (route != null && refine(getter, start, route, closeDistance, pathVariance,
+                    boundingBox, isOnGround, generator, path, throttle)) return;
+        }
+        PathGenerator.compute(getter, start, target, closeDistance, maxDistance, pathVariance,
+                boundingBox, isOnGround, generator, path, throttle);
+    }
+
+    /**
+     * Waypoints to refine into a block path.
+     *
+     * @param complete true if the last waypoint is the target
+     */
+    record Route(List<Point> waypoints, boolean complete) {
+    }
+
+    /**
+     * Searches the regions to cross, with A* over the section graph.
+     *
+     * @return the portals to the target, null if it cannot be found
+     */
+    @Nullable Route route(Block.Getter getter, SectionGraph.Layer layer, Point start, Point target, double maxDistance) {
+        final SectionGraph.Region from = graph.locate(getter, layer, start, LOCATE_DEPTH);
+        final SectionGraph.Region to = graph.locate(getter, layer, target, LOCATE_DEPTH);
+        if (from == null || to == null) return null;
+        if (from == to) return new Route(List.of(target), true);
+
+        final Map<SectionGraph.Region, Visit> visits = new HashMap<>();
+        final PriorityQueue<Visit> open = new PriorityQueue<>(Comparator.comparingDouble(visit -> visit.f));
+        final Visit first = new Visit(from, null, null, 0, from.distance(target));
+        visits.put(from, first);
+        open.add(first);
+        int expanded = 0;
+        while (!open.isEmpty() && expanded++ < MAX_REGIONS) {
+            final Visit visit = open.poll();
+            if (visit.closed) continue;
+            visit.closed = true;
+            if (visit.region == to) return new Route(waypoints(visit, target), true);
+
+            for (SectionGraph.Edge edge : graph.edges(getter, visit.region)) {
+                final SectionGraph.Region region = edge.to();
+                if (region.distance(start) > maxDistance) continue;
+                final double g = visit.g + edge.cost();
+                final Visit known = visits.get(region);
+                if (known != null && (known.closed || known.g <= g)) continue;
+                if (known != null) known.closed = true; // Replaced by the shorter visit
+                final Visit next = new Visit(region, visit, edge, g, g + region.distance(target));
+                visits.put(region, next);
+                open.add(next);
+            }
+        }
+        return null;
+    }
+
+    private static List<Point> waypoints(Visit last, Point target) {
+        final List<Point> waypoints = new ArrayList<>();
+        waypoints.add(target);
+        for (Visit visit = last; visit.edge != null; visit = visit.parent) {
+            final SectionGraph.Edge edge = visit.edge;
+            waypoints.add(new Vec(edge.toX() + 0.5, edge.toY(), edge.toZ() + 0.5));
+        }
+        Collections.reverse(waypoints);
+        return waypoints;
+    }
+
+    private static final class Visit {
+        final SectionGraph.Region region;
+        final @Nullable Visit parent;
+        final @Nullable SectionGraph.Edge edge; // From the parent
+        final double g, f;
+        boolean closed;
+
+        Visit(SectionGraph.Region region, @Nullable Visit parent, @Nullable SectionGraph.Edge edge, double g, double f) {
+            this.region = region;
+            this.parent = parent;
+            this.edge = edge;
+            this.g = g;
+            this.f = f;
+        }
+    }
+
+    /**
+     * Searches block paths between the waypoints of a route, until {@link #REFINED_LENGTH} is reached.
+     * Waypoints closer than {@link #SEGMENT_LENGTH} are skipped, the block search finds a more direct path.
+     * <p>
+     * The path ends with a {@link PNode.Type#REPATH} node if it does not reach the target.
+     *
+     * @return false if no block path could be found, the path is left untouched
+     */
+    static boolean refine(Block.Getter getter, Pos start, Route route, double closeDistance, double pathVariance,
+                          BoundingBox boundingBox, boolean isOnGround, NodeGenerator generator,
+                          PPath path, @Nullable PathGenerator.Throttle throttle) {
+        final List<Point> waypoints = route.waypoints();
+        final List<PNode> nodes = path.getNodes();
+        Pos current = start;
+        boolean onGround = isOnGround;
+        double refined = 0;
+        int index = 0;
+        while (index < waypoints.size() && refined < REFINED_LENGTH) {
+            if (path.getState() == PPath.State.TERMINATING) {
+                path.setState(PPath.State.TERMINATED);
+                return true;
+            }
+            int next = index;
+            while (next + 1 < waypoints.size() && current.distance(waypoints.get(next + 1)) <= SEGMENT_LENGTH) next++;
+            final Point waypoint = waypoints.get(next);
+            final boolean last = route.complete() && next == waypoints.size() - 1;
+            final double distance = current.distance(waypoint);
+
+            final PPath segment = new PPath(path.maxDistance(), path.pathVariance(), null);
+            PathGenerator.compute(getter, current, waypoint, last ? closeDistance : 1,
+                    Math.max(SEGMENT_LENGTH * 2, distance * 2), Math.max(pathVariance, SEGMENT_LENGTH * 2),
+                    boundingBox, onGround, generator, segment, throttle);
+            final PPath.State state = segment.getState();
+            if (state == PPath.State.TERMINATED) {
+                path.setState(PPath.State.TERMINATED);
+                return true;
+            }
+            final List<PNode> segmentNodes = segment.getNodes();
+            if (!segmentNodes.isEmpty() && segmentNodes.getLast().getType() == PNode.Type.REPATH) segmentNodes.removeLast();
+            if (state == PPath.State.INVALID || segmentNodes.isEmpty()) {
+                if (nodes.isEmpty()) return false;
+                break;
+            }
+            if (!nodes.isEmpty()) segmentNodes.getFirst().setParent(nodes.getLast());
+            nodes.addAll(segmentNodes);
+            if (state != PPath.State.COMPUTED) break;
+
+            final PNode reached = nodes.getLast();
+            current = new Pos(reached.x(), reached.y(), reached.z());
+            onGround = true;
+            refined += distance;
+            index = next + 1;
+        }
+
+        if (index == waypoints.size() && route.complete()) {
+            path.setState(PPath.State.COMPUTED);
+        } else {
+            // Continued once walked
+            nodes.add(new PNode(0, 0, 0, 0, 0, PNode.Type.REPATH, nodes.getLast()));
+            path.setState(PPath.State.BEST_EFFORT);
+        }
+        return true;
+    }
+}
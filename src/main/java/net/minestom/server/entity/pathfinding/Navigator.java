@@ -1,5 +1,6 @@
 package net.minestom.server.entity.pathfinding;
 
+import net.minestom.server.ServerFlag;
 import net.minestom.server.collision.BoundingBox;
 import net.minestom.server.coordinate.Point;
 import net.minestom.server.coordinate.Pos;
@@ -35,8 +36,13 @@ public final class Navigator {
     private double minimumDistance;
 
     NodeGenerator nodeGenerator = new GroundNodeGenerator();
+    private Supplier<? extends NodeGenerator> nodeGeneratorSupplier = GroundNodeGenerator::new;
     private NodeFollower nodeFollower;
 
+    private @Nullable PathfindingService pathfindingService = ServerFlag.ASYNC_PATHFINDING ? PathfindingService.shared() : null;
+    private @Nullable HierarchicalPathfinder hierarchicalPathfinder;
+    private @Nullable FlowField flowField;
+
     public Navigator(Entity entity) {
         this.entity = entity;
         nodeFollower = new GroundNodeFollower(entity);
@@ -69,6 +75,34 @@ public final class Navigator {
      * @return true if a path is being generated
      */
     public synchronized boolean setPathTo(@Nullable Point point, double minimumDistance, double maxDistance, double pathVariance, @Nullable Runnable onComplete) {
+        this.flowField = null;
+        return startPath(point, minimumDistance, maxDistance, pathVariance, onComplete);
+    }
+
+    @ApiStatus.Experimental
+    public synchronized boolean followFlowField(FlowField flowField) {
+        BoundingBox bb = this.entity.getBoundingBox();
+        double centerToCorner = Math.sqrt(bb.width() * bb.width() + bb.depth() * bb.depth()) / 2;
+        return followFlowField(flowField, centerToCorner, 256, null);
+    }
+
+    /**
+     * Sets the path to the target of a flow field, shared with the other navigators following it.
+     *
+     * @param flowField       the flow field to follow
+     * @param minimumDistance distance to target when completed
+     * @param maxDistance     maximum search distance, when the region of the entity has not been reached by the field
+     * @param onComplete      called when the path has been completed
+     * @return true if a path is being generated
+     * @see HierarchicalPathfinder#flowField(Point)
+     */
+    @ApiStatus.Experimental
+    public synchronized boolean followFlowField(FlowField flowField, double minimumDistance, double maxDistance, @Nullable Runnable onComplete) {
+        this.flowField = flowField;
+        return startPath(flowField.getTarget(), minimumDistance, maxDistance, 20, onComplete);
+    }
+
+    private boolean startPath(@Nullable Point point, double minimumDistance, double maxDistance, double pathVariance, @Nullable Runnable onComplete) {
         final Instance instance = entity.getInstance();
         if (point == null) {
             this.path = null;
@@ -105,15 +139,7 @@ public final class Navigator {
 
         if (this.computingPath != null) this.computingPath.setState(PPath.State.TERMINATING);
 
-        this.computingPath = PathGenerator.generate(instance,
-                this.entity.getPosition(),
-                point,
-                minimumDistance, maxDistance,
-                pathVariance,
-                this.entity.getBoundingBox(),
-                this.entity.isOnGround(),
-                this.nodeGenerator,
-                onComplete);
+        this.computingPath = generate(instance, point, maxDistance, pathVariance, onComplete);
 
         this.goalPosition = point;
         return true;
@@ -161,11 +187,7 @@ public final class Navigator {
         if (currentTarget == null || path.getCurrentType() == PNode.Type.REPATH || path.getCurrentType() == null) {
             if (computingPath != null && computingPath.getState() == PPath.State.CALCULATING) return;
 
-            computingPath = PathGenerator.generate(entity.getInstance(),
-                    entity.getPosition(),
-                    goalPosition.asPos(),
-                    minimumDistance, path.maxDistance(),
-                    path.pathVariance(), entity.getBoundingBox(), this.entity.isOnGround(), nodeGenerator, null);
+            computingPath = generate(entity.getInstance(), goalPosition.asPos(), path.maxDistance(), path.pathVariance(), null);
 
             return;
         }
@@ -182,6 +204,29 @@ public final class Navigator {
         else if (path.getCurrentType() == PNode.Type.JUMP) nodeFollower.jump(currentTarget, nextTarget);
     }
 
+    private PPath generate(Instance instance, Point target, double maxDistance, double pathVariance, @Nullable Runnable onComplete) {
+        final PathGenerator.Planner planner = planner(instance);
+        final PathfindingService service = this.pathfindingService;
+        if (service != null) {
+            return service.submit(instance, entity.getPosition(), target, minimumDistance, maxDistance, pathVariance,
+                    entity.getBoundingBox(), entity.isOnGround(), nodeGeneratorSupplier, planner, onComplete);
+        }
+        final PPath path = new PPath(maxDistance, pathVariance, onComplete);
+        planner.compute(instance, entity.getPosition(), target, minimumDistance, maxDistance, pathVariance,
+                entity.getBoundingBox(), entity.isOnGround(), nodeGenerator, path, null);
+        return path;
+    }
+
+    private PathGenerator.Planner planner(Instance instance) {
+        final FlowField flowField = this.flowField;
+        if (flowField != null && flowField.getPathfinder().getInstance() == instance) return flowField.planner;
+        final HierarchicalPathfinder hierarchicalPathfinder = this.hierarchicalPathfinder;
+        if (hierarchicalPathfinder != null && hierarchicalPathfinder.getInstance() == instance) {
+            return hierarchicalPathfinder.planner;
+        }
+        return PathGenerator.FLAT;
+    }
+
     /**
      * Gets the target pathfinder position.
      *
@@ -203,6 +248,7 @@ public final class Navigator {
     public void reset() {
         if (this.path != null) this.path.setState(PPath.State.TERMINATING);
         this.goalPosition = null;
+        this.flowField = null;
         this.path = null;
 
         if (this.computingPath != null) this.computingPath.setState(PPath.State.TERMINATING);
@@ -230,6 +276,40 @@ public final class Navigator {
 
     public void setNodeGenerator(Supplier<NodeGenerator> nodeGenerator) {
         this.nodeGenerator = nodeGenerator.get();
+        this.nodeGeneratorSupplier = nodeGenerator;
+    }
+
+    /**
+     * Sets the service computing the paths of this navigator off the tick thread.
+     * <p>
+     * Paths are then picked up on the first tick after being computed, the entity keeps following its previous path
+     * meanwhile.
+     *
+     * @param pathfindingService the service, null to compute paths synchronously
+     */
+    @ApiStatus.Experimental
+    public synchronized void setPathfindingService(@Nullable PathfindingService pathfindingService) {
+        this.pathfindingService = pathfindingService;
+    }
+
+    public @Nullable PathfindingService getPathfindingService() {
+        return pathfindingService;
+    }
+
+    /**
+     * Sets the pathfinder used for the paths of this navigator in the instance of the pathfinder.
+     * <p>
+     * Long paths are then routed through the sections of the instance and refined as the entity walks them.
+     *
+     * @param hierarchicalPathfinder the pathfinder, null to always search the blocks directly
+     */
+    @ApiStatus.Experimental
+    public synchronized void setHierarchicalPathfinder(@Nullable HierarchicalPathfinder hierarchicalPathfinder) {
+        this.hierarchicalPathfinder = hierarchicalPathfinder;
+    }
+
+    public @Nullable HierarchicalPathfinder getHierarchicalPathfinder() {
+        return hierarchicalPathfinder;
     }
 
     /**
@@ -0,0 +1,69 @@
+package net.minestom.server.entity.pathfinding;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import net.minestom.server.coordinate.CoordConversion;
+import net.minestom.server.instance.Chunk;
+import net.minestom.server.instance.Instance;
+import net.minestom.server.instance.block.Block;
+import net.minestom.server.instance.palette.Palette;
+import net.minestom.server.world.DimensionType;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Objects;
+
+/**
+ * Read-only view of the blocks of an instance for a single search, safe to use outside the instance thread.
+ * <p>
+ * Block palettes are copied the first time their section is read, so that the search sees a consistent world
+ * while only paying for the sections it visits. Only block states are kept, handlers and nbt are never returned.
+ * Unloaded chunks read as {@link Block#BARRIER} to keep the search inside loaded terrain.
+ */
+final class PathBlockView implements Block.Getter {
+    private final Instance instance;
+    private final int minY, maxY;
+    // Section index -> copied block palette, null if unloaded
+    private final Long2ObjectOpenHashMap<Palette> sections = new Long2ObjectOpenHashMap<>();
+
+    // Last section read, consecutive reads are mostly in the same section
+    private long lastIndex;
+    private @Nullable Palette lastPalette;
+    private boolean hasLast;
+
+    PathBlockView(Instance instance) {
+        this.instance = instance;
+        final DimensionType dimensionType = instance.getCachedDimensionType();
+        this.minY = dimensionType.minY();
+        this.maxY = dimensionType.minY() + dimensionType.height();
+    }
+
+    @Override
+    public Block getBlock(int x, int y, int z, Condition condition) {
+        if (y < minY || y >= maxY) return Block.AIR;
+        final long index = CoordConversion.sectionIndex(x >> 4, y >> 4, z >> 4);
+        final Palette palette;
+        if (hasLast && lastIndex == index) {
+            palette = lastPalette;
+        } else {
+            palette = section(index, x >> 4, y >> 4, z >> 4);
+            this.lastIndex = index;
+            this.lastPalette = palette;
+            this.hasLast = true;
+        }
+        if (palette == null) return Block.BARRIER;
+        final int stateId = palette.get(x & 15, y & 15, z & 15);
+        return Objects.requireNonNullElse(Block.fromStateId(stateId), Block.AIR);
+    }
+
+    private @Nullable Palette section(long index, int sectionX, int sectionY, int sectionZ) {
+        Palette palette = sections.get(index);
+        if (palette != null || sections.containsKey(index)) return palette;
+        final Chunk chunk = instance.getChunk(sectionX, sectionZ);
+        if (chunk != null && chunk.isLoaded()) {
+            synchronized (chunk) {
+                palette = chunk.getSection(sectionY).blockPalette().clone();
+            }
+        }
+        sections.put(index, palette);
+        return palette;
+    }
+}
@@ -0,0 +1,335 @@
+package net.minestom.server.entity.pathfinding;
+
+import it.unimi.dsi.fastutil.longs.Long2IntOpenHashMap;
+import net.minestom.server.collision.BoundingBox;
+import net.minestom.server.coordinate.Point;
+import net.minestom.server.entity.pathfinding.generators.NodeGenerator;
+import net.minestom.server.instance.block.Block;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * A* search reused by the searches of a thread, nodes only exist as entries of primitive arrays.
+ * <p>
+ * Nodes are identified by their packed block coordinate, mapped to their entry by {@link #nodeIds}.
+ * The open set is a binary heap of entries indexed by {@link #heapIndex}, so that a shorter path to an open node
+ * updates it in place. {@link PNode} objects are only created for the nodes of the resulting path.
+ */
+final class PathSearch implements NodeGenerator.Neighbors {
+    private static final ThreadLocal<PathSearch> CONTEXT = ThreadLocal.withInitial(PathSearch::new);
+    private static final int INITIAL_CAPACITY = 256;
+    private static final int MAX_RETAINED_CAPACITY = 1 << 16; // Larger arrays are released after the search
+    private static final PNode.Type[] TYPES = PNode.Type.values();
+
+    private final Long2IntOpenHashMap nodeIds = new Long2IntOpenHashMap(INITIAL_CAPACITY);
+    // Node entries
+    private double[] xs, ys, zs;
+    private double[] g, f;
+    private int[] parents;
+    private byte[] types;
+    private boolean[] closed;
+    private int[] heapIndex; // -1 if not in the open set
+    private int nodeCount;
+    // Open set, entries ordered by f
+    private int[] heap;
+    private int heapSize;
+
+    private boolean inUse;
+
+    // Current search
+    private @Nullable NodeGenerator generator;
+    private @Nullable Point start, target;
+    private double maxDistanceSquared;
+    private int current;
+
+    private PathSearch() {
+        nodeIds.defaultReturnValue(-1);
+        allocate(INITIAL_CAPACITY);
+    }
+
+    /**
+     * Gets the search of the current thread.
+     */
+    static PathSearch get() {
+        final PathSearch search = CONTEXT.get();
+        return search.inUse ? new PathSearch() : search;
+    }
+
+    void compute(Block.Getter getter, Point start, Point target,
+                 double closeDistance, double maxDistance, double pathVariance,
+                 BoundingBox boundingBox, PPath path, NodeGenerator generator,
+                 @Nullable PathGenerator.Throttle throttle) {
+        this.inUse = true;
+        try {
+            this.generator = generator;
+            this.start = start;
+            this.target = target;
+            this.maxDistanceSquared = maxDistance * maxDistance;
+            search(getter, closeDistance, maxDistance, pathVariance, boundingBox, path, throttle);
+        } finally {
+            reset();
+            this.inUse = false;
+        }
+    }
+
+    private void search(Block.Getter getter, double closeDistance, double maxDistance, double pathVariance,
+                        BoundingBox boundingBox, PPath path, @Nullable PathGenerator.Throttle throttle) {
+        final NodeGenerator generator = this.generator;
+        final Point start = this.start, target = this.target;
+        assert generator != null && start != null && target != null;
+        final double straightDistance = generator.heuristic(start, target);
+        final int maxSize = (int) Math.floor(maxDistance * 10);
+        closeDistance = Math.max(0.8, closeDistance);
+        final double closeDistanceSquared = closeDistance * closeDistance;
+
+        final int startNode = addNode(start.x(), start.y(), start.z(), 0,
+                generator.heuristic(start, target), PNode.Type.WALK, -1);
+        nodeIds.put(pack(start.blockX(), start.blockY(), start.blockZ()), startNode);
+        push(startNode);
+
+        int closestNode = -1;
+        double closestDistance = Double.MAX_VALUE;
+        int found = -1;
+        int credits = 0;
+        // Bounded by the discovered nodes, as the closed set used to hold them
+        while (heapSize > 0 && nodeCount < maxSize) {
+            if (path.getState() == PPath.State.TERMINATING) {
+                path.setState(PPath.State.TERMINATED);
+                return;
+            }
+            if (throttle != null && --credits < 0) {
+                if (!throttle.acquire(PathGenerator.Throttle.BATCH)) {
+                    path.setState(PPath.State.TERMINATED);
+                    return;
+                }
+                credits = PathGenerator.Throttle.BATCH - 1;
+            }
+
+            final int node = pop();
+            closed[node] = true;
+
+            final double h = f[node] - g[node];
+            if (f[node] - straightDistance > pathVariance) continue;
+            if (distanceSquared(node, start) >= maxDistanceSquared) continue;
+            if (distanceSquared(node, target) < closeDistanceSquared) {
+                found = node;
+                break;
+            }
+            if (h < closestDistance) {
+                closestDistance = h;
+                closestNode = node;
+            }
+
+            this.current = node;
+            generator.neighbors(getter, xs[node], ys[node], zs[node], target, boundingBox, this);
+        }
+
+        boolean repath = false;
+        if (found == -1) {
+            if (closestNode == -1) {
+                path.setState(PPath.State.INVALID);
+                return;
+            }
+            found = closestNode;
+            // The target may still be reachable, ask to continue from the closest node
+            repath = heapSize > 0;
+        }
+        buildPath(found, repath, closeDistanceSquared, path);
+    }
+
+    private void buildPath(int node, boolean repath, double closeDistanceSquared, PPath path) {
+        final List<PNode> nodes = path.getNodes();
+        // The start node is not part of the path
+        for (int i = node; parents[i] != -1; i = parents[i]) {
+            nodes.add(new PNode(xs[i], ys[i], zs[i], g[i], f[i] - g[i], TYPES[types[i]], null));
+        }
+        Collections.reverse(nodes);
+        for (int i = 1; i < nodes.size(); i++) nodes.get(i).setParent(nodes.get(i - 1));
+        if (repath) {
+            final PNode parent = nodes.isEmpty() ? null : nodes.getLast();
+            nodes.add(new PNode(0, 0, 0, 0, 0, PNode.Type.REPATH, parent));
+        }
+
+        if (path.getCurrentType() == PNode.Type.REPATH) {
+            path.setState(PPath.State.INVALID);
+            nodes.clear();
+            return;
+        }
+
+        if (nodes.isEmpty()) {
+            path.setState(PPath.State.INVALID);
+            return;
+        }
+
+        final PNode lastNode = nodes.getLast();
+        final Point target = this.target;
+        assert target != null;
+        final double dx = lastNode.x() - target.x(), dy = lastNode.y() - target.y(), dz = lastNode.z() - target.z();
+        if (dx * dx + dy * dy + dz * dz > closeDistanceSquared) {
+            path.setState(PPath.State.BEST_EFFORT);
+            return;
+        }
+
+        nodes.add(new PNode(target, 0, 0, PNode.Type.WALK, lastNode));
+        path.setState(PPath.State.COMPUTED);
+    }
+
+    @Override
+    public boolean isClosed(int blockX, int blockY, int blockZ) {
+        final int node = nodeIds.get(pack(blockX, blockY, blockZ));
+        return node != -1 && closed[node];
+    }
+
+    @Override
+    public void add(double x, double y, double z, double cost, PNode.Type type) {
+        final Point start = this.start, target = this.target;
+        final NodeGenerator generator = this.generator;
+        assert start != null && target != null && generator != null;
+        final double sdx = x - start.x(), sdy = y - start.y(), sdz = z - start.z();
+        if (sdx * sdx + sdy * sdy + sdz * sdz > maxDistanceSquared) return;
+
+        final long key = pack((int) Math.floor(x), (int) Math.floor(y), (int) Math.floor(z));
+        final double newG = g[current] + cost;
+        final int node = nodeIds.get(key);
+        if (node == -1) {
+            final int added = addNode(x, y, z, newG, generator.heuristic(x, y, z, target), type, current);
+            nodeIds.put(key, added);
+            push(added);
+        } else if (!closed[node] && newG < g[node]) {
+            // Shorter path to an open node
+            final double h = f[node] - g[node];
+            xs[node] = x;
+            ys[node] = y;
+            zs[node] = z;
+            g[node] = newG;
+            f[node] = newG + h;
+            types[node] = (byte) type.ordinal();
+            parents[node] = current;
+            siftUp(heapIndex[node]);
+        }
+    }
+
+    private int addNode(double x, double y, double z, double g, double h, PNode.Type type, int parent) {
+        final int node = nodeCount;
+        if (node == xs.length) grow();
+        xs[node] = x;
+        ys[node] = y;
+        zs[node] = z;
+        this.g[node] = g;
+        this.f[node] = g + h;
+        types[node] = (byte) type.ordinal();
+        parents[node] = parent;
+        closed[node] = false;
+        heapIndex[node] = -1;
+        this.nodeCount = node + 1;
+        return node;
+    }
+
+    private double distanceSquared(int node, Point point) {
+        final double dx = xs[node] - point.x(), dy = ys[node] - point.y(), dz = zs[node] - point.z();
+        return dx * dx + dy * dy + dz * dz;
+    }
+
+    // Binary heap
+
+    private void push(int node) {
+        final int index = heapSize++;
+        heap[index] = node;
+        heapIndex[node] = index;
+        siftUp(index);
+    }
+
+    private int pop() {
+        final int top = heap[0];
+        heapIndex[top] = -1;
+        final int last = heap[--heapSize];
+        if (heapSize > 0) {
+            heap[0] = last;
+            heapIndex[last] = 0;
+            siftDown(0);
+        }
+        return top;
+    }
+
+    private void siftUp(int index) {
+        final int node = heap[index];
+        final double nodeF = f[node];
+        while (index > 0) {
+            final int parentIndex = (index - 1) >>> 1;
+            final int parent = heap[parentIndex];
+            if (f[parent] <= nodeF) break;
+            heap[index] = parent;
+            heapIndex[parent] = index;
+            index = parentIndex;
+        }
+        heap[index] = node;
+        heapIndex[node] = index;
+    }
+
+    private void siftDown(int index) {
+        final int node = heap[index];
+        final double nodeF = f[node];
+        final int half = heapSize >>> 1;
+        while (index < half) {
+            int child = (index << 1) + 1;
+            final int right = child + 1;
+            if (right < heapSize && f[heap[right]] < f[heap[child]]) child = right;
+            if (nodeF <= f[heap[child]]) break;
+            heap[index] = heap[child];
+            heapIndex[heap[index]] = index;
+            index = child;
+        }
+        heap[index] = node;
+        heapIndex[node] = index;
+    }
+
+    private void allocate(int capacity) {
+        this.xs = new double[capacity];
+        this.ys = new double[capacity];
+        this.zs = new double[capacity];
+        this.g = new double[capacity];
+        this.f = new double[capacity];
+        this.parents = new int[capacity];
+        this.types = new byte[capacity];
+        this.closed = new boolean[capacity];
+        this.heapIndex = new int[capacity];
+        this.heap = new int[capacity];
+    }
+
+    private void grow() {
+        final int capacity = xs.length * 2;
+        this.xs = Arrays.copyOf(xs, capacity);
+        this.ys = Arrays.copyOf(ys, capacity);
+        this.zs = Arrays.copyOf(zs, capacity);
+        this.g = Arrays.copyOf(g, capacity);
+        this.f = Arrays.copyOf(f, capacity);
+        this.parents = Arrays.copyOf(parents, capacity);
+        this.types = Arrays.copyOf(types, capacity);
+        this.closed = Arrays.copyOf(closed, capacity);
+        this.heapIndex = Arrays.copyOf(heapIndex, capacity);
+        this.heap = Arrays.copyOf(heap, capacity);
+    }
+
+    private void reset() {
+        if (xs.length > MAX_RETAINED_CAPACITY) {
+            allocate(INITIAL_CAPACITY);
+            nodeIds.clear();
+            nodeIds.trim(INITIAL_CAPACITY);
+        } else {
+            nodeIds.clear();
+        }
+        this.nodeCount = 0;
+        this.heapSize = 0;
+        this.generator = null;
+        this.start = null;
+        this.target = null;
+    }
+
+    // 26 bits for x and z, 12 bits for y
+    static long pack(int x, int y, int z) {
+        return ((long) x & 0x3FFFFFF) << 38 | ((long) z & 0x3FFFFFF) << 12 | (y & 0xFFF);
+    }
+}
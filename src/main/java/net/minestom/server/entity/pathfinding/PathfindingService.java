@@ -0,0 +1,301 @@
+package net.minestom.server.entity.pathfinding;
+
+import net.minestom.server.MinecraftServer;
+import net.minestom.server.ServerFlag;
+import net.minestom.server.collision.BoundingBox;
+import net.minestom.server.coordinate.Point;
+import net.minestom.server.coordinate.Pos;
+import net.minestom.server.entity.pathfinding.generators.NodeGenerator;
+import net.minestom.server.instance.Instance;
+import net.minestom.server.utils.validate.Check;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Supplier;
+
+/**
+ * Computes paths on a bounded pool of worker threads instead of the tick thread of the entity.
+ * <p>
+ * Searches read the world through a copy of the sections they visit, and their result is picked up
+ * by {@link Navigator#tick()} once computed. The nodes expanded by all searches are limited per tick,
+ * searches over the budget wait for the next tick. Identical searches towards the same target are only computed once,
+ * their result being reused for a second after completion.
+ * <p>
+ * Searches are cancelled by terminating their path, e.g. with {@link Navigator#reset()}.
+ *
+ * @see Navigator#setPathfindingService(PathfindingService)
+ */
+@ApiStatus.Experimental
+public final class PathfindingService implements AutoCloseable {
+    private static final long CACHE_DURATION = 1_000_000_000L; // In nanoseconds
+    private static final int PURGE_INTERVAL = 256; // In submissions
+
+    private static volatile @Nullable PathfindingService shared;
+
+    private final ForkJoinPool pool;
+    private final @Nullable NodeBudget budget;
+    private final Map<SearchKey, Search> searches = new ConcurrentHashMap<>();
+    private final AtomicInteger submissions = new AtomicInteger();
+
+    private final LongAdder computed = new LongAdder();
+    private final LongAdder deduplicated = new LongAdder();
+    private final LongAdder cancelled = new LongAdder();
+
+    /**
+     * @param threads           the number of worker threads
+     * @param nodeBudgetPerTick the nodes expanded by all searches per tick, 0 for no limit
+     */
+    public PathfindingService(int threads, int nodeBudgetPerTick) {
+        Check.argCondition(threads < 1, "There must be at least one thread");
+        Check.argCondition(nodeBudgetPerTick < 0, "The node budget cannot be negative");
+        this.pool = new ForkJoinPool(threads, pool -> {
+            final ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+            thread.setName("Ms-Pathfinding-" + thread.getPoolIndex());
+            thread.setDaemon(true);
+            return thread;
+        }, null, true);
+        this.budget = nodeBudgetPerTick > 0 ? new NodeBudget(nodeBudgetPerTick) : null;
+    }
+
+    /**
+     * Gets the service shared by navigators, configured by {@link ServerFlag#PATHFINDING_THREADS}
+     * and {@link ServerFlag#PATHFINDING_NODE_BUDGET}.
+     *
+     * @return the shared service
+     */
+    public static PathfindingService shared() {
+        PathfindingService service = shared;
+        if (service != null) return service;
+        synchronized (PathfindingService.class) {
+            service = shared;
+            if (service == null) {
+                service = new PathfindingService(ServerFlag.PATHFINDING_THREADS, ServerFlag.PATHFINDING_NODE_BUDGET);
+                shared = service;
+            }
+            return service;
+        }
+    }
+
+    /**
+     * Starts computing a path, the parameters are those of {@link PathGenerator#generate}.
+     *
+     * @param generator supplies a new generator for the search, generators are not thread-safe
+     * @return the path, in the {@link PPath.State#CALCULATING} state until computed
+     */
+    public PPath submit(Instance instance, Pos start, Point target,
+                        double closeDistance, double maxDistance, double pathVariance,
+                        BoundingBox boundingBox, boolean isOnGround, Supplier<? extends NodeGenerator> generator,
+                        @Nullable Runnable onComplete) {
+        return submit(instance, start, target, closeDistance, maxDistance, pathVariance, boundingBox, isOnGround,
+                generator, PathGenerator.FLAT, onComplete);
+    }
+
+    PPath submit(Instance instance, Pos start, Point target,
+                 double closeDistance, double maxDistance, double pathVariance,
+                 BoundingBox boundingBox, boolean isOnGround, Supplier<? extends NodeGenerator> generator,
+                 PathGenerator.Planner planner, @Nullable Runnable onComplete) {
+        final PPath path = new PPath(maxDistance, pathVariance, onComplete);
+        final NodeGenerator nodeGenerator = generator.get();
+        final SearchKey key = new SearchKey(instance, start.blockX(), start.blockY(), start.blockZ(),
+                target.x(), target.y(), target.z(), nodeGenerator.getClass(), boundingBox,
+                closeDistance, maxDistance, pathVariance, isOnGround, planner);
+        if (submissions.incrementAndGet() % PURGE_INTERVAL == 0) purge();
+        while (true) {
+            final Search existing = searches.get(key);
+            if (existing != null && existing.subscribe(path)) {
+                this.deduplicated.increment();
+                return path;
+            }
+            final Search search = new Search(key, instance, start, target, boundingBox, isOnGround, nodeGenerator, path);
+            final boolean registered = existing != null ? searches.replace(key, existing, search) : searches.putIfAbsent(key, search) == null;
+            if (registered) {
+                pool.execute(search);
+                return path;
+            }
+        }
+    }
+
+    /**
+     * Gets the counters of this service.
+     *
+     * @return the pathfinding statistics
+     */
+    public Stats stats() {
+        return new Stats(computed.sum(), deduplicated.sum(), cancelled.sum(), pool.getQueuedSubmissionCount());
+    }
+
+    /**
+     * @param computed     the number of searches computed, including those cancelled
+     * @param deduplicated the number of requests served by another search
+     * @param cancelled    the number of searches stopped because every path waiting for them was terminated
+     * @param queued       the number of searches waiting for a worker
+     */
+    public record Stats(long computed, long deduplicated, long cancelled, int queued) {
+    }
+
+    /**
+     * Stops the workers, pending paths are never computed.
+     */
+    @Override
+    public void close() {
+        this.pool.shutdownNow();
+        synchronized (PathfindingService.class) {
+            if (shared == this) shared = null;
+        }
+    }
+
+    private void purge() {
+        final long now = System.nanoTime();
+        searches.values().removeIf(search -> search.isExpired(now));
+    }
+
+    private record SearchKey(Instance instance, int startX, int startY, int startZ,
+                             double targetX, double targetY, double targetZ,
+                             Class<?> generator, BoundingBox boundingBox,
+                             double closeDistance, double maxDistance, double pathVariance, boolean isOnGround,
+                             PathGenerator.Planner planner) {
+    }
+
+    private final class Search implements Runnable, PathGenerator.Throttle {
+        private final SearchKey key;
+        private final Instance instance;
+        private final Pos start;
+        private final Point target;
+        private final BoundingBox boundingBox;
+        private final boolean isOnGround;
+        private final NodeGenerator generator;
+        private final PPath result;
+        // Paths waiting for the result, guarded by this
+        private final List<PPath> subscribers = new ArrayList<>(1);
+        private boolean done;
+        private volatile long completedAt;
+
+        Search(SearchKey key, Instance instance, Pos start, Point target, BoundingBox boundingBox,
+               boolean isOnGround, NodeGenerator generator, PPath path) {
+            this.key = key;
+            this.instance = instance;
+            this.start = start;
+            this.target = target;
+            this.boundingBox = boundingBox;
+            this.isOnGround = isOnGround;
+            this.generator = generator;
+            this.result = new PPath(key.maxDistance(), key.pathVariance(), null);
+            this.subscribers.add(path);
+        }
+
+        /**
+         * @return false if the search cannot serve the path anymore
+         */
+        synchronized boolean subscribe(PPath path) {
+            if (!done) {
+                subscribers.add(path);
+                return true;
+            }
+            if (isExpired(System.nanoTime()) || !isReusable(result.getState())) return false;
+            deliver(path);
+            return true;
+        }
+
+        @Override
+        public void run() {
+            computed.increment();
+            try {
+                if (acquire(0)) {
+                    key.planner().compute(new PathBlockView(instance), start, target,
+                            key.closeDistance(), key.maxDistance(), key.pathVariance(),
+                            boundingBox, isOnGround, generator, result, this);
+                } else {
+                    result.setState(PPath.State.TERMINATED);
+                }
+            } catch (Throwable e) {
+                MinecraftServer.getExceptionManager().handleException(e);
+                result.setState(PPath.State.INVALID);
+            }
+            if (result.getState() == PPath.State.TERMINATED) cancelled.increment();
+            synchronized (this) {
+                this.done = true;
+                this.completedAt = System.nanoTime();
+                for (PPath path : subscribers) deliver(path);
+                subscribers.clear();
+            }
+            if (!isReusable(result.getState())) searches.remove(key, this);
+        }
+
+        @Override
+        public boolean acquire(int nodes) {
+            if (!isWanted()) return false;
+            final NodeBudget budget = PathfindingService.this.budget;
+            return budget == null || budget.acquire(nodes, this);
+        }
+
+        synchronized boolean isWanted() {
+            for (PPath path : subscribers) {
+                if (path.getState() != PPath.State.TERMINATING) return true;
+            }
+            return false;
+        }
+
+        boolean isExpired(long now) {
+            final long completedAt = this.completedAt;
+            return completedAt != 0 && now - completedAt > CACHE_DURATION;
+        }
+
+        private void deliver(PPath path) {
+            if (path.getState() == PPath.State.TERMINATING) {
+                path.setState(PPath.State.TERMINATED);
+                return;
+            }
+            final PPath.State state = result.getState();
+            if (isReusable(state)) path.getNodes().addAll(result.getNodes());
+            // Set last, the navigator reads the nodes once the state is visible
+            path.setState(state == PPath.State.TERMINATED ? PPath.State.INVALID : state);
+        }
+    }
+
+    private static boolean isReusable(PPath.State state) {
+        return state == PPath.State.COMPUTED || state == PPath.State.BEST_EFFORT;
+    }
+
+    // Nodes that may be expanded during the current tick, shared by all searches
+    private static final class NodeBudget {
+        private final int perTick;
+        private final long tickDuration = 1_000_000_000L / ServerFlag.SERVER_TICKS_PER_SECOND;
+        private long tickStart;
+        private int remaining;
+
+        NodeBudget(int perTick) {
+            this.perTick = perTick;
+        }
+
+        boolean acquire(int nodes, Search search) {
+            if (nodes == 0) return true;
+            nodes = Math.min(nodes, perTick);
+            while (true) {
+                final long wait;
+                synchronized (this) {
+                    final long now = System.nanoTime();
+                    if (now - tickStart >= tickDuration) {
+                        this.tickStart = now;
+                        this.remaining = perTick;
+                    }
+                    if (remaining >= nodes) {
+                        this.remaining -= nodes;
+                        return true;
+                    }
+                    wait = tickStart + tickDuration - now;
+                }
+                LockSupport.parkNanos(wait);
+                if (!search.isWanted()) return false;
+            }
+        }
+    }
+}
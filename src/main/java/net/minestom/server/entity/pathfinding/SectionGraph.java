@@ -0,0 +1,406 @@
+package net.minestom.server.entity.pathfinding;
+
+import net.minestom.server.coordinate.CoordConversion;
+import net.minestom.server.coordinate.Point;
+import net.minestom.server.entity.pathfinding.generators.NodeGenerator;
+import net.minestom.server.instance.Chunk;
+import net.minestom.server.instance.Instance;
+import net.minestom.server.instance.block.Block;
+import net.minestom.server.world.DimensionType;
+import org.jetbrains.annotations.Nullable;
+import space.vectrix.flare.fastutil.Long2ObjectSyncMap;
+
+import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Connectivity of an instance at the scale of its sections, the abstract graph of {@link HierarchicalPathfinder}.
+ * <p>
+ * Each section is split into regions, the sets of positions connected to each other inside the section.
+ * Regions of neighboring sections are linked by edges, through the pair of positions (the portal) where
+ * an entity crosses from one to the other. Sections are analyzed the first time a search reaches them,
+ * and dropped when one of their blocks changes.
+ * <p>
+ * The graph only approximates the movement of the node generators, paths are refined with the generator itself.
+ */
+final class SectionGraph {
+    private static final int SIZE = 16;
+    private static final int VOLUME = SIZE * SIZE * SIZE;
+
+    /**
+     * How positions are traversed.
+     */
+    enum Layer {
+        /**
+         * Positions with two free blocks above the ground or inside liquid, moving horizontally one block up or down.
+         */
+        GROUND(new int[][]{
+                {1, 0, 0}, {-1, 0, 0}, {0, 0, 1}, {0, 0, -1},
+                {1, 1, 0}, {-1, 1, 0}, {0, 1, 1}, {0, 1, -1},
+                {1, -1, 0}, {-1, -1, 0}, {0, -1, 1}, {0, -1, -1}
+        }),
+        /**
+         * Non-solid positions, moving along any axis.
+         */
+        OPEN(new int[][]{
+                {1, 0, 0}, {-1, 0, 0}, {0, 1, 0}, {0, -1, 0}, {0, 0, 1}, {0, 0, -1}
+        });
+
+        // Moves are symmetric, so that edges can be walked in both directions
+        private final int[][] moves;
+
+        Layer(int[][] moves) {
+            this.moves = moves;
+        }
+
+        static Layer of(NodeGenerator generator) {
+            return generator.hasGravitySnap() ? GROUND : OPEN;
+        }
+    }
+
+    /**
+     * Positions connected inside a section.
+     *
+     * @see Cell#regions
+     */
+    static final class Region {
+        final Cell cell;
+        final int id;
+        // Member closest to the center of the region
+        final int x, y, z;
+
+        Region(Cell cell, int id, int x, int y, int z) {
+            this.cell = cell;
+            this.id = id;
+            this.x = x;
+            this.y = y;
+            this.z = z;
+        }
+
+        double distance(Point point) {
+            final double dx = x + 0.5 - point.x(), dy = y - point.y(), dz = z + 0.5 - point.z();
+            return Math.sqrt(dx * dx + dy * dy + dz * dz);
+        }
+    }
+
+    /**
+     * Portal from a region to a region of a neighboring section.
+     *
+     * @param to   the neighboring region
+     * @param cost the distance from the center of the region to the center of the neighbor through the portal
+     */
+    record Edge(Region to, int fromX, int fromY, int fromZ, int toX, int toY, int toZ, double cost) {
+    }
+
+    static final class Cell {
+        final Layer layer;
+        final int sectionX, sectionY, sectionZ;
+        // Local index -> region id, -1 if the position cannot be traversed
+        final short[] regionIds;
+        final Region[] regions;
+        // Edges of each region, null until linked
+        volatile Edge[][] edges;
+        volatile boolean valid = true;
+
+        private Cell(Layer layer, int sectionX, int sectionY, int sectionZ, short[] regionIds, int regionCount) {
+            this.layer = layer;
+            this.sectionX = sectionX;
+            this.sectionY = sectionY;
+            this.sectionZ = sectionZ;
+            this.regionIds = regionIds;
+            this.regions = new Region[regionCount];
+        }
+
+        @Nullable Region region(int x, int y, int z) {
+            final int id = regionIds[index(x & 15, y & 15, z & 15)];
+            return id >= 0 ? regions[id] : null;
+        }
+    }
+
+    private final Instance instance;
+    private final int minSection, maxSection;
+    private final Long2ObjectSyncMap<Cell>[] cells;
+    // Incremented by every invalidation, a cell analyzed meanwhile may be outdated and is not kept
+    private final AtomicLong modifications = new AtomicLong();
+    // Incremented when analyzed connectivity changes
+    private final AtomicLong epoch = new AtomicLong();
+
+    @SuppressWarnings("unchecked")
+    SectionGraph(Instance instance) {
+        this.instance = instance;
+        final DimensionType dimensionType = instance.getCachedDimensionType();
+        this.minSection = dimensionType.minY() >> 4;
+        this.maxSection = (dimensionType.minY() + dimensionType.height() - 1) >> 4;
+        this.cells = new Long2ObjectSyncMap[Layer.values().length];
+        for (int i = 0; i < cells.length; i++) cells[i] = Long2ObjectSyncMap.hashmap();
+    }
+
+    /**
+     * Gets a counter changing every time previously analyzed connectivity may have changed.
+     */
+    long epoch() {
+        return epoch.get();
+    }
+
+    int cellCount() {
+        int count = 0;
+        for (Long2ObjectSyncMap<Cell> layer : cells) count += layer.size();
+        return count;
+    }
+
+    /**
+     * Gets the region containing a position, or below it within {@code depth} blocks.
+     *
+     * @return the region, null if there is none or the chunk is not loaded
+     */
+    @Nullable Region locate(Block.Getter getter, Layer layer, Point point, int depth) {
+        final int x = point.blockX(), z = point.blockZ();
+        for (int y = point.blockY(); y >= point.blockY() - depth; y--) {
+            final Cell cell = cell(getter, layer, x >> 4, y >> 4, z >> 4);
+            if (cell == null) continue;
+            final Region region = cell.region(x, y, z);
+            if (region != null) return region;
+        }
+        return null;
+    }
+
+    @Nullable Cell cell(Block.Getter getter, Layer layer, int sectionX, int sectionY, int sectionZ) {
+        if (sectionY < minSection || sectionY > maxSection) return null;
+        final Long2ObjectSyncMap<Cell> layerCells = cells[layer.ordinal()];
+        final long index = CoordConversion.sectionIndex(sectionX, sectionY, sectionZ);
+        final Cell cell = layerCells.get(index);
+        if (cell != null) return cell;
+        final Chunk chunk = instance.getChunk(sectionX, sectionZ);
+        if (chunk == null || !chunk.isLoaded()) return null;
+
+        final long modifications = this.modifications.get();
+        final Cell built = build(getter, layer, sectionX, sectionY, sectionZ);
+        if (this.modifications.get() != modifications) return built;
+        final Cell previous = layerCells.putIfAbsent(index, built);
+        return previous != null ? previous : built;
+    }
+
+    /**
+     * Gets the edges of a region, linking its section if needed.
+     */
+    Edge[] edges(Block.Getter getter, Region region) {
+        final Cell cell = region.cell;
+        Edge[][] edges = cell.edges;
+        if (edges == null) edges = link(getter, cell);
+        return edges[region.id];
+    }
+
+    /**
+     * Drops the analysis of the sections affected by a block change.
+     */
+    void blockChanged(int x, int y, int z) {
+        // Ground positions depend on the blocks above and below them
+        final int minSectionY = (y - 1) >> 4, maxSectionY = (y + 1) >> 4;
+        for (int sectionY = minSectionY; sectionY <= maxSectionY; sectionY++) {
+            invalidate(x >> 4, sectionY, z >> 4);
+        }
+    }
+
+    void invalidate(int sectionX, int sectionY, int sectionZ) {
+        this.modifications.incrementAndGet();
+        final long index = CoordConversion.sectionIndex(sectionX, sectionY, sectionZ);
+        boolean changed = false;
+        for (Long2ObjectSyncMap<Cell> layer : cells) {
+            final Cell removed = layer.remove(index);
+            if (removed != null) {
+                removed.valid = false;
+                changed = true;
+            }
+        }
+        if (!changed) return;
+        // Neighbors link to the dropped regions
+        for (int dx = -1; dx <= 1; dx++) {
+            for (int dy = -1; dy <= 1; dy++) {
+                for (int dz = -1; dz <= 1; dz++) {
+                    unlink(sectionX + dx, sectionY + dy, sectionZ + dz);
+                }
+            }
+        }
+        this.epoch.incrementAndGet();
+    }
+
+    void chunkLoaded(int chunkX, int chunkZ) {
+        this.modifications.incrementAndGet();
+        // Neighbors have been linked as if the chunk was solid
+        boolean changed = false;
+        for (int dx = -1; dx <= 1; dx++) {
+            for (int dz = -1; dz <= 1; dz++) {
+                for (int sectionY = minSection; sectionY <= maxSection; sectionY++) {
+                    changed |= unlink(chunkX + dx, sectionY, chunkZ + dz);
+                }
+            }
+        }
+        if (changed) this.epoch.incrementAndGet();
+    }
+
+    void chunkUnloaded(int chunkX, int chunkZ) {
+        for (int sectionY = minSection; sectionY <= maxSection; sectionY++) {
+            invalidate(chunkX, sectionY, chunkZ);
+        }
+    }
+
+    private boolean unlink(int sectionX, int sectionY, int sectionZ) {
+        final long index = CoordConversion.sectionIndex(sectionX, sectionY, sectionZ);
+        boolean unlinked = false;
+        for (Long2ObjectSyncMap<Cell> layer : cells) {
+            final Cell cell = layer.get(index);
+            if (cell != null && cell.edges != null) {
+                cell.edges = null;
+                unlinked = true;
+            }
+        }
+        return unlinked;
+    }
+
+    private Edge[][] link(Block.Getter getter, Cell cell) {
+        synchronized (cell) {
+            Edge[][] edges = cell.edges;
+            if (edges != null) return edges;
+            final long modifications = this.modifications.get();
+            final Layer layer = cell.layer;
+            final Region[] regions = cell.regions;
+            final int baseX = cell.sectionX << 4, baseY = cell.sectionY << 4, baseZ = cell.sectionZ << 4;
+            // Neighboring sections, indexed by offset
+            final Cell[] neighbors = new Cell[27];
+            final boolean[] resolved = new boolean[27];
+            @SuppressWarnings("unchecked") final Map<Region, Edge>[] found = new Map[regions.length];
+
+            for (int index = 0; index < VOLUME; index++) {
+                final int id = cell.regionIds[index];
+                if (id < 0) continue;
+                final int x = index & 15, z = (index >> 4) & 15, y = index >> 8;
+                if (x != 0 && x != 15 && y != 0 && y != 15 && z != 0 && z != 15) continue;
+                final Region from = regions[id];
+                for (int[] move : layer.moves) {
+                    final int nx = x + move[0], ny = y + move[1], nz = z + move[2];
+                    if (nx >= 0 && nx < SIZE && ny >= 0 && ny < SIZE && nz >= 0 && nz < SIZE) continue;
+                    final int offset = ((nx >> 4) + 1) * 9 + ((ny >> 4) + 1) * 3 + ((nz >> 4) + 1);
+                    if (!resolved[offset]) {
+                        neighbors[offset] = cell(getter, layer, cell.sectionX + (nx >> 4),
+                                cell.sectionY + (ny >> 4), cell.sectionZ + (nz >> 4));
+                        resolved[offset] = true;
+                    }
+                    final Cell neighbor = neighbors[offset];
+                    if (neighbor == null) continue;
+                    final Region to = neighbor.region(nx, ny, nz);
+                    if (to == null) continue;
+
+                    final int fromX = baseX + x, fromY = baseY + y, fromZ = baseZ + z;
+                    final int toX = baseX + nx, toY = baseY + ny, toZ = baseZ + nz;
+                    final double cost = distance(from.x, from.y, from.z, fromX, fromY, fromZ) +
+                            distance(fromX, fromY, fromZ, toX, toY, toZ) +
+                            distance(toX, toY, toZ, to.x, to.y, to.z);
+                    Map<Region, Edge> regionEdges = found[id];
+                    if (regionEdges == null) found[id] = regionEdges = new HashMap<>();
+                    final Edge edge = regionEdges.get(to);
+                    // Keep the most direct portal
+                    if (edge == null || cost < edge.cost()) {
+                        regionEdges.put(to, new Edge(to, fromX, fromY, fromZ, toX, toY, toZ, cost));
+                    }
+                }
+            }
+
+            edges = new Edge[regions.length][];
+            for (int i = 0; i < regions.length; i++) {
+                final Map<Region, Edge> regionEdges = found[i];
+                edges[i] = regionEdges != null ? regionEdges.values().toArray(Edge[]::new) : new Edge[0];
+            }
+            if (this.modifications.get() == modifications && cell.valid) cell.edges = edges;
+            return edges;
+        }
+    }
+
+    private Cell build(Block.Getter getter, Layer layer, int sectionX, int sectionY, int sectionZ) {
+        final int baseX = sectionX << 4, baseY = sectionY << 4, baseZ = sectionZ << 4;
+        final boolean[] traversable = new boolean[VOLUME];
+        if (layer == Layer.GROUND) {
+            // One more block below and above the section
+            final boolean[] solid = new boolean[SIZE + 2];
+            for (int x = 0; x < SIZE; x++) {
+                for (int z = 0; z < SIZE; z++) {
+                    for (int y = -1; y <= SIZE; y++) {
+                        solid[y + 1] = block(getter, baseX + x, baseY + y, baseZ + z).isSolid();
+                    }
+                    for (int y = 0; y < SIZE; y++) {
+                        if (solid[y + 1] || solid[y + 2]) continue;
+                        traversable[index(x, y, z)] = solid[y] || block(getter, baseX + x, baseY + y, baseZ + z).isLiquid();
+                    }
+                }
+            }
+        } else {
+            for (int index = 0; index < VOLUME; index++) {
+                final int x = index & 15, z = (index >> 4) & 15, y = index >> 8;
+                traversable[index] = !block(getter, baseX + x, baseY + y, baseZ + z).isSolid();
+            }
+        }
+
+        // Flood fill the regions
+        final short[] regionIds = new short[VOLUME];
+        Arrays.fill(regionIds, (short) -1);
+        final int[] queue = new int[VOLUME];
+        final List<int[]> representatives = new ArrayList<>();
+        for (int start = 0; start < VOLUME; start++) {
+            if (!traversable[start] || regionIds[start] != -1) continue;
+            final short id = (short) representatives.size();
+            regionIds[start] = id;
+            queue[0] = start;
+            int head = 0, tail = 1;
+            long sumX = 0, sumY = 0, sumZ = 0;
+            while (head < tail) {
+                final int index = queue[head++];
+                final int x = index & 15, z = (index >> 4) & 15, y = index >> 8;
+                sumX += x;
+                sumY += y;
+                sumZ += z;
+                for (int[] move : layer.moves) {
+                    final int nx = x + move[0], ny = y + move[1], nz = z + move[2];
+                    if (nx < 0 || nx >= SIZE || ny < 0 || ny >= SIZE || nz < 0 || nz >= SIZE) continue;
+                    final int neighbor = index(nx, ny, nz);
+                    if (!traversable[neighbor] || regionIds[neighbor] != -1) continue;
+                    regionIds[neighbor] = id;
+                    queue[tail++] = neighbor;
+                }
+            }
+            // The members are still in the queue
+            final double centerX = (double) sumX / tail, centerY = (double) sumY / tail, centerZ = (double) sumZ / tail;
+            int closest = start;
+            double closestDistance = Double.MAX_VALUE;
+            for (int i = 0; i < tail; i++) {
+                final int index = queue[i];
+                final double distance = distance(index & 15, index >> 8, (index >> 4) & 15, centerX, centerY, centerZ);
+                if (distance < closestDistance) {
+                    closestDistance = distance;
+                    closest = index;
+                }
+            }
+            representatives.add(new int[]{baseX + (closest & 15), baseY + (closest >> 8), baseZ + ((closest >> 4) & 15)});
+        }
+
+        final Cell cell = new Cell(layer, sectionX, sectionY, sectionZ, regionIds, representatives.size());
+        for (int id = 0; id < cell.regions.length; id++) {
+            final int[] position = representatives.get(id);
+            cell.regions[id] = new Region(cell, id, position[0], position[1], position[2]);
+        }
+        return cell;
+    }
+
+    private Block block(Block.Getter getter, int x, int y, int z) {
+        if (y < minSection << 4 || y >= (maxSection + 1) << 4) return Block.AIR;
+        final Block block = getter.getBlock(x, y, z, Block.Getter.Condition.TYPE);
+        return block != null ? block : Block.AIR;
+    }
+
+    private static int index(int x, int y, int z) {
+        return (y << 8) | (z << 4) | x;
+    }
+
+    private static double distance(double x1, double y1, double z1, double x2, double y2, double z2) {
+        final double dx = x1 - x2, dy = y1 - y2, dz = z1 - z2;
+        return Math.sqrt(dx * dx + dy * dy + dz * dz);
+    }
+}
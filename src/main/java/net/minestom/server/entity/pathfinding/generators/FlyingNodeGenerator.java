@@ -6,18 +6,24 @@ import net.minestom.server.coordinate.Vec;
 import net.minestom.server.entity.pathfinding.PNode;
 import net.minestom.server.instance.block.Block;
 
-import java.util.ArrayList;
 import java.util.Collection;
 import java.util.OptionalDouble;
 import java.util.Set;
 
 public class FlyingNodeGenerator implements NodeGenerator {
-    private PNode tempNode = null;
 
     @Override
     public Collection<? extends PNode> getWalkable(Block.Getter getter, Set<PNode> visited, PNode current, Point goal, BoundingBox boundingBox) {
-        Collection<PNode> nearby = new ArrayList<>();
-        tempNode = new PNode(0, 0, 0, 0, 0, current);
+        return NodeCollector.collect(this, getter, visited, current, goal, boundingBox);
+    }
+
+    @Override
+    public void neighbors(Block.Getter getter, double currentX, double currentY, double currentZ,
+                          Point goal, BoundingBox boundingBox, Neighbors neighbors) {
+        final int blockX = (int) Math.floor(currentX);
+        final int blockY = (int) Math.floor(currentY);
+        final int blockZ = (int) Math.floor(currentZ);
+        final Vec current = new Vec(currentX, currentY, currentZ);
 
         int stepSize = (int) Math.max(Math.floor(boundingBox.width() / 2), 1);
         if (stepSize < 1) stepSize = 1;
@@ -27,46 +33,18 @@ public class FlyingNodeGenerator implements NodeGenerator {
                 if (x == 0 && z == 0) continue;
                 double cost = Math.sqrt(x * x + z * z) * 0.98;
 
-                double currentLevelPointX = current.blockX() + 0.5 + x;
-                double currentLevelPointY = current.blockY() + 0.5;
-                double currentLevelPointZ = current.blockZ() + 0.5 + z;
-
-                double upPointX = current.blockX() + 0.5 + x;
-                double upPointY = current.blockY() + 1 + 0.5;
-                double upPointZ = current.blockZ() + 0.5 + z;
-
-                double downPointX = current.blockX() + 0.5 + x;
-                double downPointY = current.blockY() - 1 + 0.5;
-                double downPointZ = current.blockZ() + 0.5 + z;
-
-                var nodeWalk = createFly(getter, new Vec(currentLevelPointX, currentLevelPointY, currentLevelPointZ), boundingBox, cost, current, goal, visited);
-                if (nodeWalk != null && !visited.contains(nodeWalk)) nearby.add(nodeWalk);
-
-                var nodeJump = createFly(getter, new Vec(upPointX, upPointY, upPointZ), boundingBox, cost, current, goal, visited);
-                if (nodeJump != null && !visited.contains(nodeJump)) nearby.add(nodeJump);
-
-                var nodeFall = createFly(getter, new Vec(downPointX, downPointY, downPointZ), boundingBox, cost, current, goal, visited);
-                if (nodeFall != null && !visited.contains(nodeFall)) nearby.add(nodeFall);
+                final double pointX = blockX + 0.5 + x;
+                final double pointZ = blockZ + 0.5 + z;
+                addFly(getter, current, pointX, blockY + 0.5, pointZ, boundingBox, cost, neighbors);
+                addFly(getter, current, pointX, blockY + 1 + 0.5, pointZ, boundingBox, cost, neighbors);
+                addFly(getter, current, pointX, blockY - 1 + 0.5, pointZ, boundingBox, cost, neighbors);
             }
         }
 
         // Straight up
-        double upPointX = current.x();
-        double upPointY = current.blockY() + 1 + 0.5;
-        double upPointZ = current.z();
-
-        var nodeJump = createFly(getter, new Vec(upPointX, upPointY, upPointZ), boundingBox, 2, current, goal, visited);
-        if (nodeJump != null && !visited.contains(nodeJump)) nearby.add(nodeJump);
-
+        addFly(getter, current, currentX, blockY + 1 + 0.5, currentZ, boundingBox, 2, neighbors);
         // Straight down
-        double downPointX = current.x();
-        double downPointY = current.blockY() - 1 + 0.5;
-        double downPointZ = current.z();
-
-        var nodeFall = createFly(getter, new Vec(downPointX, downPointY, downPointZ), boundingBox, 2, current, goal, visited);
-        if (nodeFall != null && !visited.contains(nodeFall)) nearby.add(nodeFall);
-
-        return nearby;
+        addFly(getter, current, currentX, blockY - 1 + 0.5, currentZ, boundingBox, 2, neighbors);
     }
 
     @Override
@@ -74,23 +52,11 @@ public class FlyingNodeGenerator implements NodeGenerator {
         return false;
     }
 
-    private PNode createFly(Block.Getter getter, Point point, BoundingBox boundingBox, double cost, PNode start, Point goal, Set<PNode> closed) {
-        var n = newNode(start, cost, point, goal);
-        if (closed.contains(n)) return null;
-        if (!canMoveTowards(getter, new Vec(start.x(), start.y(), start.z()), point, boundingBox)) return null;
-        n.setType(PNode.Type.FLY);
-        return n;
-    }
-
-    private PNode newNode(PNode current, double cost, Point point, Point goal) {
-        tempNode.setG(current.g() + cost);
-        tempNode.setH(heuristic(point, goal));
-        tempNode.setPoint(point.x(), point.y(), point.z());
-
-        var newNode = tempNode;
-        tempNode = new PNode(0, 0, 0, 0, 0, PNode.Type.WALK, current);
-
-        return newNode;
+    private void addFly(Block.Getter getter, Vec start, double x, double y, double z, BoundingBox boundingBox,
+                        double cost, Neighbors neighbors) {
+        if (neighbors.isClosed((int) Math.floor(x), (int) Math.floor(y), (int) Math.floor(z))) return;
+        if (!canMoveTowards(getter, start, new Vec(x, y, z), boundingBox)) return;
+        neighbors.add(x, y, z, cost, PNode.Type.FLY);
     }
 
     @Override
@@ -6,20 +6,26 @@ import net.minestom.server.coordinate.Vec;
 import net.minestom.server.entity.pathfinding.PNode;
 import net.minestom.server.instance.block.Block;
 
-import java.util.ArrayList;
 import java.util.Collection;
 import java.util.OptionalDouble;
 import java.util.Set;
 
 public class GroundNodeGenerator implements NodeGenerator {
-    private PNode tempNode = null;
     private final BoundingBox.PointIterator pointIterator = new BoundingBox.PointIterator();
     private final static int MAX_FALL_DISTANCE = 5;
 
     @Override
     public Collection<? extends PNode> getWalkable(Block.Getter getter, Set<PNode> visited, PNode current, Point goal, BoundingBox boundingBox) {
-        Collection<PNode> nearby = new ArrayList<>();
-        tempNode = new PNode(0, 0, 0, 0, 0, current);
+        return NodeCollector.collect(this, getter, visited, current, goal, boundingBox);
+    }
+
+    @Override
+    public void neighbors(Block.Getter getter, double currentX, double currentY, double currentZ,
+                          Point goal, BoundingBox boundingBox, Neighbors neighbors) {
+        final int blockX = (int) Math.floor(currentX);
+        final int blockY = (int) Math.floor(currentY);
+        final int blockZ = (int) Math.floor(currentZ);
+        final Vec current = new Vec(currentX, currentY, currentZ);
 
         int stepSize = (int) Math.max(Math.floor(boundingBox.width() / 2), 1);
         if (stepSize < 1) stepSize = 1;
@@ -29,75 +35,51 @@ public class GroundNodeGenerator implements NodeGenerator {
                 if (x == 0 && z == 0) continue;
                 double cost = Math.sqrt(x * x + z * z) * 0.98;
 
-                double floorPointX = current.blockX() + 0.5 + x;
-                double floorPointY = current.blockY();
-                double floorPointZ = current.blockZ() + 0.5 + z;
+                final double pointX = blockX + 0.5 + x;
+                final double pointZ = blockZ + 0.5 + z;
 
-                var optionalFloorPointY = gravitySnap(getter, floorPointX, floorPointY, floorPointZ, boundingBox, MAX_FALL_DISTANCE);
+                var optionalFloorPointY = gravitySnap(getter, pointX, blockY, pointZ, boundingBox, MAX_FALL_DISTANCE);
                 if (optionalFloorPointY.isEmpty()) continue;
-                floorPointY = optionalFloorPointY.getAsDouble();
-
-                var floorPoint = new Vec(floorPointX, floorPointY, floorPointZ);
-
-                var nodeWalk = createWalk(getter, floorPoint, boundingBox, cost, current, goal, visited);
-                if (nodeWalk != null && !visited.contains(nodeWalk)) nearby.add(nodeWalk);
-
-                for (int i = 1; i <= 1; ++i) {
-                    Point jumpPoint = new Vec(current.blockX() + 0.5 + x, current.blockY() + i, current.blockZ() + 0.5 + z);
-                    OptionalDouble jumpPointY = gravitySnap(getter, jumpPoint.x(), jumpPoint.y(), jumpPoint.z(), boundingBox, MAX_FALL_DISTANCE);
-                    if (jumpPointY.isEmpty()) continue;
-                    jumpPoint = jumpPoint.withY(jumpPointY.getAsDouble());
+                final double floorPointY = optionalFloorPointY.getAsDouble();
+                addWalk(getter, current, pointX, floorPointY, pointZ, boundingBox, cost, neighbors);
 
-                    if (!floorPoint.sameBlock(jumpPoint)) {
-                        var nodeJump = createJump(getter, jumpPoint, boundingBox, cost + 0.2, current, goal, visited);
-                        if (nodeJump != null && !visited.contains(nodeJump)) nearby.add(nodeJump);
-                    }
+                OptionalDouble jumpPointY = gravitySnap(getter, pointX, blockY + 1, pointZ, boundingBox, MAX_FALL_DISTANCE);
+                if (jumpPointY.isEmpty()) continue;
+                if (Math.floor(floorPointY) != Math.floor(jumpPointY.getAsDouble())) {
+                    addJump(getter, current, pointX, jumpPointY.getAsDouble(), pointZ, boundingBox, cost + 0.2, neighbors);
                 }
             }
         }
-
-        return nearby;
     }
 
-    private PNode createWalk(Block.Getter getter, Point point, BoundingBox boundingBox, double cost, PNode start, Point goal, Set<PNode> closed) {
-        var n = newNode(start, cost, point, goal);
-        if (closed.contains(n)) return null;
+    private void addWalk(Block.Getter getter, Vec start, double x, double y, double z, BoundingBox boundingBox,
+                         double cost, Neighbors neighbors) {
+        if (neighbors.isClosed((int) Math.floor(x), (int) Math.floor(y), (int) Math.floor(z))) return;
 
-        if (Math.abs(point.y() - start.y()) > Vec.EPSILON && point.y() < start.y()) {
-            if (start.y() - point.y() > MAX_FALL_DISTANCE) return null;
-            if (!canMoveTowards(getter, new Vec(start.x(), start.y(), start.z()), point.withY(start.y()), boundingBox))
-                return null;
-            n.setType(PNode.Type.FALL);
+        final Vec point = new Vec(x, y, z);
+        PNode.Type type = PNode.Type.WALK;
+        if (Math.abs(y - start.y()) > Vec.EPSILON && y < start.y()) {
+            if (start.y() - y > MAX_FALL_DISTANCE) return;
+            if (!canMoveTowards(getter, start, point.withY(start.y()), boundingBox)) return;
+            type = PNode.Type.FALL;
         } else {
-            if (!canMoveTowards(getter, new Vec(start.x(), start.y(), start.z()), point, boundingBox)) return null;
+            if (!canMoveTowards(getter, start, point, boundingBox)) return;
         }
-        return n;
-    }
-
-    private PNode createJump(Block.Getter getter, Point point, BoundingBox boundingBox, double cost, PNode start, Point goal, Set<PNode> closed) {
-        if (Math.abs(point.y() - start.y()) < Vec.EPSILON) return null;
-        if (point.y() - start.y() > 2) return null;
-        if (point.blockX() != start.blockX() && point.blockZ() != start.blockZ()) return null;
-
-        var n = newNode(start, cost, point, goal);
-        if (closed.contains(n)) return null;
-
-        if (pointInvalid(getter, point, boundingBox)) return null;
-        if (pointInvalid(getter, new Vec(start.x(), start.y() + 1, start.z()), boundingBox)) return null;
-
-        n.setType(PNode.Type.JUMP);
-        return n;
+        neighbors.add(x, y, z, cost, type);
     }
 
-    private PNode newNode(PNode current, double cost, Point point, Point goal) {
-        tempNode.setG(current.g() + cost);
-        tempNode.setH(heuristic(point, goal));
-        tempNode.setPoint(point.x(), point.y(), point.z());
+    private void addJump(Block.Getter getter, Vec start, double x, double y, double z, BoundingBox boundingBox,
+                         double cost, Neighbors neighbors) {
+        if (Math.abs(y - start.y()) < Vec.EPSILON) return;
+        if (y - start.y() > 2) return;
+        final int blockX = (int) Math.floor(x), blockY = (int) Math.floor(y), blockZ = (int) Math.floor(z);
+        if (blockX != start.blockX() && blockZ != start.blockZ()) return;
+        if (neighbors.isClosed(blockX, blockY, blockZ)) return;
 
-        var newNode = tempNode;
-        tempNode = new PNode(0, 0, 0, 0, 0, PNode.Type.WALK, current);
+        if (pointInvalid(getter, new Vec(x, y, z), boundingBox)) return;
+        if (pointInvalid(getter, start.add(0, 1, 0), boundingBox)) return;
 
-        return newNode;
+        neighbors.add(x, y, z, cost, PNode.Type.JUMP);
     }
 
     @Override
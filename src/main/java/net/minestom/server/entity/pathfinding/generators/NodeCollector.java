@@ -0,0 +1,49 @@
+package net.minestom.server.entity.pathfinding.generators;
+
+import net.minestom.server.collision.BoundingBox;
+import net.minestom.server.coordinate.Point;
+import net.minestom.server.entity.pathfinding.PNode;
+import net.minestom.server.instance.block.Block;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Collects the nodes written by {@link NodeGenerator#neighbors(Block.Getter, double, double, double, Point, BoundingBox, NodeGenerator.Neighbors)},
+ * for the generators implementing {@link NodeGenerator#getWalkable(Block.Getter, Set, PNode, Point, BoundingBox)} from it.
+ */
+final class NodeCollector implements NodeGenerator.Neighbors {
+    private final NodeGenerator generator;
+    private final Set<PNode> visited;
+    private final PNode current;
+    private final Point goal;
+    private final List<PNode> nodes = new ArrayList<>();
+
+    private NodeCollector(NodeGenerator generator, Set<PNode> visited, PNode current, Point goal) {
+        this.generator = generator;
+        this.visited = visited;
+        this.current = current;
+        this.goal = goal;
+    }
+
+    static Collection<PNode> collect(NodeGenerator generator, Block.Getter getter, Set<PNode> visited,
+                                     PNode current, Point goal, BoundingBox boundingBox) {
+        final NodeCollector collector = new NodeCollector(generator, visited, current, goal);
+        generator.neighbors(getter, current.x(), current.y(), current.z(), goal, boundingBox, collector);
+        return collector.nodes;
+    }
+
+    @Override
+    public boolean isClosed(int blockX, int blockY, int blockZ) {
+        // Nodes are equal when in the same block
+        return visited.contains(new PNode(blockX, blockY, blockZ, 0, 0, null));
+    }
+
+    @Override
+    public void add(double x, double y, double z, double cost, PNode.Type type) {
+        final PNode node = new PNode(x, y, z, current.g() + cost, generator.heuristic(x, y, z, goal), type, current);
+        if (!visited.contains(node)) nodes.add(node);
+    }
+}
@@ -4,12 +4,11 @@ import net.minestom.server.collision.BoundingBox;
 import net.minestom.server.collision.CollisionUtils;
 import net.minestom.server.collision.PhysicsResult;
 import net.minestom.server.coordinate.Point;
+import net.minestom.server.coordinate.Vec;
 import net.minestom.server.entity.pathfinding.PNode;
 import net.minestom.server.instance.block.Block;
 
-import java.util.Collection;
-import java.util.OptionalDouble;
-import java.util.Set;
+import java.util.*;
 
 public interface NodeGenerator {
     /**
@@ -25,6 +24,65 @@ public interface NodeGenerator {
     Collection<? extends PNode> getWalkable(Block.Getter getter, Set<PNode> visited,
                                                      PNode current, Point goal, BoundingBox boundingBox);
 
+    /**
+     * Writes the walkable nodes around a node, used by the search instead of
+     * {@link #getWalkable(Block.Getter, Set, PNode, Point, BoundingBox)}.
+     * <p>
+     * The default implementation adapts {@link #getWalkable(Block.Getter, Set, PNode, Point, BoundingBox)},
+     * override it to avoid allocating nodes.
+     *
+     * @param getter      the instance
+     * @param x           the x coordinate of the current node
+     * @param y           the y coordinate of the current node
+     * @param z           the z coordinate of the current node
+     * @param goal        the goal
+     * @param boundingBox the bounding box
+     * @param neighbors   receives the walkable nodes
+     */
+    default void neighbors(Block.Getter getter, double x, double y, double z,
+                           Point goal, BoundingBox boundingBox, Neighbors neighbors) {
+        final PNode current = new PNode(x, y, z, 0, 0, null);
+        final Set<PNode> visited = new AbstractSet<>() {
+            @Override
+            public boolean contains(Object o) {
+                return o instanceof PNode node && neighbors.isClosed(node.blockX(), node.blockY(), node.blockZ());
+            }
+
+            @Override
+            public Iterator<PNode> iterator() {
+                return Collections.emptyIterator();
+            }
+
+            @Override
+            public int size() {
+                return 0;
+            }
+        };
+        for (PNode node : getWalkable(getter, visited, current, goal, boundingBox)) {
+            neighbors.add(node.x(), node.y(), node.z(), node.g(), node.getType());
+        }
+    }
+
+    /**
+     * Receives the nodes reachable from the node being expanded.
+     */
+    interface Neighbors {
+        /**
+         * Gets if the node of a block has already been expanded, its neighbors do not need to be checked.
+         *
+         * @return true if the node can be skipped
+         */
+        boolean isClosed(int blockX, int blockY, int blockZ);
+
+        /**
+         * Adds a walkable node.
+         *
+         * @param cost the cost of moving from the current node
+         * @param type the movement to reach the node
+         */
+        void add(double x, double y, double z, double cost, PNode.Type type);
+    }
+
     /**
      * @return snap start and end points to the ground
      */
@@ -92,4 +150,14 @@ public interface NodeGenerator {
     default double heuristic(Point node, Point target) {
         return node.distance(target);
     }
+
+    /**
+     * Heuristic use for the distance from the node to the target
+     *
+     * @return the heuristic
+     * @see #heuristic(Point, Point)
+     */
+    default double heuristic(double x, double y, double z, Point target) {
+        return heuristic(new Vec(x, y, z), target);
+    }
 }
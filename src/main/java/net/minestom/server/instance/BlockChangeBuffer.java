@@ -0,0 +1,180 @@
+package net.minestom.server.instance;
+
+import it.unimi.dsi.fastutil.ints.Int2IntMap;
+import it.unimi.dsi.fastutil.ints.Int2IntOpenHashMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import net.kyori.adventure.nbt.CompoundBinaryTag;
+import net.minestom.server.MinecraftServer;
+import net.minestom.server.ServerFlag;
+import net.minestom.server.coordinate.BlockVec;
+import net.minestom.server.coordinate.CoordConversion;
+import net.minestom.server.instance.block.Block;
+import net.minestom.server.instance.block.BlockEntityType;
+import net.minestom.server.network.packet.server.ServerPacket;
+import net.minestom.server.network.packet.server.play.BlockChangePacket;
+import net.minestom.server.network.packet.server.play.BlockEntityDataPacket;
+import net.minestom.server.network.packet.server.play.MultiBlockChangePacket;
+import net.minestom.server.utils.block.BlockUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Buffers the block changes of an instance until the end of the tick.
+ * <p>
+ * Each modified section is then sent as a single {@link MultiBlockChangePacket},
+ * or the whole chunk is sent again past {@link ServerFlag#BLOCK_CHANGE_RESEND_THRESHOLD} changes.
+ * Changes of a chunk are flushed early when another packet is sent to its viewers, to preserve ordering.
+ */
+final class BlockChangeBuffer {
+    // Packet length and id, both fit in a single byte
+    private static final int BLOCK_CHANGE_OVERHEAD = 2;
+
+    private final Map<Chunk, ChunkChanges> pending = new ConcurrentHashMap<>();
+    private final AtomicBoolean flushScheduled = new AtomicBoolean();
+
+    private final LongAdder changes = new LongAdder();
+    private final LongAdder packetsSent = new LongAdder();
+    private final LongAdder packetsSaved = new LongAdder();
+    private final LongAdder bytesSaved = new LongAdder();
+    private final LongAdder chunkResends = new LongAdder();
+
+    /**
+     * Records a block change, the chunk must be locked.
+     */
+    void blockChanged(Chunk chunk, BlockVec position, Block block) {
+        // Players starting to view the chunk later receive its current state
+        if (chunk.getViewers().isEmpty()) return;
+        final ChunkChanges chunkChanges = pending.computeIfAbsent(chunk, ignored -> new ChunkChanges());
+        final int index = CoordConversion.chunkBlockIndex(position.blockX(), position.blockY(), position.blockZ());
+        final int stateId = block.stateId();
+        chunkChanges.states.put(index, stateId);
+        chunkChanges.packets++;
+        chunkChanges.bytes += blockChangeSize(stateId);
+        this.changes.increment();
+
+        final BlockEntityType blockEntityType = block.registry().blockEntityType();
+        if (blockEntityType != null) {
+            final CompoundBinaryTag data = BlockUtils.extractClientNbt(block);
+            chunkChanges.blockEntities.put(index, new BlockEntityDataPacket(position, blockEntityType, data));
+            chunkChanges.packets++;
+        } else {
+            chunkChanges.blockEntities.remove(index);
+        }
+
+        if (flushScheduled.compareAndSet(false, true)) {
+            MinecraftServer.getSchedulerManager().scheduleEndOfTick(this::flush);
+        }
+    }
+
+    /**
+     * Sends the buffered changes of every chunk.
+     */
+    void flush() {
+        this.flushScheduled.set(false);
+        for (Chunk chunk : pending.keySet()) flush(chunk);
+    }
+
+    /**
+     * Sends the buffered changes of a chunk.
+     */
+    void flush(Chunk chunk) {
+        if (!pending.containsKey(chunk)) return;
+        synchronized (chunk) {
+            final ChunkChanges chunkChanges = pending.remove(chunk);
+            if (chunkChanges == null) return;
+            if (chunkChanges.states.size() > ServerFlag.BLOCK_CHANGE_RESEND_THRESHOLD) {
+                chunk.sendChunk();
+                this.chunkResends.increment();
+                this.packetsSent.increment();
+                this.packetsSaved.add(chunkChanges.packets - 1);
+                return;
+            }
+            // Group the changes by section
+            Int2ObjectOpenHashMap<LongArrayList> sections = new Int2ObjectOpenHashMap<>();
+            for (Int2IntMap.Entry entry : chunkChanges.states.int2IntEntrySet()) {
+                final int index = entry.getIntKey();
+                final int y = CoordConversion.chunkBlockIndexGetY(index);
+                final long change = CoordConversion.encodeSectionBlockChange(CoordConversion.chunkBlockIndexGetX(index),
+                        CoordConversion.globalToSectionRelative(y), CoordConversion.chunkBlockIndexGetZ(index),
+                        entry.getIntValue());
+                sections.computeIfAbsent(CoordConversion.globalToChunk(y), ignored -> new LongArrayList()).add(change);
+            }
+            List<ServerPacket> packets = new ArrayList<>(sections.size() + chunkChanges.blockEntities.size());
+            long bytes = 0;
+            for (Int2ObjectMap.Entry<LongArrayList> entry : sections.int2ObjectEntrySet()) {
+                final int sectionY = entry.getIntKey();
+                final LongArrayList sectionChanges = entry.getValue();
+                if (sectionChanges.size() == 1) {
+                    // A single change is smaller as a block change packet
+                    final long change = sectionChanges.getLong(0);
+                    final int stateId = (int) (change >>> 12);
+                    final int index = (int) (change & 0xFFF);
+                    final BlockVec position = new BlockVec(
+                            chunk.getChunkX() * Chunk.CHUNK_SIZE_X + CoordConversion.sectionBlockIndexGetX(index),
+                            sectionY * Chunk.CHUNK_SECTION_SIZE + CoordConversion.sectionBlockIndexGetY(index),
+                            chunk.getChunkZ() * Chunk.CHUNK_SIZE_Z + CoordConversion.sectionBlockIndexGetZ(index));
+                    packets.add(new BlockChangePacket(position, stateId));
+                    bytes += blockChangeSize(stateId);
+                } else {
+                    final long[] blocks = sectionChanges.toLongArray();
+                    packets.add(new MultiBlockChangePacket(chunk.getChunkX(), sectionY, chunk.getChunkZ(), blocks));
+                    bytes += multiBlockChangeSize(blocks);
+                }
+            }
+            packets.addAll(chunkChanges.blockEntities.values());
+            for (ServerPacket packet : packets) chunk.sendPacketToViewers(packet);
+
+            this.packetsSent.add(packets.size());
+            this.packetsSaved.add(chunkChanges.packets - packets.size());
+            this.bytesSaved.add(chunkChanges.bytes - bytes);
+        }
+    }
+
+    /**
+     * Drops the buffered changes of a chunk, used once it is unloaded.
+     */
+    void discard(Chunk chunk) {
+        this.pending.remove(chunk);
+    }
+
+    InstanceContainer.BlockChangeStats stats() {
+        return new InstanceContainer.BlockChangeStats(changes.sum(), packetsSent.sum(), packetsSaved.sum(),
+                bytesSaved.sum(), chunkResends.sum());
+    }
+
+    private static long blockChangeSize(int stateId) {
+        return BLOCK_CHANGE_OVERHEAD + Long.BYTES + varIntSize(stateId);
+    }
+
+    private static long multiBlockChangeSize(long[] blocks) {
+        long body = 1 + Long.BYTES + varIntSize(blocks.length); // Id, section position, count
+        for (long block : blocks) body += varLongSize(block);
+        return varIntSize((int) body) + body;
+    }
+
+    private static int varIntSize(int value) {
+        return (31 - Integer.numberOfLeadingZeros(value | 1)) / 7 + 1;
+    }
+
+    private static int varLongSize(long value) {
+        return (63 - Long.numberOfLeadingZeros(value | 1)) / 7 + 1;
+    }
+
+    // Guarded by the chunk monitor
+    private static final class ChunkChanges {
+        // Chunk block index -> block state
+        final Int2IntOpenHashMap states = new Int2IntOpenHashMap();
+        // Chunk block index -> data of the block entity
+        final Int2ObjectOpenHashMap<BlockEntityDataPacket> blockEntities = new Int2ObjectOpenHashMap<>();
+        // Packets and bytes that would have been sent without buffering
+        int packets;
+        long bytes;
+    }
+}
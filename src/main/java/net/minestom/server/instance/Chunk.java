@@ -292,6 +292,13 @@ public abstract class Chunk implements Block.Getter, Block.Setter, Biome.Getter,
         return viewable.getViewers();
     }
 
+    @Override
+    public void sendPacketToViewers(SendablePacket packet) {
+        // Block changes buffered during the tick must be received first
+        instance.flushBlockChanges(this);
+        Viewable.super.sendPacketToViewers(packet);
+    }
+
     @Override
     public TagHandler tagHandler() {
         return tagHandler;
@@ -0,0 +1,53 @@
+package net.minestom.server.instance;
+
+import net.minestom.server.utils.validate.Check;
+import org.jetbrains.annotations.ApiStatus;
+
+/**
+ * Defines when the chunks of an {@link InstanceContainer} are unloaded without calling {@link Instance#unloadChunk(Chunk)}.
+ * <p>
+ * Only chunks without viewers nor entities are evicted. A chunk is evicted once it has not been viewed for
+ * {@code idleTicks}, or earlier, least recently viewed first, while the estimated size of the loaded chunks exceeds
+ * {@code memoryBudget}.
+ * <p>
+ * Evicted chunks are saved through the {@link ChunkLoader}, unless {@code coldStorageBudget} is positive.
+ * They are then compressed in memory and read back when loaded again, the oldest ones are saved through the loader
+ * once the compressed chunks exceed the budget.
+ *
+ * @param idleTicks           the ticks without viewers after which a chunk is evicted
+ * @param memoryBudget        the estimated bytes of loaded chunks above which they are evicted early, 0 for no budget
+ * @param coldStorageBudget   the compressed bytes kept in memory, 0 to save evicted chunks through the loader
+ * @param maxEvictionsPerPass the maximum number of chunks evicted each second
+ * @see InstanceContainer#setChunkEvictionPolicy(ChunkEvictionPolicy)
+ */
+@ApiStatus.Experimental
+public record ChunkEvictionPolicy(int idleTicks, long memoryBudget, long coldStorageBudget, int maxEvictionsPerPass) {
+    public ChunkEvictionPolicy {
+        Check.argCondition(idleTicks <= 0, "Idle ticks must be positive");
+        Check.argCondition(memoryBudget < 0, "Memory budget cannot be negative");
+        Check.argCondition(coldStorageBudget < 0, "Cold storage budget cannot be negative");
+        Check.argCondition(maxEvictionsPerPass <= 0, "Evictions per pass must be positive");
+    }
+
+    /**
+     * Evicts chunks idle for {@code idleTicks} through the chunk loader, up to 64 chunks per second.
+     *
+     * @param idleTicks the ticks without viewers after which a chunk is evicted
+     * @return the policy
+     */
+    public static ChunkEvictionPolicy idle(int idleTicks) {
+        return new ChunkEvictionPolicy(idleTicks, 0, 0, 64);
+    }
+
+    public ChunkEvictionPolicy withMemoryBudget(long memoryBudget) {
+        return new ChunkEvictionPolicy(idleTicks, memoryBudget, coldStorageBudget, maxEvictionsPerPass);
+    }
+
+    public ChunkEvictionPolicy withColdStorage(long coldStorageBudget) {
+        return new ChunkEvictionPolicy(idleTicks, memoryBudget, coldStorageBudget, maxEvictionsPerPass);
+    }
+
+    public ChunkEvictionPolicy withMaxEvictionsPerPass(int maxEvictionsPerPass) {
+        return new ChunkEvictionPolicy(idleTicks, memoryBudget, coldStorageBudget, maxEvictionsPerPass);
+    }
+}
@@ -0,0 +1,358 @@
+package net.minestom.server.instance;
+
+import it.unimi.dsi.fastutil.longs.Long2LongOpenHashMap;
+import net.minestom.server.MinecraftServer;
+import net.minestom.server.coordinate.CoordConversion;
+import net.minestom.server.instance.mapped.MappedChunkLoader;
+import net.minestom.server.instance.mapped.MappedChunkWriter;
+import net.minestom.server.instance.palette.Palette;
+import net.minestom.server.monitoring.EventsJFR;
+import net.minestom.server.timer.Task;
+import net.minestom.server.timer.TaskSchedule;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * Evicts the idle chunks of an instance following its {@link ChunkEvictionPolicy}, and holds its cold storage.
+ * <p>
+ * Chunks are tracked by the last tick at which they had viewers, checked once per second on the instance thread.
+ * Evicted chunks are unloaded there, then saved or serialized as mapped chunk records and deflated in the background.
+ * Cold chunks are read back by the next load of the chunk, which also waits for the saves in progress.
+ */
+final class ChunkLifecycle {
+    private static final int PASS_INTERVAL = 20; // In ticks
+    private static final int LIGHT_BYTES = 2048;
+
+    private final InstanceContainer instance;
+    private volatile @Nullable ChunkEvictionPolicy policy;
+    private @Nullable Task task;
+
+    // Confined to the instance thread, chunk index -> last tick with viewers
+    private Long2LongOpenHashMap lastViewed = new Long2LongOpenHashMap();
+    private volatile long hotBytes;
+
+    // Chunk index -> compressed chunk, in eviction order
+    private final LinkedHashMap<Long, ColdChunk> cold = new LinkedHashMap<>();
+    private final AtomicLong coldBytes = new AtomicLong();
+    // Chunk index -> save through the loader in progress
+    private final Map<Long, CompletableFuture<Void>> saving = new ConcurrentHashMap<>();
+
+    private final LongAdder frozen = new LongAdder();
+    private final LongAdder thawed = new LongAdder();
+    private final LongAdder evicted = new LongAdder();
+
+    ChunkLifecycle(InstanceContainer instance) {
+        this.instance = instance;
+    }
+
+    synchronized void setPolicy(@Nullable ChunkEvictionPolicy policy) {
+        this.policy = policy;
+        if (task != null) task.cancel();
+        this.task = policy != null ? instance.scheduler().scheduleTask(this::pass,
+                TaskSchedule.tick(PASS_INTERVAL), TaskSchedule.tick(PASS_INTERVAL)) : null;
+    }
+
+    @Nullable ChunkEvictionPolicy policy() {
+        return policy;
+    }
+
+    /**
+     * Takes a chunk out of the cold storage.
+     *
+     * @return the chunk filled with its data, not yet cached in the instance, or null if it is not in cold storage
+     */
+    @Nullable Chunk thaw(int chunkX, int chunkZ) {
+        final long index = CoordConversion.chunkIndex(chunkX, chunkZ);
+        final CompletableFuture<Void> save = saving.get(index);
+        if (save != null) save.join(); // Read back through the loader once saved
+        final ColdChunk coldChunk;
+        synchronized (cold) {
+            if (cold.isEmpty()) return null;
+            coldChunk = cold.remove(index);
+        }
+        if (coldChunk == null) return null;
+        var chunkThaw = EventsJFR.newChunkThaw(instance.getUuid(), chunkX, chunkZ);
+        chunkThaw.begin();
+        final Chunk chunk = decode(coldChunk);
+        release(coldChunk);
+        if (chunk == null) return null;
+        this.thawed.increment();
+        chunkThaw.commit();
+        return chunk;
+    }
+
+    /**
+     * Decodes a copy of every cold chunk, which stay in cold storage.
+     */
+    List<Chunk> coldChunks() {
+        final List<ColdChunk> coldChunks;
+        synchronized (cold) {
+            if (cold.isEmpty()) return List.of();
+            coldChunks = new ArrayList<>(cold.values());
+        }
+        List<Chunk> chunks = new ArrayList<>(coldChunks.size());
+        for (ColdChunk coldChunk : coldChunks) {
+            final Chunk chunk = decode(coldChunk);
+            if (chunk != null) chunks.add(chunk);
+        }
+        return chunks;
+    }
+
+    InstanceContainer.ChunkLifecycleStats stats() {
+        final int coldChunks;
+        synchronized (cold) {
+            coldChunks = cold.size();
+        }
+        return new InstanceContainer.ChunkLifecycleStats(instance.getChunks().size(), coldChunks,
+                hotBytes, coldBytes.get(), frozen.sum(), thawed.sum(), evicted.sum());
+    }
+
+    private void pass() {
+        final ChunkEvictionPolicy policy = this.policy;
+        if (policy == null) return;
+        final long tick = instance.getWorldAge();
+        final Collection<Chunk> chunks = instance.getChunks();
+
+        Long2LongOpenHashMap lastViewed = new Long2LongOpenHashMap(chunks.size());
+        List<Candidate> candidates = new ArrayList<>();
+        long hotBytes = 0;
+        for (Chunk chunk : chunks) {
+            final long index = CoordConversion.chunkIndex(chunk.getChunkX(), chunk.getChunkZ());
+            final boolean viewed = !chunk.getViewers().isEmpty();
+            // Chunks never viewed are idle from the first pass seeing them
+            final long last = viewed ? tick : this.lastViewed.getOrDefault(index, tick);
+            lastViewed.put(index, last);
+            final long size = estimateSize(chunk);
+            hotBytes += size;
+            if (isUnused(chunk)) candidates.add(new Candidate(chunk, last, size));
+        }
+        this.lastViewed = lastViewed;
+
+        candidates.sort(Comparator.comparingLong(Candidate::lastViewed));
+        List<Runnable> evictions = new ArrayList<>();
+        int remaining = policy.maxEvictionsPerPass();
+        for (Candidate candidate : candidates) {
+            if (remaining == 0) break;
+            final boolean idle = tick - candidate.lastViewed() >= policy.idleTicks();
+            final boolean overBudget = policy.memoryBudget() > 0 && hotBytes > policy.memoryBudget();
+            if (!idle && !overBudget) break;
+            final Runnable eviction = evict(candidate.chunk(), policy);
+            if (eviction == null) continue;
+            evictions.add(eviction);
+            hotBytes -= candidate.size();
+            remaining--;
+        }
+        this.hotBytes = hotBytes;
+        if (evictions.isEmpty() && coldBytes.get() <= policy.coldStorageBudget()) return;
+        Thread.ofVirtual().name("Ms-ChunkEviction").start(() -> {
+            for (Runnable eviction : evictions) eviction.run();
+            spill(policy);
+        });
+    }
+
+    // Chunks without viewers nor entities
+    private boolean isUnused(Chunk chunk) {
+        return chunk.getViewers().isEmpty() && instance.getEntityTracker().chunkEntities(chunk.getChunkX(), chunk.getChunkZ(),
+                EntityTracker.Target.ENTITIES).isEmpty();
+    }
+
+    /**
+     * Unloads a chunk, on the instance thread.
+     *
+     * @return the saving or freezing of the chunk to run in the background, null if the chunk is in use again
+     */
+    private @Nullable Runnable evict(Chunk chunk, ChunkEvictionPolicy policy) {
+        if (!chunk.isLoaded() || !isUnused(chunk)) return null;
+        final int chunkX = chunk.getChunkX(), chunkZ = chunk.getChunkZ();
+        final long index = CoordConversion.chunkIndex(chunkX, chunkZ);
+        final boolean toCold = policy.coldStorageBudget() > 0;
+        var chunkEviction = EventsJFR.newChunkEviction(instance.getUuid(), chunkX, chunkZ, toCold);
+        chunkEviction.begin();
+        if (!toCold) {
+            // Registered before unloading, loads racing the unload wait for the save
+            final CompletableFuture<Void> save = new CompletableFuture<>();
+            saving.put(index, save);
+            instance.unloadChunk(chunk);
+            return () -> {
+                save(index, save, chunk);
+                chunkEviction.commit();
+            };
+        }
+        // Registered before unloading, loads racing the unload wait for the frozen data
+        final ColdChunk coldChunk = new ColdChunk(chunkX, chunkZ);
+        synchronized (cold) {
+            cold.put(index, coldChunk);
+        }
+        instance.unloadChunk(chunk);
+        return () -> {
+            freeze(chunk, coldChunk);
+            chunkEviction.commit();
+        };
+    }
+
+    private void freeze(Chunk chunk, ColdChunk coldChunk) {
+        try {
+            final byte[] record;
+            synchronized (chunk) {
+                record = MappedChunkWriter.writeRecord(chunk);
+            }
+            final byte[] compressed = compress(record);
+            coldChunk.length = record.length;
+            coldChunk.compressedLength = compressed.length;
+            this.coldBytes.addAndGet(compressed.length);
+            coldChunk.data.complete(compressed);
+            this.frozen.increment();
+        } catch (Throwable e) {
+            synchronized (cold) {
+                cold.remove(CoordConversion.chunkIndex(coldChunk.chunkX, coldChunk.chunkZ), coldChunk);
+            }
+            coldChunk.data.completeExceptionally(e);
+            MinecraftServer.getExceptionManager().handleException(e);
+        }
+    }
+
+    // Saves the oldest cold chunks through the loader while above the budget
+    private void spill(ChunkEvictionPolicy policy) {
+        while (coldBytes.get() > policy.coldStorageBudget()) {
+            final ColdChunk coldChunk;
+            final long index;
+            final CompletableFuture<Void> save = new CompletableFuture<>();
+            synchronized (cold) {
+                final Iterator<ColdChunk> iterator = cold.values().iterator();
+                if (!iterator.hasNext()) return;
+                coldChunk = iterator.next();
+                iterator.remove();
+                // Registered before leaving the cold storage, loads wait for the save
+                index = CoordConversion.chunkIndex(coldChunk.chunkX, coldChunk.chunkZ);
+                saving.put(index, save);
+            }
+            final Chunk chunk = decode(coldChunk);
+            release(coldChunk);
+            if (chunk == null) {
+                saving.remove(index, save);
+                save.complete(null);
+                continue;
+            }
+            save(index, save, chunk);
+        }
+    }
+
+    private void save(long index, CompletableFuture<Void> save, Chunk chunk) {
+        try {
+            instance.getChunkLoader().saveChunk(chunk);
+            this.evicted.increment();
+        } catch (Throwable e) {
+            MinecraftServer.getExceptionManager().handleException(e);
+        } finally {
+            saving.remove(index, save);
+            save.complete(null);
+        }
+    }
+
+    private @Nullable Chunk decode(ColdChunk coldChunk) {
+        try {
+            final byte[] record = decompress(coldChunk.data.join(), coldChunk.length);
+            final Chunk chunk = instance.getChunkSupplier().createChunk(instance, coldChunk.chunkX, coldChunk.chunkZ);
+            synchronized (chunk) {
+                MappedChunkLoader.readRecord(chunk, record);
+            }
+            return chunk;
+        } catch (CompletionException e) {
+            return null; // Failed to freeze, already reported
+        } catch (IOException | DataFormatException e) {
+            MinecraftServer.getExceptionManager().handleException(e);
+            return null;
+        }
+    }
+
+    // Called once a chunk has been removed from the cold storage
+    private void release(ColdChunk coldChunk) {
+        this.coldBytes.addAndGet(-coldChunk.compressedLength);
+    }
+
+    /**
+     * Estimates the memory used by the sections of a chunk, shared palettes are counted for each chunk.
+     */
+    static long estimateSize(Chunk chunk) {
+        long size = 0;
+        for (Section section : chunk.getSections()) {
+            size += estimateSize(section.blockPalette()) + estimateSize(section.biomePalette());
+            if (section.skyLight().hasContent()) size += LIGHT_BYTES;
+            if (section.blockLight().hasContent()) size += LIGHT_BYTES;
+        }
+        return size;
+    }
+
+    private static long estimateSize(Palette palette) {
+        final long[] values = palette.indexedValues();
+        final int[] paletteValues = palette.paletteValues();
+        return (values != null ? (long) values.length * Long.BYTES : 0) +
+                (paletteValues != null ? (long) paletteValues.length * Integer.BYTES : 0);
+    }
+
+    private static byte[] compress(byte[] record) {
+        final Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        try {
+            deflater.setInput(record);
+            deflater.finish();
+            byte[] buffer = new byte[Math.max(64, record.length / 4)];
+            int length = 0;
+            while (!deflater.finished()) {
+                if (length == buffer.length) buffer = Arrays.copyOf(buffer, buffer.length * 2);
+                length += deflater.deflate(buffer, length, buffer.length - length);
+            }
+            return Arrays.copyOf(buffer, length);
+        } finally {
+            deflater.end();
+        }
+    }
+
+    private static byte[] decompress(byte[] compressed, int length) throws DataFormatException {
+        final Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(compressed);
+            final byte[] record = new byte[length];
+            int offset = 0;
+            while (offset < length) {
+                final int read = inflater.inflate(record, offset, length - offset);
+                if (read == 0) {
+                    if (inflater.finished()) break;
+                    // Needs more input or a dictionary, the record is truncated or corrupt
+                    throw new DataFormatException("Truncated chunk record");
+                }
+                offset += read;
+            }
+            if (offset != length) {
+                throw new DataFormatException("Expected a chunk record of " + length + " bytes, got " + offset);
+            }
+            return record;
+        } finally {
+            inflater.end();
+        }
+    }
+
+    private record Candidate(Chunk chunk, long lastViewed, long size) {
+    }
+
+    private static final class ColdChunk {
+        final int chunkX, chunkZ;
+        // Completed once the chunk is unloaded and compressed
+        final CompletableFuture<byte[]> data = new CompletableFuture<>();
+        volatile int length, compressedLength;
+
+        ColdChunk(int chunkX, int chunkZ) {
+            this.chunkX = chunkX;
+            this.chunkZ = chunkZ;
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package net.minestom.server.instance;
+
+import java.util.Arrays;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Striped locks guarding block changes of an instance.
+ * <p>
+ * Stripes are hashed from regions of 2x2 chunks. A change locks the regions covering its chunk and the 8 chunks
+ * around it, as placement rules and neighbour reads may cross the chunk border. They are always acquired
+ * in ascending order, so that changes never deadlock and changes in distant chunks rarely contend.
+ */
+final class ChunkLockStripes {
+    private static final int REGION_SHIFT = 1;
+    private static final int AREA = 4; // 2x2 regions
+    private static final ThreadLocal<int[]> STRIPES_BUFFER = ThreadLocal.withInitial(() -> new int[AREA]);
+
+    private final ReentrantLock[] locks;
+    private final int mask;
+
+    ChunkLockStripes(int stripeCount) {
+        final int size = Integer.highestOneBit(Math.max(AREA, stripeCount - 1) << 1);
+        this.locks = new ReentrantLock[size];
+        Arrays.setAll(locks, ignored -> new ReentrantLock());
+        this.mask = size - 1;
+    }
+
+    /**
+     * Locks the area around a chunk.
+     *
+     * @param blocking false to give up instead of waiting for a stripe held by another thread
+     * @return true if the area is locked and must be unlocked with {@link #unlock(int, int)}
+     */
+    boolean lock(int chunkX, int chunkZ, boolean blocking) {
+        final int[] stripes = STRIPES_BUFFER.get();
+        final int count = stripes(chunkX, chunkZ, stripes);
+        for (int i = 0; i < count; i++) {
+            final ReentrantLock lock = locks[stripes[i]];
+            if (blocking) {
+                lock.lock();
+            } else if (!lock.tryLock()) {
+                for (int j = i - 1; j >= 0; j--) locks[stripes[j]].unlock();
+                return false;
+            }
+        }
+        return true;
+    }
+
+    void unlock(int chunkX, int chunkZ) {
+        final int[] stripes = STRIPES_BUFFER.get();
+        final int count = stripes(chunkX, chunkZ, stripes);
+        for (int i = count - 1; i >= 0; i--) locks[stripes[i]].unlock();
+    }
+
+    // Writes the sorted and distinct stripes of the area, returns their count
+    private int stripes(int chunkX, int chunkZ, int[] stripes) {
+        final int minRegionX = (chunkX - 1) >> REGION_SHIFT, minRegionZ = (chunkZ - 1) >> REGION_SHIFT;
+        final int maxRegionX = (chunkX + 1) >> REGION_SHIFT, maxRegionZ = (chunkZ + 1) >> REGION_SHIFT;
+        int count = 0;
+        for (int regionX = minRegionX; regionX <= maxRegionX; regionX++) {
+            for (int regionZ = minRegionZ; regionZ <= maxRegionZ; regionZ++) {
+                final int stripe = stripe(regionX, regionZ);
+                // Insertion sort, skipping duplicates
+                int i = count;
+                while (i > 0 && stripes[i - 1] > stripe) i--;
+                if (i > 0 && stripes[i - 1] == stripe) continue;
+                System.arraycopy(stripes, i, stripes, i + 1, count - i);
+                stripes[i] = stripe;
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private int stripe(int regionX, int regionZ) {
+        int hash = regionX * 0x9E3779B9 ^ regionZ * 0x85EBCA6B;
+        hash ^= hash >>> 16;
+        return hash & mask;
+    }
+}
@@ -0,0 +1,107 @@
+package net.minestom.server.instance;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Progress of {@link InstanceContainer#pregenerate(net.minestom.server.coordinate.Area)}.
+ */
+public final class ChunkPregeneration {
+    private final long total;
+    private final long startTime = System.nanoTime();
+    private final CompletableFuture<Void> future = new CompletableFuture<>();
+
+    final LongAdder generated = new LongAdder();
+    final LongAdder loaded = new LongAdder();
+    final LongAdder skipped = new LongAdder();
+    final LongAdder failed = new LongAdder();
+
+    ChunkPregeneration(long total) {
+        this.total = total;
+    }
+
+    /**
+     * Gets the number of chunks in the area.
+     *
+     * @return the chunk count
+     */
+    public long total() {
+        return total;
+    }
+
+    /**
+     * Gets the number of chunks generated by the pregeneration.
+     */
+    public long generated() {
+        return generated.sum();
+    }
+
+    /**
+     * Gets the number of chunks retrieved from the chunk loader.
+     */
+    public long loaded() {
+        return loaded.sum();
+    }
+
+    /**
+     * Gets the number of chunks already loaded, or loaded by another caller during the pregeneration.
+     */
+    public long skipped() {
+        return skipped.sum();
+    }
+
+    /**
+     * Gets the number of chunks which failed to load or generate.
+     */
+    public long failed() {
+        return failed.sum();
+    }
+
+    /**
+     * Gets the number of chunks processed so far.
+     *
+     * @return the processed chunk count, {@link #total()} once done
+     */
+    public long completed() {
+        return generated() + loaded() + skipped() + failed();
+    }
+
+    /**
+     * Gets the fraction of the chunks processed so far.
+     *
+     * @return the progress, between 0 and 1
+     */
+    public double progress() {
+        return total == 0 ? 1 : (double) completed() / total;
+    }
+
+    /**
+     * Gets the time elapsed since the start of the pregeneration.
+     *
+     * @return the elapsed time
+     */
+    public Duration elapsed() {
+        return Duration.ofNanos(System.nanoTime() - startTime);
+    }
+
+    /**
+     * Stops the pregeneration after the current batch, its chunks stay loaded.
+     */
+    public void cancel() {
+        this.future.cancel(false);
+    }
+
+    public boolean isCancelled() {
+        return future.isCancelled();
+    }
+
+    /**
+     * Gets a future completed once every chunk has been processed.
+     *
+     * @return the completion future
+     */
+    public CompletableFuture<Void> future() {
+        return future;
+    }
+}
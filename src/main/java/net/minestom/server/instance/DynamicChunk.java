@@ -12,8 +12,6 @@ import net.minestom.server.instance.block.BlockHandler;
 import net.minestom.server.instance.heightmap.Heightmap;
 import net.minestom.server.instance.heightmap.MotionBlockingHeightmap;
 import net.minestom.server.instance.heightmap.WorldSurfaceHeightmap;
-import net.minestom.server.instance.palette.Palette;
-import net.minestom.server.network.NetworkBuffer;
 import net.minestom.server.network.packet.server.CachedPacket;
 import net.minestom.server.network.packet.server.SendablePacket;
 import net.minestom.server.network.packet.server.play.ChunkDataPacket;
@@ -35,9 +33,9 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.*;
+import java.util.concurrent.ConcurrentLinkedQueue;
 
 import static net.minestom.server.coordinate.CoordConversion.globalToSectionRelative;
-import static net.minestom.server.network.NetworkBuffer.SHORT;
 
 /**
  * Represents a {@link Chunk} which store each individual block in memory.
@@ -55,8 +53,12 @@ public class DynamicChunk extends Chunk {
     protected Heightmap worldSurface = new WorldSurfaceHeightmap(this);
 
     // Key = ChunkUtils#getBlockIndex
-    protected final Int2ObjectOpenHashMap<Block> entries = new Int2ObjectOpenHashMap<>(0);
-    protected final Int2ObjectOpenHashMap<Block> tickableMap = new Int2ObjectOpenHashMap<>(0);
+    protected Int2ObjectOpenHashMap<Block> entries = new Int2ObjectOpenHashMap<>(0);
+    protected Int2ObjectOpenHashMap<Block> tickableMap = new Int2ObjectOpenHashMap<>(0);
+    // Copy-on-write, the maps above may be shared with copies and must be copied before being modified
+    private boolean entriesShared;
+    // Block updates caused by changes in other chunks, run by the thread ticking this chunk
+    private final Queue<Runnable> scheduledUpdates = new ConcurrentLinkedQueue<>();
 
     final CachedPacket chunkCache = new CachedPacket(this::createChunkPacket);
     private static final DynamicRegistry<Biome> BIOME_REGISTRY = MinecraftServer.getBiomeRegistry();
@@ -89,6 +91,7 @@ public class DynamicChunk extends Chunk {
         this.chunkCache.invalidate();
 
         Section section = getSectionAt(y);
+        section.invalidate();
 
         int sectionRelativeX = globalToSectionRelative(x);
         int sectionRelativeZ = globalToSectionRelative(z);
@@ -103,14 +106,19 @@ public class DynamicChunk extends Chunk {
         final int index = CoordConversion.chunkBlockIndex(x, y, z);
         // Handler
         final BlockHandler handler = block.handler();
+        final boolean blockEntity = handler != null || block.hasNbt() || block.registry().isBlockEntity();
+        final boolean tickable = handler != null && handler.isTickable();
+        if (entriesShared && (blockEntity || tickable || entries.containsKey(index) || tickableMap.containsKey(index))) {
+            unshareEntries();
+        }
         final Block lastCachedBlock;
-        if (handler != null || block.hasNbt() || block.registry().isBlockEntity()) {
+        if (blockEntity) {
             lastCachedBlock = this.entries.put(index, block);
         } else {
             lastCachedBlock = this.entries.remove(index);
         }
         // Block tick
-        if (handler != null && handler.isTickable()) {
+        if (tickable) {
             this.tickableMap.put(index, block);
         } else {
             this.tickableMap.remove(index);
@@ -141,6 +149,7 @@ public class DynamicChunk extends Chunk {
         assertLock();
         this.chunkCache.invalidate();
         Section section = getSectionAt(y);
+        section.invalidate();
 
         var id = BIOME_REGISTRY.getId(biome);
         if (id == -1) throw new IllegalStateException("Biome has not been registered: " + biome.key());
@@ -184,6 +193,8 @@ public class DynamicChunk extends Chunk {
 
     @Override
     public void tick(long time) {
+        Runnable update;
+        while ((update = scheduledUpdates.poll()) != null) update.run();
         if (tickableMap.isEmpty()) return;
         tickableMap.int2ObjectEntrySet().fastForEach(entry -> {
             final int index = entry.getIntKey();
@@ -195,6 +206,10 @@ public class DynamicChunk extends Chunk {
         });
     }
 
+    void scheduleUpdate(Runnable update) {
+        this.scheduledUpdates.offer(update);
+    }
+
     @Override
     public @Nullable Block getBlock(int x, int y, int z, Condition condition) {
         assertLock();
@@ -235,21 +250,45 @@ public class DynamicChunk extends Chunk {
 
     @Override
     public Chunk copy(Instance instance, int chunkX, int chunkZ) {
-        var sections = this.sections.stream().map(Section::clone).toList();
-        DynamicChunk dynamicChunk = new DynamicChunk(instance, chunkX, chunkZ, sections);
-        dynamicChunk.entries.putAll(entries);
-        return dynamicChunk;
+        // Block changes hold the chunk lock, sharing must not interleave with them
+        synchronized (this) {
+            var sections = this.sections.stream().map(Section::clone).toList();
+            DynamicChunk dynamicChunk = new DynamicChunk(instance, chunkX, chunkZ, sections);
+            shareEntries(dynamicChunk);
+            return dynamicChunk;
+        }
+    }
+
+    /**
+     * Shares the block entities of this chunk with a copy until either chunk modifies them.
+     * Must be called while holding the lock of this chunk.
+     *
+     * @param copy the chunk copied from this one
+     */
+    protected void shareEntries(DynamicChunk copy) {
+        copy.entries = this.entries;
+        copy.tickableMap = this.tickableMap;
+        this.entriesShared = copy.entriesShared = true;
+    }
+
+    private void unshareEntries() {
+        if (!entriesShared) return;
+        this.entriesShared = false;
+        this.entries = entries.clone();
+        this.tickableMap = tickableMap.clone();
     }
 
     @Override
     public void reset() {
         for (Section section : sections) section.clear();
+        unshareEntries();
         this.entries.clear();
     }
 
     @Override
     public void invalidate() {
         this.needsCompleteHeightmapRefresh = true;
+        for (Section section : sections) section.invalidate();
         this.chunkCache.invalidate();
     }
 
@@ -259,14 +298,21 @@ public class DynamicChunk extends Chunk {
         synchronized (this) {
             heightmaps = getHeightmaps();
 
-            NetworkBuffer.Type<Palette> biomeSerializer = Palette.biomeSerializer(MinecraftServer.getBiomeRegistry().size());
-            data = NetworkBuffer.makeArray(networkBuffer -> {
-                for (Section section : sections) {
-                    networkBuffer.write(SHORT, (short) section.blockPalette().count());
-                    networkBuffer.write(Palette.BLOCK_SERIALIZER, section.blockPalette());
-                    networkBuffer.write(biomeSerializer, section.biomePalette());
-                }
-            });
+            // Only the sections modified since the last packet are encoded again
+            final int biomeCount = BIOME_REGISTRY.size();
+            final byte[][] encodedSections = new byte[sections.size()][];
+            int length = 0;
+            for (int i = 0; i < encodedSections.length; i++) {
+                final byte[] encoded = sections.get(i).encoded(biomeCount);
+                encodedSections[i] = encoded;
+                length += encoded.length;
+            }
+            data = new byte[length];
+            int offset = 0;
+            for (byte[] encoded : encodedSections) {
+                System.arraycopy(encoded, 0, data, offset, encoded.length);
+                offset += encoded.length;
+            }
         }
 
         return new ChunkDataPacket(chunkX, chunkZ,
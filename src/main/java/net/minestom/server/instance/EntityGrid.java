@@ -0,0 +1,228 @@
+package net.minestom.server.instance;
+
+import net.minestom.server.coordinate.CoordConversion;
+import net.minestom.server.coordinate.Point;
+import net.minestom.server.entity.Entity;
+import space.vectrix.flare.fastutil.Long2ObjectSyncMap;
+
+import java.util.Arrays;
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.Consumer;
+
+/**
+ * Positions of the entities of a tracker target, grouped by chunk for range queries.
+ * <p>
+ * Each chunk cell stores the coordinates in primitive columns, queries scan them without following entity references.
+ * Removals swap the last entry into the freed slot, the {@link Handle} of the moved entity is updated in place.
+ * Cells are guarded by a {@link StampedLock}, queries first try an optimistic read and only lock on contention.
+ */
+final class EntityGrid {
+    private static final int INITIAL_CAPACITY = 4;
+    private static final ThreadLocal<QueryBuffer> QUERY_BUFFER = ThreadLocal.withInitial(QueryBuffer::new);
+
+    // Chunk index -> entities inside it
+    private final Long2ObjectSyncMap<Cell> cells = Long2ObjectSyncMap.hashmap();
+
+    /**
+     * Location of an entity in the grid, owned by the tracker entry of the entity.
+     */
+    static final class Handle {
+        final Entity entity;
+        Cell cell; // Guarded by the lock of the cell
+        int slot;
+
+        private Handle(Entity entity) {
+            this.entity = entity;
+        }
+    }
+
+    Handle add(Entity entity, Point point) {
+        Handle handle = new Handle(entity);
+        cell(CoordConversion.chunkIndex(point)).add(handle, point.x(), point.y(), point.z());
+        return handle;
+    }
+
+    void remove(Handle handle) {
+        handle.cell.remove(handle);
+    }
+
+    void move(Handle handle, Point point) {
+        final double x = point.x(), y = point.y(), z = point.z();
+        final Cell current = handle.cell;
+        if (current.index == CoordConversion.chunkIndex(point)) {
+            current.set(handle, x, y, z);
+        } else {
+            current.remove(handle);
+            cell(CoordConversion.chunkIndex(point)).add(handle, x, y, z);
+        }
+    }
+
+    /**
+     * Gives the entities within {@code range} of {@code point}, collected before calling the consumer so that it may
+     * move or query entities.
+     */
+    <T extends Entity> void query(Point point, double range, Consumer<T> consumer) {
+        final double x = point.x(), y = point.y(), z = point.z();
+        final double squaredRange = range * range;
+        final int minChunkX = CoordConversion.globalToChunk(x - range);
+        final int minChunkZ = CoordConversion.globalToChunk(z - range);
+        final int maxChunkX = CoordConversion.globalToChunk(x + range);
+        final int maxChunkZ = CoordConversion.globalToChunk(z + range);
+
+        QueryBuffer buffer = QUERY_BUFFER.get();
+        if (buffer.inUse) buffer = new QueryBuffer(); // Nested query from a consumer
+        buffer.inUse = true;
+        try {
+            final long area = ((long) maxChunkX - minChunkX + 1) * ((long) maxChunkZ - minChunkZ + 1);
+            if (area > cells.size()) {
+                // Huge range, cheaper to check every cell
+                for (Cell cell : cells.values()) {
+                    final int chunkX = CoordConversion.chunkIndexGetX(cell.index);
+                    final int chunkZ = CoordConversion.chunkIndexGetZ(cell.index);
+                    if (chunkX < minChunkX || chunkX > maxChunkX || chunkZ < minChunkZ || chunkZ > maxChunkZ) continue;
+                    cell.collect(x, y, z, squaredRange, buffer);
+                }
+            } else {
+                for (int chunkX = minChunkX; chunkX <= maxChunkX; chunkX++) {
+                    for (int chunkZ = minChunkZ; chunkZ <= maxChunkZ; chunkZ++) {
+                        final Cell cell = cells.get(CoordConversion.chunkIndex(chunkX, chunkZ));
+                        if (cell != null) cell.collect(x, y, z, squaredRange, buffer);
+                    }
+                }
+            }
+            final Entity[] entities = buffer.entities;
+            final int size = buffer.size;
+            for (int i = 0; i < size; i++) {
+                //noinspection unchecked
+                consumer.accept((T) entities[i]);
+            }
+        } finally {
+            Arrays.fill(buffer.entities, 0, buffer.size, null);
+            buffer.size = 0;
+            buffer.inUse = false;
+        }
+    }
+
+    private Cell cell(long index) {
+        return cells.computeIfAbsent(index, Cell::new);
+    }
+
+    static final class Cell {
+        final long index;
+        private final StampedLock lock = new StampedLock();
+        private double[] xs = new double[INITIAL_CAPACITY];
+        private double[] ys = new double[INITIAL_CAPACITY];
+        private double[] zs = new double[INITIAL_CAPACITY];
+        private Entity[] entities = new Entity[INITIAL_CAPACITY];
+        private Handle[] handles = new Handle[INITIAL_CAPACITY];
+        private int size;
+
+        Cell(long index) {
+            this.index = index;
+        }
+
+        void add(Handle handle, double x, double y, double z) {
+            final long stamp = lock.writeLock();
+            try {
+                final int slot = size;
+                if (slot == xs.length) grow();
+                xs[slot] = x;
+                ys[slot] = y;
+                zs[slot] = z;
+                entities[slot] = handle.entity;
+                handles[slot] = handle;
+                handle.cell = this;
+                handle.slot = slot;
+                this.size = slot + 1;
+            } finally {
+                lock.unlockWrite(stamp);
+            }
+        }
+
+        void set(Handle handle, double x, double y, double z) {
+            final long stamp = lock.writeLock();
+            try {
+                final int slot = handle.slot;
+                xs[slot] = x;
+                ys[slot] = y;
+                zs[slot] = z;
+            } finally {
+                lock.unlockWrite(stamp);
+            }
+        }
+
+        void remove(Handle handle) {
+            final long stamp = lock.writeLock();
+            try {
+                final int slot = handle.slot;
+                final int last = size - 1;
+                if (slot != last) {
+                    xs[slot] = xs[last];
+                    ys[slot] = ys[last];
+                    zs[slot] = zs[last];
+                    entities[slot] = entities[last];
+                    final Handle moved = handles[last];
+                    handles[slot] = moved;
+                    moved.slot = slot;
+                }
+                entities[last] = null;
+                handles[last] = null;
+                this.size = last;
+            } finally {
+                lock.unlockWrite(stamp);
+            }
+        }
+
+        void collect(double x, double y, double z, double squaredRange, QueryBuffer buffer) {
+            final int start = buffer.size;
+            final long stamp = lock.tryOptimisticRead();
+            if (stamp != 0) {
+                scan(x, y, z, squaredRange, buffer);
+                if (lock.validate(stamp)) return;
+                // Modified during the scan
+                Arrays.fill(buffer.entities, start, buffer.size, null);
+                buffer.size = start;
+            }
+            final long readStamp = lock.readLock();
+            try {
+                scan(x, y, z, squaredRange, buffer);
+            } finally {
+                lock.unlockRead(readStamp);
+            }
+        }
+
+        private void scan(double x, double y, double z, double squaredRange, QueryBuffer buffer) {
+            // Columns may be replaced by a concurrent optimistic read, bound by the smallest
+            final double[] xs = this.xs, ys = this.ys, zs = this.zs;
+            final Entity[] entities = this.entities;
+            final int size = Math.min(this.size, Math.min(Math.min(xs.length, ys.length),
+                    Math.min(zs.length, entities.length)));
+            for (int i = 0; i < size; i++) {
+                final double dx = xs[i] - x, dy = ys[i] - y, dz = zs[i] - z;
+                if (dx * dx + dy * dy + dz * dz > squaredRange) continue;
+                final Entity entity = entities[i];
+                if (entity != null) buffer.add(entity);
+            }
+        }
+
+        private void grow() {
+            final int capacity = xs.length * 2;
+            this.xs = Arrays.copyOf(xs, capacity);
+            this.ys = Arrays.copyOf(ys, capacity);
+            this.zs = Arrays.copyOf(zs, capacity);
+            this.entities = Arrays.copyOf(entities, capacity);
+            this.handles = Arrays.copyOf(handles, capacity);
+        }
+    }
+
+    private static final class QueryBuffer {
+        Entity[] entities = new Entity[16];
+        int size;
+        boolean inUse;
+
+        void add(Entity entity) {
+            if (size == entities.length) entities = Arrays.copyOf(entities, size * 2);
+            entities[size++] = entity;
+        }
+    }
+}
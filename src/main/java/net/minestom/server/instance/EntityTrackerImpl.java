@@ -43,7 +43,7 @@ final class EntityTrackerImpl implements EntityTracker {
     @Override
     public <T extends Entity> void register(Entity entity, Point point,
                                             Target<T> target, @Nullable Update<T> update) {
-        EntityTrackerEntry newEntry = new EntityTrackerEntry(entity, point);
+        EntityTrackerEntry newEntry = new EntityTrackerEntry(entity, point, targetEntries.length);
 
         EntityTrackerEntry prevEntryWithId = entriesByEntityId.putIfAbsent(entity.getEntityId(), newEntry);
         Check.isTrue(prevEntryWithId == null, "There is already an entity registered with id {0}", entity.getEntityId());
@@ -55,6 +55,7 @@ final class EntityTrackerImpl implements EntityTracker {
             if (targetEntry.target.type().isInstance(entity)) {
                 targetEntry.entities.add(entity);
                 targetEntry.addToChunk(index, entity);
+                newEntry.gridHandles[targetEntry.target.ordinal()] = targetEntry.grid.add(entity, point);
             }
         }
         if (update != null) {
@@ -79,6 +80,7 @@ final class EntityTrackerImpl implements EntityTracker {
             if (targetEntry.target.type().isInstance(entity)) {
                 targetEntry.entities.remove(entity);
                 targetEntry.removeFromChunk(index, entity);
+                targetEntry.grid.remove(entry.gridHandles[targetEntry.target.ordinal()]);
             }
         }
         if (update != null) {
@@ -112,6 +114,11 @@ final class EntityTrackerImpl implements EntityTracker {
         }
         Point oldPoint = entry.getLastPosition();
         entry.setLastPosition(newPoint);
+        final EntityGrid.Handle[] gridHandles = entry.gridHandles;
+        for (int i = 0; i < gridHandles.length; i++) {
+            final EntityGrid.Handle handle = gridHandles[i];
+            if (handle != null) targetEntries[i].grid.move(handle, newPoint);
+        }
         if (oldPoint == null || oldPoint.sameChunk(newPoint)) return;
         final long oldIndex = CoordConversion.chunkIndex(oldPoint);
         final long newIndex = CoordConversion.chunkIndex(newPoint);
@@ -166,35 +173,7 @@ final class EntityTrackerImpl implements EntityTracker {
 
     @Override
     public <T extends Entity> void nearbyEntities(Point point, double range, Target<T> target, Consumer<T> query) {
-        final Long2ObjectSyncMap<List<Entity>> entities = targetEntries[target.ordinal()].chunkEntities;
-        final int minChunkX = CoordConversion.globalToChunk(point.x() - range);
-        final int minChunkZ = CoordConversion.globalToChunk(point.z() - range);
-        final int maxChunkX = CoordConversion.globalToChunk(point.x() + range);
-        final int maxChunkZ = CoordConversion.globalToChunk(point.z() + range);
-        final double squaredRange = range * range;
-        if (minChunkX == maxChunkX && minChunkZ == maxChunkZ) {
-            // Single chunk
-            final var chunkEntities = (List<T>) entities.get(CoordConversion.chunkIndex(point));
-            if (chunkEntities != null && !chunkEntities.isEmpty()) {
-                chunkEntities.forEach(entity -> {
-                    final Point position = entriesByEntityId.get(entity.getEntityId()).getLastPosition();
-                    if (point.distanceSquared(position) <= squaredRange) query.accept(entity);
-                });
-            }
-        } else {
-            // Multiple chunks
-            final int chunkRange = (int) (range / Chunk.CHUNK_SECTION_SIZE) + 1;
-            ChunkRange.chunksInRange(point, chunkRange, (chunkX, chunkZ) -> {
-                final var chunkEntities = (List<T>) entities.get(CoordConversion.chunkIndex(chunkX, chunkZ));
-                if (chunkEntities == null || chunkEntities.isEmpty()) return;
-                chunkEntities.forEach(entity -> {
-                    final Point position = entriesByEntityId.get(entity.getEntityId()).getLastPosition();
-                    if (point.distanceSquared(position) <= squaredRange) {
-                        query.accept(entity);
-                    }
-                });
-            });
-        }
+        targetEntries[target.ordinal()].grid.query(point, range, query);
     }
 
     @Override
@@ -212,10 +191,13 @@ final class EntityTrackerImpl implements EntityTracker {
     private static class EntityTrackerEntry {
         private final Entity entity;
         private Point lastPosition;
+        // Target ordinal -> location in the grid of the target, null if not part of it
+        final EntityGrid.Handle[] gridHandles;
 
-        private EntityTrackerEntry(Entity entity, @Nullable Point lastPosition) {
+        private EntityTrackerEntry(Entity entity, @Nullable Point lastPosition, int targetCount) {
             this.entity = entity;
             this.lastPosition = lastPosition;
+            this.gridHandles = new EntityGrid.Handle[targetCount];
         }
 
         public Entity getEntity() {
@@ -266,6 +248,8 @@ final class EntityTrackerImpl implements EntityTracker {
         private final Set<T> entitiesView = Collections.unmodifiableSet(entities);
         // Chunk index -> entities inside it
         final Long2ObjectSyncMap<List<T>> chunkEntities = Long2ObjectSyncMap.hashmap();
+        // Positions by chunk, for range queries
+        final EntityGrid grid = new EntityGrid();
         final Map<ChunkViewKey, ChunkView> viewers = new ConcurrentHashMap<>();
 
         TargetEntry(Target<T> target) {
@@ -21,6 +21,8 @@ import net.minestom.server.coordinate.CoordConversion;
 import net.minestom.server.coordinate.Point;
 import net.minestom.server.entity.Entity;
 import net.minestom.server.entity.EntityCreature;
+import net.minestom.server.entity.EntityTickPolicy;
+import net.minestom.server.entity.EntityType;
 import net.minestom.server.entity.ExperienceOrb;
 import net.minestom.server.entity.Player;
 import net.minestom.server.event.EventDispatcher;
@@ -61,9 +63,11 @@ import org.jetbrains.annotations.UnmodifiableView;
 
 import java.util.*;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArraySet;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
@@ -118,8 +122,17 @@ public abstract class Instance implements Block.Getter, Block.Setter, Biome.Gett
 
     private final EntityTracker entityTracker = new EntityTrackerImpl();
 
+    // Tick rate of the entities
+    private volatile EntityTickPolicy entityTickPolicy = ServerFlag.ENTITY_TICK_LOD ? EntityTickPolicy.DEFAULT : EntityTickPolicy.EVERY_TICK;
+    private final Map<EntityType, EntityTickPolicy> entityTypeTickPolicies = new ConcurrentHashMap<>();
+    private final LongAdder tickedEntities = new LongAdder();
+    private final LongAdder skippedEntityTicks = new LongAdder();
+
     private final ChunkCache blockRetriever = new ChunkCache(this, null, null);
 
+    // Guards the light computation of lighting chunks
+    final LightRegionLocks lightLocks = new LightRegionLocks(ServerFlag.LIGHT_LOCK_STRIPES);
+
     protected int chunkViewDistance = ServerFlag.CHUNK_VIEW_DISTANCE;
 
     // the uuid of this instance
@@ -430,6 +443,26 @@ public abstract class Instance implements Block.Getter, Block.Setter, Biome.Gett
      */
     public abstract boolean isInVoid(Point point);
 
+    /**
+     * Sends the block changes buffered since the start of the tick to the viewers of their chunks.
+     * <p>
+     * Block changes are otherwise sent at the end of the tick, call this before sending packets
+     * which must be received after them.
+     *
+     * @see ServerFlag#BLOCK_CHANGE_BATCHING
+     */
+    public void flushBlockChanges() {
+    }
+
+    /**
+     * Sends the block changes of a chunk buffered since the start of the tick to its viewers.
+     *
+     * @param chunk the chunk
+     * @see #flushBlockChanges()
+     */
+    public void flushBlockChanges(Chunk chunk) {
+    }
+
     /**
      * Gets if the instance has been registered in {@link InstanceManager}.
      *
@@ -744,6 +777,69 @@ public abstract class Instance implements Block.Getter, Block.Setter, Biome.Gett
         return result;
     }
 
+    /**
+     * Changes how often the entities of this instance are ticked, unless their type has its own policy.
+     *
+     * @param policy the policy of the entities
+     * @see #setEntityTickPolicy(EntityType, EntityTickPolicy)
+     */
+    @ApiStatus.Experimental
+    public void setEntityTickPolicy(EntityTickPolicy policy) {
+        this.entityTickPolicy = policy;
+    }
+
+    public EntityTickPolicy getEntityTickPolicy() {
+        return entityTickPolicy;
+    }
+
+    /**
+     * Changes how often the entities of a type are ticked in this instance.
+     *
+     * @param entityType the entity type
+     * @param policy     the policy of the entities of the type, null to use the policy of the instance
+     */
+    @ApiStatus.Experimental
+    public void setEntityTickPolicy(EntityType entityType, @Nullable EntityTickPolicy policy) {
+        if (policy != null) {
+            this.entityTypeTickPolicies.put(entityType, policy);
+        } else {
+            this.entityTypeTickPolicies.remove(entityType);
+        }
+    }
+
+    /**
+     * Gets the policy of the entities of a type in this instance.
+     *
+     * @param entityType the entity type
+     * @return the policy of the type, or of the instance if the type has none
+     */
+    public EntityTickPolicy getEntityTickPolicy(EntityType entityType) {
+        final EntityTickPolicy policy = entityTypeTickPolicies.get(entityType);
+        return policy != null ? policy : entityTickPolicy;
+    }
+
+    /**
+     * Gets the counters of the entity ticks of this instance.
+     *
+     * @return the entity tick statistics
+     * @see #setEntityTickPolicy(EntityTickPolicy)
+     */
+    public EntityTickStats entityTickStats() {
+        return new EntityTickStats(tickedEntities.sum(), skippedEntityTicks.sum());
+    }
+
+    /**
+     * @param ticked  the number of entity ticks executed
+     * @param skipped the number of entity ticks skipped by the {@link EntityTickPolicy}
+     */
+    public record EntityTickStats(long ticked, long skipped) {
+    }
+
+    @ApiStatus.Internal
+    public void recordEntityTick(boolean skipped) {
+        (skipped ? skippedEntityTicks : tickedEntities).increment();
+    }
+
     @Override
     public @Nullable Block getBlock(int x, int y, int z, Condition condition) {
         final Block block = blockRetriever.getBlock(x, y, z, condition);
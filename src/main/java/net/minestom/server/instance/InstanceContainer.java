@@ -4,6 +4,8 @@ import it.unimi.dsi.fastutil.ints.Int2ObjectMaps;
 import net.kyori.adventure.key.Key;
 import net.kyori.adventure.nbt.CompoundBinaryTag;
 import net.minestom.server.MinecraftServer;
+import net.minestom.server.ServerFlag;
+import net.minestom.server.coordinate.Area;
 import net.minestom.server.coordinate.BlockVec;
 import net.minestom.server.coordinate.CoordConversion;
 import net.minestom.server.coordinate.Point;
@@ -24,6 +26,7 @@ import net.minestom.server.instance.block.rule.BlockPlacementRule;
 import net.minestom.server.instance.generator.Generator;
 import net.minestom.server.instance.generator.GeneratorImpl;
 import net.minestom.server.instance.palette.Palette;
+import net.minestom.server.instance.palette.PaletteInterner;
 import net.minestom.server.monitoring.EventsJFR;
 import net.minestom.server.network.packet.server.play.BlockChangePacket;
 import net.minestom.server.network.packet.server.play.BlockEntityDataPacket;
@@ -34,7 +37,6 @@ import net.minestom.server.registry.RegistryKey;
 import net.minestom.server.utils.PacketSendingUtils;
 import net.minestom.server.utils.async.AsyncUtils;
 import net.minestom.server.utils.block.BlockUtils;
-import net.minestom.server.utils.chunk.ChunkCache;
 import net.minestom.server.utils.chunk.ChunkSupplier;
 import net.minestom.server.utils.validate.Check;
 import net.minestom.server.world.DimensionType;
@@ -49,8 +51,10 @@ import java.util.*;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
-import java.util.concurrent.locks.Lock;
-import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
 
@@ -64,6 +68,14 @@ public class InstanceContainer extends Instance {
 
     private static final AnvilLoader DEFAULT_LOADER = new AnvilLoader("world");
 
+    // Generation is CPU bound, bounded to the cores instead of running on the virtual thread loading the chunk
+    private static final ForkJoinPool GENERATION_POOL = new ForkJoinPool(ServerFlag.GENERATION_THREADS, pool -> {
+        final ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+        thread.setName("Ms-Generation-" + thread.getPoolIndex());
+        return thread;
+    }, null, false);
+    private static final int PREGENERATION_BATCH_SIZE = 32; // In chunks
+
     private static final BlockFace[] BLOCK_UPDATE_FACES = new BlockFace[]{
             BlockFace.WEST, BlockFace.EAST, BlockFace.NORTH, BlockFace.SOUTH, BlockFace.BOTTOM, BlockFace.TOP
     };
@@ -77,9 +89,15 @@ public class InstanceContainer extends Instance {
     // used as a monitor when access is required
     private final Long2ObjectSyncMap<Chunk> chunks = Long2ObjectSyncMap.hashmap();
     private final Map<Long, CompletableFuture<Chunk>> loadingChunks = new ConcurrentHashMap<>();
+    // Loaded chunks modified by forks, sent again at the end of the tick
+    private final Set<Chunk> forkedChunks = ConcurrentHashMap.newKeySet();
+    private final AtomicBoolean forkResendScheduled = new AtomicBoolean();
 
-    private final Lock changingBlockLock = new ReentrantLock();
-    private final Map<BlockVec, Block> currentlyChangingBlocks = new HashMap<>();
+    // Thread-confined, the blocks being changed by the current thread to prevent handlers from changing them recursively
+    private static final ThreadLocal<BlockChangeContext> BLOCK_CHANGE_CONTEXT = ThreadLocal.withInitial(BlockChangeContext::new);
+    private final ChunkLockStripes blockLocks = new ChunkLockStripes(ServerFlag.BLOCK_LOCK_STRIPES);
+    private final BlockChangeBuffer blockChanges = new BlockChangeBuffer();
+    private volatile boolean blockChangeBatching = ServerFlag.BLOCK_CHANGE_BATCHING;
 
     // the chunk loader, used when trying to load/save a chunk from another source
     private ChunkLoader chunkLoader;
@@ -90,9 +108,14 @@ public class InstanceContainer extends Instance {
     // used to supply a new chunk object at a position when requested
     private ChunkSupplier chunkSupplier;
 
+    // shares the palettes of identical sections, null when disabled
+    private volatile @Nullable PaletteInterner sectionInterner;
+    // Evicts idle chunks, holds the cold storage
+    private final ChunkLifecycle chunkLifecycle = new ChunkLifecycle(this);
+
     // Fields for instance copy
     protected InstanceContainer srcInstance; // only present if this instance has been created using a copy
-    private long lastBlockChangeTime; // Time at which the last block change happened (#setBlock)
+    private volatile long lastBlockChangeTime; // Time at which the last block change happened (#setBlock)
 
     public InstanceContainer(UUID uuid, RegistryKey<DimensionType> dimensionType) {
         this(uuid, dimensionType, null, dimensionType.key());
@@ -121,6 +144,7 @@ public class InstanceContainer extends Instance {
         setChunkSupplier(DynamicChunk::new);
         setChunkLoader(Objects.requireNonNullElse(loader, DEFAULT_LOADER));
         this.chunkLoader.loadInstance(this);
+        enableSectionInterning(ServerFlag.SECTION_INTERNING);
         // last block change starts at instance creation time
         refreshLastBlockChangeTime();
     }
@@ -139,7 +163,11 @@ public class InstanceContainer extends Instance {
     /**
      * Sets a block at the specified position.
      * <p>
-     * Unsafe because the method is not synchronized and it does not verify if the chunk is loaded or not.
+     * Unsafe because it does not verify if the chunk is loaded or not.
+     * <p>
+     * Changes lock the area around their chunk, see {@link ChunkLockStripes}. Changes made by handlers or placement rules
+     * during another change cannot wait for other threads without risking a deadlock, when their area is busy
+     * they are applied by the thread ticking their chunk instead.
      *
      * @param chunk the {@link Chunk} which should be loaded
      * @param x     the block X
@@ -147,9 +175,9 @@ public class InstanceContainer extends Instance {
      * @param z     the block Z
      * @param block the block to place
      */
-    private synchronized void UNSAFE_setBlock(Chunk chunk, int x, int y, int z, Block block,
-                                              @Nullable BlockHandler.Placement placement, @Nullable BlockHandler.Destroy destroy,
-                                              boolean doBlockUpdates, int updateDistance) {
+    private void UNSAFE_setBlock(Chunk chunk, int x, int y, int z, Block block,
+                                 @Nullable BlockHandler.Placement placement, @Nullable BlockHandler.Destroy destroy,
+                                 boolean doBlockUpdates, int updateDistance) {
         if (chunk.isReadOnly()) return;
         final DimensionType dim = getCachedDimensionType();
         if (y >= dim.maxY() || y < dim.minY()) {
@@ -157,16 +185,36 @@ public class InstanceContainer extends Instance {
             return;
         }
 
+        final BlockChangeContext context = BLOCK_CHANGE_CONTEXT.get();
+        if (!blockLocks.lock(chunk.getChunkX(), chunk.getChunkZ(), context.depth == 0)) {
+            scheduleBlockUpdate(chunk, () -> {
+                if (isLoaded(chunk)) UNSAFE_setBlock(chunk, x, y, z, block, placement, destroy, doBlockUpdates, updateDistance);
+            });
+            return;
+        }
+        context.depth++;
+        try {
+            UNSAFE_setBlock(context, chunk, x, y, z, block, placement, destroy, doBlockUpdates, updateDistance);
+        } finally {
+            if (--context.depth == 0) context.changingBlocks.clear();
+            blockLocks.unlock(chunk.getChunkX(), chunk.getChunkZ());
+        }
+    }
+
+    private void UNSAFE_setBlock(BlockChangeContext context, Chunk chunk, int x, int y, int z, Block block,
+                                 @Nullable BlockHandler.Placement placement, @Nullable BlockHandler.Destroy destroy,
+                                 boolean doBlockUpdates, int updateDistance) {
         synchronized (chunk) {
             // Refresh the last block change time
             this.lastBlockChangeTime = System.nanoTime();
             final BlockVec blockPosition = new BlockVec(x, y, z);
-            if (isAlreadyChanged(blockPosition, block)) { // do NOT change the block again.
+            final Map<BlockVec, Block> changingBlocks = context.changingBlocks.computeIfAbsent(this, ignored -> new HashMap<>());
+            if (Objects.equals(changingBlocks.get(blockPosition), block)) { // do NOT change the block again.
                 // Avoids StackOverflowExceptions when onDestroy tries to destroy the block itself
                 // This can happen with nether portals which break the entire frame when a portal block is broken
                 return;
             }
-            this.currentlyChangingBlocks.put(blockPosition, block);
+            changingBlocks.put(blockPosition, block);
 
             // Change id based on neighbors
             final BlockPlacementRule blockPlacementRule = MinecraftServer.getBlockManager().getBlockPlacementRule(block);
@@ -197,11 +245,13 @@ public class InstanceContainer extends Instance {
 
             // Refresh neighbors since a new block has been placed
             if (doBlockUpdates) {
-                executeNeighboursBlockPlacementRule(blockPosition, updateDistance);
+                executeNeighboursBlockPlacementRule(chunk, blockPosition, updateDistance);
             }
 
             // Refresh player chunk block
-            {
+            if (blockChangeBatching) {
+                this.blockChanges.blockChanged(chunk, blockPosition, block);
+            } else {
                 chunk.sendPacketToViewers(new BlockChangePacket(blockPosition, block.stateId()));
                 BlockEntityType blockEntityType = block.registry().blockEntityType();
                 if (blockEntityType != null) {
@@ -269,6 +319,7 @@ public class InstanceContainer extends Instance {
     @Override
     public synchronized void unloadChunk(Chunk chunk) {
         if (!isLoaded(chunk)) return;
+        this.blockChanges.discard(chunk);
         final int chunkX = chunk.getChunkX();
         final int chunkZ = chunk.getChunkZ();
         chunk.sendPacketToViewers(new UnloadChunkPacket(chunkX, chunkZ));
@@ -303,7 +354,16 @@ public class InstanceContainer extends Instance {
     @Override
     public CompletableFuture<Void> saveChunksToStorage() {
         final ChunkLoader chunkLoader = this.chunkLoader;
-        return optionalAsync(chunkLoader.supportsParallelSaving(), () -> chunkLoader.saveChunks(getChunks()));
+        return optionalAsync(chunkLoader.supportsParallelSaving(), () -> {
+            final List<Chunk> coldChunks = chunkLifecycle.coldChunks();
+            if (coldChunks.isEmpty()) {
+                chunkLoader.saveChunks(getChunks());
+                return;
+            }
+            List<Chunk> chunks = new ArrayList<>(getChunks());
+            chunks.addAll(coldChunks);
+            chunkLoader.saveChunks(chunks);
+        });
     }
 
     private CompletableFuture<Void> optionalAsync(boolean async, Runnable runnable) {
@@ -332,13 +392,19 @@ public class InstanceContainer extends Instance {
         final Consumer<Chunk> generate = chunk -> {
             if (chunk == null) {
                 // Loader couldn't load the chunk, generate it
-                var chunkGeneration = EventsJFR.newChunkGeneration(getUuid(), chunkX, chunkZ);
-                chunkGeneration.begin();
-                chunk = createChunk(chunkX, chunkZ);
-                chunk.onGenerate();
-                chunkGeneration.commit();
+                chunk = GENERATION_POOL.invoke(ForkJoinTask.adapt(() -> {
+                    var chunkGeneration = EventsJFR.newChunkGeneration(getUuid(), chunkX, chunkZ);
+                    chunkGeneration.begin();
+                    final Chunk generated = createChunk(chunkX, chunkZ);
+                    generated.onGenerate();
+                    chunkGeneration.commit();
+                    return generated;
+                }));
             }
 
+            final PaletteInterner interner = this.sectionInterner;
+            if (interner != null) internSections(chunk, interner);
+
             // TODO run in the instance thread?
             cacheChunk(chunk);
             chunk.onLoad();
@@ -349,6 +415,8 @@ public class InstanceContainer extends Instance {
             completableFuture.complete(chunk);
         };
         Supplier<Chunk> loaderSupplier = () -> {
+            final Chunk thawed = chunkLifecycle.thaw(chunkX, chunkZ);
+            if (thawed != null) return thawed;
             var chunkLoading = EventsJFR.newChunkLoading(getUuid(), loader.getClass(), chunkX, chunkZ);
             chunkLoading.begin();
             final Chunk chunk = loader.loadChunk(this, chunkX, chunkZ);
@@ -381,19 +449,27 @@ public class InstanceContainer extends Instance {
     Map<Long, List<GeneratorImpl.SectionModifierImpl>> generationForks = new ConcurrentHashMap<>();
 
     protected Chunk createChunk(int chunkX, int chunkZ) {
+        return createChunk(chunkX, chunkZ, true);
+    }
+
+    private Chunk createChunk(int chunkX, int chunkZ, boolean applyForks) {
         final Chunk chunk = chunkSupplier.createChunk(this, chunkX, chunkZ);
         Check.notNull(chunk, "Chunks supplied by a ChunkSupplier cannot be null.");
         Generator generator = generator();
         if (generator == null || !chunk.shouldGenerate()) {
             // No chunk generator, execute the callback with the empty chunk
-            processFork(chunk);
+            if (applyForks) processFork(chunk);
             return chunk;
         }
-        generateChunk(chunk, generator);
+        generateChunk(chunk, generator, applyForks);
         return chunk;
     }
 
     protected void generateChunk(Chunk chunk, Generator generator) {
+        generateChunk(chunk, generator, true);
+    }
+
+    private void generateChunk(Chunk chunk, Generator generator, boolean applyForks) {
         final int chunkX = chunk.getChunkX(), chunkZ = chunk.getChunkZ();
         GeneratorImpl.GenSection[] genSections = new GeneratorImpl.GenSection[chunk.getSections().size()];
         Arrays.setAll(genSections, i -> {
@@ -426,7 +502,7 @@ public class InstanceContainer extends Instance {
                             applyFork(forkChunk, sectionModifier);
                             // Update players
                             forkChunk.invalidate();
-                            forkChunk.sendChunk();
+                            resendForkedChunk(forkChunk);
                         } else {
                             final long index = CoordConversion.chunkIndex(start);
                             this.generationForks.compute(index, (i, sectionModifiers) -> {
@@ -439,7 +515,7 @@ public class InstanceContainer extends Instance {
                 }
             }
             // Apply awaiting forks
-            processFork(chunk);
+            if (applyForks) processFork(chunk);
         } catch (Throwable e) {
             MinecraftServer.getExceptionManager().handleException(e);
         } finally {
@@ -448,6 +524,170 @@ public class InstanceContainer extends Instance {
         }
     }
 
+    /**
+     * Sends a chunk modified by the forks of its neighbours at the end of the tick,
+     * once for all the neighbours generated during the tick.
+     */
+    private void resendForkedChunk(Chunk chunk) {
+        if (!forkedChunks.add(chunk) || !forkResendScheduled.compareAndSet(false, true)) return;
+        MinecraftServer.getSchedulerManager().scheduleEndOfTick(() -> {
+            this.forkResendScheduled.set(false);
+            for (Chunk forkedChunk : forkedChunks) {
+                this.forkedChunks.remove(forkedChunk);
+                if (forkedChunk.isLoaded()) forkedChunk.sendChunk();
+            }
+        });
+    }
+
+    /**
+     * Loads or generates every chunk in the horizontal bounds of an area, e.g. before opening a world to players.
+     * <p>
+     * Chunks are processed by square batches on the generation pool ({@link ServerFlag#GENERATION_THREADS}):
+     * the chunks of a batch are loaded or generated in parallel, then the forks they created for each other are applied,
+     * and only then are they lit and published. Chunks already loaded are skipped.
+     *
+     * @param area     the area to pregenerate
+     * @param listener called after each batch, null to only poll the returned progress
+     * @return the progress of the pregeneration
+     */
+    public ChunkPregeneration pregenerate(Area area, @Nullable Consumer<ChunkPregeneration> listener) {
+        final Area.Cuboid bound = area.bound();
+        final int minChunkX = CoordConversion.globalToChunk(bound.min().blockX());
+        final int minChunkZ = CoordConversion.globalToChunk(bound.min().blockZ());
+        final int maxChunkX = CoordConversion.globalToChunk(bound.max().blockX());
+        final int maxChunkZ = CoordConversion.globalToChunk(bound.max().blockZ());
+        final ChunkPregeneration pregeneration = new ChunkPregeneration(
+                (long) (maxChunkX - minChunkX + 1) * (maxChunkZ - minChunkZ + 1));
+        Thread.ofVirtual().name("Ms-Pregeneration").start(() -> {
+            try {
+                for (int batchX = minChunkX; batchX <= maxChunkX; batchX += PREGENERATION_BATCH_SIZE) {
+                    for (int batchZ = minChunkZ; batchZ <= maxChunkZ; batchZ += PREGENERATION_BATCH_SIZE) {
+                        if (pregeneration.isCancelled()) return;
+                        pregenerateBatch(pregeneration, batchX, batchZ,
+                                Math.min(batchX + PREGENERATION_BATCH_SIZE - 1, maxChunkX),
+                                Math.min(batchZ + PREGENERATION_BATCH_SIZE - 1, maxChunkZ));
+                        if (listener != null) listener.accept(pregeneration);
+                    }
+                }
+                pregeneration.future().complete(null);
+            } catch (Throwable e) {
+                MinecraftServer.getExceptionManager().handleException(e);
+                pregeneration.future().completeExceptionally(e);
+            }
+        });
+        return pregeneration;
+    }
+
+    /**
+     * Loads or generates every chunk in the horizontal bounds of an area.
+     *
+     * @see #pregenerate(Area, Consumer)
+     */
+    public ChunkPregeneration pregenerate(Area area) {
+        return pregenerate(area, null);
+    }
+
+    private void pregenerateBatch(ChunkPregeneration pregeneration, int minChunkX, int minChunkZ, int maxChunkX, int maxChunkZ) {
+        final ChunkLoader loader = this.chunkLoader;
+        List<PregeneratedChunk> claimed = new ArrayList<>();
+        List<CompletableFuture<Chunk>> loadingElsewhere = new ArrayList<>();
+        for (int chunkX = minChunkX; chunkX <= maxChunkX; chunkX++) {
+            for (int chunkZ = minChunkZ; chunkZ <= maxChunkZ; chunkZ++) {
+                if (getChunk(chunkX, chunkZ) != null) {
+                    pregeneration.skipped.increment();
+                    continue;
+                }
+                final PregeneratedChunk pregenerated = new PregeneratedChunk(chunkX, chunkZ);
+                final CompletableFuture<Chunk> previous = loadingChunks.putIfAbsent(pregenerated.index, pregenerated.future);
+                if (previous != null) {
+                    loadingElsewhere.add(previous);
+                } else {
+                    claimed.add(pregenerated);
+                }
+            }
+        }
+
+        // Load or generate, forks targeting the batch are kept until all its chunks exist
+        if (!loader.supportsParallelLoading()) {
+            for (PregeneratedChunk pregenerated : claimed) pregenerated.load(loader);
+        }
+        GENERATION_POOL.invokeAll(claimed.stream().map(pregenerated -> ForkJoinTask.adapt(() -> {
+            if (loader.supportsParallelLoading()) pregenerated.load(loader);
+            if (pregenerated.chunk == null && pregenerated.failure == null) pregenerated.generate();
+        })).toList());
+        // Apply the forks of the batch
+        GENERATION_POOL.invokeAll(claimed.stream()
+                .filter(pregenerated -> pregenerated.generated && pregenerated.chunk != null)
+                .map(pregenerated -> ForkJoinTask.adapt(() -> processFork(pregenerated.chunk)))
+                .toList());
+        // Light and publish
+        final PaletteInterner interner = this.sectionInterner;
+        for (PregeneratedChunk pregenerated : claimed) {
+            final Chunk chunk = pregenerated.chunk;
+            if (chunk == null) {
+                this.loadingChunks.remove(pregenerated.index, pregenerated.future);
+                pregenerated.future.completeExceptionally(pregenerated.failure);
+                pregeneration.failed.increment();
+                continue;
+            }
+            if (pregenerated.generated) chunk.onGenerate();
+            if (interner != null) internSections(chunk, interner);
+            cacheChunk(chunk);
+            chunk.onLoad();
+            EventDispatcher.call(new InstanceChunkLoadEvent(this, chunk));
+            this.loadingChunks.remove(pregenerated.index, pregenerated.future);
+            pregenerated.future.complete(chunk);
+            (pregenerated.generated ? pregeneration.generated : pregeneration.loaded).increment();
+        }
+        for (CompletableFuture<Chunk> future : loadingElsewhere) {
+            future.exceptionally(ignored -> null).join();
+            pregeneration.skipped.increment();
+        }
+    }
+
+    private final class PregeneratedChunk {
+        final int chunkX, chunkZ;
+        final long index;
+        final CompletableFuture<Chunk> future = new CompletableFuture<>();
+        @Nullable Chunk chunk;
+        boolean generated;
+        @Nullable Throwable failure;
+
+        PregeneratedChunk(int chunkX, int chunkZ) {
+            this.chunkX = chunkX;
+            this.chunkZ = chunkZ;
+            this.index = CoordConversion.chunkIndex(chunkX, chunkZ);
+        }
+
+        void load(ChunkLoader loader) {
+            try {
+                this.chunk = chunkLifecycle.thaw(chunkX, chunkZ);
+                if (chunk != null) return;
+                var chunkLoading = EventsJFR.newChunkLoading(getUuid(), loader.getClass(), chunkX, chunkZ);
+                chunkLoading.begin();
+                this.chunk = loader.loadChunk(InstanceContainer.this, chunkX, chunkZ);
+                chunkLoading.end();
+                if (chunk != null) chunkLoading.commit();
+            } catch (Throwable e) {
+                MinecraftServer.getExceptionManager().handleException(e);
+                this.failure = e;
+            }
+        }
+
+        void generate() {
+            try {
+                var chunkGeneration = EventsJFR.newChunkGeneration(getUuid(), chunkX, chunkZ);
+                chunkGeneration.begin();
+                this.chunk = createChunk(chunkX, chunkZ, false);
+                this.generated = true;
+                chunkGeneration.commit();
+            } catch (Throwable e) {
+                MinecraftServer.getExceptionManager().handleException(e);
+                this.failure = e;
+            }
+        }
+    }
+
     private void processFork(Chunk chunk) {
         this.generationForks.compute(CoordConversion.chunkIndex(chunk.getChunkX(), chunk.getChunkZ()), (aLong, sectionModifiers) -> {
             if (sectionModifiers != null) {
@@ -485,6 +725,82 @@ public class InstanceContainer extends Instance {
         }
     }
 
+    /**
+     * Enables or disables the interning of the sections of chunks loaded from now on.
+     * <p>
+     * Block and biome palettes holding a single value are turned into single-value palettes,
+     * and identical palettes share their storage until modified. Useful for worlds with many identical sections,
+     * e.g. void or flat worlds.
+     *
+     * @param enable true to intern the sections of new chunks, false to stop and reset the statistics
+     * @see #getSectionInterner()
+     */
+    public void enableSectionInterning(boolean enable) {
+        if (enable == (sectionInterner != null)) return;
+        this.sectionInterner = enable ? new PaletteInterner(ServerFlag.SECTION_INTERNING_CAPACITY) : null;
+    }
+
+    /**
+     * Gets the interner shared by the sections of this instance, giving the memory saved.
+     *
+     * @return the section interner, null if disabled
+     */
+    public @Nullable PaletteInterner getSectionInterner() {
+        return sectionInterner;
+    }
+
+    /**
+     * Sets the policy unloading the idle chunks of this instance, checked every second.
+     * <p>
+     * Chunks kept in cold storage are read back when loaded, and saved by {@link #saveChunksToStorage()}.
+     * They stay there after the policy is removed, and are lost if the instance is unregistered without saving.
+     *
+     * @param policy the eviction policy, null to keep chunks loaded until unloaded manually
+     */
+    @ApiStatus.Experimental
+    public void setChunkEvictionPolicy(@Nullable ChunkEvictionPolicy policy) {
+        this.chunkLifecycle.setPolicy(policy);
+    }
+
+    @ApiStatus.Experimental
+    public @Nullable ChunkEvictionPolicy getChunkEvictionPolicy() {
+        return chunkLifecycle.policy();
+    }
+
+    /**
+     * Gets the counters of the chunk eviction policy.
+     *
+     * @return the chunk lifecycle statistics
+     * @see #setChunkEvictionPolicy(ChunkEvictionPolicy)
+     */
+    @ApiStatus.Experimental
+    public ChunkLifecycleStats chunkLifecycleStats() {
+        return chunkLifecycle.stats();
+    }
+
+    /**
+     * @param hotChunks  the number of loaded chunks
+     * @param coldChunks the number of chunks in cold storage
+     * @param hotBytes   the estimated size of the loaded chunks at the last eviction pass
+     * @param coldBytes  the compressed size of the chunks in cold storage
+     * @param frozen     the number of chunks moved to cold storage
+     * @param thawed     the number of chunks loaded back from cold storage
+     * @param evicted    the number of chunks saved through the chunk loader, directly or from cold storage
+     */
+    public record ChunkLifecycleStats(int hotChunks, int coldChunks, long hotBytes, long coldBytes,
+                                      long frozen, long thawed, long evicted) {
+    }
+
+    private static void internSections(Chunk chunk, PaletteInterner interner) {
+        synchronized (chunk) {
+            for (Section section : chunk.getSections()) {
+                boolean changed = interner.intern(section.blockPalette());
+                changed |= interner.intern(section.biomePalette());
+                if (changed) section.invalidate();
+            }
+        }
+    }
+
     @Override
     public void enableAutoChunkLoad(boolean enable) {
         this.autoChunkLoad = enable;
@@ -572,6 +888,7 @@ public class InstanceContainer extends Instance {
         copiedInstance.srcInstance = this;
         copiedInstance.tagHandler = this.tagHandler.copy();
         copiedInstance.lastBlockChangeTime = this.lastBlockChangeTime;
+        copiedInstance.enableSectionInterning(this.sectionInterner != null);
         for (Chunk chunk : chunks.values()) {
             final int chunkX = chunk.getChunkX();
             final int chunkZ = chunk.getChunkZ();
@@ -593,6 +910,54 @@ public class InstanceContainer extends Instance {
         return srcInstance;
     }
 
+    @Override
+    public void flushBlockChanges() {
+        this.blockChanges.flush();
+    }
+
+    @Override
+    public void flushBlockChanges(Chunk chunk) {
+        this.blockChanges.flush(chunk);
+    }
+
+    /**
+     * Changes whether block changes are buffered until the end of the tick.
+     * <p>
+     * Only packets sent through {@link Chunk#sendPacketToViewers} are ordered after the buffered changes,
+     * others must be preceded by {@link #flushBlockChanges(Chunk)} when they depend on them.
+     *
+     * @param blockChangeBatching true to batch block changes
+     * @see ServerFlag#BLOCK_CHANGE_BATCHING
+     */
+    public void setBlockChangeBatching(boolean blockChangeBatching) {
+        this.blockChangeBatching = blockChangeBatching;
+        if (!blockChangeBatching) flushBlockChanges();
+    }
+
+    public boolean isBlockChangeBatching() {
+        return blockChangeBatching;
+    }
+
+    /**
+     * Gets the counters of block change batching.
+     *
+     * @return the block change statistics
+     * @see ServerFlag#BLOCK_CHANGE_BATCHING
+     */
+    public BlockChangeStats blockChangeStats() {
+        return blockChanges.stats();
+    }
+
+    /**
+     * @param changes      the number of block changes sent to viewers
+     * @param packetsSent  the number of packets sent for these changes, including block entity data
+     * @param packetsSaved the number of packets that would have been sent without batching minus the packets sent
+     * @param bytesSaved   the estimated uncompressed bytes saved by multi block change packets, chunk resends are not included
+     * @param chunkResends the number of times too many changes caused the whole chunk to be sent again
+     */
+    public record BlockChangeStats(long changes, long packetsSent, long packetsSaved, long bytesSaved, long chunkResends) {
+    }
+
     /**
      * Gets the last time at which a block changed.
      *
@@ -667,30 +1032,6 @@ public class InstanceContainer extends Instance {
         this.chunkLoader = Objects.requireNonNull(chunkLoader, "Chunk loader cannot be null");
     }
 
-    @Override
-    public void tick(long time) {
-        // Time/world border
-        super.tick(time);
-        // Clear block change map
-        Lock wrlock = this.changingBlockLock;
-        wrlock.lock();
-        this.currentlyChangingBlocks.clear();
-        wrlock.unlock();
-    }
-
-    /**
-     * Has this block already changed since last update?
-     * Prevents StackOverflow with blocks trying to modify their position in onDestroy or onPlace.
-     *
-     * @param blockPosition the block position
-     * @param block         the block
-     * @return true if the block changed since the last update
-     */
-    private boolean isAlreadyChanged(BlockVec blockPosition, Block block) {
-        final Block changedBlock = currentlyChangingBlocks.get(blockPosition);
-        return Objects.equals(changedBlock, block);
-    }
-
     /**
      * Executed when a block is modified, this is used to modify the states of neighbours blocks.
      * <p>
@@ -698,8 +1039,7 @@ public class InstanceContainer extends Instance {
      *
      * @param blockPosition the position of the modified block
      */
-    private void executeNeighboursBlockPlacementRule(Point blockPosition, int updateDistance) {
-        ChunkCache cache = new ChunkCache(this, null, null);
+    private void executeNeighboursBlockPlacementRule(Chunk chunk, Point blockPosition, int updateDistance) {
         for (var updateFace : BLOCK_UPDATE_FACES) {
             var direction = updateFace.toDirection();
             final int neighborX = blockPosition.blockX() + direction.normalX();
@@ -707,29 +1047,60 @@ public class InstanceContainer extends Instance {
             final int neighborZ = blockPosition.blockZ() + direction.normalZ();
             if (neighborY < getCachedDimensionType().minY() || neighborY > getCachedDimensionType().height())
                 continue;
-            final Block neighborBlock = cache.getBlock(neighborX, neighborY, neighborZ, Condition.NONE);
-            if (neighborBlock == null || neighborBlock.isAir())
-                continue;
-            final BlockPlacementRule neighborBlockPlacementRule = MinecraftServer.getBlockManager().getBlockPlacementRule(neighborBlock);
-            if (neighborBlockPlacementRule == null || updateDistance >= neighborBlockPlacementRule.maxUpdateDistance())
-                continue;
-
-            final Vec neighborPosition = new Vec(neighborX, neighborY, neighborZ);
-            final Block newNeighborBlock = neighborBlockPlacementRule.blockUpdate(new BlockPlacementRule.UpdateState(
-                    this,
-                    neighborPosition,
-                    neighborBlock,
-                    updateFace.getOppositeFace()
-            ));
-            if (neighborBlock != newNeighborBlock) {
-                final Chunk chunk = getChunkAt(neighborPosition);
-                if (!isLoaded(chunk)) continue;
-                UNSAFE_setBlock(chunk, neighborPosition.blockX(), neighborPosition.blockY(), neighborPosition.blockZ(), newNeighborBlock,
-                        null, null, true, updateDistance + 1);
+            final Chunk neighborChunk = chunk.getChunkX() == CoordConversion.globalToChunk(neighborX) &&
+                    chunk.getChunkZ() == CoordConversion.globalToChunk(neighborZ) ? chunk : getChunkAt(neighborX, neighborZ);
+            if (!isLoaded(neighborChunk)) continue;
+            if (neighborChunk == chunk) {
+                updateNeighbor(neighborChunk, neighborX, neighborY, neighborZ, updateFace, updateDistance);
+            } else {
+                // Owned by another thread, let it run the update
+                scheduleBlockUpdate(neighborChunk, () -> {
+                    if (isLoaded(neighborChunk)) updateNeighbor(neighborChunk, neighborX, neighborY, neighborZ, updateFace, updateDistance);
+                });
             }
         }
     }
 
+    private void updateNeighbor(Chunk chunk, int x, int y, int z, BlockFace updateFace, int updateDistance) {
+        final Block neighborBlock;
+        synchronized (chunk) {
+            neighborBlock = chunk.getBlock(x, y, z, Condition.NONE);
+        }
+        if (neighborBlock == null || neighborBlock.isAir()) return;
+        final BlockPlacementRule neighborBlockPlacementRule = MinecraftServer.getBlockManager().getBlockPlacementRule(neighborBlock);
+        if (neighborBlockPlacementRule == null || updateDistance >= neighborBlockPlacementRule.maxUpdateDistance())
+            return;
+
+        final Vec neighborPosition = new Vec(x, y, z);
+        final Block newNeighborBlock = neighborBlockPlacementRule.blockUpdate(new BlockPlacementRule.UpdateState(
+                this,
+                neighborPosition,
+                neighborBlock,
+                updateFace.getOppositeFace()
+        ));
+        if (neighborBlock != newNeighborBlock) {
+            UNSAFE_setBlock(chunk, x, y, z, newNeighborBlock, null, null, true, updateDistance + 1);
+        }
+    }
+
+    /**
+     * Runs a block update on the thread ticking the chunk, or during the next instance tick for chunks
+     * which are not {@link DynamicChunk}s.
+     */
+    private void scheduleBlockUpdate(Chunk chunk, Runnable update) {
+        if (chunk instanceof DynamicChunk dynamicChunk) {
+            dynamicChunk.scheduleUpdate(update);
+        } else {
+            scheduler().scheduleNextProcess(update);
+        }
+    }
+
+    private static final class BlockChangeContext {
+        // Nested changes of the current thread, including other instances
+        int depth;
+        final Map<InstanceContainer, Map<BlockVec, Block>> changingBlocks = new IdentityHashMap<>();
+    }
+
     private CompletableFuture<Chunk> loadOrRetrieve(int chunkX, int chunkZ, Supplier<CompletableFuture<Chunk>> supplier) {
         final Chunk chunk = getChunk(chunkX, chunkZ);
         if (chunk != null) {
@@ -0,0 +1,75 @@
+package net.minestom.server.instance;
+
+import it.unimi.dsi.fastutil.ints.IntAVLTreeSet;
+import it.unimi.dsi.fastutil.ints.IntSortedSet;
+import it.unimi.dsi.fastutil.longs.LongIterator;
+import it.unimi.dsi.fastutil.longs.LongSet;
+import net.minestom.server.coordinate.CoordConversion;
+
+import java.util.Arrays;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Striped locks guarding the light computation of an instance.
+ * <p>
+ * Stripes are hashed from regions of 3x3 chunks. A relight locks the regions covering its sections and the chunks
+ * around them, since computing a section resets the propagated light of its neighbors. Stripes are acquired
+ * in ascending order, relights of disjoint regions therefore run in parallel and never deadlock.
+ */
+final class LightRegionLocks {
+    private static final int REGION_SIZE = 3;
+
+    private final ReentrantLock[] locks;
+    private final int mask;
+
+    LightRegionLocks(int stripeCount) {
+        final int size = Integer.highestOneBit(Math.max(1, stripeCount - 1) << 1);
+        this.locks = new ReentrantLock[size];
+        Arrays.setAll(locks, ignored -> new ReentrantLock());
+        this.mask = size - 1;
+    }
+
+    /**
+     * Locks the regions around sections.
+     *
+     * @param sections the section indexes, see {@link CoordConversion#sectionIndex(int, int, int)}
+     * @return the locked stripes, to give back to {@link #unlock(int[])}
+     */
+    int[] lock(LongSet sections) {
+        IntSortedSet stripes = new IntAVLTreeSet();
+        LongIterator iterator = sections.iterator();
+        while (iterator.hasNext()) {
+            final long index = iterator.nextLong();
+            final int chunkX = CoordConversion.sectionIndexGetX(index);
+            final int chunkZ = CoordConversion.sectionIndexGetZ(index);
+            for (int x = chunkX - 1; x <= chunkX + 1; x++) {
+                for (int z = chunkZ - 1; z <= chunkZ + 1; z++) {
+                    stripes.add(stripe(x, z));
+                }
+            }
+            if (stripes.size() == locks.length) break;
+        }
+        final int[] result = stripes.toIntArray();
+        for (int stripe : result) locks[stripe].lock();
+        return result;
+    }
+
+    void unlock(int[] stripes) {
+        for (int i = stripes.length - 1; i >= 0; i--) locks[stripes[i]].unlock();
+    }
+
+    /**
+     * Gets if the light of a chunk may be modified by the current thread.
+     */
+    boolean isHeldByCurrentThread(int chunkX, int chunkZ) {
+        return locks[stripe(chunkX, chunkZ)].isHeldByCurrentThread();
+    }
+
+    private int stripe(int chunkX, int chunkZ) {
+        final int regionX = Math.floorDiv(chunkX, REGION_SIZE);
+        final int regionZ = Math.floorDiv(chunkZ, REGION_SIZE);
+        int hash = regionX * 0x9E3779B9 ^ regionZ * 0x85EBCA6B;
+        hash ^= hash >>> 16;
+        return hash & mask;
+    }
+}
@@ -1,12 +1,14 @@
 package net.minestom.server.instance;
 
+import it.unimi.dsi.fastutil.longs.LongArrayFIFOQueue;
+import it.unimi.dsi.fastutil.longs.LongIterator;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongSet;
 import net.kyori.adventure.key.Key;
 import net.minestom.server.MinecraftServer;
 import net.minestom.server.ServerFlag;
 import net.minestom.server.collision.Shape;
 import net.minestom.server.coordinate.CoordConversion;
-import net.minestom.server.coordinate.Point;
-import net.minestom.server.coordinate.Vec;
 import net.minestom.server.instance.block.Block;
 import net.minestom.server.instance.block.BlockFace;
 import net.minestom.server.instance.block.BlockHandler;
@@ -19,13 +21,13 @@ import org.jetbrains.annotations.Nullable;
 
 import java.util.*;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.locks.ReentrantLock;
 
 import static net.minestom.server.instance.light.LightCompute.EMPTY_CONTENT;
+import static net.minestom.server.instance.light.LightCompute.UNSET_CONTENT;
 
 /**
  * A chunk which supports lighting computation.
@@ -36,11 +38,15 @@ import static net.minestom.server.instance.light.LightCompute.EMPTY_CONTENT;
 public class LightingChunk extends DynamicChunk {
 
     private static final ExecutorService pool = Executors.newWorkStealingPool();
+    private static final long[] NO_SECTIONS = new long[0];
 
     private int[] occlusionMap;
     final CachedPacket partialLightCache = new CachedPacket(this::createLightPacket);
     private LightData partialLightData;
     private LightData fullLightData;
+    // Light of each section as sent with the last partial update, guarded by packetGenerationLock
+    // Cleared when the full light is generated, new viewers may have received more recent light than the others
+    private byte[][] sentSkyLight, sentBlockLight;
 
     private int highestBlock;
     private boolean freezeInvalidation = false;
@@ -88,6 +94,12 @@ public class LightingChunk extends DynamicChunk {
     );
 
     public void invalidate() {
+        for (Section section : sections) section.invalidate();
+        invalidateLight();
+    }
+
+    // Light changes leave the encoded sections untouched
+    private void invalidateLight() {
         this.partialLightCache.invalidate();
         this.chunkCache.invalidate();
         this.partialLightData = null;
@@ -128,7 +140,7 @@ public class LightingChunk extends DynamicChunk {
                 if (neighborChunk == null) continue;
 
                 if (neighborChunk instanceof LightingChunk light) {
-                    light.invalidate();
+                    light.invalidateLight();
                 }
 
                 for (int k = -1; k <= 1; k++) {
@@ -174,6 +186,11 @@ public class LightingChunk extends DynamicChunk {
 
     public void sendLighting() {
         if (!isLoaded()) return;
+        final LightData lightData = createLightData(false);
+        if (lightData.skyMask().isEmpty() && lightData.blockMask().isEmpty() &&
+                lightData.emptySkyMask().isEmpty() && lightData.emptyBlockMask().isEmpty()) {
+            return; // The viewers are up to date
+        }
         sendPacketToViewers(partialLightCache);
     }
 
@@ -201,7 +218,7 @@ public class LightingChunk extends DynamicChunk {
                 if (neighborChunk instanceof LightingChunk light) {
                     if (light.doneInit) {
                         light.resendTimer.set(20);
-                        light.invalidate();
+                        light.invalidateLight();
 
                         for (int section = minSection; section < maxSection; section++) {
                             light.getSection(section).blockLight().invalidate();
@@ -277,6 +294,14 @@ public class LightingChunk extends DynamicChunk {
                 }
             }
 
+            if (sentSkyLight == null) {
+                this.sentSkyLight = new byte[sections.size()][];
+                this.sentBlockLight = new byte[sections.size()][];
+            } else if (requiredFullChunk) {
+                Arrays.fill(sentSkyLight, null);
+                Arrays.fill(sentBlockLight, null);
+            }
+
             int index = 0;
             for (Section section : sections) {
                 boolean wasUpdatedBlock = false;
@@ -302,22 +327,28 @@ public class LightingChunk extends DynamicChunk {
                 if ((wasUpdatedSky) && this.instance.getCachedDimensionType().hasSkylight() && sectionMinY <= (highestNeighborBlock + 16)) {
                     final byte[] skyLight = section.skyLight().array();
 
-                    if (skyLight.length != 0 && skyLight != EMPTY_CONTENT) {
-                        skyLights.add(skyLight);
-                        skyMask.set(index);
-                    } else {
-                        emptySkyMask.set(index);
+                    // Partial updates skip the sections the viewers already have
+                    if (requiredFullChunk || markSent(sentSkyLight, index - 1, skyLight)) {
+                        if (skyLight.length != 0 && skyLight != EMPTY_CONTENT) {
+                            skyLights.add(skyLight);
+                            skyMask.set(index);
+                        } else {
+                            emptySkyMask.set(index);
+                        }
                     }
                 }
 
                 if (wasUpdatedBlock) {
                     final byte[] blockLight = section.blockLight().array();
 
-                    if (blockLight.length != 0 && blockLight != EMPTY_CONTENT) {
-                        blockLights.add(blockLight);
-                        blockMask.set(index);
-                    } else {
-                        emptyBlockMask.set(index);
+                    // Partial updates skip the sections the viewers already have
+                    if (requiredFullChunk || markSent(sentBlockLight, index - 1, blockLight)) {
+                        if (blockLight.length != 0 && blockLight != EMPTY_CONTENT) {
+                            blockLights.add(blockLight);
+                            blockMask.set(index);
+                        } else {
+                            emptyBlockMask.set(index);
+                        }
                     }
                 }
             }
@@ -339,6 +370,20 @@ public class LightingChunk extends DynamicChunk {
         }
     }
 
+    /**
+     * Records the light of a section sent with a partial update.
+     *
+     * @return true if the light differs from the previous partial update, and must be sent
+     */
+    private static boolean markSent(byte[][] sent, int index, byte[] light) {
+        final boolean empty = light.length == 0 || light == EMPTY_CONTENT;
+        final byte[] previous = sent[index];
+        sent[index] = empty ? UNSET_CONTENT : light;
+        if (previous == null) return true;
+        if (empty) return previous != UNSET_CONTENT;
+        return previous != light && !Arrays.equals(previous, light);
+    }
+
     @Override
     public void tick(long time) {
         super.tick(time);
@@ -350,12 +395,8 @@ public class LightingChunk extends DynamicChunk {
         }
     }
 
-    private static Set<Chunk> flushQueue(Instance instance, Set<Point> queue, LightType type, QueueType queueType) {
-        Set<Light> sections = ConcurrentHashMap.newKeySet();
-        Set<Point> newQueue = ConcurrentHashMap.newKeySet();
-
-        Set<Chunk> responseChunks = ConcurrentHashMap.newKeySet();
-        List<CompletableFuture<Void>> tasks = new ArrayList<>();
+    private static Set<Chunk> flushQueue(Instance instance, LongSet queue, LightType type) {
+        Set<Chunk> responseChunks = new HashSet<>();
 
         Light.LightLookup lightLookup = (x, y, z) -> {
             Chunk chunk = instance.getChunk(x, z);
@@ -377,51 +418,76 @@ public class LightingChunk extends DynamicChunk {
             return chunk.getSection(y).blockPalette();
         };
 
-        for (Point point : queue) {
-            Chunk chunk = instance.getChunk(point.blockX(), point.blockZ());
-            if (!(chunk instanceof LightingChunk lightingChunk)) continue;
-
-            Section section = chunk.getSection(point.blockY());
-            responseChunks.add(chunk);
+        QueueType queueType = QueueType.INTERNAL;
+        while (!queue.isEmpty()) {
+            List<CompletableFuture<long[]>> tasks = new ArrayList<>(queue.size());
+            LongIterator iterator = queue.iterator();
+            while (iterator.hasNext()) {
+                final long index = iterator.nextLong();
+                final int sectionY = CoordConversion.sectionIndexGetY(index);
+                Chunk chunk = instance.getChunk(CoordConversion.sectionIndexGetX(index), CoordConversion.sectionIndexGetZ(index));
+                if (!(chunk instanceof LightingChunk lightingChunk)) continue;
+
+                Section section = chunk.getSection(sectionY);
+                responseChunks.add(chunk);
+
+                Light light = switch (type) {
+                    case BLOCK -> section.blockLight();
+                    case SKY -> section.skyLight();
+                };
+
+                final Palette blockPalette = section.blockPalette();
+                final QueueType stage = queueType;
+                CompletableFuture<long[]> task = CompletableFuture.supplyAsync(() -> {
+                    try {
+                        final long[] toAdd = switch (stage) {
+                            case INTERNAL -> light.calculateInternal(blockPalette,
+                                    chunk.getChunkX(), sectionY, chunk.getChunkZ(),
+                                    lightingChunk.getOcclusionMap(), chunk.instance.getCachedDimensionType().maxY(),
+                                    lightLookup);
+                            case EXTERNAL -> light.calculateExternal(blockPalette,
+                                    Light.getNeighbors(chunk, sectionY),
+                                    lightLookup, paletteLookup);
+                        };
+                        light.flip();
+                        return toAdd;
+                    } catch (Exception e) {
+                        MinecraftServer.getExceptionManager().handleException(e);
+                        return NO_SECTIONS;
+                    }
+                }, pool);
 
-            Light light = switch (type) {
-                case BLOCK -> section.blockLight();
-                case SKY -> section.skyLight();
-            };
+                tasks.add(task);
+            }
 
-            final Palette blockPalette = section.blockPalette();
-            CompletableFuture<Void> task = CompletableFuture.runAsync(() -> {
-                try {
-                    final Set<Point> toAdd = switch (queueType) {
-                        case INTERNAL -> light.calculateInternal(blockPalette,
-                                chunk.getChunkX(), point.blockY(), chunk.getChunkZ(),
-                                lightingChunk.getOcclusionMap(), chunk.instance.getCachedDimensionType().maxY(),
-                                lightLookup);
-                        case EXTERNAL -> light.calculateExternal(blockPalette,
-                                Light.getNeighbors(chunk, point.blockY()),
-                                lightLookup, paletteLookup);
-                    };
-
-                    sections.add(light);
-
-                    light.flip();
-                    newQueue.addAll(toAdd);
-                } catch (Exception e) {
-                    MinecraftServer.getExceptionManager().handleException(e);
+            // Propagate within the locked regions, sections of other regions are left to their own relight
+            LongSet newQueue = new LongOpenHashSet();
+            for (CompletableFuture<long[]> task : tasks) {
+                for (long index : task.join()) {
+                    if (instance.lightLocks.isHeldByCurrentThread(CoordConversion.sectionIndexGetX(index), CoordConversion.sectionIndexGetZ(index))) {
+                        newQueue.add(index);
+                    } else {
+                        deferRelight(instance, index, type);
+                    }
                 }
-            }, pool);
-
-            tasks.add(task);
+            }
+            queue = newQueue;
+            queueType = QueueType.EXTERNAL;
         }
 
-        tasks.forEach(CompletableFuture::join);
+        return responseChunks;
+    }
 
-        if (!newQueue.isEmpty()) {
-            var newResponse = flushQueue(instance, newQueue, type, QueueType.EXTERNAL);
-            responseChunks.addAll(newResponse);
+    private static void deferRelight(Instance instance, long index, LightType type) {
+        final Chunk chunk = instance.getChunk(CoordConversion.sectionIndexGetX(index), CoordConversion.sectionIndexGetZ(index));
+        if (!(chunk instanceof LightingChunk lighting)) return;
+        final Section section = chunk.getSection(CoordConversion.sectionIndexGetY(index));
+        switch (type) {
+            case BLOCK -> section.blockLight().invalidate();
+            case SKY -> section.skyLight().invalidate();
         }
-
-        return responseChunks;
+        lighting.invalidateLight();
+        if (lighting.doneInit) lighting.resendTimer.set(lighting.resendDelay);
     }
 
     /**
@@ -429,62 +495,63 @@ public class LightingChunk extends DynamicChunk {
      * <p>
      * This method is used to force a relight of the specified chunks.
      * <p>
-     * This method is thread-safe and can be called from any thread.
+     * This method is thread-safe and can be called from any thread. Only the regions around the chunks are locked,
+     * relights of distant chunks run in parallel.
      *
      * @param instance the instance
      * @param chunks   the chunks to relight
      * @return the chunks which have been relighted
      */
     public static List<Chunk> relight(Instance instance, Collection<Chunk> chunks) {
-        Set<Point> sections = new HashSet<>();
+        LongSet sections = new LongOpenHashSet();
+        for (Chunk chunk : chunks) {
+            if (!(chunk instanceof LightingChunk)) continue;
+            for (int sectionIndex = chunk.minSection; sectionIndex < chunk.maxSection; sectionIndex++) {
+                sections.add(CoordConversion.sectionIndex(chunk.getChunkX(), sectionIndex, chunk.getChunkZ()));
+            }
+        }
 
-        synchronized (instance) {
+        final int[] stripes = instance.lightLocks.lock(sections);
+        try {
             for (Chunk chunk : chunks) {
                 if (!(chunk instanceof LightingChunk lighting)) continue;
                 for (int sectionIndex = chunk.minSection; sectionIndex < chunk.maxSection; sectionIndex++) {
                     Section section = chunk.getSection(sectionIndex);
                     section.blockLight().invalidate();
                     section.skyLight().invalidate();
-                    sections.add(new Vec(chunk.getChunkX(), sectionIndex, chunk.getChunkZ()));
                 }
                 lighting.invalidate();
             }
 
             // Expand the sections to include nearby sections
-            var blockSections = new HashSet<Point>();
-            for (Point point : sections) {
-                blockSections.addAll(getNearbyRequired(instance, point, LightType.BLOCK));
-            }
-
-            var skySections = new HashSet<Point>();
-            for (Point point : sections) {
-                skySections.addAll(getNearbyRequired(instance, point, LightType.SKY));
+            LongSet blockSections = new LongOpenHashSet();
+            LongSet skySections = new LongOpenHashSet();
+            LongIterator iterator = sections.iterator();
+            while (iterator.hasNext()) {
+                final long index = iterator.nextLong();
+                getNearbyRequired(instance, index, LightType.BLOCK, blockSections);
+                getNearbyRequired(instance, index, LightType.SKY, skySections);
             }
 
-            relight(instance, blockSections, LightType.BLOCK);
-            relight(instance, skySections, LightType.SKY);
-
             var chunksToRelight = new HashSet<Chunk>();
-            for (Point point : blockSections) {
-                chunksToRelight.add(instance.getChunk(point.blockX(), point.blockZ()));
-            }
-
-            for (Point point : skySections) {
-                chunksToRelight.add(instance.getChunk(point.blockX(), point.blockZ()));
-            }
-
+            chunksToRelight.addAll(flushQueue(instance, blockSections, LightType.BLOCK));
+            chunksToRelight.addAll(flushQueue(instance, skySections, LightType.SKY));
             return new ArrayList<>(chunksToRelight);
+        } finally {
+            instance.lightLocks.unlock(stripes);
         }
     }
 
-    private static Set<Point> getNearbyRequired(Instance instance, Point point, LightType type) {
-        Set<Point> collected = new HashSet<>();
-        collected.add(point);
+    private static void getNearbyRequired(Instance instance, long index, LightType type, LongSet collected) {
+        final int pointX = CoordConversion.sectionIndexGetX(index);
+        final int pointY = CoordConversion.sectionIndexGetY(index);
+        final int pointZ = CoordConversion.sectionIndexGetZ(index);
+        collected.add(index);
 
         int highestRegionPoint = instance.getCachedDimensionType().minY() - 1;
 
-        for (int x = point.blockX() - 1; x <= point.blockX() + 1; x++) {
-            for (int z = point.blockZ() - 1; z <= point.blockZ() + 1; z++) {
+        for (int x = pointX - 1; x <= pointX + 1; x++) {
+            for (int z = pointZ - 1; z <= pointZ + 1; z++) {
                 Chunk chunkCheck = instance.getChunk(x, z);
                 if (chunkCheck == null) continue;
 
@@ -496,46 +563,43 @@ public class LightingChunk extends DynamicChunk {
             }
         }
 
-        for (int x = point.blockX() - 1; x <= point.blockX() + 1; x++) {
-            for (int z = point.blockZ() - 1; z <= point.blockZ() + 1; z++) {
+        for (int x = pointX - 1; x <= pointX + 1; x++) {
+            for (int z = pointZ - 1; z <= pointZ + 1; z++) {
                 Chunk chunkCheck = instance.getChunk(x, z);
                 if (chunkCheck == null) continue;
 
-                for (int y = point.blockY() - 1; y <= point.blockY() + 1; y++) {
-                    Point sectionPosition = new Vec(x, y, z);
+                for (int y = pointY - 1; y <= pointY + 1; y++) {
                     int sectionHeight = instance.getCachedDimensionType().minY() + 16 * y;
                     if ((sectionHeight + 16) > highestRegionPoint && type == LightType.SKY) continue;
 
-                    if (sectionPosition.blockY() < chunkCheck.getMaxSection() && sectionPosition.blockY() >= chunkCheck.getMinSection()) {
-                        Section s = chunkCheck.getSection(sectionPosition.blockY());
+                    if (y < chunkCheck.getMaxSection() && y >= chunkCheck.getMinSection()) {
+                        Section s = chunkCheck.getSection(y);
                         if (type == LightType.BLOCK && !s.blockLight().requiresUpdate()) continue;
                         if (type == LightType.SKY && !s.skyLight().requiresUpdate()) continue;
 
-                        collected.add(sectionPosition);
+                        collected.add(CoordConversion.sectionIndex(x, y, z));
                     }
                 }
             }
         }
-
-        return collected;
     }
 
-    private static Set<Point> collectRequiredNearby(Instance instance, Point point, LightType type) {
-        final Set<Point> found = new HashSet<>();
-        final ArrayDeque<Point> toCheck = new ArrayDeque<>();
+    private static LongSet collectRequiredNearby(Instance instance, long index, LightType type) {
+        final LongSet found = new LongOpenHashSet();
+        final LongArrayFIFOQueue toCheck = new LongArrayFIFOQueue();
+        final LongSet nearby = new LongOpenHashSet();
 
-        toCheck.add(point);
-        found.add(point);
+        toCheck.enqueue(index);
+        found.add(index);
 
         while (!toCheck.isEmpty()) {
-            final Point current = toCheck.poll();
-            final Set<Point> nearby = getNearbyRequired(instance, current, type);
-            nearby.forEach(p -> {
-                if (!found.contains(p)) {
-                    found.add(p);
-                    toCheck.add(p);
-                }
-            });
+            nearby.clear();
+            getNearbyRequired(instance, toCheck.dequeueLong(), type, nearby);
+            LongIterator iterator = nearby.iterator();
+            while (iterator.hasNext()) {
+                final long current = iterator.nextLong();
+                if (found.add(current)) toCheck.enqueue(current);
+            }
         }
 
         return found;
@@ -552,22 +616,24 @@ public class LightingChunk extends DynamicChunk {
         if (c == null) return Set.of();
         if (!(c instanceof LightingChunk)) return Set.of();
 
-        synchronized (instance) {
-            Set<Point> collected = collectRequiredNearby(instance, new Vec(chunkX, sectionY, chunkZ), type);
-            return relight(instance, collected, type);
+        final LongSet collected = collectRequiredNearby(instance, CoordConversion.sectionIndex(chunkX, sectionY, chunkZ), type);
+        final int[] stripes = instance.lightLocks.lock(collected);
+        try {
+            return flushQueue(instance, collected, type);
+        } finally {
+            instance.lightLocks.unlock(stripes);
         }
     }
 
-    private static Set<Chunk> relight(Instance instance, Set<Point> queue, LightType type) {
-        return flushQueue(instance, queue, type, QueueType.INTERNAL);
-    }
-
     @Override
     public Chunk copy(Instance instance, int chunkX, int chunkZ) {
-        var sections = this.sections.stream().map(Section::clone).toList();
-        LightingChunk lightingChunk = new LightingChunk(instance, chunkX, chunkZ, sections);
-        lightingChunk.entries.putAll(entries);
-        return lightingChunk;
+        // Block changes hold the chunk lock, sharing must not interleave with them
+        synchronized (this) {
+            var sections = this.sections.stream().map(Section::clone).toList();
+            LightingChunk lightingChunk = new LightingChunk(instance, chunkX, chunkZ, sections);
+            shareEntries(lightingChunk);
+            return lightingChunk;
+        }
     }
 
     @Override
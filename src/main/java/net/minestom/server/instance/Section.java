@@ -2,6 +2,11 @@ package net.minestom.server.instance;
 
 import net.minestom.server.instance.light.Light;
 import net.minestom.server.instance.palette.Palette;
+import net.minestom.server.network.NetworkBuffer;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.Nullable;
+
+import static net.minestom.server.network.NetworkBuffer.SHORT;
 
 public final class Section {
     private final Palette blockPalette;
@@ -9,6 +14,10 @@ public final class Section {
     private final Light skyLight;
     private final Light blockLight;
 
+    // Encoded palettes as sent in chunk packets, null when modified since the last encoding
+    private byte @Nullable [] encoded;
+    private int encodedBiomeCount;
+
     private Section(Palette blockPalette, Palette biomePalette, Light skyLight, Light blockLight) {
         this.blockPalette = blockPalette;
         this.biomePalette = biomePalette;
@@ -35,17 +44,51 @@ public final class Section {
     public void clear() {
         this.blockPalette.fill(0);
         this.biomePalette.fill(0);
+        invalidate();
     }
 
-    @Override
-    public Section clone() {
-        final Light skyLight = Light.sky();
-        final Light blockLight = Light.block();
+    /**
+     * Discards the cached network encoding, must be called after modifying the palettes.
+     */
+    public void invalidate() {
+        this.encoded = null;
+    }
 
-        skyLight.set(this.skyLight.array());
-        blockLight.set(this.blockLight.array());
+    /**
+     * Gets the section as written in chunk packets: the non-air block count, the block and the biome palettes.
+     * <p>
+     * The result is cached until {@link #invalidate()} and must not be modified.
+     *
+     * @param biomeCount the size of the biome registry
+     * @return the encoded section
+     */
+    @ApiStatus.Internal
+    public byte[] encoded(int biomeCount) {
+        byte[] encoded = this.encoded;
+        if (encoded == null || encodedBiomeCount != biomeCount) {
+            final NetworkBuffer.Type<Palette> biomeSerializer = Palette.biomeSerializer(biomeCount);
+            encoded = NetworkBuffer.makeArray(buffer -> {
+                buffer.write(SHORT, (short) blockPalette.count());
+                buffer.write(Palette.BLOCK_SERIALIZER, blockPalette);
+                buffer.write(biomeSerializer, biomePalette);
+            });
+            this.encoded = encoded;
+            this.encodedBiomeCount = biomeCount;
+        }
+        return encoded;
+    }
 
-        return new Section(this.blockPalette.clone(), this.biomePalette.clone(), skyLight, blockLight);
+    /**
+     * Copies this section, the palettes and light content are shared until either section modifies them.
+     *
+     * @return the copied section
+     */
+    @Override
+    public Section clone() {
+        Section section = new Section(this.blockPalette.clone(), this.biomePalette.clone(), this.skyLight.copy(), this.blockLight.copy());
+        section.encoded = this.encoded;
+        section.encodedBiomeCount = this.encodedBiomeCount;
+        return section;
     }
 
     public void setSkyLight(byte[] copyArray) {
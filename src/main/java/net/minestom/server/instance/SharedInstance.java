@@ -122,6 +122,16 @@ public class SharedInstance extends Instance {
         return instanceContainer.isInVoid(point);
     }
 
+    @Override
+    public void flushBlockChanges() {
+        instanceContainer.flushBlockChanges();
+    }
+
+    @Override
+    public void flushBlockChanges(Chunk chunk) {
+        instanceContainer.flushBlockChanges(chunk);
+    }
+
     /**
      * Gets the {@link InstanceContainer} from where this instance takes its chunks from.
      *
@@ -7,6 +7,7 @@ import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
 import it.unimi.dsi.fastutil.longs.LongSet;
 import net.kyori.adventure.nbt.*;
 import net.minestom.server.MinecraftServer;
+import net.minestom.server.ServerFlag;
 import net.minestom.server.adventure.MinestomAdventure;
 import net.minestom.server.instance.Chunk;
 import net.minestom.server.instance.ChunkLoader;
@@ -32,6 +33,8 @@ import java.nio.file.Path;
 import java.nio.file.StandardCopyOption;
 import java.nio.file.StandardOpenOption;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.locks.ReentrantLock;
 
@@ -59,10 +62,21 @@ public class AnvilLoader implements ChunkLoader {
     private final Long2ObjectOpenHashMap<LongSet> perRegionLoadedChunks = new Long2ObjectOpenHashMap<>();
     private final ReentrantLock perRegionLoadedChunksLock = new ReentrantLock();
 
-    public AnvilLoader(Path path) {
+    private final AnvilWriteQueue writeQueue;
+
+    /**
+     * @param path the world folder
+     * @param sync whether to force region files to the storage device after each write batch
+     */
+    public AnvilLoader(Path path, boolean sync) {
         this.path = path;
         this.levelPath = path.resolve("level.dat");
         this.regionPath = path.resolve("region");
+        this.writeQueue = new AnvilWriteQueue(sync);
+    }
+
+    public AnvilLoader(Path path) {
+        this(path, ServerFlag.ANVIL_FSYNC);
     }
 
     public AnvilLoader(String path) {
@@ -318,14 +332,48 @@ public class AnvilLoader implements ChunkLoader {
 
     @Override
     public void saveChunk(Chunk chunk) {
+        try {
+            saveChunkAsync(chunk).join();
+        } catch (CompletionException e) {
+            MinecraftServer.getExceptionManager().handleException(e.getCause());
+        }
+    }
+
+    @Override
+    public void saveChunks(Collection<Chunk> chunks) {
+        // Chunks are serialized on the calling thread, compression and writes are shared with other saves
+        List<CompletableFuture<Void>> futures = new ArrayList<>(chunks.size());
+        for (Chunk chunk : chunks) futures.add(saveChunkAsync(chunk));
+        for (CompletableFuture<Void> future : futures) {
+            try {
+                future.join();
+            } catch (CompletionException e) {
+                MinecraftServer.getExceptionManager().handleException(e.getCause());
+            }
+        }
+    }
+
+    /**
+     * Saves a chunk in the background.
+     * <p>
+     * The chunk is serialized immediately, compression and writing are done by the write-behind queue.
+     * Saves of the same chunk are coalesced while waiting for compression, only the latest data is written.
+     *
+     * @param chunk the chunk to save
+     * @return a future completed once the chunk has been written to its region file,
+     * failures are not reported and must be handled by the caller
+     */
+    public CompletableFuture<Void> saveChunkAsync(Chunk chunk) {
         final int chunkX = chunk.getChunkX(), chunkZ = chunk.getChunkZ();
         final int regionX = chunkToRegion(chunkX), regionZ = chunkToRegion(chunkZ);
         final long chunkIndex = chunkIndex(chunkX, chunkZ);
         final long regionIndex = regionIndex(regionX, regionZ);
 
         // Find the region file or create an empty one if missing
+        // Registering the chunk under the same lock prevents the region from being closed before the write is queued
         RegionFile mcaFile;
         fileCreationLock.lock();
+        perRegionLoadedChunksLock.lock();
         try {
             mcaFile = getMCAFile(chunkX, chunkZ);
 
@@ -341,41 +389,52 @@ public class AnvilLoader implements ChunkLoader {
                     mcaFile = new RegionFile(regionFile);
                     alreadyLoaded.put(regionFileName, mcaFile);
                 } catch (IOException e) {
-                    LOGGER.error("Failed to create region file for {}, {}", chunkX, chunkZ, e);
-                    MinecraftServer.getExceptionManager().handleException(e);
-                    return;
+                    return CompletableFuture.failedFuture(e);
                 }
             }
+
+            this.perRegionLoadedChunks.computeIfAbsent(regionIndex, k -> new LongOpenHashSet())
+                    .add(chunkIndex);
         } finally {
+            perRegionLoadedChunksLock.unlock();
             fileCreationLock.unlock();
-
-            this.perRegionLoadedChunksLock.lock();
-            try {
-                this.perRegionLoadedChunks.computeIfAbsent(regionIndex, k -> new LongOpenHashSet())
-                        .add(chunkIndex);
-            } finally {
-                this.perRegionLoadedChunksLock.unlock();
-            }
         }
 
-        try {
-            final CompoundBinaryTag.Builder chunkData = CompoundBinaryTag.builder();
+        final CompoundBinaryTag.Builder chunkData = CompoundBinaryTag.builder();
 
-            chunkData.put(chunk.tagHandler().asCompound());
+        chunkData.put(chunk.tagHandler().asCompound());
 
-            chunkData.putInt("DataVersion", MinecraftServer.DATA_VERSION);
-            chunkData.putInt("xPos", chunkX);
-            chunkData.putInt("zPos", chunkZ);
-            chunkData.putInt("yPos", chunk.getMinSection());
-            chunkData.putString("status", "minecraft:full");
-            chunkData.putLong("LastUpdate", chunk.getInstance().getWorldAge());
+        chunkData.putInt("DataVersion", MinecraftServer.DATA_VERSION);
+        chunkData.putInt("xPos", chunkX);
+        chunkData.putInt("zPos", chunkZ);
+        chunkData.putInt("yPos", chunk.getMinSection());
+        chunkData.putString("status", "minecraft:full");
+        chunkData.putLong("LastUpdate", chunk.getInstance().getWorldAge());
 
-            saveSectionData(chunk, chunkData);
+        saveSectionData(chunk, chunkData);
 
-            mcaFile.writeChunkData(chunkX, chunkZ, chunkData.build());
-        } catch (IOException e) {
-            LOGGER.error("Failed to save chunk {}, {}", chunkX, chunkZ, e);
-            MinecraftServer.getExceptionManager().handleException(e);
+        return writeQueue.submit(mcaFile, chunkX, chunkZ, chunkData.build());
+    }
+
+    /**
+     * Gets the write-behind counters of this loader.
+     *
+     * @return the save statistics
+     */
+    public SaveStats saveStats() {
+        return writeQueue.stats();
+    }
+
+    /**
+     * @param queueDepth        the number of chunk saves not yet written
+     * @param saved             the number of chunk saves completed, including failures
+     * @param coalesced         the number of saves merged into an earlier pending save of the same chunk
+     * @param totalLatencyNanos the summed time between queuing and writing of completed saves
+     * @param maxLatencyNanos   the longest time between queuing and writing of a save
+     */
+    public record SaveStats(long queueDepth, long saved, long coalesced, long totalLatencyNanos, long maxLatencyNanos) {
+        public double averageLatencyNanos() {
+            return saved != 0 ? (double) totalLatencyNanos / saved : 0;
         }
     }
 
@@ -539,13 +598,11 @@ public class AnvilLoader implements ChunkLoader {
 
                 if (chunks.isEmpty()) {
                     perRegionLoadedChunks.remove(regionIndex);
-                    RegionFile regionFile = alreadyLoaded.remove(RegionFile.getFileName(regionX, regionZ));
+                    final String fileName = RegionFile.getFileName(regionX, regionZ);
+                    RegionFile regionFile = alreadyLoaded.get(fileName);
                     if (regionFile != null) {
-                        try {
-                            regionFile.close();
-                        } catch (IOException e) {
-                            MinecraftServer.getExceptionManager().handleException(e);
-                        }
+                        // Pending writes still need the file
+                        writeQueue.whenIdle(regionFile).thenRun(() -> closeRegion(regionIndex, fileName, regionFile));
                     }
                 }
             }
@@ -554,6 +611,27 @@ public class AnvilLoader implements ChunkLoader {
         }
     }
 
+    private void closeRegion(long regionIndex, String fileName, RegionFile regionFile) {
+        perRegionLoadedChunksLock.lock();
+        try {
+            // The region may have been used again since it got unloaded
+            if (perRegionLoadedChunks.containsKey(regionIndex)) return;
+            if (!writeQueue.isIdle(regionFile)) {
+                writeQueue.whenIdle(regionFile).thenRun(() -> closeRegion(regionIndex, fileName, regionFile));
+                return;
+            }
+            if (!alreadyLoaded.remove(fileName, regionFile)) return;
+            writeQueue.forget(regionFile);
+            try {
+                regionFile.close();
+            } catch (IOException e) {
+                MinecraftServer.getExceptionManager().handleException(e);
+            }
+        } finally {
+            perRegionLoadedChunksLock.unlock();
+        }
+    }
+
     @Override
     public boolean supportsParallelLoading() {
         return true;
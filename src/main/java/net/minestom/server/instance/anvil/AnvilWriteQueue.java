@@ -0,0 +1,201 @@
+package net.minestom.server.instance.anvil;
+
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
+import net.kyori.adventure.nbt.CompoundBinaryTag;
+import net.minestom.server.ServerFlag;
+import net.minestom.server.coordinate.CoordConversion;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Write-behind pipeline for region files.
+ * <p>
+ * Saves of the same chunk are coalesced until compression starts, compression runs on a bounded shared pool,
+ * and the compressed chunks of a region are written in batches by a single flusher at a time.
+ */
+final class AnvilWriteQueue {
+    private static final ExecutorService COMPRESSION_POOL = Executors.newFixedThreadPool(ServerFlag.ANVIL_COMPRESSION_THREADS,
+            Thread.ofPlatform().daemon().name("Ms-Anvil-Compression-", 0).factory());
+
+    private final boolean sync;
+    private final Map<RegionFile, Region> regions = new ConcurrentHashMap<>();
+
+    private final AtomicLong queueDepth = new AtomicLong();
+    private final LongAdder saved = new LongAdder();
+    private final LongAdder coalesced = new LongAdder();
+    private final LongAdder totalLatency = new LongAdder();
+    private final AtomicLong maxLatency = new AtomicLong();
+
+    AnvilWriteQueue(boolean sync) {
+        this.sync = sync;
+    }
+
+    /**
+     * Schedules a chunk to be written, replacing its previous data if it is still waiting for compression.
+     *
+     * @return a future completed once the data is in the region file
+     */
+    CompletableFuture<Void> submit(RegionFile file, int chunkX, int chunkZ, CompoundBinaryTag data) {
+        final Region region = regions.computeIfAbsent(file, Region::new);
+        final int index = (CoordConversion.chunkToRegionLocal(chunkZ) << 5) | CoordConversion.chunkToRegionLocal(chunkX);
+        final PendingSave save;
+        synchronized (region) {
+            final PendingSave pending = region.waiting.get(index);
+            if (pending != null) {
+                pending.data = data;
+                this.coalesced.increment();
+                return pending.future;
+            }
+            save = new PendingSave(chunkX, chunkZ, index, ++region.sequence, data);
+            region.waiting.put(index, save);
+            region.outstanding++;
+        }
+        this.queueDepth.incrementAndGet();
+        COMPRESSION_POOL.execute(() -> compress(region, save));
+        return save.future;
+    }
+
+    /**
+     * Gets a future completed once no write is pending for the region file.
+     */
+    CompletableFuture<Void> whenIdle(RegionFile file) {
+        final Region region = regions.get(file);
+        if (region == null) return CompletableFuture.completedFuture(null);
+        synchronized (region) {
+            if (region.outstanding == 0) return CompletableFuture.completedFuture(null);
+            if (region.idle == null) region.idle = new CompletableFuture<>();
+            return region.idle;
+        }
+    }
+
+    boolean isIdle(RegionFile file) {
+        final Region region = regions.get(file);
+        if (region == null) return true;
+        synchronized (region) {
+            return region.outstanding == 0;
+        }
+    }
+
+    void forget(RegionFile file) {
+        this.regions.remove(file);
+    }
+
+    AnvilLoader.SaveStats stats() {
+        return new AnvilLoader.SaveStats(queueDepth.get(), saved.sum(), coalesced.sum(),
+                totalLatency.sum(), maxLatency.get());
+    }
+
+    private void compress(Region region, PendingSave save) {
+        final CompoundBinaryTag data;
+        synchronized (region) {
+            // Later saves of the chunk create a new entry
+            region.waiting.remove(save.index, save);
+            data = save.data;
+            save.data = null;
+        }
+        try {
+            save.compressed = RegionFile.compress(data);
+        } catch (Throwable e) {
+            complete(region, List.of(save), e);
+            return;
+        }
+        region.compressed.offer(save);
+        if (region.flushing.compareAndSet(false, true)) {
+            Thread.startVirtualThread(() -> flush(region));
+        }
+    }
+
+    private void flush(Region region) {
+        do {
+            List<PendingSave> batch = new ArrayList<>();
+            PendingSave save;
+            while ((save = region.compressed.poll()) != null) batch.add(save);
+            if (!batch.isEmpty()) {
+                List<RegionFile.ChunkEntry> entries = new ArrayList<>(batch.size());
+                for (PendingSave pending : batch) {
+                    // Compression may finish out of order, never overwrite a chunk with older data
+                    final long written = region.written[pending.index];
+                    if (pending.sequence < written) continue;
+                    region.written[pending.index] = pending.sequence;
+                    entries.add(new RegionFile.ChunkEntry(pending.chunkX, pending.chunkZ, pending.compressed));
+                }
+                Throwable failure = null;
+                try {
+                    region.file.writeChunks(entries, sync);
+                } catch (Throwable e) {
+                    failure = e;
+                }
+                complete(region, batch, failure);
+            }
+            region.flushing.set(false);
+        } while (!region.compressed.isEmpty() && region.flushing.compareAndSet(false, true));
+    }
+
+    private void complete(Region region, List<PendingSave> saves, @Nullable Throwable failure) {
+        final long now = System.nanoTime();
+        for (PendingSave save : saves) {
+            final long latency = now - save.submitTime;
+            this.totalLatency.add(latency);
+            this.maxLatency.accumulateAndGet(latency, Math::max);
+            this.saved.increment();
+            this.queueDepth.decrementAndGet();
+        }
+        CompletableFuture<Void> idle = null;
+        synchronized (region) {
+            region.outstanding -= saves.size();
+            if (region.outstanding == 0) {
+                idle = region.idle;
+                region.idle = null;
+            }
+        }
+        for (PendingSave save : saves) {
+            if (failure != null) save.future.completeExceptionally(failure);
+            else save.future.complete(null);
+        }
+        if (idle != null) idle.complete(null);
+    }
+
+    private static final class Region {
+        final RegionFile file;
+        // Guarded by the region monitor
+        final Int2ObjectOpenHashMap<PendingSave> waiting = new Int2ObjectOpenHashMap<>();
+        long sequence;
+        int outstanding;
+        @Nullable CompletableFuture<Void> idle;
+
+        final Queue<PendingSave> compressed = new ConcurrentLinkedQueue<>();
+        final AtomicBoolean flushing = new AtomicBoolean();
+        // Confined to the flusher
+        final long[] written = new long[32 * 32];
+
+        Region(RegionFile file) {
+            this.file = file;
+        }
+    }
+
+    private static final class PendingSave {
+        final int chunkX, chunkZ, index;
+        final long sequence;
+        final long submitTime = System.nanoTime();
+        final CompletableFuture<Void> future = new CompletableFuture<>();
+        // Guarded by the region monitor
+        @Nullable CompoundBinaryTag data;
+        byte @Nullable [] compressed;
+
+        PendingSave(int chunkX, int chunkZ, int index, long sequence, CompoundBinaryTag data) {
+            this.chunkX = chunkX;
+            this.chunkZ = chunkZ;
+            this.index = index;
+            this.sequence = sequence;
+            this.data = data;
+        }
+    }
+}
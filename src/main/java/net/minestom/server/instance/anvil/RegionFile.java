@@ -8,16 +8,26 @@ import org.jetbrains.annotations.Nullable;
 
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
 import java.io.IOException;
-import java.io.RandomAccessFile;
 import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.util.BitSet;
+import java.util.Collection;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.locks.ReentrantLock;
 
 /**
  * Implements a thread-safe reader and writer for Minecraft region files.
+ * <p>
+ * Reads only lock to look up the chunk location, the data is read with positional reads then decompressed and parsed
+ * concurrently. Writes relocate the chunk, a read racing with a write of the same chunk is retried.
+ * <p>
+ * Compression is done by the caller before writing, {@link #writeChunks(Collection, boolean)} writes a batch of chunks
+ * with a single header update.
  *
  * @see <a href="https://minecraft.wiki/w/Region_file_format">Region file format</a>
  * @see <a href="https://github.com/Minestom/Hephaistos/blob/master/common/src/main/kotlin/org/jglrxavpok/hephaistos/mca/RegionFile.kt">Hephaistos implementation</a>
@@ -40,10 +50,12 @@ final class RegionFile implements AutoCloseable {
     }
 
     private final ReentrantLock lock = new ReentrantLock();
-    private final RandomAccessFile file;
+    private final FileChannel file;
 
     private final int[] locations = new int[MAX_ENTRY_COUNT];
     private final int[] timestamps = new int[MAX_ENTRY_COUNT];
+    // Incremented on each write of a chunk, used to detect reads racing with a relocation
+    private final int[] versions = new int[MAX_ENTRY_COUNT];
     private final BitSet freeSectors = new BitSet(2);
 
     // Cache header data to avoid repeated file I/O
@@ -51,7 +63,7 @@ final class RegionFile implements AutoCloseable {
     private boolean headerDirty = false;
 
     public RegionFile(Path path) throws IOException {
-        this.file = new RandomAccessFile(path.toFile(), "rw");
+        this.file = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE, StandardOpenOption.CREATE);
         readHeader();
     }
 
@@ -65,75 +77,124 @@ final class RegionFile implements AutoCloseable {
     }
 
     public @Nullable CompoundBinaryTag readChunkData(int chunkX, int chunkZ) throws IOException {
-        lock.lock();
-        try {
-            if (!hasChunkData(chunkX, chunkZ)) return null;
-
-            int location = locations[getChunkIndex(chunkX, chunkZ)];
-            file.seek((long) (location >> 8) * SECTOR_SIZE); // Move to start of first sector
-            int length = file.readInt();
-            int compressionType = file.readByte();
-            BinaryTagIO.Compression compression = switch (compressionType) {
-                case 1 -> BinaryTagIO.Compression.GZIP;
-                case COMPRESSION_ZLIB -> BinaryTagIO.Compression.ZLIB;
-                case 3 -> BinaryTagIO.Compression.NONE;
-                default -> throw new IOException("Unsupported compression type: " + compressionType);
-            };
-
-            // Read the raw content
-            byte[] data = new byte[length - 1];
-            file.read(data);
-
-            // Parse it as a compound tag
-            return TAG_READER.read(new ByteArrayInputStream(data), compression);
-        } finally {
-            lock.unlock();
+        final int chunkIndex = getChunkIndex(chunkX, chunkZ);
+        ByteBuffer sectors;
+        while (true) {
+            final int location, version;
+            lock.lock();
+            try {
+                location = locations[chunkIndex];
+                version = versions[chunkIndex];
+            } finally {
+                lock.unlock();
+            }
+            if (location == 0) return null;
+
+            // Read all the sectors of the chunk at once, without holding the lock
+            sectors = ByteBuffer.allocate((location & 0xFF) * SECTOR_SIZE);
+            readFully(sectors, (long) (location >> 8) * SECTOR_SIZE);
+
+            // The sectors may have been freed and reused if the chunk got written in the meantime
+            lock.lock();
+            try {
+                if (versions[chunkIndex] == version) break;
+            } finally {
+                lock.unlock();
+            }
         }
+
+        sectors.flip();
+        final int length = sectors.getInt();
+        final int compressionType = sectors.get();
+        BinaryTagIO.Compression compression = switch (compressionType) {
+            case 1 -> BinaryTagIO.Compression.GZIP;
+            case COMPRESSION_ZLIB -> BinaryTagIO.Compression.ZLIB;
+            case 3 -> BinaryTagIO.Compression.NONE;
+            default -> throw new IOException("Unsupported compression type: " + compressionType);
+        };
+        if (length - 1 > sectors.remaining()) throw new IOException("Chunk data exceeds its allocated sectors");
+
+        // Parse it as a compound tag
+        return TAG_READER.read(new ByteArrayInputStream(sectors.array(), sectors.position(), length - 1), compression);
     }
 
     public void writeChunkData(int chunkX, int chunkZ, CompoundBinaryTag data) throws IOException {
-        // Write the data (compressed)
-        ByteArrayOutputStream out = new ByteArrayOutputStream();
-        TAG_WRITER.writeNamed(Map.entry("", data), out, BinaryTagIO.Compression.ZLIB);
-        byte[] dataBytes = out.toByteArray();
-        int chunkLength = CHUNK_HEADER_LENGTH + dataBytes.length;
-
-        int sectorCount = (int) Math.ceil(chunkLength / (double) SECTOR_SIZE);
-        Check.stateCondition(sectorCount >= SECTOR_1MB, "Chunk data is too large to fit in a region file");
+        writeChunks(List.of(new ChunkEntry(chunkX, chunkZ, compress(data))), false);
+    }
 
+    /**
+     * Writes multiple chunks while holding the lock once, the header is written a single time at the end.
+     *
+     * @param entries the compressed chunks, see {@link #compress(CompoundBinaryTag)}
+     * @param sync    whether to force the data to the storage device before returning
+     */
+    public void writeChunks(Collection<ChunkEntry> entries, boolean sync) throws IOException {
+        if (entries.isEmpty()) return;
         lock.lock();
         try {
-            // We don't attempt to reuse the current allocation, just write it to a new position and free the old one.
-            int chunkIndex = getChunkIndex(chunkX, chunkZ);
-            int oldLocation = locations[chunkIndex];
-
-            // Find a new location
-            int firstSector = findFreeSectors(sectorCount);
-            if (firstSector == -1) {
-                firstSector = allocSectors(sectorCount);
+            final int timestamp = (int) (System.currentTimeMillis() / 1000);
+            for (ChunkEntry entry : entries) {
+                final byte[] dataBytes = entry.data();
+                final int chunkLength = CHUNK_HEADER_LENGTH + dataBytes.length;
+                final int sectorCount = (chunkLength + SECTOR_SIZE - 1) / SECTOR_SIZE;
+                Check.stateCondition(sectorCount >= SECTOR_1MB, "Chunk data is too large to fit in a region file");
+
+                // We don't attempt to reuse the current allocation, just write it to a new position and free the old one.
+                final int chunkIndex = getChunkIndex(entry.chunkX(), entry.chunkZ());
+                final int oldLocation = locations[chunkIndex];
+
+                // Find a new location
+                int firstSector = findFreeSectors(sectorCount);
+                if (firstSector == -1) {
+                    firstSector = allocSectors(sectorCount);
+                }
+                final int newLocation = (firstSector << 8) | sectorCount;
+
+                // Mark the sectors as used & free the old sectors
+                markLocation(oldLocation, true);
+                markLocation(newLocation, false);
+
+                // Write the chunk data, padded to fill its sectors
+                ByteBuffer chunkBuffer = ByteBuffer.allocate(sectorCount * SECTOR_SIZE);
+                chunkBuffer.putInt(chunkLength);
+                chunkBuffer.put((byte) COMPRESSION_ZLIB);
+                chunkBuffer.put(dataBytes);
+                writeFully(chunkBuffer.clear(), (long) firstSector * SECTOR_SIZE);
+
+                locations[chunkIndex] = newLocation;
+                versions[chunkIndex]++;
+                // store timestamps in seconds since epoch
+                timestamps[chunkIndex] = timestamp;
             }
-            int newLocation = (firstSector << 8) | sectorCount;
-
-            // Mark the sectors as used & free the old sectors
-            markLocation(oldLocation, true);
-            markLocation(newLocation, false);
-
-            // Write the chunk data
-            file.seek((long) firstSector * SECTOR_SIZE);
-            file.writeInt(chunkLength);
-            file.writeByte(COMPRESSION_ZLIB);
-            file.write(dataBytes);
-
-            // Update the header and write it
-            locations[chunkIndex] = newLocation;
-            // store timestamps in seconds since epoch
-            timestamps[chunkIndex] = (int) (System.currentTimeMillis() / 1000);
             writeHeader();
+            if (sync) file.force(false);
         } finally {
             lock.unlock();
         }
     }
 
+    /**
+     * Serializes and compresses chunk data, can be called concurrently without holding any lock.
+     *
+     * @param data the chunk data
+     * @return the compressed chunk data
+     */
+    public static byte[] compress(CompoundBinaryTag data) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        TAG_WRITER.writeNamed(Map.entry("", data), out, BinaryTagIO.Compression.ZLIB);
+        return out.toByteArray();
+    }
+
+    /**
+     * A chunk ready to be written.
+     *
+     * @param chunkX the chunk X
+     * @param chunkZ the chunk Z
+     * @param data   the ZLIB compressed chunk data
+     */
+    public record ChunkEntry(int chunkX, int chunkZ, byte[] data) {
+    }
+
     @Override
     public void close() throws IOException {
         file.close();
@@ -144,23 +205,19 @@ final class RegionFile implements AutoCloseable {
     }
 
     private void readHeader() throws IOException {
-        file.seek(0);
-        if (file.length() < HEADER_LENGTH) {
+        if (file.size() < HEADER_LENGTH) {
             // new file, fill in data
-            file.write(new byte[HEADER_LENGTH]);
+            writeFully(ByteBuffer.allocate(HEADER_LENGTH), 0);
         }
 
-        final long totalSectors = ((file.length() - 1) / SECTOR_SIZE) + 1; // Round up, last sector does not need to be full size
+        final long totalSectors = ((file.size() - 1) / SECTOR_SIZE) + 1; // Round up, last sector does not need to be full size
         freeSectors.set(0, (int) totalSectors); // Set all sectors as free initially
         freeSectors.clear(0); // First sector is locations
         freeSectors.clear(1); // Second sector is timestamps
 
         // Read entire header in one operation
-        file.seek(0);
-        byte[] headerData = new byte[HEADER_LENGTH];
-        file.readFully(headerData);
         headerBuffer.clear();
-        headerBuffer.put(headerData);
+        readFully(headerBuffer, 0);
         headerBuffer.flip();
 
         // Parse locations from buffer
@@ -195,11 +252,28 @@ final class RegionFile implements AutoCloseable {
         }
 
         // Write entire header in one operation
-        file.seek(0);
-        file.write(headerBuffer.array());
+        writeFully(headerBuffer.flip(), 0);
         headerDirty = false;
     }
 
+    private void readFully(ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            final int read = file.read(buffer, position);
+            if (read == -1) {
+                // The last sector of the file does not need to be full size
+                if (position > HEADER_LENGTH) break;
+                throw new EOFException("Unexpected end of region file");
+            }
+            position += read;
+        }
+    }
+
+    private void writeFully(ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            position += file.write(buffer, position);
+        }
+    }
+
     private int findFreeSectors(int length) {
         int start = freeSectors.nextSetBit(0);
         while (start != -1 && start + length <= freeSectors.size()) {
@@ -214,15 +288,10 @@ final class RegionFile implements AutoCloseable {
     }
 
     private int allocSectors(int count) throws IOException {
-        var eof = file.length();
-        file.seek(eof);
-
-        byte[] emptySector = new byte[SECTOR_SIZE];
-        int startSector = (int) (eof / SECTOR_SIZE);
-        for (int i = 0; i < count; i++) {
-            freeSectors.set(startSector + i, true);
-            file.write(emptySector);
-        }
+        // Round up, the last sector of the file may be partial and in use
+        // The sectors are not zeroed, the caller writes them entirely
+        int startSector = (int) ((file.size() + SECTOR_SIZE - 1) / SECTOR_SIZE);
+        freeSectors.set(startSector, startSector + count, true);
         return startSector;
     }
 
@@ -1,15 +1,12 @@
 package net.minestom.server.instance.light;
 
 import it.unimi.dsi.fastutil.shorts.ShortArrayFIFOQueue;
-import net.minestom.server.coordinate.BlockVec;
+import net.minestom.server.coordinate.CoordConversion;
 import net.minestom.server.coordinate.Point;
 import net.minestom.server.instance.block.Block;
-import net.minestom.server.instance.block.BlockFace;
 import net.minestom.server.instance.palette.Palette;
 import org.jetbrains.annotations.ApiStatus;
 
-import java.util.HashSet;
-import java.util.Set;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 import static net.minestom.server.coordinate.CoordConversion.SECTION_BLOCK_COUNT;
@@ -20,6 +17,9 @@ final class BlockLight implements Light {
     private byte[] contentPropagation;
     private byte[] contentPropagationSwap;
 
+    // Last result of #array(), sent again until the light changes
+    private volatile LightCompute.Baked baked;
+
     private volatile boolean isValidBorders = true;
     private final AtomicBoolean needsSend = new AtomicBoolean(false);
 
@@ -81,18 +81,35 @@ final class BlockLight implements Light {
         this.needsSend.set(true);
     }
 
+    @Override
+    @ApiStatus.Internal
+    public Light copy() {
+        BlockLight copy = new BlockLight();
+        copy.content = this.content;
+        copy.contentPropagation = this.contentPropagation;
+        copy.isValidBorders = this.isValidBorders;
+        copy.needsSend.set(true);
+        return copy;
+    }
+
     @Override
     public boolean requiresSend() {
         return needsSend.getAndSet(false);
     }
 
+    @Override
+    public boolean hasContent() {
+        return content != null;
+    }
+
     @Override
     public byte[] array() {
+        final byte[] content = this.content, contentPropagation = this.contentPropagation;
         if (content == null) return UNSET_CONTENT;
         if (contentPropagation == null) return content;
-        var res = LightCompute.bake(contentPropagation, content);
-        if (res == EMPTY_CONTENT) return UNSET_CONTENT;
-        return res;
+        final LightCompute.Baked baked = LightCompute.bakeCached(this.baked, content, contentPropagation);
+        this.baked = baked;
+        return baked.result();
     }
 
     @Override
@@ -104,14 +121,18 @@ final class BlockLight implements Light {
     }
 
     @Override
-    public Set<Point> calculateInternal(Palette blockPalette,
-                                        int chunkX, int chunkY, int chunkZ,
-                                        int[] heightmap, int maxY,
-                                        LightLookup lightLookup) {
+    public long[] calculateInternal(Palette blockPalette,
+                                    int chunkX, int chunkY, int chunkZ,
+                                    int[] heightmap, int maxY,
+                                    LightLookup lightLookup) {
         this.isValidBorders = true;
         // Update single section with base lighting changes
         ShortArrayFIFOQueue queue = buildInternalQueue(blockPalette);
+        final byte[] previous = this.content;
         this.content = LightCompute.compute(blockPalette, queue);
+        final long[] self = {CoordConversion.sectionIndex(chunkX, chunkY, chunkZ)};
+        // Same sources, the light propagated to the neighbors is still valid
+        if (LightCompute.sameContent(previous, content)) return self;
         // Propagate changes to neighbors and self
         for (int i = -1; i <= 1; i++) {
             for (int j = -1; j <= 1; j++) {
@@ -125,28 +146,19 @@ final class BlockLight implements Light {
                 }
             }
         }
-        return Set.of(new BlockVec(chunkX, chunkY, chunkZ));
+        return self;
     }
 
     @Override
-    public Set<Point> calculateExternal(Palette blockPalette,
-                                        Point[] neighbors,
-                                        LightLookup lightLookup,
-                                        PaletteLookup paletteLookup) {
-        if (!isValidBorders) return Set.of();
+    public long[] calculateExternal(Palette blockPalette,
+                                    Point[] neighbors,
+                                    LightLookup lightLookup,
+                                    PaletteLookup paletteLookup) {
+        if (!isValidBorders) return NO_SECTIONS;
         ShortArrayFIFOQueue queue = buildExternalQueue(blockPalette, neighbors, content, lightLookup, paletteLookup);
         final byte[] contentPropagationTemp = LightCompute.compute(blockPalette, queue);
         this.contentPropagationSwap = LightCompute.bake(contentPropagationSwap, contentPropagationTemp);
         // Propagate changes to neighbors and self
-        Set<Point> toUpdate = new HashSet<>();
-        for (int i = 0; i < neighbors.length; i++) {
-            final Point neighbor = neighbors[i];
-            if (neighbor == null) continue;
-            final BlockFace face = FACES[i];
-            if (!LightCompute.compareBorders(content, contentPropagation, contentPropagationTemp, face)) {
-                toUpdate.add(neighbor);
-            }
-        }
-        return toUpdate;
+        return LightCompute.changedBorders(content, contentPropagation, contentPropagationTemp, neighbors);
     }
 }
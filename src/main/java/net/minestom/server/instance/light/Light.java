@@ -1,6 +1,7 @@
 package net.minestom.server.instance.light;
 
 import net.minestom.server.coordinate.BlockVec;
+import net.minestom.server.coordinate.CoordConversion;
 import net.minestom.server.coordinate.Point;
 import net.minestom.server.instance.Chunk;
 import net.minestom.server.instance.palette.Palette;
@@ -8,8 +9,6 @@ import net.minestom.server.utils.Direction;
 import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.Nullable;
 
-import java.util.Set;
-
 public interface Light {
     static Light sky() {
         return new SkyLight();
@@ -24,6 +23,14 @@ public interface Light {
     @ApiStatus.Internal
     byte[] array();
 
+    /**
+     * Gets if the light has been computed or set, unlike {@link #array()} this does not merge the propagated light.
+     *
+     * @return true if {@link #array()} is not empty
+     */
+    @ApiStatus.Internal
+    boolean hasContent();
+
     void flip();
 
     int getLevel(int x, int y, int z);
@@ -34,17 +41,35 @@ public interface Light {
 
     void set(byte[] copyArray);
 
+    /**
+     * Creates a light sharing the content of this one, light arrays are replaced but never modified in place.
+     *
+     * @return the copy
+     */
     @ApiStatus.Internal
-    Set<Point> calculateInternal(Palette blockPalette,
-                                 int chunkX, int chunkY, int chunkZ,
-                                 int[] heightmap, int maxY,
-                                 LightLookup lightLookup);
+    Light copy();
 
+    /**
+     * Computes the light emitted inside the section.
+     *
+     * @return the indexes of the sections to propagate again, see {@link CoordConversion#sectionIndex(int, int, int)}
+     */
+    @ApiStatus.Internal
+    long[] calculateInternal(Palette blockPalette,
+                             int chunkX, int chunkY, int chunkZ,
+                             int[] heightmap, int maxY,
+                             LightLookup lightLookup);
+
+    /**
+     * Computes the light propagated from the neighbor sections.
+     *
+     * @return the indexes of the neighbor sections whose border light changed
+     */
     @ApiStatus.Internal
-    Set<Point> calculateExternal(Palette blockPalette,
-                                 Point[] neighbors,
-                                 LightLookup lightLookup,
-                                 PaletteLookup paletteLookup);
+    long[] calculateExternal(Palette blockPalette,
+                             Point[] neighbors,
+                             LightLookup lightLookup,
+                             PaletteLookup paletteLookup);
 
     @ApiStatus.Internal
     static Point[] getNeighbors(Chunk chunk, int sectionY) {
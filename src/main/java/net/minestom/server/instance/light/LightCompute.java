@@ -2,11 +2,13 @@ package net.minestom.server.instance.light;
 
 import it.unimi.dsi.fastutil.shorts.ShortArrayFIFOQueue;
 import net.minestom.server.collision.Shape;
+import net.minestom.server.coordinate.CoordConversion;
 import net.minestom.server.coordinate.Point;
 import net.minestom.server.instance.block.Block;
 import net.minestom.server.instance.block.BlockFace;
 import net.minestom.server.instance.palette.Palette;
 import net.minestom.server.utils.Direction;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.Arrays;
 import java.util.Objects;
@@ -19,6 +21,8 @@ public final class LightCompute {
     static final int LIGHT_LENGTH = SECTION_BLOCK_COUNT / 2;
     static final int SECTION_SIZE = 16;
 
+    static final long[] NO_SECTIONS = new long[0];
+
     public static final byte[] UNSET_CONTENT = new byte[0];
     public static final byte[] EMPTY_CONTENT = new byte[LIGHT_LENGTH];
     public static final byte[] CONTENT_FULLY_LIT = new byte[LIGHT_LENGTH];
@@ -231,6 +235,44 @@ public final class LightCompute {
         return lightMax;
     }
 
+    /**
+     * Collects the neighbors whose shared border has not been lit enough by the previous propagation.
+     *
+     * @return the section indexes of the neighbors to propagate again
+     */
+    static long[] changedBorders(byte[] content, byte[] contentPropagation, byte[] contentPropagationTemp, Point[] neighbors) {
+        long[] changed = new long[neighbors.length];
+        int count = 0;
+        for (int i = 0; i < neighbors.length; i++) {
+            final Point neighbor = neighbors[i];
+            if (neighbor == null) continue;
+            if (!compareBorders(content, contentPropagation, contentPropagationTemp, FACES[i])) {
+                changed[count++] = CoordConversion.sectionIndex(neighbor.blockX(), neighbor.blockY(), neighbor.blockZ());
+            }
+        }
+        return count == changed.length ? changed : Arrays.copyOf(changed, count);
+    }
+
+    // Whether a recomputed content still emits the same light
+    static boolean sameContent(byte[] previous, byte[] content) {
+        return previous != null && (previous == content || Arrays.equals(previous, content));
+    }
+
+    /**
+     * Merges the light of a section for sending, reusing the previous result while its arrays are unchanged.
+     * Light arrays are replaced but never modified in place, comparing their identity is enough.
+     */
+    static Baked bakeCached(@Nullable Baked previous, byte[] content, byte[] contentPropagation) {
+        if (previous != null && previous.content == content && previous.contentPropagation == contentPropagation)
+            return previous;
+        byte[] result = bake(contentPropagation, content);
+        if (result == EMPTY_CONTENT) result = UNSET_CONTENT;
+        return new Baked(content, contentPropagation, result);
+    }
+
+    record Baked(byte[] content, byte[] contentPropagation, byte[] result) {
+    }
+
     public static boolean compareBorders(byte[] content, byte[] contentPropagation, byte[] contentPropagationTemp, BlockFace face) {
         if (content == null && contentPropagation == null && contentPropagationTemp == null) return true;
 
@@ -1,14 +1,12 @@
 package net.minestom.server.instance.light;
 
+import it.unimi.dsi.fastutil.longs.LongArrayList;
 import it.unimi.dsi.fastutil.shorts.ShortArrayFIFOQueue;
-import net.minestom.server.coordinate.BlockVec;
+import net.minestom.server.coordinate.CoordConversion;
 import net.minestom.server.coordinate.Point;
-import net.minestom.server.instance.block.BlockFace;
 import net.minestom.server.instance.palette.Palette;
 import org.jetbrains.annotations.ApiStatus;
 
-import java.util.HashSet;
-import java.util.Set;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 import static net.minestom.server.coordinate.CoordConversion.SECTION_BLOCK_COUNT;
@@ -19,6 +17,9 @@ final class SkyLight implements Light {
     private byte[] contentPropagation;
     private byte[] contentPropagationSwap;
 
+    // Last result of #array(), sent again until the light changes
+    private volatile LightCompute.Baked baked;
+
     private volatile boolean isValidBorders = true;
     private final AtomicBoolean needsSend = new AtomicBoolean(false);
 
@@ -68,18 +69,36 @@ final class SkyLight implements Light {
         this.needsSend.set(true);
     }
 
+    @Override
+    @ApiStatus.Internal
+    public Light copy() {
+        SkyLight copy = new SkyLight();
+        copy.content = this.content;
+        copy.contentPropagation = this.contentPropagation;
+        copy.isValidBorders = this.isValidBorders;
+        copy.fullyLit = this.fullyLit;
+        copy.needsSend.set(true);
+        return copy;
+    }
+
     @Override
     public boolean requiresSend() {
         return needsSend.getAndSet(false);
     }
 
+    @Override
+    public boolean hasContent() {
+        return content != null;
+    }
+
     @Override
     public byte[] array() {
+        final byte[] content = this.content, contentPropagation = this.contentPropagation;
         if (content == null) return UNSET_CONTENT;
         if (contentPropagation == null) return content;
-        var res = LightCompute.bake(contentPropagation, content);
-        if (res == EMPTY_CONTENT) return UNSET_CONTENT;
-        return res;
+        final LightCompute.Baked baked = LightCompute.bakeCached(this.baked, content, contentPropagation);
+        this.baked = baked;
+        return baked.result();
     }
 
     @Override
@@ -91,10 +110,10 @@ final class SkyLight implements Light {
     }
 
     @Override
-    public Set<Point> calculateInternal(Palette blockPalette,
-                                        int chunkX, int chunkY, int chunkZ,
-                                        int[] heightmap, int maxY,
-                                        LightLookup lightLookup) {
+    public long[] calculateInternal(Palette blockPalette,
+                                    int chunkX, int chunkY, int chunkZ,
+                                    int[] heightmap, int maxY,
+                                    LightLookup lightLookup) {
         this.isValidBorders = true;
 
         // Update single section with base lighting changes
@@ -105,6 +124,7 @@ final class SkyLight implements Light {
             queueSize = queue.size();
         }
 
+        final byte[] previous = this.content;
         if (queueSize == SECTION_BLOCK_COUNT) {
             this.fullyLit = true;
             this.content = CONTENT_FULLY_LIT;
@@ -112,8 +132,12 @@ final class SkyLight implements Light {
             this.content = LightCompute.compute(blockPalette, queue);
         }
 
+        final long self = CoordConversion.sectionIndex(chunkX, chunkY, chunkZ);
+        // Same sources, the light propagated to the neighbors is still valid
+        if (LightCompute.sameContent(previous, content)) return new long[]{self};
+
         // Propagate changes to neighbors and self
-        Set<Point> toUpdate = new HashSet<>();
+        LongArrayList toUpdate = new LongArrayList(27);
         for (int i = -1; i <= 1; i++) {
             for (int j = -1; j <= 1; j++) {
                 for (int k = -1; k <= 1; k++) {
@@ -123,20 +147,21 @@ final class SkyLight implements Light {
                     if (!(lightLookup.light(neighborX, neighborY, neighborZ) instanceof SkyLight skyLight))
                         continue;
                     skyLight.contentPropagation = null;
-                    toUpdate.add(new BlockVec(neighborX, neighborY, neighborZ));
+                    final long index = CoordConversion.sectionIndex(neighborX, neighborY, neighborZ);
+                    if (index != self) toUpdate.add(index);
                 }
             }
         }
-        toUpdate.add(new BlockVec(chunkX, chunkY, chunkZ));
-        return toUpdate;
+        toUpdate.add(self);
+        return toUpdate.toLongArray();
     }
 
     @Override
-    public Set<Point> calculateExternal(Palette blockPalette,
-                                        Point[] neighbors,
-                                        LightLookup lightLookup,
-                                        PaletteLookup paletteLookup) {
-        if (!isValidBorders) return Set.of();
+    public long[] calculateExternal(Palette blockPalette,
+                                    Point[] neighbors,
+                                    LightLookup lightLookup,
+                                    PaletteLookup paletteLookup) {
+        if (!isValidBorders) return NO_SECTIONS;
         byte[] contentPropagationTemp = CONTENT_FULLY_LIT;
         if (!fullyLit) {
             ShortArrayFIFOQueue queue = buildExternalQueue(blockPalette, neighbors, content, lightLookup, paletteLookup);
@@ -146,15 +171,6 @@ final class SkyLight implements Light {
             this.contentPropagationSwap = null;
         }
         // Propagate changes to neighbors and self
-        Set<Point> toUpdate = new HashSet<>();
-        for (int i = 0; i < neighbors.length; i++) {
-            final Point neighbor = neighbors[i];
-            if (neighbor == null) continue;
-            final BlockFace face = FACES[i];
-            if (!LightCompute.compareBorders(content, contentPropagation, contentPropagationTemp, face)) {
-                toUpdate.add(neighbor);
-            }
-        }
-        return toUpdate;
+        return LightCompute.changedBorders(content, contentPropagation, contentPropagationTemp, neighbors);
     }
 }
@@ -0,0 +1,32 @@
+package net.minestom.server.instance.mapped;
+
+import java.lang.foreign.ValueLayout;
+import java.nio.ByteOrder;
+
+/**
+ * Layout of the mapped chunk file, all values are little-endian and unaligned.
+ * <pre>
+ * header   magic, version, data version, min section, section count, chunk count (6 ints)
+ * index    chunk count * (chunk x int, chunk z int, offset long, length int)
+ * chunks   sections, heightmaps, block entities, chunk tags
+ * </pre>
+ * A section is its block palette, biome palette, sky light and block light.
+ * A palette is its bits per entry (byte), count (int), palette length and values (ints) unless direct or single,
+ * then its packed values length and values (longs) unless single.
+ * A light is its length (int, 0 or 2048) followed by the nibbles.
+ */
+final class MappedChunkFormat {
+    static final int MAGIC = 0x4D534D43; // MSMC
+    static final int VERSION = 1;
+
+    static final int HEADER_LENGTH = 6 * Integer.BYTES;
+    static final int INDEX_ENTRY_LENGTH = 2 * Integer.BYTES + Long.BYTES + Integer.BYTES;
+    static final int LIGHT_LENGTH = 2048;
+
+    static final ValueLayout.OfByte BYTE = ValueLayout.JAVA_BYTE;
+    static final ValueLayout.OfInt INT = ValueLayout.JAVA_INT_UNALIGNED.withOrder(ByteOrder.LITTLE_ENDIAN);
+    static final ValueLayout.OfLong LONG = ValueLayout.JAVA_LONG_UNALIGNED.withOrder(ByteOrder.LITTLE_ENDIAN);
+
+    private MappedChunkFormat() {
+    }
+}
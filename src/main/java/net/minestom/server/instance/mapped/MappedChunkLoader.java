@@ -0,0 +1,233 @@
+package net.minestom.server.instance.mapped;
+
+import it.unimi.dsi.fastutil.longs.Long2LongOpenHashMap;
+import net.kyori.adventure.nbt.BinaryTagIO;
+import net.kyori.adventure.nbt.CompoundBinaryTag;
+import net.minestom.server.MinecraftServer;
+import net.minestom.server.coordinate.CoordConversion;
+import net.minestom.server.instance.Chunk;
+import net.minestom.server.instance.ChunkLoader;
+import net.minestom.server.instance.Instance;
+import net.minestom.server.instance.Section;
+import net.minestom.server.instance.block.Block;
+import net.minestom.server.instance.light.Light;
+import net.minestom.server.instance.palette.Palette;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import static net.minestom.server.instance.mapped.MappedChunkFormat.*;
+
+/**
+ * Read-only chunk loader backed by a memory-mapped file written by {@link MappedChunkWriter}.
+ * <p>
+ * Palettes, light and heightmaps are copied from the mapping straight into the chunk sections,
+ * only block entity and chunk tags go through NBT. Intended for template worlds loaded many times,
+ * saves are ignored.
+ * <p>
+ * The mapping is released once the loader is garbage collected.
+ */
+public final class MappedChunkLoader implements ChunkLoader {
+    private static final BinaryTagIO.Reader TAG_READER = BinaryTagIO.unlimitedReader();
+    private static final ThreadLocal<byte[]> LIGHT_BUFFER = ThreadLocal.withInitial(() -> new byte[LIGHT_LENGTH]);
+
+    private final MemorySegment segment;
+    private final int minSection, sectionCount;
+    // Chunk index -> record offset
+    private final Long2LongOpenHashMap offsets;
+
+    /**
+     * @param path the file written by {@link MappedChunkWriter}
+     * @throws IOException if the file cannot be mapped or has been written for another data version
+     */
+    public MappedChunkLoader(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            this.segment = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size(), Arena.ofAuto());
+        }
+        if (segment.byteSize() < HEADER_LENGTH || segment.get(INT, 0) != MAGIC)
+            throw new IOException("Not a mapped chunk file: " + path);
+        final int version = segment.get(INT, 4);
+        if (version != VERSION) throw new IOException("Unsupported mapped chunk file version " + version);
+        final int dataVersion = segment.get(INT, 8);
+        if (dataVersion != MinecraftServer.DATA_VERSION)
+            throw new IOException("Mapped chunk file written for data version " + dataVersion + ", it must be converted again");
+        this.minSection = segment.get(INT, 12);
+        this.sectionCount = segment.get(INT, 16);
+        final int chunkCount = segment.get(INT, 20);
+
+        this.offsets = new Long2LongOpenHashMap(chunkCount);
+        this.offsets.defaultReturnValue(-1);
+        for (int i = 0; i < chunkCount; i++) {
+            final long entry = HEADER_LENGTH + (long) i * INDEX_ENTRY_LENGTH;
+            final int chunkX = segment.get(INT, entry);
+            final int chunkZ = segment.get(INT, entry + 4);
+            this.offsets.put(CoordConversion.chunkIndex(chunkX, chunkZ), segment.get(LONG, entry + 8));
+        }
+    }
+
+    /**
+     * Gets the number of chunks in the file.
+     *
+     * @return the chunk count
+     */
+    public int chunkCount() {
+        return offsets.size();
+    }
+
+    @Override
+    public @Nullable Chunk loadChunk(Instance instance, int chunkX, int chunkZ) {
+        final long offset = offsets.get(CoordConversion.chunkIndex(chunkX, chunkZ));
+        if (offset == -1) return null;
+        final Chunk chunk = instance.getChunkSupplier().createChunk(instance, chunkX, chunkZ);
+        if (chunk.getMinSection() != minSection || chunk.getMaxSection() - chunk.getMinSection() != sectionCount) {
+            throw new IllegalStateException("Mapped chunks have " + sectionCount + " sections from " + minSection +
+                    ", the instance dimension does not match");
+        }
+        try {
+            synchronized (chunk) {
+                load(chunk, new Reader(segment, offset));
+            }
+        } catch (IOException e) {
+            MinecraftServer.getExceptionManager().handleException(e);
+            return null;
+        }
+        return chunk;
+    }
+
+    /**
+     * Loads a record written by {@link MappedChunkWriter#writeRecord(Chunk)} into a chunk with the same section range.
+     * <p>
+     * The chunk must be locked.
+     *
+     * @param chunk  the chunk to fill
+     * @param record the record
+     * @throws IOException if the record contains unknown blocks or invalid tags
+     */
+    @ApiStatus.Internal
+    public static void readRecord(Chunk chunk, byte[] record) throws IOException {
+        load(chunk, new Reader(MemorySegment.ofArray(record), 0));
+    }
+
+    private static void load(Chunk chunk, Reader reader) throws IOException {
+        for (Section section : chunk.getSections()) {
+            readPalette(reader, section.blockPalette());
+            readPalette(reader, section.biomePalette());
+            readLight(reader, section.skyLight());
+            readLight(reader, section.blockLight());
+        }
+        chunk.motionBlockingHeightmap().loadFrom(reader.longs(reader.getInt()));
+        chunk.worldSurfaceHeightmap().loadFrom(reader.longs(reader.getInt()));
+
+        // Block entities
+        final int blockEntityCount = reader.getInt();
+        for (int i = 0; i < blockEntityCount; i++) {
+            final int index = reader.getInt();
+            Block block = Block.fromStateId(reader.getInt());
+            if (block == null) throw new IOException("Unknown block state in mapped chunk");
+            final byte[] handlerKey = reader.bytes();
+            if (handlerKey != null) {
+                block = block.withHandler(MinecraftServer.getBlockManager()
+                        .getHandlerOrDummy(new String(handlerKey, StandardCharsets.UTF_8)));
+            }
+            final CompoundBinaryTag nbt = nbt(reader.bytes());
+            if (nbt != null) block = block.withNbt(nbt);
+            chunk.setBlock(CoordConversion.chunkBlockIndexGetGlobal(index, chunk.getChunkX(), chunk.getChunkZ()), block);
+        }
+
+        final CompoundBinaryTag tags = nbt(reader.bytes());
+        if (tags != null) chunk.tagHandler().updateContent(tags);
+    }
+
+    private static void readPalette(Reader reader, Palette palette) {
+        final int bitsPerEntry = reader.getByte();
+        final int count = reader.getInt();
+        if (bitsPerEntry == 0) {
+            palette.fill(count);
+            return;
+        }
+        final int paletteLength = reader.getInt();
+        final int[] paletteValues = paletteLength != -1 ? reader.ints(paletteLength) : null;
+        final long[] values = reader.longs(reader.getInt());
+        palette.loadRaw(bitsPerEntry, count, paletteValues, values);
+    }
+
+    private static void readLight(Reader reader, Light light) {
+        final int length = reader.getInt();
+        if (length == 0) return;
+        // Light#set copies the content
+        final byte[] buffer = LIGHT_BUFFER.get();
+        reader.bytes(buffer);
+        light.set(buffer);
+    }
+
+    private static @Nullable CompoundBinaryTag nbt(byte @Nullable [] bytes) throws IOException {
+        if (bytes == null) return null;
+        return TAG_READER.read(new ByteArrayInputStream(bytes), BinaryTagIO.Compression.NONE);
+    }
+
+    @Override
+    public void saveChunk(Chunk chunk) {
+        // Read-only
+    }
+
+    @Override
+    public boolean supportsParallelLoading() {
+        return true;
+    }
+
+    // Cursor over a chunk record
+    private static final class Reader {
+        private final MemorySegment segment;
+        private long position;
+
+        Reader(MemorySegment segment, long position) {
+            this.segment = segment;
+            this.position = position;
+        }
+
+        byte getByte() {
+            return segment.get(BYTE, position++);
+        }
+
+        int getInt() {
+            final int value = segment.get(INT, position);
+            this.position += Integer.BYTES;
+            return value;
+        }
+
+        int[] ints(int length) {
+            int[] result = new int[length];
+            MemorySegment.copy(segment, INT, position, result, 0, length);
+            this.position += (long) length * Integer.BYTES;
+            return result;
+        }
+
+        long[] longs(int length) {
+            long[] result = new long[length];
+            MemorySegment.copy(segment, LONG, position, result, 0, length);
+            this.position += (long) length * Long.BYTES;
+            return result;
+        }
+
+        void bytes(byte[] target) {
+            MemorySegment.copy(segment, BYTE, position, target, 0, target.length);
+            this.position += target.length;
+        }
+
+        byte @Nullable [] bytes() {
+            final int length = getInt();
+            if (length == -1) return null;
+            byte[] result = new byte[length];
+            bytes(result);
+            return result;
+        }
+    }
+}
@@ -0,0 +1,310 @@
+package net.minestom.server.instance.mapped;
+
+import net.kyori.adventure.nbt.BinaryTagIO;
+import net.kyori.adventure.nbt.CompoundBinaryTag;
+import net.minestom.server.MinecraftServer;
+import net.minestom.server.coordinate.CoordConversion;
+import net.minestom.server.instance.Chunk;
+import net.minestom.server.instance.InstanceContainer;
+import net.minestom.server.instance.Section;
+import net.minestom.server.instance.anvil.AnvilLoader;
+import net.minestom.server.instance.block.Block;
+import net.minestom.server.instance.block.BlockHandler;
+import net.minestom.server.instance.light.Light;
+import net.minestom.server.instance.palette.Palette;
+import net.minestom.server.registry.RegistryKey;
+import net.minestom.server.utils.validate.Check;
+import net.minestom.server.world.DimensionType;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static net.minestom.server.instance.mapped.MappedChunkFormat.*;
+
+/**
+ * Writes chunks in the format read by {@link MappedChunkLoader}.
+ * <p>
+ * Palettes are stored exactly as held in memory, the file must therefore be used with the same data version
+ * and registries (biomes, block handlers) as the server that wrote it.
+ */
+public final class MappedChunkWriter {
+    private static final BinaryTagIO.Writer TAG_WRITER = BinaryTagIO.writer();
+    private static final Pattern REGION_FILE_NAME = Pattern.compile("r\\.(-?\\d+)\\.(-?\\d+)\\.mca");
+    private static final int REGION_CHUNK_COUNT = 32 * 32;
+
+    private MappedChunkWriter() {
+    }
+
+    /**
+     * Writes chunks to a file, replacing it if it exists.
+     * <p>
+     * All the chunks must have the same section range.
+     *
+     * @param output the file to write
+     * @param chunks the chunks to write
+     * @throws IOException if the file cannot be written
+     */
+    public static void write(Path output, Collection<? extends Chunk> chunks) throws IOException {
+        int minSection = 0, sectionCount = 0;
+        List<Chunk> written = new ArrayList<>(chunks.size());
+        List<byte[]> records = new ArrayList<>(chunks.size());
+        for (Chunk chunk : chunks) {
+            if (records.isEmpty()) {
+                minSection = chunk.getMinSection();
+                sectionCount = chunk.getMaxSection() - minSection;
+            }
+            Check.argCondition(chunk.getMinSection() != minSection || chunk.getMaxSection() - minSection != sectionCount,
+                    "Chunk {0}, {1} does not have the same section range as the other chunks", chunk.getChunkX(), chunk.getChunkZ());
+            synchronized (chunk) {
+                records.add(writeChunk(chunk));
+            }
+            written.add(chunk);
+        }
+
+        ByteBuffer header = ByteBuffer.allocate(HEADER_LENGTH + records.size() * INDEX_ENTRY_LENGTH)
+                .order(ByteOrder.LITTLE_ENDIAN);
+        header.putInt(MAGIC);
+        header.putInt(VERSION);
+        header.putInt(MinecraftServer.DATA_VERSION);
+        header.putInt(minSection);
+        header.putInt(sectionCount);
+        header.putInt(records.size());
+        long offset = header.capacity();
+        for (int i = 0; i < records.size(); i++) {
+            final Chunk chunk = written.get(i);
+            final int length = records.get(i).length;
+            header.putInt(chunk.getChunkX());
+            header.putInt(chunk.getChunkZ());
+            header.putLong(offset);
+            header.putInt(length);
+            offset += length;
+        }
+
+        try (FileChannel channel = FileChannel.open(output, StandardOpenOption.WRITE,
+                StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            writeFully(channel, header.flip());
+            for (byte[] record : records) writeFully(channel, ByteBuffer.wrap(record));
+        }
+    }
+
+    /**
+     * Converts every chunk of an Anvil world using the overworld dimension.
+     *
+     * @see #convertAnvil(Path, RegistryKey, Path)
+     */
+    public static void convertAnvil(Path anvilWorld, Path output) throws IOException {
+        convertAnvil(anvilWorld, DimensionType.OVERWORLD, output);
+    }
+
+    /**
+     * Converts every chunk of an Anvil world.
+     *
+     * @param anvilWorld the world folder, containing the {@code region} folder
+     * @param dimension  the dimension of the world, defines its section range
+     * @param output     the file to write
+     * @throws IOException if the world cannot be read or the file cannot be written
+     */
+    public static void convertAnvil(Path anvilWorld, RegistryKey<DimensionType> dimension, Path output) throws IOException {
+        final AnvilLoader loader = new AnvilLoader(anvilWorld);
+        // Not given the loader, it would write level.dat_old into the source world
+        final InstanceContainer instance = new InstanceContainer(UUID.randomUUID(), dimension);
+        List<Chunk> chunks = new ArrayList<>();
+        final Path regionFolder = anvilWorld.resolve("region");
+        if (Files.isDirectory(regionFolder)) {
+            try (DirectoryStream<Path> regions = Files.newDirectoryStream(regionFolder, "r.*.mca")) {
+                for (Path region : regions) {
+                    final Matcher matcher = REGION_FILE_NAME.matcher(region.getFileName().toString());
+                    if (!matcher.matches()) continue;
+                    final int regionX = Integer.parseInt(matcher.group(1));
+                    final int regionZ = Integer.parseInt(matcher.group(2));
+                    final int[] locations = readLocations(region);
+                    for (int i = 0; i < REGION_CHUNK_COUNT; i++) {
+                        if (locations[i] == 0) continue;
+                        final int chunkX = (regionX << 5) | (i & 31);
+                        final int chunkZ = (regionZ << 5) | (i >> 5);
+                        final Chunk chunk = loader.loadChunk(instance, chunkX, chunkZ);
+                        if (chunk != null) chunks.add(chunk);
+                    }
+                }
+            }
+        }
+        write(output, chunks);
+        for (Chunk chunk : chunks) loader.unloadChunk(chunk);
+    }
+
+    /**
+     * Serializes a single chunk record, read back with {@link MappedChunkLoader#readRecord(Chunk, byte[])}.
+     * <p>
+     * The chunk must be locked.
+     *
+     * @param chunk the chunk to serialize
+     * @return the record
+     * @throws IOException if the tags of the chunk cannot be written
+     */
+    @ApiStatus.Internal
+    public static byte[] writeRecord(Chunk chunk) throws IOException {
+        return writeChunk(chunk);
+    }
+
+    private static int[] readLocations(Path region) throws IOException {
+        int[] locations = new int[REGION_CHUNK_COUNT];
+        try (FileChannel channel = FileChannel.open(region, StandardOpenOption.READ)) {
+            if (channel.size() < REGION_CHUNK_COUNT * Integer.BYTES) return locations;
+            ByteBuffer buffer = ByteBuffer.allocate(REGION_CHUNK_COUNT * Integer.BYTES); // Big-endian
+            while (buffer.hasRemaining()) {
+                if (channel.read(buffer, buffer.position()) == -1) break;
+            }
+            buffer.flip().asIntBuffer().get(locations);
+        }
+        return locations;
+    }
+
+    private static byte[] writeChunk(Chunk chunk) throws IOException {
+        Output output = new Output();
+        for (Section section : chunk.getSections()) {
+            writePalette(output, section.blockPalette());
+            writePalette(output, section.biomePalette());
+            writeLight(output, section.skyLight());
+            writeLight(output, section.blockLight());
+        }
+        writeLongs(output, chunk.motionBlockingHeightmap().getNBT());
+        writeLongs(output, chunk.worldSurfaceHeightmap().getNBT());
+
+        // Block entities
+        final int minY = chunk.getMinSection() * Chunk.CHUNK_SECTION_SIZE;
+        final int maxY = chunk.getMaxSection() * Chunk.CHUNK_SECTION_SIZE;
+        List<Block> blocks = new ArrayList<>();
+        List<Integer> indexes = new ArrayList<>();
+        for (int y = minY; y < maxY; y++) {
+            for (int z = 0; z < Chunk.CHUNK_SIZE_Z; z++) {
+                for (int x = 0; x < Chunk.CHUNK_SIZE_X; x++) {
+                    final Block block = chunk.getBlock(x, y, z, Block.Getter.Condition.CACHED);
+                    if (block == null || (block.handler() == null && block.nbt() == null)) continue;
+                    blocks.add(block);
+                    indexes.add(CoordConversion.chunkBlockIndex(x, y, z));
+                }
+            }
+        }
+        output.putInt(blocks.size());
+        for (int i = 0; i < blocks.size(); i++) {
+            final Block block = blocks.get(i);
+            output.putInt(indexes.get(i));
+            output.putInt(block.stateId());
+            final BlockHandler handler = block.handler();
+            writeBytes(output, handler != null ? handler.getKey().asString().getBytes(StandardCharsets.UTF_8) : null);
+            writeBytes(output, nbt(block.nbt()));
+        }
+
+        writeBytes(output, nbt(chunk.tagHandler().asCompound()));
+        return output.toByteArray();
+    }
+
+    private static void writePalette(Output output, Palette palette) {
+        final int bitsPerEntry = palette.bitsPerEntry();
+        output.putByte((byte) bitsPerEntry);
+        if (bitsPerEntry == 0) {
+            output.putInt(palette.singleValue());
+            return;
+        }
+        output.putInt(palette.count());
+        final int[] paletteValues = palette.paletteValues();
+        if (paletteValues != null) {
+            output.putInt(paletteValues.length);
+            for (int value : paletteValues) output.putInt(value);
+        } else {
+            output.putInt(-1);
+        }
+        final long[] values = palette.indexedValues();
+        assert values != null;
+        writeLongs(output, values);
+    }
+
+    private static void writeLight(Output output, Light light) {
+        final byte[] array = light.array();
+        if (array.length != LIGHT_LENGTH) {
+            output.putInt(0);
+            return;
+        }
+        output.putInt(LIGHT_LENGTH);
+        output.put(array);
+    }
+
+    private static void writeLongs(Output output, long[] values) {
+        output.putInt(values.length);
+        for (long value : values) output.putLong(value);
+    }
+
+    private static void writeBytes(Output output, byte @Nullable [] bytes) {
+        if (bytes == null) {
+            output.putInt(-1);
+            return;
+        }
+        output.putInt(bytes.length);
+        output.put(bytes);
+    }
+
+    private static byte @Nullable [] nbt(@Nullable CompoundBinaryTag tag) throws IOException {
+        if (tag == null || tag.isEmpty()) return null;
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        TAG_WRITER.writeNamed(Map.entry("", tag), out, BinaryTagIO.Compression.NONE);
+        return out.toByteArray();
+    }
+
+    private static void writeFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) channel.write(buffer);
+    }
+
+    // Growable little-endian buffer
+    private static final class Output {
+        private ByteBuffer buffer = ByteBuffer.allocate(64 * 1024).order(ByteOrder.LITTLE_ENDIAN);
+
+        void putByte(byte value) {
+            ensure(Byte.BYTES).put(value);
+        }
+
+        void putInt(int value) {
+            ensure(Integer.BYTES).putInt(value);
+        }
+
+        void putLong(long value) {
+            ensure(Long.BYTES).putLong(value);
+        }
+
+        void put(byte[] bytes) {
+            ensure(bytes.length).put(bytes);
+        }
+
+        byte[] toByteArray() {
+            byte[] result = new byte[buffer.position()];
+            buffer.get(0, result);
+            return result;
+        }
+
+        private ByteBuffer ensure(int length) {
+            if (buffer.remaining() < length) {
+                final int capacity = Math.max(buffer.capacity() * 2, buffer.position() + length);
+                ByteBuffer grown = ByteBuffer.allocate(capacity).order(ByteOrder.LITTLE_ENDIAN);
+                grown.put(buffer.flip());
+                this.buffer = grown;
+            }
+            return buffer;
+        }
+    }
+}
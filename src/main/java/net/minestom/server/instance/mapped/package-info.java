@@ -0,0 +1,4 @@
+@NotNullByDefault
+package net.minestom.server.instance.mapped;
+
+import org.jetbrains.annotations.NotNullByDefault;
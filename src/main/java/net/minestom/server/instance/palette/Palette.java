@@ -199,6 +199,25 @@ public sealed interface Palette permits PaletteImpl {
     @ApiStatus.Internal
     long @Nullable [] indexedValues();
 
+    /**
+     * Gets the palette index to value mapping if it has one, otherwise returns null (i.e. single value or direct palette).
+     */
+    @ApiStatus.Internal
+    int @Nullable [] paletteValues();
+
+    /**
+     * Replaces the content with a state previously captured from {@link #bitsPerEntry()}, {@link #paletteValues()}
+     * and {@link #indexedValues()}, the arrays are used without copy.
+     *
+     * @param bitsPerEntry the bits per entry, 0 for a single value palette
+     * @param count        the single value if {@code bitsPerEntry} is 0, otherwise the number of non-zero entries
+     * @param palette      the palette index to value mapping, null for direct palettes
+     * @param values       the packed entries, null for single value palettes
+     * @throws IllegalArgumentException if the state does not fit this palette
+     */
+    @ApiStatus.Internal
+    void loadRaw(int bitsPerEntry, int count, int @Nullable [] palette, long @Nullable [] values);
+
     @FunctionalInterface
     interface EntrySupplier {
         int get(int x, int y, int z);
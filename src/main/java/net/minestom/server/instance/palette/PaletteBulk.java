@@ -0,0 +1,120 @@
+package net.minestom.server.instance.palette;
+
+import net.minestom.server.MinecraftServer;
+import net.minestom.server.ServerFlag;
+
+import static net.minestom.server.coordinate.CoordConversion.SECTION_BLOCK_COUNT;
+
+/**
+ * Bulk conversions between packed palette storage and flat arrays.
+ * <p>
+ * Uses the Vector API when the {@code jdk.incubator.vector} module is available
+ * (e.g. {@code --add-modules jdk.incubator.vector}), and scalar code otherwise.
+ */
+final class PaletteBulk {
+    static final Operations SCALAR = new Scalar();
+    static final Operations OPERATIONS = select();
+
+    // Set to null while borrowed, so that nested operations allocate their own
+    private static final ThreadLocal<int[]> BUFFER = ThreadLocal.withInitial(() -> new int[SECTION_BLOCK_COUNT]);
+
+    private PaletteBulk() {
+    }
+
+    /**
+     * Unpacks the first {@code size} entries of packed values, entries never span two longs.
+     */
+    static void unpack(long[] values, int bitsPerEntry, int size, int[] out) {
+        OPERATIONS.unpack(values, bitsPerEntry, size, out);
+    }
+
+    /**
+     * Packs the first {@code size} entries into {@code out}, overwriting it. Entries are masked to {@code bitsPerEntry}.
+     */
+    static void pack(int[] in, int bitsPerEntry, int size, long[] out) {
+        OPERATIONS.pack(in, bitsPerEntry, size, out);
+    }
+
+    /**
+     * Counts the occurrences of an entry in the first {@code size} packed entries.
+     */
+    static int count(long[] values, int bitsPerEntry, int size, int value) {
+        return OPERATIONS.count(values, bitsPerEntry, size, value);
+    }
+
+    static int[] borrowBuffer(int size) {
+        final int[] buffer = BUFFER.get();
+        if (buffer == null || buffer.length < size) return new int[size];
+        BUFFER.set(null);
+        return buffer;
+    }
+
+    static void releaseBuffer(int[] buffer) {
+        if (buffer.length == SECTION_BLOCK_COUNT) BUFFER.set(buffer);
+    }
+
+    private static Operations select() {
+        if (!ServerFlag.PALETTE_VECTORIZATION) return SCALAR;
+        if (ModuleLayer.boot().findModule("jdk.incubator.vector").isEmpty()) return SCALAR;
+        try {
+            return PaletteVectors.isSupported() ? new PaletteVectors() : SCALAR;
+        } catch (LinkageError e) {
+            MinecraftServer.LOGGER.warn("Failed to load the Vector API palette operations, using the scalar ones", e);
+            return SCALAR;
+        }
+    }
+
+    interface Operations {
+        void unpack(long[] values, int bitsPerEntry, int size, int[] out);
+
+        void pack(int[] in, int bitsPerEntry, int size, long[] out);
+
+        int count(long[] values, int bitsPerEntry, int size, int value);
+    }
+
+    static final class Scalar implements Operations {
+        @Override
+        public void unpack(long[] values, int bitsPerEntry, int size, int[] out) {
+            final int valuesPerLong = 64 / bitsPerEntry;
+            final long mask = (1L << bitsPerEntry) - 1L;
+            for (int i = 0, index = 0; index < size; i++) {
+                long block = values[i];
+                final int end = Math.min(index + valuesPerLong, size);
+                for (; index < end; index++) {
+                    out[index] = (int) (block & mask);
+                    block >>>= bitsPerEntry;
+                }
+            }
+        }
+
+        @Override
+        public void pack(int[] in, int bitsPerEntry, int size, long[] out) {
+            final int valuesPerLong = 64 / bitsPerEntry;
+            final long mask = (1L << bitsPerEntry) - 1L;
+            for (int i = 0, index = 0; index < size; i++) {
+                long block = 0;
+                final int end = Math.min(index + valuesPerLong, size);
+                for (int bitIndex = 0; index < end; index++, bitIndex += bitsPerEntry) {
+                    block |= (in[index] & mask) << bitIndex;
+                }
+                out[i] = block;
+            }
+        }
+
+        @Override
+        public int count(long[] values, int bitsPerEntry, int size, int value) {
+            final int valuesPerLong = 64 / bitsPerEntry;
+            final long mask = (1L << bitsPerEntry) - 1L;
+            int result = 0;
+            for (int i = 0, index = 0; index < size; i++) {
+                long block = values[i];
+                final int end = Math.min(index + valuesPerLong, size);
+                for (; index < end; index++) {
+                    if ((block & mask) == value) result++;
+                    block >>>= bitsPerEntry;
+                }
+            }
+            return result;
+        }
+    }
+}
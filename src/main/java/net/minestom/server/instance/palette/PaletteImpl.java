@@ -27,6 +27,8 @@ final class PaletteImpl implements Palette {
     @UnknownNullability IntArrayList paletteToValueList; // null when using direct mode (bitsPerEntry > maxBitsPerEntry)
     // value = palette index
     @UnknownNullability Int2IntOpenHashMap valueToPaletteMap; // null when using direct mode (bitsPerEntry > maxBitsPerEntry)
+    // Copy-on-write, the three structures above may be shared with clones and must be copied before being modified
+    boolean shared;
 
     PaletteImpl(byte dimension, byte minBitsPerEntry, byte maxBitsPerEntry, byte directBits) {
         validateDimension(dimension);
@@ -105,6 +107,7 @@ final class PaletteImpl implements Palette {
     @Override
     public void set(int x, int y, int z, int value) {
         validateCoord(dimension, x, y, z);
+        unshare();
         final int paletteIndex = valueToPaletteIndex(value);
         final int oldValue = Palettes.write(dimension(), bitsPerEntry, values, x, y, z, paletteIndex);
         // Check if block count needs to be updated
@@ -119,10 +122,12 @@ final class PaletteImpl implements Palette {
         this.values = null;
         this.paletteToValueList = null;
         this.valueToPaletteMap = null;
+        this.shared = false;
     }
 
     @Override
     public void load(int[] palette, long[] values) {
+        this.shared = false;
         int bpe = palette.length <= 1 ? 0 : MathUtils.bitsToRepresent(palette.length - 1);
         bpe = Math.max(minBitsPerEntry, bpe);
         boolean useDirectMode = bpe > maxBitsPerEntry;
@@ -137,29 +142,21 @@ final class PaletteImpl implements Palette {
 
             final int originalBpe = palette.length <= 1 ? 0 : MathUtils.bitsToRepresent(palette.length - 1);
             final int actualOriginalBpe = Math.max(minBitsPerEntry, originalBpe);
-            final int originalMask = (1 << actualOriginalBpe) - 1;
-            final int originalValuesPerLong = 64 / actualOriginalBpe;
-
+            final int size = maxSize();
+            final int[] buffer = PaletteBulk.borrowBuffer(size);
             int nonZeroCount = 0;
-            final int dimension = this.dimension;
-            for (int y = 0; y < dimension; y++) {
-                for (int z = 0; z < dimension; z++) {
-                    for (int x = 0; x < dimension; x++) {
-                        final int index = sectionIndex(dimension, x, y, z);
-
-                        // Read palette index from original values
-                        final int longIndex = index / originalValuesPerLong;
-                        final int bitIndex = (index % originalValuesPerLong) * actualOriginalBpe;
-                        final int paletteIndex = (int) (values[longIndex] >> bitIndex) & originalMask;
-
-                        // Convert to direct value
-                        final int directValue = paletteIndex < palette.length ? palette[paletteIndex] : 0;
-                        if (directValue != 0) nonZeroCount++;
-
-                        // Write direct value to new values array using coordinates
-                        write(dimension, directBits, this.values, x, y, z, directValue);
-                    }
+            try {
+                // Read palette indices from original values, then convert them to direct values
+                PaletteBulk.unpack(values, actualOriginalBpe, size, buffer);
+                for (int i = 0; i < size; i++) {
+                    final int paletteIndex = buffer[i];
+                    final int directValue = paletteIndex < palette.length ? palette[paletteIndex] : 0;
+                    if (directValue != 0) nonZeroCount++;
+                    buffer[i] = directValue;
                 }
+                PaletteBulk.pack(buffer, directBits, size, this.values);
+            } finally {
+                PaletteBulk.releaseBuffer(buffer);
             }
             this.count = nonZeroCount;
         } else {
@@ -197,6 +194,7 @@ final class PaletteImpl implements Palette {
                 final boolean countUpdate = newValue == 0 || oldValue == 0;
                 final int count = countUpdate ? count(oldValue) : -1;
                 if (count == 0) return; // No blocks to replace
+                unshare();
                 paletteToValueList.set(index, newValue);
                 valueToPaletteMap.remove(oldValue);
                 valueToPaletteMap.put(newValue, index);
@@ -242,6 +240,7 @@ final class PaletteImpl implements Palette {
         // Update palette content
         if (fillValue < 0) {
             makeDirect();
+            unshare();
             updateAll(cache);
             this.count = count;
         } else {
@@ -272,6 +271,7 @@ final class PaletteImpl implements Palette {
         assert arrayIndex.getPlain() == maxSize();
         // Update palette content
         makeDirect();
+        unshare();
         updateAll(cache);
         this.count = count.getPlain();
     }
@@ -300,6 +300,7 @@ final class PaletteImpl implements Palette {
         if (maxX <= 0 || maxY <= 0 || maxZ <= 0) {
             return;
         }
+        unshare();
 
         // Fast path: if source is single-value palette
         if (sourcePalette.bitsPerEntry == 0) {
@@ -408,28 +409,13 @@ final class PaletteImpl implements Palette {
             return;
         }
 
-        // Copy
+        // Share the content until either palette is modified
         this.bitsPerEntry = sourcePalette.bitsPerEntry;
         this.count = sourcePalette.count;
-
-        if (sourcePalette.values != null) {
-            this.values = sourcePalette.values.clone();
-        } else {
-            this.values = null;
-        }
-
-        if (sourcePalette.paletteToValueList != null) {
-            this.paletteToValueList = new IntArrayList(sourcePalette.paletteToValueList);
-        } else {
-            this.paletteToValueList = null;
-        }
-
-        if (sourcePalette.valueToPaletteMap != null) {
-            this.valueToPaletteMap = new Int2IntOpenHashMap(sourcePalette.valueToPaletteMap);
-            this.valueToPaletteMap.defaultReturnValue(-1);
-        } else {
-            this.valueToPaletteMap = null;
-        }
+        this.values = sourcePalette.values;
+        this.paletteToValueList = sourcePalette.paletteToValueList;
+        this.valueToPaletteMap = sourcePalette.valueToPaletteMap;
+        this.shared = sourcePalette.shared = true;
     }
 
     @Override
@@ -458,20 +444,7 @@ final class PaletteImpl implements Palette {
     /// Assumes {@link PaletteImpl#bitsPerEntry} != 0
     int countPaletteIndex(int paletteIndex) {
         if (paletteIndex < 0) return 0;
-        int result = 0;
-        final int size = maxSize();
-        final int bits = bitsPerEntry;
-        final int valuesPerLong = 64 / bits;
-        final int mask = (1 << bits) - 1;
-        for (int i = 0, idx = 0; i < values.length; i++) {
-            long block = values[i];
-            int end = Math.min(valuesPerLong, size - idx);
-            for (int j = 0; j < end; j++, idx++) {
-                if (((int) (block & mask)) == paletteIndex) result++;
-                block >>>= bits;
-            }
-        }
-        return result;
+        return PaletteBulk.count(values, bitsPerEntry, maxSize(), paletteIndex);
     }
 
     @Override
@@ -562,31 +535,28 @@ final class PaletteImpl implements Palette {
         clone.bitsPerEntry = this.bitsPerEntry;
         clone.count = this.count;
         if (bitsPerEntry == 0) return clone;
-        clone.values = values.clone();
-        if (paletteToValueList != null) clone.paletteToValueList = paletteToValueList.clone();
-        if (valueToPaletteMap != null) clone.valueToPaletteMap = valueToPaletteMap.clone();
+        // Copied lazily by the first modification of either palette
+        clone.values = values;
+        clone.paletteToValueList = paletteToValueList;
+        clone.valueToPaletteMap = valueToPaletteMap;
+        this.shared = clone.shared = true;
         return clone;
     }
 
     private void retrieveAll(EntryConsumer consumer, boolean consumeEmpty) {
         if (!consumeEmpty && count == 0) return;
-        final long[] values = this.values;
         final int dimension = this.dimension();
-        final int bitsPerEntry = this.bitsPerEntry;
-        final int magicMask = (1 << bitsPerEntry) - 1;
-        final int valuesPerLong = 64 / bitsPerEntry;
         final int size = maxSize();
         final int dimensionMinus = dimension - 1;
         final int[] ids = hasPalette() ? paletteToValueList.elements() : null;
         final int dimensionBitCount = MathUtils.bitsToRepresent(dimensionMinus);
         final int shiftedDimensionBitCount = dimensionBitCount << 1;
-        for (int i = 0; i < values.length; i++) {
-            final long value = values[i];
-            final int startIndex = i * valuesPerLong;
-            final int endIndex = Math.min(startIndex + valuesPerLong, size);
-            for (int index = startIndex; index < endIndex; index++) {
-                final int bitIndex = (index - startIndex) * bitsPerEntry;
-                final int paletteIndex = (int) (value >> bitIndex & magicMask);
+        // The consumer may read other palettes, the buffer is not shared with them
+        final int[] paletteIndexes = PaletteBulk.borrowBuffer(size);
+        try {
+            PaletteBulk.unpack(values, bitsPerEntry, size, paletteIndexes);
+            for (int index = 0; index < size; index++) {
+                final int paletteIndex = paletteIndexes[index];
                 if (consumeEmpty || paletteIndex != 0) {
                     final int y = index >> shiftedDimensionBitCount;
                     final int z = index >> dimensionBitCount & dimensionMinus;
@@ -595,26 +565,15 @@ final class PaletteImpl implements Palette {
                     consumer.accept(x, y, z, result);
                 }
             }
+        } finally {
+            PaletteBulk.releaseBuffer(paletteIndexes);
         }
     }
 
     private void updateAll(int[] paletteValues) {
         final int size = maxSize();
         assert paletteValues.length >= size;
-        final int bitsPerEntry = this.bitsPerEntry;
-        final int valuesPerLong = 64 / bitsPerEntry;
-        final long clear = (1L << bitsPerEntry) - 1L;
-        final long[] values = this.values;
-        for (int i = 0; i < values.length; i++) {
-            long block = values[i];
-            final int startIndex = i * valuesPerLong;
-            final int endIndex = Math.min(startIndex + valuesPerLong, size);
-            for (int index = startIndex; index < endIndex; index++) {
-                final int bitIndex = (index - startIndex) * bitsPerEntry;
-                block = block & ~(clear << bitIndex) | ((long) paletteValues[index] << bitIndex);
-            }
-            values[i] = block;
-        }
+        PaletteBulk.pack(paletteValues, bitsPerEntry, size, values);
     }
 
     /// Assumes {@link PaletteImpl#bitsPerEntry} != 0
@@ -645,6 +604,7 @@ final class PaletteImpl implements Palette {
         this.bitsPerEntry = newBpe;
         this.valueToPaletteMap = newValueToPaletteMap;
         this.paletteToValueList = palette;
+        this.shared = false;
     }
 
     void makeDirect() {
@@ -663,6 +623,7 @@ final class PaletteImpl implements Palette {
         this.paletteToValueList = null;
         this.valueToPaletteMap = null;
         this.bitsPerEntry = directBits;
+        this.shared = false;
     }
 
     /// Assumes {@link PaletteImpl#bitsPerEntry} != 0
@@ -688,6 +649,7 @@ final class PaletteImpl implements Palette {
         this.bitsPerEntry = minBitsPerEntry;
         this.values = new long[arrayLength(dimension, minBitsPerEntry)];
         this.count = fillValue == 0 ? 0 : maxSize();
+        this.shared = false;
     }
 
     @Override
@@ -699,6 +661,7 @@ final class PaletteImpl implements Palette {
     public int valueToPaletteIndex(int value) {
         if (!hasPalette()) return value;
         if (values == null) initIndirect();
+        unshare();
 
         final int lastPaletteIndex = this.paletteToValueList.size();
         final int lookup = valueToPaletteMap.putIfAbsent(value, lastPaletteIndex);
@@ -727,6 +690,52 @@ final class PaletteImpl implements Palette {
         return values;
     }
 
+    @Override
+    public int @Nullable [] paletteValues() {
+        return bitsPerEntry != 0 && hasPalette() ? paletteToValueList.toIntArray() : null;
+    }
+
+    @Override
+    public void loadRaw(int bitsPerEntry, int count, int @Nullable [] palette, long @Nullable [] values) {
+        if (bitsPerEntry == 0) {
+            fill(count);
+            return;
+        }
+        final boolean indirect = bitsPerEntry <= maxBitsPerEntry;
+        if (bitsPerEntry < minBitsPerEntry || (!indirect && bitsPerEntry != directBits))
+            throw new IllegalArgumentException("Invalid bits per entry " + bitsPerEntry + " for palette " + minBitsPerEntry + "-" + maxBitsPerEntry + "/" + directBits);
+        if (indirect && (palette == null || palette.length == 0 || palette.length > maxPaletteSize(bitsPerEntry)))
+            throw new IllegalArgumentException("Invalid palette for " + bitsPerEntry + " bits per entry");
+        if (values == null || values.length != arrayLength(dimension, bitsPerEntry))
+            throw new IllegalArgumentException("Invalid values length for " + bitsPerEntry + " bits per entry");
+        if (count < 0 || count > maxSize())
+            throw new IllegalArgumentException("Invalid count " + count);
+
+        this.bitsPerEntry = (byte) bitsPerEntry;
+        this.count = count;
+        this.values = values;
+        this.shared = false;
+        if (indirect) {
+            this.paletteToValueList = IntArrayList.wrap(palette);
+            this.valueToPaletteMap = new Int2IntOpenHashMap(palette.length);
+            this.valueToPaletteMap.defaultReturnValue(-1);
+            for (int i = 0; i < palette.length; i++) {
+                this.valueToPaletteMap.put(palette[i], i);
+            }
+        } else {
+            this.paletteToValueList = null;
+            this.valueToPaletteMap = null;
+        }
+    }
+
+    void unshare() {
+        if (!shared) return;
+        this.shared = false;
+        if (values != null) this.values = values.clone();
+        if (paletteToValueList != null) this.paletteToValueList = paletteToValueList.clone();
+        if (valueToPaletteMap != null) this.valueToPaletteMap = valueToPaletteMap.clone();
+    }
+
     boolean hasPalette() {
         return bitsPerEntry <= maxBitsPerEntry;
     }
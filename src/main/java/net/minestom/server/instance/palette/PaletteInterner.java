@@ -0,0 +1,143 @@
+package net.minestom.server.instance.palette;
+
+import it.unimi.dsi.fastutil.Hash;
+import it.unimi.dsi.fastutil.HashCommon;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Shares the storage of palettes with identical content.
+ * <p>
+ * Interned palettes keep behaving as independent palettes, their storage is copied by their first modification.
+ * At most {@code capacity} distinct contents are remembered, later ones are not shared.
+ */
+@ApiStatus.Experimental
+public final class PaletteInterner {
+    private final int capacity;
+    private final Map<Content, PaletteImpl> palettes = new ConcurrentHashMap<>();
+
+    private final LongAdder interned = new LongAdder();
+    private final LongAdder shared = new LongAdder();
+    private final LongAdder uniform = new LongAdder();
+    private final LongAdder bytesSaved = new LongAdder();
+
+    /**
+     * @param capacity the maximum number of distinct contents to remember
+     */
+    public PaletteInterner(int capacity) {
+        this.capacity = capacity;
+    }
+
+    /**
+     * Interns a palette, its content stays the same.
+     * <p>
+     * Palettes holding a single value become single-value palettes without storage,
+     * others share the storage of the first identical palette interned.
+     * The palette must not be modified concurrently.
+     *
+     * @param palette the palette to intern
+     * @return true if the palette storage changed, cached encodings of the palette must be discarded
+     */
+    public boolean intern(Palette palette) {
+        final PaletteImpl impl = (PaletteImpl) palette;
+        if (impl.bitsPerEntry == 0) return false;
+        this.interned.increment();
+
+        final int firstValue = impl.get(0, 0, 0);
+        if (impl.count(firstValue) == impl.maxSize()) {
+            final long size = storageSize(impl);
+            impl.fill(firstValue);
+            this.uniform.increment();
+            this.bytesSaved.add(size);
+            return true;
+        }
+
+        final Content content = new Content(impl);
+        final PaletteImpl existing = palettes.get(content);
+        if (existing == null) {
+            // The palette becomes copy-on-write, the stored clone therefore never changes
+            if (palettes.size() < capacity) palettes.putIfAbsent(content, (PaletteImpl) impl.clone());
+            return false;
+        }
+        if (existing.values == impl.values) return false; // Already shared
+        final long size = storageSize(impl);
+        impl.copyFrom(existing);
+        this.shared.increment();
+        this.bytesSaved.add(size);
+        return true;
+    }
+
+    /**
+     * Gets statistics about the palettes interned so far.
+     * <p>
+     * Saved bytes are estimated when interning, storage copied back by later modifications is not deducted.
+     *
+     * @return the interning statistics
+     */
+    public Stats stats() {
+        return new Stats(interned.sum(), shared.sum(), uniform.sum(), palettes.size(), bytesSaved.sum());
+    }
+
+    /**
+     * @param interned   palettes interned, excluding those already holding a single value
+     * @param shared     palettes now sharing the storage of another
+     * @param uniform    palettes turned into single-value palettes
+     * @param distinct   distinct contents remembered
+     * @param bytesSaved estimated heap no longer retained by the interned palettes
+     */
+    public record Stats(long interned, long shared, long uniform, int distinct, long bytesSaved) {
+    }
+
+    // Rough heap size of the storage of a palette with bitsPerEntry != 0
+    private static long storageSize(PaletteImpl palette) {
+        long size = 16 + (long) palette.values.length * Long.BYTES;
+        if (palette.hasPalette()) {
+            final int paletteSize = palette.paletteToValueList.size();
+            size += 24 + 16 + (long) palette.paletteToValueList.elements().length * Integer.BYTES;
+            // Keys and values
+            final int tableSize = HashCommon.arraySize(paletteSize, Hash.DEFAULT_LOAD_FACTOR) + 1;
+            size += 56 + 2 * (16 + (long) tableSize * Integer.BYTES);
+        }
+        return size;
+    }
+
+    // Never modified once interned, palettes sharing them are copy-on-write
+    private static final class Content {
+        final int dimension, maxBitsPerEntry, bitsPerEntry;
+        final long[] values;
+        final @Nullable IntArrayList paletteValues;
+        final int hash;
+
+        Content(PaletteImpl palette) {
+            this.dimension = palette.dimension;
+            this.maxBitsPerEntry = palette.maxBitsPerEntry;
+            this.bitsPerEntry = palette.bitsPerEntry;
+            this.values = palette.values;
+            this.paletteValues = palette.hasPalette() ? palette.paletteToValueList : null;
+            int hash = Objects.hash(dimension, maxBitsPerEntry, bitsPerEntry);
+            hash = 31 * hash + Arrays.hashCode(values);
+            hash = 31 * hash + Objects.hashCode(paletteValues);
+            this.hash = hash;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof Content content)) return false;
+            return hash == content.hash && dimension == content.dimension &&
+                    maxBitsPerEntry == content.maxBitsPerEntry && bitsPerEntry == content.bitsPerEntry &&
+                    Arrays.equals(values, content.values) && Objects.equals(paletteValues, content.paletteValues);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
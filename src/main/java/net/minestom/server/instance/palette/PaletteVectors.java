@@ -0,0 +1,96 @@
+package net.minestom.server.instance.palette;
+
+import jdk.incubator.vector.*;
+
+/**
+ * Vector API implementation of {@link PaletteBulk.Operations}.
+ * <p>
+ * Each long is broadcast to all lanes and shifted by a different amount per lane,
+ * so that a vector operation handles as many entries as there are long lanes.
+ */
+final class PaletteVectors implements PaletteBulk.Operations {
+    private static final VectorSpecies<Long> LONGS = LongVector.SPECIES_PREFERRED;
+    // Same lane count as LONGS
+    private static final VectorSpecies<Integer> INTS = VectorSpecies.of(int.class, VectorShape.forBitSize(LONGS.vectorBitSize() / 2));
+    private static final int LANES = LONGS.length();
+    // Bits per entry -> shift of each entry in a long, padded to a multiple of the lane count
+    private static final long[][] SHIFTS = new long[Integer.SIZE + 1][];
+
+    static {
+        for (int bitsPerEntry = 1; bitsPerEntry <= Integer.SIZE; bitsPerEntry++) {
+            final int valuesPerLong = 64 / bitsPerEntry;
+            long[] shifts = new long[LONGS.loopBound(valuesPerLong + LANES - 1)];
+            for (int i = 0; i < valuesPerLong; i++) shifts[i] = (long) i * bitsPerEntry;
+            SHIFTS[bitsPerEntry] = shifts;
+        }
+    }
+
+    static boolean isSupported() {
+        // A single lane would only add overhead
+        return LANES >= 2;
+    }
+
+    @Override
+    public void unpack(long[] values, int bitsPerEntry, int size, int[] out) {
+        final int valuesPerLong = 64 / bitsPerEntry;
+        final long mask = (1L << bitsPerEntry) - 1L;
+        final long[] shifts = SHIFTS[bitsPerEntry];
+        for (int i = 0, index = 0; index < size; i++, index += valuesPerLong) {
+            final LongVector block = LongVector.broadcast(LONGS, values[i]);
+            final int count = Math.min(valuesPerLong, size - index);
+            for (int lane = 0; lane < count; lane += LANES) {
+                final IntVector entries = (IntVector) block
+                        .lanewise(VectorOperators.LSHR, LongVector.fromArray(LONGS, shifts, lane))
+                        .and(mask)
+                        .convertShape(VectorOperators.L2I, INTS, 0);
+                if (lane + LANES <= count) {
+                    entries.intoArray(out, index + lane);
+                } else {
+                    entries.intoArray(out, index + lane, INTS.indexInRange(lane, count));
+                }
+            }
+        }
+    }
+
+    @Override
+    public void pack(int[] in, int bitsPerEntry, int size, long[] out) {
+        final int valuesPerLong = 64 / bitsPerEntry;
+        final long mask = (1L << bitsPerEntry) - 1L;
+        final long[] shifts = SHIFTS[bitsPerEntry];
+        for (int i = 0, index = 0; index < size; i++, index += valuesPerLong) {
+            final int count = Math.min(valuesPerLong, size - index);
+            LongVector block = LongVector.zero(LONGS);
+            for (int lane = 0; lane < count; lane += LANES) {
+                // Masked lanes are loaded as 0
+                final IntVector entries = lane + LANES <= count ?
+                        IntVector.fromArray(INTS, in, index + lane) :
+                        IntVector.fromArray(INTS, in, index + lane, INTS.indexInRange(lane, count));
+                block = block.or(((LongVector) entries.convertShape(VectorOperators.I2L, LONGS, 0))
+                        .and(mask)
+                        .lanewise(VectorOperators.LSHL, LongVector.fromArray(LONGS, shifts, lane)));
+            }
+            out[i] = block.reduceLanes(VectorOperators.OR);
+        }
+    }
+
+    @Override
+    public int count(long[] values, int bitsPerEntry, int size, int value) {
+        final int valuesPerLong = 64 / bitsPerEntry;
+        final long mask = (1L << bitsPerEntry) - 1L;
+        final long[] shifts = SHIFTS[bitsPerEntry];
+        int result = 0;
+        for (int i = 0, index = 0; index < size; i++, index += valuesPerLong) {
+            final LongVector block = LongVector.broadcast(LONGS, values[i]);
+            final int count = Math.min(valuesPerLong, size - index);
+            for (int lane = 0; lane < count; lane += LANES) {
+                VectorMask<Long> matches = block
+                        .lanewise(VectorOperators.LSHR, LongVector.fromArray(LONGS, shifts, lane))
+                        .and(mask)
+                        .compare(VectorOperators.EQ, value);
+                if (lane + LANES > count) matches = matches.and(LONGS.indexInRange(lane, count));
+                result += matches.trueCount();
+            }
+        }
+        return result;
+    }
+}
@@ -10,33 +10,15 @@ public final class Palettes {
     }
 
     public static long[] pack(int[] ints, int bitsPerEntry) {
-        final int intsPerLong = (int) Math.floor(64d / bitsPerEntry);
-        long[] longs = new long[(int) Math.ceil(ints.length / (double) intsPerLong)];
-        final long mask = (1L << bitsPerEntry) - 1L;
-        for (int i = 0; i < longs.length; i++) {
-            for (int intIndex = 0; intIndex < intsPerLong; intIndex++) {
-                final int bitIndex = intIndex * bitsPerEntry;
-                final int intActualIndex = intIndex + i * intsPerLong;
-                if (intActualIndex < ints.length) {
-                    longs[i] |= (ints[intActualIndex] & mask) << bitIndex;
-                }
-            }
-        }
+        final int intsPerLong = 64 / bitsPerEntry;
+        long[] longs = new long[(ints.length + intsPerLong - 1) / intsPerLong];
+        PaletteBulk.pack(ints, bitsPerEntry, ints.length, longs);
         return longs;
     }
 
     public static void unpack(int[] out, long[] in, int bitsPerEntry) {
         assert in.length != 0 : "unpack input array is zero";
-
-        final double intsPerLong = Math.floor(64d / bitsPerEntry);
-        final int intsPerLongCeil = (int) Math.ceil(intsPerLong);
-
-        final long mask = (1L << bitsPerEntry) - 1L;
-        for (int i = 0; i < out.length; i++) {
-            final int longIndex = i / intsPerLongCeil;
-            final int subIndex = i % intsPerLongCeil;
-            out[i] = (int) ((in[longIndex] >>> (bitsPerEntry * subIndex)) & mask);
-        }
+        PaletteBulk.unpack(in, bitsPerEntry, out.length, out);
     }
 
     public static int maxPaletteSize(int bitsPerEntry) {
@@ -108,33 +90,14 @@ public final class Palettes {
     public static long[] remap(int dimension, int oldBitsPerEntry, int newBitsPerEntry,
                                long[] values, Int2IntFunction function) {
         final long[] result = new long[arrayLength(dimension, newBitsPerEntry)];
-        final int magicMask = (1 << oldBitsPerEntry) - 1;
-        final int oldValuesPerLong = 64 / oldBitsPerEntry;
-        final int newValuesPerLong = 64 / newBitsPerEntry;
         final int size = dimension * dimension * dimension;
-        long newValue = 0;
-        int newValueIndex = 0;
-        int newBitIndex = 0;
-        outer: {
-            for (int i = 0; i < values.length; i++) {
-                long value = values[i];
-                final int startIndex = i * oldValuesPerLong;
-                final int endIndex = Math.min(startIndex + oldValuesPerLong, size);
-                for (int index = startIndex; index < endIndex; index++) {
-                    final int paletteIndex = (int) (value & magicMask);
-                    value >>>= oldBitsPerEntry;
-                    newValue |= ((long) function.get(paletteIndex)) << (newBitIndex++ * newBitsPerEntry);
-                    if (newBitIndex >= newValuesPerLong) {
-                        result[newValueIndex++] = newValue;
-                        if (newValueIndex == result.length) {
-                            break outer;
-                        }
-                        newBitIndex = 0;
-                        newValue = 0;
-                    }
-                }
-            }
-            result[newValueIndex] = newValue;
+        final int[] buffer = PaletteBulk.borrowBuffer(size);
+        try {
+            PaletteBulk.unpack(values, oldBitsPerEntry, size, buffer);
+            for (int i = 0; i < size; i++) buffer[i] = function.get(buffer[i]);
+            PaletteBulk.pack(buffer, newBitsPerEntry, size, result);
+        } finally {
+            PaletteBulk.releaseBuffer(buffer);
         }
         return result;
     }
@@ -70,6 +70,7 @@ public class BlockPlacementListener {
         if (blockUse) {
             // If the usage was blocked then the world is already up-to-date (from the prior handlers),
             // So ack the change with the current world state.
+            instance.flushBlockChanges(interactedChunk);
             player.sendPacket(new AcknowledgeBlockChangePacket(packet.sequence()));
             return;
         }
@@ -80,6 +81,7 @@ public class BlockPlacementListener {
             PlayerUseItemOnBlockEvent event = new PlayerUseItemOnBlockEvent(player, hand, usedItem, blockPosition, cursorPosition, blockFace);
             EventDispatcher.call(event);
             // Ack the block change. This is required to reset the client prediction to the server state.
+            instance.flushBlockChanges(interactedChunk);
             player.sendPacket(new AcknowledgeBlockChangePacket(packet.sequence()));
             return;
         }
@@ -170,6 +172,8 @@ public class BlockPlacementListener {
         Block resultBlock = playerBlockPlaceEvent.getBlock();
         instance.placeBlock(new BlockHandler.PlayerPlacement(resultBlock, instance.getBlock(placementPosition), instance, placementPosition, player, hand, blockFace,
                 packet.cursorPositionX(), packet.cursorPositionY(), packet.cursorPositionZ()), playerBlockPlaceEvent.shouldDoBlockUpdates());
+        // The client reverts its prediction to the last known state when acknowledged
+        instance.flushBlockChanges(chunk);
         player.sendPacket(new AcknowledgeBlockChangePacket(packet.sequence()));
         // Block consuming
         if (playerBlockPlaceEvent.doesConsumeBlock()) {
@@ -11,6 +11,7 @@ import net.minestom.server.entity.metadata.LivingEntityMeta;
 import net.minestom.server.event.EventDispatcher;
 import net.minestom.server.event.item.PlayerCancelItemUseEvent;
 import net.minestom.server.event.player.*;
+import net.minestom.server.instance.Chunk;
 import net.minestom.server.instance.Instance;
 import net.minestom.server.instance.block.Block;
 import net.minestom.server.instance.block.BlockFace;
@@ -54,6 +55,8 @@ public final class PlayerActionListener {
         }
         // Acknowledge start/cancel/finish digging status
         if (diggingResult != null) {
+            final Chunk chunk = instance.getChunkAt(blockPosition);
+            if (chunk != null) instance.flushBlockChanges(chunk);
             player.sendPacket(new AcknowledgeBlockChangePacket(packet.sequence()));
             if (!diggingResult.success()) {
                 // Refresh block on player screen in case it had special data (like a sign)
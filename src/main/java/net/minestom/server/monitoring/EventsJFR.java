@@ -35,6 +35,8 @@ public final class EventsJFR {
 
     public static final String CHUNK_GENERATION = "minestom.ChunkGeneration";
     public static final String CHUNK_LOADING = "minestom.ChunkLoading";
+    public static final String CHUNK_EVICTION = "minestom.ChunkEviction";
+    public static final String CHUNK_THAW = "minestom.ChunkThaw";
 
     public static final String INSTANCE_JOIN = "minestom.InstanceJoin";
     public static final String INSTANCE_LEAVE = "minestom.InstanceLeave";
@@ -60,6 +62,14 @@ public final class EventsJFR {
         return JFR_AVAILABLE ? new ChunkLoading(instance.toString(), loader, chunkX, chunkZ) : NO_OP;
     }
 
+    public static EventMarker newChunkEviction(UUID instance, int chunkX, int chunkZ, boolean cold) {
+        return JFR_AVAILABLE ? new ChunkEviction(instance.toString(), chunkX, chunkZ, cold) : NO_OP;
+    }
+
+    public static EventMarker newChunkThaw(UUID instance, int chunkX, int chunkZ) {
+        return JFR_AVAILABLE ? new ChunkThaw(instance.toString(), chunkX, chunkZ) : NO_OP;
+    }
+
     public static EventMarker newInstanceJoin(UUID entity, UUID instance) {
         return JFR_AVAILABLE ? new InstanceJoin(entity.toString(), instance.toString()) : NO_OP;
     }
@@ -145,6 +155,47 @@ public final class EventsJFR {
         }
     }
 
+    @Name(CHUNK_EVICTION)
+    @Label("Chunk Eviction")
+    @Category({"Minestom", "World"})
+    @Description("Idle chunk unloaded by the instances' eviction policy")
+    private static final class ChunkEviction extends JFREventWrapper {
+        @Label("Instance UUID")
+        String instance;
+        @Label("Chunk X")
+        int chunkX;
+        @Label("Chunk Z")
+        int chunkZ;
+        @Label("Cold Storage")
+        boolean cold;
+
+        private ChunkEviction(String instance, int chunkX, int chunkZ, boolean cold) {
+            this.instance = instance;
+            this.chunkX = chunkX;
+            this.chunkZ = chunkZ;
+            this.cold = cold;
+        }
+    }
+
+    @Name(CHUNK_THAW)
+    @Label("Chunk Thaw")
+    @Category({"Minestom", "World"})
+    @Description("Chunk loaded back from the instances' cold storage")
+    private static final class ChunkThaw extends JFREventWrapper {
+        @Label("Instance UUID")
+        String instance;
+        @Label("Chunk X")
+        int chunkX;
+        @Label("Chunk Z")
+        int chunkZ;
+
+        private ChunkThaw(String instance, int chunkX, int chunkZ) {
+            this.instance = instance;
+            this.chunkX = chunkX;
+            this.chunkZ = chunkZ;
+        }
+    }
+
     @Name(INSTANCE_JOIN)
     @Label("Instance Join")
     @Category({"Minestom", "Instance"})
@@ -0,0 +1,73 @@
+package net.minestom.server.monitoring;
+
+import org.jetbrains.annotations.ApiStatus;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Server-wide network counters, cumulative since startup.
+ * <p>
+ * Use {@link Snapshot#minus(Snapshot)} to compute rates over a period, {@link TickMonitor#getNetwork()} contains the last tick delta.
+ */
+@ApiStatus.Experimental
+public final class NetworkMetrics {
+    private static final LongAdder SOCKET_WRITES = new LongAdder();
+    private static final LongAdder SOCKET_WRITTEN_BYTES = new LongAdder();
+    private static final LongAdder COMPRESSION_CACHE_HITS = new LongAdder();
+    private static final LongAdder COMPRESSION_CACHE_MISSES = new LongAdder();
+    private static final LongAdder COMPRESSION_CACHE_SAVED_BYTES = new LongAdder();
+
+    private NetworkMetrics() {
+    }
+
+    @ApiStatus.Internal
+    public static void recordSocketWrite(long bytes) {
+        SOCKET_WRITES.increment();
+        SOCKET_WRITTEN_BYTES.add(bytes);
+    }
+
+    @ApiStatus.Internal
+    public static void recordCompressionCacheHit(long uncompressedBytes) {
+        COMPRESSION_CACHE_HITS.increment();
+        COMPRESSION_CACHE_SAVED_BYTES.add(uncompressedBytes);
+    }
+
+    @ApiStatus.Internal
+    public static void recordCompressionCacheMiss() {
+        COMPRESSION_CACHE_MISSES.increment();
+    }
+
+    public static Snapshot snapshot() {
+        return new Snapshot(SOCKET_WRITES.sum(), SOCKET_WRITTEN_BYTES.sum(),
+                COMPRESSION_CACHE_HITS.sum(), COMPRESSION_CACHE_MISSES.sum(), COMPRESSION_CACHE_SAVED_BYTES.sum());
+    }
+
+    /**
+     * @param socketWrites               the number of socket write calls (syscalls)
+     * @param socketWrittenBytes         the number of bytes written to sockets
+     * @param compressionCacheHits       the number of packets whose compression has been skipped
+     * @param compressionCacheMisses     the number of cacheable packets that had to be compressed
+     * @param compressionCacheSavedBytes the number of uncompressed bytes that did not go through the deflater
+     */
+    public record Snapshot(long socketWrites, long socketWrittenBytes,
+                           long compressionCacheHits, long compressionCacheMisses, long compressionCacheSavedBytes) {
+        public static final Snapshot EMPTY = new Snapshot(0, 0, 0, 0, 0);
+
+        public double bytesPerWrite() {
+            return socketWrites != 0 ? (double) socketWrittenBytes / socketWrites : 0;
+        }
+
+        public double compressionCacheHitRate() {
+            final long lookups = compressionCacheHits + compressionCacheMisses;
+            return lookups != 0 ? (double) compressionCacheHits / lookups : 0;
+        }
+
+        public Snapshot minus(Snapshot previous) {
+            return new Snapshot(socketWrites - previous.socketWrites,
+                    socketWrittenBytes - previous.socketWrittenBytes,
+                    compressionCacheHits - previous.compressionCacheHits,
+                    compressionCacheMisses - previous.compressionCacheMisses,
+                    compressionCacheSavedBytes - previous.compressionCacheSavedBytes);
+        }
+    }
+}
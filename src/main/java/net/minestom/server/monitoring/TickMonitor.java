@@ -4,10 +4,19 @@ public class TickMonitor {
 
     private final double tickTime;
     private final double acquisitionTime;
+    private final NetworkMetrics.Snapshot network;
+    private final int playerCount;
 
-    public TickMonitor(double tickTime, double acquisitionTime) {
+    public TickMonitor(double tickTime, double acquisitionTime,
+                       NetworkMetrics.Snapshot network, int playerCount) {
         this.tickTime = tickTime;
         this.acquisitionTime = acquisitionTime;
+        this.network = network;
+        this.playerCount = playerCount;
+    }
+
+    public TickMonitor(double tickTime, double acquisitionTime) {
+        this(tickTime, acquisitionTime, NetworkMetrics.Snapshot.EMPTY, 0);
     }
 
     public double getTickTime() {
@@ -17,4 +26,23 @@ public class TickMonitor {
     public double getAcquisitionTime() {
         return acquisitionTime;
     }
+
+    /**
+     * Gets the network activity since the previous tick.
+     * <p>
+     * Socket writes happen outside the tick thread, the values may therefore slightly overlap between ticks.
+     *
+     * @return the network counters delta
+     */
+    public NetworkMetrics.Snapshot getNetwork() {
+        return network;
+    }
+
+    public int getPlayerCount() {
+        return playerCount;
+    }
+
+    public double getSocketWritesPerPlayer() {
+        return playerCount != 0 ? (double) network.socketWrites() / playerCount : 0;
+    }
 }
@@ -0,0 +1,80 @@
+package net.minestom.server.network;
+
+import net.minestom.server.MinecraftServer;
+import org.jetbrains.annotations.ApiStatus;
+
+import java.util.Map;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+
+/**
+ * Decides how packets above the compression threshold are compressed, and performs the (de)compression.
+ * <p>
+ * Levels follow {@link Deflater}, from {@link Deflater#BEST_SPEED} to {@link Deflater#BEST_COMPRESSION}.
+ * {@link #SKIP} sends the packet uncompressed, which is useful for payloads that are already entropy-dense.
+ * <p>
+ * Set using {@link MinecraftServer#setCompressionStrategy(CompressionStrategy)}.
+ */
+@ApiStatus.Experimental
+public interface CompressionStrategy {
+    /**
+     * Level indicating that the packet should be sent uncompressed, even above the threshold.
+     */
+    int SKIP = Integer.MIN_VALUE;
+
+    /**
+     * Uses the default deflate level for every packet, the historical behavior.
+     */
+    static CompressionStrategy vanilla() {
+        return CompressionStrategyImpl.VANILLA;
+    }
+
+    /**
+     * Favors latency for high-frequency entity packets and ratio for large, infrequent ones.
+     * <ul>
+     *     <li>Movement and metadata packets use {@link Deflater#BEST_SPEED}</li>
+     *     <li>Chunk and registry data use {@link Deflater#BEST_COMPRESSION}</li>
+     *     <li>Map data is not compressed</li>
+     * </ul>
+     */
+    static CompressionStrategy tuned() {
+        return CompressionStrategyImpl.TUNED;
+    }
+
+    /**
+     * Creates a strategy using a level per packet class, packet subclasses are not matched.
+     *
+     * @param defaultLevel the level of packets absent from {@code levels}
+     * @param levels       the level of each packet class, can be {@link #SKIP}
+     * @return a new strategy
+     */
+    static CompressionStrategy perPacket(int defaultLevel, Map<Class<?>, Integer> levels) {
+        return new CompressionStrategyImpl.PerPacket(defaultLevel, levels);
+    }
+
+    /**
+     * Gets the compression level of a packet whose size is above the compression threshold.
+     *
+     * @param packet the packet to compress
+     * @return the deflate level, or {@link #SKIP}
+     */
+    int level(Object packet);
+
+    /**
+     * Compresses {@code input} into {@code output} at its write index.
+     *
+     * @return the number of compressed bytes
+     */
+    default long compress(NetworkBuffer input, long index, long length, NetworkBuffer output, int level) {
+        return input.compress(index, length, output, level);
+    }
+
+    /**
+     * Decompresses {@code input} into {@code output} at its write index.
+     *
+     * @return the number of decompressed bytes
+     */
+    default long decompress(NetworkBuffer input, long index, long length, NetworkBuffer output) throws DataFormatException {
+        return input.decompress(index, length, output);
+    }
+}
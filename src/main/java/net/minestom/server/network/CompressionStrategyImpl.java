@@ -0,0 +1,50 @@
+package net.minestom.server.network;
+
+import net.minestom.server.network.packet.server.configuration.RegistryDataPacket;
+import net.minestom.server.network.packet.server.play.*;
+import net.minestom.server.utils.validate.Check;
+
+import java.util.Map;
+import java.util.zip.Deflater;
+
+final class CompressionStrategyImpl {
+    static final CompressionStrategy VANILLA = packet -> Deflater.DEFAULT_COMPRESSION;
+
+    static final CompressionStrategy TUNED = new PerPacket(Deflater.DEFAULT_COMPRESSION, Map.ofEntries(
+            // Sent every tick for every visible entity
+            Map.entry(EntityPositionPacket.class, Deflater.BEST_SPEED),
+            Map.entry(EntityPositionAndRotationPacket.class, Deflater.BEST_SPEED),
+            Map.entry(EntityPositionSyncPacket.class, Deflater.BEST_SPEED),
+            Map.entry(EntityRotationPacket.class, Deflater.BEST_SPEED),
+            Map.entry(EntityHeadLookPacket.class, Deflater.BEST_SPEED),
+            Map.entry(EntityTeleportPacket.class, Deflater.BEST_SPEED),
+            Map.entry(EntityVelocityPacket.class, Deflater.BEST_SPEED),
+            Map.entry(EntityMetaDataPacket.class, Deflater.BEST_SPEED),
+            Map.entry(EntityEquipmentPacket.class, Deflater.BEST_SPEED),
+            // Large, sent once per player and likely cached
+            Map.entry(ChunkDataPacket.class, Deflater.BEST_COMPRESSION),
+            Map.entry(RegistryDataPacket.class, Deflater.BEST_COMPRESSION),
+            // Map colors gain little from deflate
+            Map.entry(MapDataPacket.class, CompressionStrategy.SKIP)
+    ));
+
+    record PerPacket(int defaultLevel, Map<Class<?>, Integer> levels) implements CompressionStrategy {
+        PerPacket {
+            checkLevel(defaultLevel);
+            levels.values().forEach(PerPacket::checkLevel);
+            levels = Map.copyOf(levels);
+        }
+
+        @Override
+        public int level(Object packet) {
+            final Integer level = levels.get(packet.getClass());
+            return level != null ? level : defaultLevel;
+        }
+
+        private static void checkLevel(int level) {
+            Check.argCondition(level != CompressionStrategy.SKIP &&
+                            (level < Deflater.DEFAULT_COMPRESSION || level > Deflater.BEST_COMPRESSION),
+                    "Invalid compression level: {0}", level);
+        }
+    }
+}
@@ -346,6 +346,21 @@ public final class ConnectionManager {
         configurationPlayers.forEach(Player::interpretPacketQueue);
     }
 
+    /**
+     * Signals every play connection to write its queued packets.
+     * <p>
+     * Called at the end of each tick, only effective with {@link ServerFlag#SOCKET_TICK_FLUSH}.
+     */
+    @ApiStatus.Internal
+    public void flushConnections() {
+        if (!ServerFlag.SOCKET_TICK_FLUSH) return;
+        for (Player player : playPlayers) {
+            if (player.getPlayerConnection() instanceof PlayerSocketConnection socketConnection) {
+                socketConnection.flush();
+            }
+        }
+    }
+
     /**
      * Connects waiting players.
      */
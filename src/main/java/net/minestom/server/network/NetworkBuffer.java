@@ -19,6 +19,7 @@ import org.jetbrains.annotations.UnknownNullability;
 
 import javax.crypto.Cipher;
 import java.io.IOException;
+import java.nio.channels.GatheringByteChannel;
 import java.nio.channels.ReadableByteChannel;
 import java.nio.channels.SocketChannel;
 import java.security.PublicKey;
@@ -163,6 +164,18 @@ public sealed interface NetworkBuffer permits NetworkBufferImpl {
         return copy(index, length, readIndex(), writeIndex());
     }
 
+    /**
+     * Creates a read-only view sharing the memory of this buffer, without copying.
+     * <p>
+     * The view is readable from {@code index} to {@code index + length}, and keeps this buffer alive.
+     *
+     * @param index  the start of the view
+     * @param length the length of the view
+     * @return a new read-only buffer
+     * @throws UnsupportedOperationException if this buffer is not read-only
+     */
+    NetworkBuffer view(long index, long length);
+
     int readChannel(ReadableByteChannel channel) throws IOException;
 
     boolean writeChannel(SocketChannel channel) throws IOException;
@@ -171,6 +184,14 @@ public sealed interface NetworkBuffer permits NetworkBufferImpl {
 
     long compress(long start, long length, NetworkBuffer output);
 
+    /**
+     * Compresses a region of this buffer using a specific deflate level.
+     *
+     * @param level the level, from {@link java.util.zip.Deflater#DEFAULT_COMPRESSION} to {@link java.util.zip.Deflater#BEST_COMPRESSION}
+     * @return the number of compressed bytes written to {@code output}
+     */
+    long compress(long start, long length, NetworkBuffer output, int level);
+
     long decompress(long start, long length, NetworkBuffer output) throws DataFormatException;
 
     @Nullable Registries registries();
@@ -306,7 +327,32 @@ public sealed interface NetworkBuffer permits NetworkBufferImpl {
         NetworkBufferImpl.copy(srcBuffer, srcOffset, dstBuffer, dstOffset, length);
     }
 
+    /**
+     * Writes the readable bytes of multiple buffers using a single gathering write.
+     * <p>
+     * The read index of each buffer is advanced by the number of bytes written from it.
+     *
+     * @return the number of bytes written
+     */
+    static long writeChannel(GatheringByteChannel channel, NetworkBuffer[] buffers, int offset, int length) throws IOException {
+        return NetworkBufferImpl.writeChannel(channel, buffers, offset, length);
+    }
+
     static boolean equals(NetworkBuffer buffer1, NetworkBuffer buffer2) {
         return NetworkBufferImpl.equals(buffer1, buffer2);
     }
+
+    static boolean equals(NetworkBuffer buffer1, long offset1,
+                          NetworkBuffer buffer2, long offset2, long length) {
+        return NetworkBufferImpl.equals(buffer1, offset1, buffer2, offset2, length);
+    }
+
+    /**
+     * Computes a non-cryptographic hash of a buffer region, independent of the read/write indexes.
+     *
+     * @return the hash of the bytes from {@code index} to {@code index + length}
+     */
+    static long hash(NetworkBuffer buffer, long index, long length) {
+        return NetworkBufferImpl.hash(buffer, index, length);
+    }
 }
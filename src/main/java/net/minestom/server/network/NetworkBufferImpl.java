@@ -13,6 +13,7 @@ import java.io.*;
 import java.lang.ref.Cleaner;
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
+import java.nio.channels.GatheringByteChannel;
 import java.nio.channels.ReadableByteChannel;
 import java.nio.channels.SocketChannel;
 import java.util.Objects;
@@ -27,6 +28,8 @@ import static net.minestom.server.network.NetworkBufferUnsafe.*;
 final class NetworkBufferImpl implements NetworkBuffer {
     private static final Cleaner CLEANER = Cleaner.create();
     private static final long DUMMY_ADDRESS = -1;
+    // Template for nio views, duplicates do not allocate native memory nor register a cleaner
+    private static final ByteBuffer EMPTY_DIRECT = ByteBuffer.allocateDirect(0);
 
     private final BufferCleaner state;
     // Address may be -1 if the buffer is a dummy buffer
@@ -40,6 +43,12 @@ final class NetworkBufferImpl implements NetworkBuffer {
 
     final @Nullable AutoResize autoResize;
     final @Nullable Registries registries;
+    // Buffer owning the memory of this view, kept reachable to prevent its memory from being freed
+    private final @Nullable NetworkBufferImpl owner;
+
+    // Pool bookkeeping, see NetworkBufferPool
+    boolean pooled;
+    NetworkBufferPool.@Nullable LeakTracker leakTracker;
 
     ByteBuffer nioBuffer = null;
 
@@ -47,15 +56,24 @@ final class NetworkBufferImpl implements NetworkBuffer {
                       long readIndex, long writeIndex,
                       @Nullable AutoResize autoResize,
                       @Nullable Registries registries) {
+        this(address, capacity, readIndex, writeIndex, autoResize, registries, null);
+    }
+
+    private NetworkBufferImpl(long address, long capacity,
+                              long readIndex, long writeIndex,
+                              @Nullable AutoResize autoResize,
+                              @Nullable Registries registries,
+                              @Nullable NetworkBufferImpl owner) {
         this.address = address;
         this.capacity = capacity;
         this.readIndex = readIndex;
         this.writeIndex = writeIndex;
         this.autoResize = autoResize;
         this.registries = registries;
+        this.owner = owner;
 
         this.state = new BufferCleaner(new AtomicLong(address));
-        if (address != DUMMY_ADDRESS) CLEANER.register(this, state);
+        if (address != DUMMY_ADDRESS && owner == null) CLEANER.register(this, state);
     }
 
     private record BufferCleaner(AtomicLong address) implements Runnable {
@@ -248,6 +266,20 @@ final class NetworkBufferImpl implements NetworkBuffer {
                 autoResize, registries);
     }
 
+    @Override
+    public NetworkBuffer view(long index, long length) {
+        assertDummy();
+        if (!readOnly) throw new UnsupportedOperationException("Only read-only buffers can be viewed");
+        Objects.checkFromIndexSize(index, length, capacity);
+        final NetworkBufferImpl owner = this.owner != null ? this.owner : this;
+        NetworkBufferImpl view = new NetworkBufferImpl(
+                address + index, length,
+                0, length,
+                null, registries, owner);
+        view.readOnly = true;
+        return view;
+    }
+
     @Override
     public int readChannel(ReadableByteChannel channel) throws IOException {
         assertDummy();
@@ -289,12 +321,35 @@ final class NetworkBufferImpl implements NetworkBuffer {
 
     // Use the JVM lazy loading to ignore these until compression is required.
     static class CompressionHolder {
-        private static final ObjectPool<Deflater> DEFLATER_POOL = ObjectPool.pool(Deflater::new);
+        // One pool per level (DEFAULT_COMPRESSION included), changing the level of a deflater is not free
+        private static final ObjectPool<Deflater>[] DEFLATER_POOLS = createDeflaterPools();
         private static final ObjectPool<Inflater> INFLATER_POOL = ObjectPool.pool(Inflater::new);
+
+        @SuppressWarnings("unchecked")
+        private static ObjectPool<Deflater>[] createDeflaterPools() {
+            ObjectPool<Deflater>[] pools = new ObjectPool[Deflater.BEST_COMPRESSION - Deflater.DEFAULT_COMPRESSION + 1];
+            for (int i = 0; i < pools.length; i++) {
+                final int level = i + Deflater.DEFAULT_COMPRESSION;
+                pools[i] = ObjectPool.pool(() -> new Deflater(level));
+            }
+            return pools;
+        }
+
+        static ObjectPool<Deflater> deflaterPool(int level) {
+            if (level < Deflater.DEFAULT_COMPRESSION || level > Deflater.BEST_COMPRESSION) {
+                throw new IllegalArgumentException("Invalid compression level: " + level);
+            }
+            return DEFLATER_POOLS[level - Deflater.DEFAULT_COMPRESSION];
+        }
     }
 
     @Override
     public long compress(long start, long length, NetworkBuffer output) {
+        return compress(start, length, output, Deflater.DEFAULT_COMPRESSION);
+    }
+
+    @Override
+    public long compress(long start, long length, NetworkBuffer output, int level) {
         assertDummy();
         impl(output).assertReadOnly();
         assertOverflow(start + length);
@@ -302,7 +357,8 @@ final class NetworkBufferImpl implements NetworkBuffer {
         ByteBuffer input = bufferSlice((int) start, (int) length);
         ByteBuffer outputBuffer = impl(output).bufferSlice((int) output.writeIndex(), (int) output.writableBytes());
 
-        Deflater deflater = CompressionHolder.DEFLATER_POOL.get();
+        final ObjectPool<Deflater> pool = CompressionHolder.deflaterPool(level);
+        Deflater deflater = pool.get();
         try {
             deflater.setInput(input);
             deflater.finish();
@@ -311,7 +367,7 @@ final class NetworkBufferImpl implements NetworkBuffer {
             output.advanceWrite(bytes);
             return bytes;
         } finally {
-            CompressionHolder.DEFLATER_POOL.add(deflater);
+            pool.add(deflater);
         }
     }
 
@@ -344,7 +400,7 @@ final class NetworkBufferImpl implements NetworkBuffer {
     private ByteBuffer bufferSlice(int position, int length) {
         ByteBuffer nioBuffer = this.nioBuffer;
         if (nioBuffer == null) {
-            this.nioBuffer = nioBuffer = ByteBuffer.allocateDirect(0).order(ByteOrder.BIG_ENDIAN);
+            this.nioBuffer = nioBuffer = EMPTY_DIRECT.duplicate().order(ByteOrder.BIG_ENDIAN);
         }
         updateAddress(nioBuffer, address);
         updateCapacity(nioBuffer, (int) capacity);
@@ -489,6 +545,26 @@ final class NetworkBufferImpl implements NetworkBuffer {
         UNSAFE.copyMemory(srcAddress, dstAddress, length);
     }
 
+    static long writeChannel(GatheringByteChannel channel, NetworkBuffer[] buffers, int offset, int length) throws IOException {
+        Objects.checkFromIndexSize(offset, length, buffers.length);
+        ByteBuffer[] nioBuffers = new ByteBuffer[length];
+        for (int i = 0; i < length; i++) {
+            var impl = impl(buffers[offset + i]);
+            impl.assertDummy();
+            final long readableBytes = impl.readableBytes();
+            assertOverflow(impl.readIndex + readableBytes);
+            // Each buffer owns its nio view, the same buffer must not appear twice
+            nioBuffers[i] = impl.bufferSlice((int) impl.readIndex, (int) readableBytes);
+        }
+        final long count = channel.write(nioBuffers);
+        if (count == -1) throw new EOFException("Disconnected");
+        for (int i = 0; i < length; i++) {
+            var impl = impl(buffers[offset + i]);
+            impl.readIndex(nioBuffers[i].position());
+        }
+        return count;
+    }
+
     public static boolean equals(NetworkBuffer buffer1, NetworkBuffer buffer2) {
         var impl1 = impl(buffer1);
         var impl2 = impl(buffer2);
@@ -504,6 +580,43 @@ final class NetworkBufferImpl implements NetworkBuffer {
         return true;
     }
 
+    static boolean equals(NetworkBuffer buffer1, long offset1,
+                          NetworkBuffer buffer2, long offset2, long length) {
+        var impl1 = impl(buffer1);
+        var impl2 = impl(buffer2);
+        impl1.assertDummy();
+        impl2.assertDummy();
+        Objects.checkFromIndexSize(offset1, length, impl1.capacity);
+        Objects.checkFromIndexSize(offset2, length, impl2.capacity);
+        final long address1 = impl1.address + offset1;
+        final long address2 = impl2.address + offset2;
+        long i = 0;
+        for (; i + Long.BYTES <= length; i += Long.BYTES) {
+            if (UNSAFE.getLong(address1 + i) != UNSAFE.getLong(address2 + i)) return false;
+        }
+        for (; i < length; i++) {
+            if (UNSAFE.getByte(address1 + i) != UNSAFE.getByte(address2 + i)) return false;
+        }
+        return true;
+    }
+
+    static long hash(NetworkBuffer buffer, long index, long length) {
+        var impl = impl(buffer);
+        impl.assertDummy();
+        Objects.checkFromIndexSize(index, length, impl.capacity);
+        final long address = impl.address + index;
+        // Multiply-xorshift over 8 bytes words, native order is fine as the result never leaves the process
+        long hash = length * 0x9E3779B97F4A7C15L;
+        long i = 0;
+        for (; i + Long.BYTES <= length; i += Long.BYTES) {
+            hash = Long.rotateLeft(hash ^ UNSAFE.getLong(address + i) * 0xC2B2AE3D27D4EB4FL, 31) * 0x9E3779B97F4A7C15L;
+        }
+        for (; i < length; i++) {
+            hash = (hash ^ UNSAFE.getByte(address + i)) * 0x100000001B3L;
+        }
+        return hash ^ (hash >>> 29);
+    }
+
     void assertReadOnly() {
         if (readOnly) throw new UnsupportedOperationException("Buffer is read-only");
     }
@@ -0,0 +1,324 @@
+package net.minestom.server.network;
+
+import net.minestom.server.ServerFlag;
+import net.minestom.server.utils.collection.ConcurrentMessageQueues;
+import org.jctools.queues.MessagePassingQueue;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.ref.Cleaner;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongFunction;
+
+/**
+ * Pool of native network buffers grouped in size classes (4K, 16K, 64K, 256K, 2M).
+ * <p>
+ * Buffers are taken with {@link #get(long)} and must be given back with {@link #add(NetworkBuffer)},
+ * the pool does not rely on the garbage collector to reclaim them.
+ * A buffer that grew while in use is given back to the largest class it can satisfy.
+ * <p>
+ * Each platform thread caches a magazine of buffers per class, exchanged in batches with a shared depot.
+ * Virtual threads are too numerous to own magazines and use the depot directly.
+ * <p>
+ * Enable {@link ServerFlag#BUFFER_POOL_LEAK_DETECTION} to log buffers that got garbage collected without being released,
+ * along with where they were acquired.
+ */
+@ApiStatus.Internal
+@ApiStatus.Experimental
+public final class NetworkBufferPool {
+    private static final Logger LOGGER = LoggerFactory.getLogger(NetworkBufferPool.class);
+    private static final Cleaner LEAK_CLEANER = Cleaner.create();
+
+    private static final int[] SIZE_CLASSES = {4 * 1024, 16 * 1024, 64 * 1024, 256 * 1024, 2 * 1024 * 1024};
+    private static final int MAGAZINE_SIZE = 16;
+
+    private final LongFunction<NetworkBuffer> allocator;
+    private final int defaultClass;
+    private final boolean leakDetection;
+    private final SizeClass[] classes;
+    private final ThreadLocal<Magazine[]> magazines;
+
+    private final LongAdder oversized = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private final LongAdder released = new LongAdder();
+    private final LongAdder leaks = new LongAdder();
+
+    /**
+     * @param allocator       creates a buffer of the given capacity when the pool is empty
+     * @param defaultCapacity the minimum capacity of {@link #get()}
+     * @param maxBytes        the maximum memory retained by each size class
+     * @param leakDetection   whether to track buffers that are never released, expensive
+     */
+    public NetworkBufferPool(LongFunction<NetworkBuffer> allocator, long defaultCapacity, long maxBytes, boolean leakDetection) {
+        this.allocator = allocator;
+        this.defaultClass = classFor(Math.min(defaultCapacity, SIZE_CLASSES[SIZE_CLASSES.length - 1]));
+        this.leakDetection = leakDetection;
+        this.classes = new SizeClass[SIZE_CLASSES.length];
+        for (int i = 0; i < SIZE_CLASSES.length; i++) {
+            final int depotSize = (int) Math.max(MAGAZINE_SIZE * 2, Math.min(maxBytes / SIZE_CLASSES[i], 1 << 16));
+            this.classes[i] = new SizeClass(SIZE_CLASSES[i], depotSize);
+        }
+        this.magazines = ThreadLocal.withInitial(() -> {
+            Magazine[] result = new Magazine[SIZE_CLASSES.length];
+            for (int i = 0; i < result.length; i++) result[i] = new Magazine();
+            return result;
+        });
+    }
+
+    public NetworkBufferPool(LongFunction<NetworkBuffer> allocator, long defaultCapacity) {
+        this(allocator, defaultCapacity, ServerFlag.BUFFER_POOL_MAX_BYTES, ServerFlag.BUFFER_POOL_LEAK_DETECTION);
+    }
+
+    /**
+     * Gets a cleared buffer able to hold at least the default capacity.
+     *
+     * @return a buffer to release with {@link #add(NetworkBuffer)}
+     */
+    public NetworkBuffer get() {
+        return acquire(defaultClass);
+    }
+
+    /**
+     * Gets a cleared buffer able to hold at least {@code minCapacity} bytes.
+     * <p>
+     * Requests larger than the biggest size class are allocated and never pooled.
+     *
+     * @param minCapacity the minimum capacity
+     * @return a buffer to release with {@link #add(NetworkBuffer)}
+     */
+    public NetworkBuffer get(long minCapacity) {
+        final int index = classFor(minCapacity);
+        if (index == -1) {
+            this.oversized.increment();
+            return track(allocator.apply(minCapacity));
+        }
+        return acquire(index);
+    }
+
+    /**
+     * Releases a buffer previously obtained from this pool.
+     * <p>
+     * The buffer must not be used afterward.
+     *
+     * @param buffer the buffer to release
+     * @throws IllegalStateException if the buffer has already been released
+     */
+    public void add(NetworkBuffer buffer) {
+        final NetworkBufferImpl impl = NetworkBufferImpl.impl(buffer);
+        if (impl.pooled) throw new IllegalStateException("Buffer released twice");
+        if (impl.readOnly) throw new IllegalArgumentException("Read-only buffers cannot be pooled");
+        final LeakTracker tracker = impl.leakTracker;
+        if (tracker != null) {
+            impl.leakTracker = null;
+            tracker.release();
+        }
+        this.released.increment();
+        // File under the largest class the buffer can satisfy
+        final int index = floorClassFor(buffer.capacity());
+        if (index == -1) {
+            this.dropped.increment();
+            return;
+        }
+        buffer.clear();
+        impl.pooled = true;
+        final SizeClass sizeClass = classes[index];
+        sizeClass.returned.increment();
+        if (Thread.currentThread().isVirtual()) {
+            if (!sizeClass.depot.relaxedOffer(buffer)) drop(sizeClass, impl);
+            return;
+        }
+        final Magazine magazine = magazines.get()[index];
+        if (magazine.count == MAGAZINE_SIZE) {
+            // Move half of the magazine to the depot, keep the hottest buffers local
+            for (int i = 0; i < MAGAZINE_SIZE / 2; i++) {
+                final NetworkBuffer spilled = magazine.buffers[--magazine.count];
+                magazine.buffers[magazine.count] = null;
+                if (!sizeClass.depot.relaxedOffer(spilled)) drop(sizeClass, NetworkBufferImpl.impl(spilled));
+            }
+        }
+        magazine.buffers[magazine.count++] = buffer;
+    }
+
+    /**
+     * Releases {@code buffer} once {@code owner} becomes unreachable.
+     * <p>
+     * Used for long-lived buffers whose owner has no explicit lifecycle.
+     *
+     * @param owner  the object owning the buffer, must not be referenced by the buffer
+     * @param buffer the buffer to release
+     */
+    public void register(Object owner, NetworkBuffer buffer) {
+        LEAK_CLEANER.register(owner, () -> add(buffer));
+    }
+
+    private NetworkBuffer acquire(int index) {
+        final SizeClass sizeClass = classes[index];
+        NetworkBuffer buffer;
+        if (Thread.currentThread().isVirtual()) {
+            buffer = sizeClass.depot.relaxedPoll();
+        } else {
+            final Magazine magazine = magazines.get()[index];
+            if (magazine.count == 0) {
+                // Refill half of the magazine from the depot
+                NetworkBuffer refill;
+                while (magazine.count < MAGAZINE_SIZE / 2 && (refill = sizeClass.depot.relaxedPoll()) != null) {
+                    magazine.buffers[magazine.count++] = refill;
+                }
+            }
+            if (magazine.count > 0) {
+                buffer = magazine.buffers[--magazine.count];
+                magazine.buffers[magazine.count] = null;
+            } else {
+                buffer = null;
+            }
+        }
+        if (buffer != null) {
+            sizeClass.hits.increment();
+            NetworkBufferImpl.impl(buffer).pooled = false;
+            return track(buffer);
+        }
+        sizeClass.misses.increment();
+        return track(allocator.apply(sizeClass.capacity));
+    }
+
+    private NetworkBuffer track(NetworkBuffer buffer) {
+        if (leakDetection) {
+            LeakTracker tracker = new LeakTracker(this, new Throwable("Buffer acquired here"));
+            tracker.cleanable = LEAK_CLEANER.register(buffer, tracker);
+            NetworkBufferImpl.impl(buffer).leakTracker = tracker;
+        }
+        return buffer;
+    }
+
+    private void drop(SizeClass sizeClass, NetworkBufferImpl buffer) {
+        // Native memory is freed by the buffer cleaner
+        buffer.pooled = false;
+        sizeClass.returned.decrement();
+        this.dropped.increment();
+    }
+
+    /**
+     * Gets the counters of each size class, from the smallest to the largest.
+     *
+     * @return the size class statistics
+     */
+    public List<Stats> stats() {
+        List<Stats> result = new ArrayList<>(classes.length);
+        for (SizeClass sizeClass : classes) {
+            final long hits = sizeClass.hits.sum();
+            final long pooled = Math.max(0, sizeClass.returned.sum() - hits);
+            result.add(new Stats(sizeClass.capacity, hits, sizeClass.misses.sum(), pooled));
+        }
+        return List.copyOf(result);
+    }
+
+    /**
+     * Gets the number of buffers acquired but not released yet.
+     *
+     * @return the number of buffers in use
+     */
+    public long outstanding() {
+        long acquired = oversized.sum();
+        for (SizeClass sizeClass : classes) acquired += sizeClass.hits.sum() + sizeClass.misses.sum();
+        return acquired - released.sum();
+    }
+
+    /**
+     * Gets the number of buffers that were not retained because the pool was full or their capacity unfit.
+     *
+     * @return the number of dropped buffers
+     */
+    public long dropped() {
+        return dropped.sum();
+    }
+
+    /**
+     * Gets the number of buffers collected without being released, always 0 without leak detection.
+     *
+     * @return the number of leaked buffers
+     */
+    public long leaks() {
+        return leaks.sum();
+    }
+
+    private static int classFor(long capacity) {
+        for (int i = 0; i < SIZE_CLASSES.length; i++) {
+            if (capacity <= SIZE_CLASSES[i]) return i;
+        }
+        return -1;
+    }
+
+    private static int floorClassFor(long capacity) {
+        // Buffers far above the largest class are not worth retaining
+        if (capacity > 2L * SIZE_CLASSES[SIZE_CLASSES.length - 1]) return -1;
+        for (int i = SIZE_CLASSES.length - 1; i >= 0; i--) {
+            if (capacity >= SIZE_CLASSES[i]) return i;
+        }
+        return -1;
+    }
+
+    /**
+     * @param capacity the capacity of buffers in this class
+     * @param hits     the number of acquisitions served by pooled buffers
+     * @param misses   the number of acquisitions that had to allocate
+     * @param pooled   the number of buffers currently retained
+     */
+    public record Stats(int capacity, long hits, long misses, long pooled) {
+        public long pooledBytes() {
+            return pooled * capacity;
+        }
+
+        public double hitRate() {
+            final long total = hits + misses;
+            return total != 0 ? (double) hits / total : 0;
+        }
+    }
+
+    private static final class SizeClass {
+        final int capacity;
+        final MessagePassingQueue<NetworkBuffer> depot;
+        final LongAdder hits = new LongAdder();
+        final LongAdder misses = new LongAdder();
+        final LongAdder returned = new LongAdder();
+
+        SizeClass(int capacity, int depotSize) {
+            this.capacity = capacity;
+            this.depot = ConcurrentMessageQueues.mpmcArrayQueue(depotSize);
+        }
+    }
+
+    // Confined to its thread
+    private static final class Magazine {
+        final NetworkBuffer[] buffers = new NetworkBuffer[MAGAZINE_SIZE];
+        int count;
+    }
+
+    static final class LeakTracker implements Runnable {
+        private final NetworkBufferPool pool;
+        private final Throwable origin;
+        private volatile boolean released;
+        private Cleaner.@Nullable Cleanable cleanable;
+
+        LeakTracker(NetworkBufferPool pool, Throwable origin) {
+            this.pool = pool;
+            this.origin = origin;
+        }
+
+        void release() {
+            this.released = true;
+            final Cleaner.Cleanable cleanable = this.cleanable;
+            if (cleanable != null) cleanable.clean();
+        }
+
+        @Override
+        public void run() {
+            if (released) return;
+            pool.leaks.increment();
+            LOGGER.error("NetworkBuffer was garbage collected without being released to its pool", origin);
+        }
+    }
+}
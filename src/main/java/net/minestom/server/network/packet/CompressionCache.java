@@ -0,0 +1,160 @@
+package net.minestom.server.network.packet;
+
+import net.minestom.server.monitoring.NetworkMetrics;
+import net.minestom.server.network.NetworkBuffer;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Content-keyed cache of compressed packet payloads, shared between connections.
+ * <p>
+ * Identical packets sent individually to many players (registry data, chunks, metadata bursts)
+ * are serialized per connection, but only deflated once per compression level.
+ * <p>
+ * Entries are reference counted, an evicted entry still counts towards the size limit until released by all its readers.
+ */
+@ApiStatus.Internal
+public final class CompressionCache {
+    private final long maxBytes;
+    private final long minPacketSize;
+
+    // Access-ordered for LRU eviction
+    private final LinkedHashMap<Key, Entry> entries = new LinkedHashMap<>(64, 0.75f, true);
+    private long usedBytes;
+
+    public CompressionCache(long maxBytes, long minPacketSize) {
+        this.maxBytes = maxBytes;
+        this.minPacketSize = minPacketSize;
+    }
+
+    private record Key(long hash, long length, int level) {
+    }
+
+    /**
+     * Gets whether a payload of this size is worth caching.
+     *
+     * @param length the uncompressed payload length
+     * @return true if the cache should be consulted
+     */
+    public boolean accepts(long length) {
+        return length >= minPacketSize && length <= maxBytes;
+    }
+
+    /**
+     * Finds the compressed form of a payload.
+     * <p>
+     * The returned entry must be {@link Entry#release() released} once its content has been copied.
+     *
+     * @param content the buffer containing the uncompressed payload
+     * @param index   the payload start
+     * @param length  the payload length
+     * @param level   the compression level
+     * @return the cached entry, null if absent
+     */
+    public @Nullable Entry acquire(NetworkBuffer content, long index, long length, int level) {
+        final Key key = new Key(NetworkBuffer.hash(content, index, length), length, level);
+        Entry entry;
+        synchronized (this) {
+            entry = entries.get(key);
+            if (entry != null && !entry.retain()) entry = null;
+        }
+        // Hash collisions are not trusted, payloads may be player-controlled
+        if (entry != null && !NetworkBuffer.equals(entry.uncompressed, 0, content, index, length)) {
+            entry.release();
+            entry = null;
+        }
+        if (entry != null) NetworkMetrics.recordCompressionCacheHit(length);
+        else NetworkMetrics.recordCompressionCacheMiss();
+        return entry;
+    }
+
+    /**
+     * Stores the compressed form of a payload, both regions are copied.
+     *
+     * @param content          the buffer containing the uncompressed payload
+     * @param index            the payload start
+     * @param length           the payload length
+     * @param level            the compression level
+     * @param compressed       the buffer containing the compressed payload
+     * @param compressedIndex  the compressed payload start
+     * @param compressedLength the compressed payload length
+     */
+    public void put(NetworkBuffer content, long index, long length, int level,
+                    NetworkBuffer compressed, long compressedIndex, long compressedLength) {
+        final Key key = new Key(NetworkBuffer.hash(content, index, length), length, level);
+        final Entry entry = new Entry(content.copy(index, length), compressed.copy(compressedIndex, compressedLength));
+        synchronized (this) {
+            if (entries.putIfAbsent(key, entry) != null) return; // Concurrently compressed by another connection
+            this.usedBytes += entry.size();
+            // Evict least recently used entries
+            Iterator<Entry> iterator = entries.values().iterator();
+            while (usedBytes > maxBytes && iterator.hasNext()) {
+                final Entry eldest = iterator.next();
+                if (eldest == entry) break;
+                iterator.remove();
+                eldest.release();
+            }
+        }
+    }
+
+    public synchronized void clear() {
+        for (Entry entry : entries.values()) entry.release();
+        this.entries.clear();
+    }
+
+    public synchronized int count() {
+        return entries.size();
+    }
+
+    /**
+     * Gets the memory retained by the cache, including evicted entries that are still being read.
+     *
+     * @return the used bytes
+     */
+    public synchronized long usedBytes() {
+        return usedBytes;
+    }
+
+    private synchronized void free(Entry entry) {
+        this.usedBytes -= entry.size();
+    }
+
+    public final class Entry {
+        private final NetworkBuffer uncompressed, compressed;
+        // The cache holds one reference until eviction
+        private final AtomicInteger references = new AtomicInteger(1);
+
+        Entry(NetworkBuffer uncompressed, NetworkBuffer compressed) {
+            this.uncompressed = uncompressed;
+            this.compressed = compressed;
+            compressed.readOnly();
+        }
+
+        public NetworkBuffer compressed() {
+            return compressed;
+        }
+
+        long size() {
+            return uncompressed.capacity() + compressed.capacity();
+        }
+
+        boolean retain() {
+            int count;
+            do {
+                count = references.get();
+                if (count == 0) return false; // Already freed
+            } while (!references.compareAndSet(count, count + 1));
+            return true;
+        }
+
+        public void release() {
+            final int count = references.decrementAndGet();
+            assert count >= 0 : "Entry released too many times";
+            if (count == 0) free(this);
+        }
+    }
+}
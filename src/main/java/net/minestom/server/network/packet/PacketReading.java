@@ -1,5 +1,6 @@
 package net.minestom.server.network.packet;
 
+import net.minestom.server.MinecraftServer;
 import net.minestom.server.ServerFlag;
 import net.minestom.server.network.ConnectionState;
 import net.minestom.server.network.NetworkBuffer;
@@ -195,10 +196,9 @@ public final class PacketReading {
 
         // Decompress the packet into the pooled buffer
         // and read the uncompressed packet from it
-        NetworkBuffer decompressed = PacketVanilla.PACKET_POOL.get();
+        NetworkBuffer decompressed = PacketVanilla.PACKET_POOL.get(dataLength);
         try {
-            if (decompressed.capacity() < dataLength) decompressed.resize(dataLength);
-            buffer.decompress(buffer.readIndex(), buffer.readableBytes(), decompressed);
+            MinecraftServer.getCompressionStrategy().decompress(buffer, buffer.readIndex(), buffer.readableBytes(), decompressed);
             return readPayload(decompressed, registry);
         } finally {
             PacketVanilla.PACKET_POOL.add(decompressed);
@@ -4,6 +4,7 @@ import net.minestom.server.MinecraftServer;
 import net.minestom.server.ServerFlag;
 import net.minestom.server.network.ConnectionState;
 import net.minestom.server.network.NetworkBuffer;
+import net.minestom.server.network.NetworkBufferPool;
 import net.minestom.server.network.packet.client.ClientPacket;
 import net.minestom.server.network.packet.client.configuration.ClientFinishConfigurationPacket;
 import net.minestom.server.network.packet.client.handshake.ClientHandshakePacket;
@@ -13,8 +14,8 @@ import net.minestom.server.network.packet.server.ServerPacket;
 import net.minestom.server.network.packet.server.configuration.FinishConfigurationPacket;
 import net.minestom.server.network.packet.server.login.LoginSuccessPacket;
 import net.minestom.server.network.packet.server.play.StartConfigurationPacket;
-import net.minestom.server.utils.ObjectPool;
 import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.Nullable;
 
 /**
  * Constants and utilities for vanilla packets.
@@ -25,13 +26,20 @@ public final class PacketVanilla {
     public static final PacketParser<ServerPacket> SERVER_PACKET_PARSER = new PacketParser.Server();
 
     /**
-     * Pool containing a buffer able to hold the largest packet.
+     * Pool of buffers used to serialize packets.
      * <p>
-     * Size starts with {@link ServerFlag#POOLED_BUFFER_SIZE} and doubles until {@link ServerFlag#MAX_PACKET_SIZE}.
+     * {@link NetworkBufferPool#get()} returns at least {@link ServerFlag#POOLED_BUFFER_SIZE} bytes,
+     * buffers can be resized up to {@link ServerFlag#MAX_PACKET_SIZE} and must be released explicitly.
      */
-    public static final ObjectPool<NetworkBuffer> PACKET_POOL = ObjectPool.pool(
-            () -> NetworkBuffer.staticBuffer(ServerFlag.POOLED_BUFFER_SIZE, MinecraftServer.process()),
-            NetworkBuffer::clear);
+    public static final NetworkBufferPool PACKET_POOL = new NetworkBufferPool(
+            capacity -> NetworkBuffer.staticBuffer(capacity, MinecraftServer.process()),
+            ServerFlag.POOLED_BUFFER_SIZE);
+
+    /**
+     * Cache of compressed payloads shared between connections, null if disabled.
+     */
+    public static final @Nullable CompressionCache COMPRESSION_CACHE = ServerFlag.COMPRESSION_CACHE_SIZE > 0 ?
+            new CompressionCache(ServerFlag.COMPRESSION_CACHE_SIZE, ServerFlag.COMPRESSION_CACHE_MIN_PACKET_SIZE) : null;
 
     public static ConnectionState nextClientState(ClientPacket packet, ConnectionState currentState) {
         return switch (packet) {
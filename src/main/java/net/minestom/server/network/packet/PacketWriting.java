@@ -1,12 +1,15 @@
 package net.minestom.server.network.packet;
 
+import net.minestom.server.MinecraftServer;
 import net.minestom.server.ServerFlag;
+import net.minestom.server.network.CompressionStrategy;
 import net.minestom.server.network.ConnectionState;
 import net.minestom.server.network.NetworkBuffer;
 import net.minestom.server.network.packet.client.ClientPacket;
 import net.minestom.server.network.packet.server.ServerPacket;
 import org.jctools.queues.MessagePassingQueue;
 import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.function.BiPredicate;
 
@@ -31,6 +34,18 @@ public final class PacketWriting {
         writeFramedPacket(buffer, PacketVanilla.SERVER_PACKET_PARSER, state, packet, compressionThreshold);
     }
 
+    /**
+     * Writes a server packet, reusing the compressed payload of an identical packet if present in the cache.
+     */
+    public static void writeFramedPacket(NetworkBuffer buffer,
+                                         ConnectionState state,
+                                         ServerPacket packet,
+                                         int compressionThreshold,
+                                         @Nullable CompressionCache cache) throws IndexOutOfBoundsException {
+        final PacketRegistry.PacketInfo<ServerPacket> packetInfo = PacketVanilla.SERVER_PACKET_PARSER.stateRegistry(state).packetInfo(packet);
+        writeFramedPacket(buffer, packetInfo.serializer(), packetInfo.id(), packet, compressionThreshold, cache);
+    }
+
     public static <T> void writeFramedPacket(NetworkBuffer buffer,
                                              PacketParser<T> parser,
                                              ConnectionState state,
@@ -69,8 +84,16 @@ public final class PacketWriting {
                                              NetworkBuffer.Type<T> type,
                                              int id, T packet,
                                              int compressionThreshold) throws IndexOutOfBoundsException {
+        writeFramedPacket(buffer, type, id, packet, compressionThreshold, null);
+    }
+
+    public static <T> void writeFramedPacket(NetworkBuffer buffer,
+                                             NetworkBuffer.Type<T> type,
+                                             int id, T packet,
+                                             int compressionThreshold,
+                                             @Nullable CompressionCache cache) throws IndexOutOfBoundsException {
         if (compressionThreshold <= 0) writeUncompressedFormat(buffer, type, id, packet);
-        else writeCompressedFormat(buffer, type, id, packet, compressionThreshold);
+        else writeCompressedFormat(buffer, type, id, packet, compressionThreshold, cache);
     }
 
     private static <T> void writeUncompressedFormat(NetworkBuffer buffer,
@@ -87,7 +110,8 @@ public final class PacketWriting {
     private static <T> void writeCompressedFormat(NetworkBuffer buffer,
                                                   NetworkBuffer.Type<T> type,
                                                   int id, T packet,
-                                                  int compressionThreshold) throws IndexOutOfBoundsException {
+                                                  int compressionThreshold,
+                                                  @Nullable CompressionCache cache) throws IndexOutOfBoundsException {
         // Compressed format https://minecraft.wiki/w/Minecraft_Wiki:Projects/wiki.vg_merge/Protocol#With_compression
         final long compressedIndex = buffer.advanceWrite(3);
         final long uncompressedIndex = buffer.advanceWrite(3);
@@ -95,18 +119,35 @@ public final class PacketWriting {
         buffer.write(NetworkBuffer.VAR_INT, id);
         buffer.write(type, packet);
         final long packetSize = buffer.writeIndex() - contentStart;
-        final boolean compressed = packetSize >= compressionThreshold;
+        final CompressionStrategy strategy = MinecraftServer.getCompressionStrategy();
+        final int level = packetSize >= compressionThreshold ? strategy.level(packet) : CompressionStrategy.SKIP;
+        final boolean compressed = level != CompressionStrategy.SKIP;
         if (compressed) {
-            // Write the compressed content into the pooled buffer
-            // and compress it into the current buffer
-            NetworkBuffer input = PacketVanilla.PACKET_POOL.get();
-            try {
-                if (input.capacity() < packetSize) input.resize(packetSize);
-                NetworkBuffer.copy(buffer, contentStart, input, 0, packetSize);
-                buffer.writeIndex(contentStart);
-                input.compress(0, packetSize, buffer);
-            } finally {
-                PacketVanilla.PACKET_POOL.add(input);
+            final boolean cacheable = cache != null && cache.accepts(packetSize);
+            final CompressionCache.Entry entry = cacheable ? cache.acquire(buffer, contentStart, packetSize, level) : null;
+            if (entry != null) {
+                // Identical payload already compressed for another connection
+                try {
+                    final NetworkBuffer cached = entry.compressed();
+                    buffer.writeIndex(contentStart);
+                    buffer.ensureWritable(cached.capacity());
+                    NetworkBuffer.copy(cached, 0, buffer, contentStart, cached.capacity());
+                    buffer.advanceWrite(cached.capacity());
+                } finally {
+                    entry.release();
+                }
+            } else {
+                // Write the compressed content into the pooled buffer
+                // and compress it into the current buffer
+                NetworkBuffer input = PacketVanilla.PACKET_POOL.get(packetSize);
+                try {
+                    NetworkBuffer.copy(buffer, contentStart, input, 0, packetSize);
+                    buffer.writeIndex(contentStart);
+                    final long compressedSize = strategy.compress(input, 0, packetSize, buffer, level);
+                    if (cacheable) cache.put(input, 0, packetSize, level, buffer, contentStart, compressedSize);
+                } finally {
+                    PacketVanilla.PACKET_POOL.add(input);
+                }
             }
         }
         // Packet header (Packet + Data Length)
@@ -8,6 +8,7 @@ import net.minestom.server.event.EventDispatcher;
 import net.minestom.server.event.ListenerHandle;
 import net.minestom.server.event.player.PlayerPacketOutEvent;
 import net.minestom.server.extras.mojangAuth.MojangCrypt;
+import net.minestom.server.monitoring.NetworkMetrics;
 import net.minestom.server.network.ConnectionState;
 import net.minestom.server.network.NetworkBuffer;
 import net.minestom.server.network.packet.PacketParser;
@@ -27,7 +28,12 @@ import net.minestom.server.network.packet.client.login.ClientLoginPluginResponse
 import net.minestom.server.network.packet.client.login.ClientLoginStartPacket;
 import net.minestom.server.network.packet.client.status.StatusRequestPacket;
 import net.minestom.server.network.packet.server.*;
+import net.minestom.server.network.packet.server.common.DisconnectPacket;
+import net.minestom.server.network.packet.server.common.KeepAlivePacket;
+import net.minestom.server.network.packet.server.common.PingPacket;
+import net.minestom.server.network.packet.server.common.PingResponsePacket;
 import net.minestom.server.network.packet.server.login.SetCompressionPacket;
+import net.minestom.server.network.socket.SelectorWorker;
 import net.minestom.server.utils.collection.ConcurrentMessageQueues;
 import net.minestom.server.utils.validate.Check;
 import org.jctools.queues.MessagePassingQueue;
@@ -68,6 +74,17 @@ public class PlayerSocketConnection extends PlayerConnection {
             ClientLoginAcknowledgedPacket.class, // Handle config state
             ClientFinishConfigurationPacket.class // Enter play state
     );
+    // Packets bypassing the end-of-tick flush (ServerFlag.SOCKET_TICK_FLUSH)
+    private static final Set<Class<? extends ServerPacket>> IMMEDIATE_FLUSH_PACKETS = Set.of(
+            KeepAlivePacket.class, // Used to calculate latency
+            PingPacket.class,
+            PingResponsePacket.class,
+            DisconnectPacket.class // Connection is not flushed by the ticker anymore
+    );
+    // Maximum number of buffers pushed in a single gathering write
+    private static final int MAX_GATHERED_BUFFERS = 64;
+    // Shared bodies smaller than this are copied, cheaper than an additional view and iovec entry
+    private static final long ZERO_COPY_THRESHOLD = 512;
 
     private final SocketChannel channel;
     private SocketAddress remoteAddress;
@@ -85,7 +102,9 @@ public class PlayerSocketConnection extends PlayerConnection {
 
     private final NetworkBuffer readBuffer = NetworkBuffer.resizableBuffer(ServerFlag.POOLED_BUFFER_SIZE, MinecraftServer.process());
     private final MessagePassingQueue<SendablePacket> packetQueue = ConcurrentMessageQueues.mpscUnboundedArrayQueue(1024);
-    private final Thread readThread, writeThread;
+    private final @Nullable Thread readThread, writeThread;
+    // Present when the connection is handled by the selector transport instead of its own threads
+    private final @Nullable SelectorWorker worker;
 
     private final AtomicLong sentPacketCounter = new AtomicLong();
     // Index where compression starts, linked to `sentPacketCounter`
@@ -93,9 +112,16 @@ public class PlayerSocketConnection extends PlayerConnection {
     private volatile long compressionStart = Long.MAX_VALUE;
 
     // Write lock as the default behavior of the writing thread is to park itself
-    // Requires ServerFlag.FASTER_SOCKET_WRITES to be enabled
+    // Requires ServerFlag.FASTER_SOCKET_WRITES or ServerFlag.SOCKET_TICK_FLUSH to be enabled
     private final AtomicBoolean writeSignaled = new AtomicBoolean(false);
 
+    // Buffers waiting to be written to the socket, confined to the writing thread
+    private final NetworkBuffer[] writeBuffers = new NetworkBuffer[MAX_GATHERED_BUFFERS];
+    private int writeBuffersStart, writeBuffersEnd;
+    // Encryption of the buffer being filled, the whole buffer is ciphered at once
+    private @Nullable EncryptionContext writeEncryption;
+    private volatile long socketWrites, socketWrittenBytes;
+
     private final ListenerHandle<PlayerPacketOutEvent> outgoing = EventDispatcher.getHandle(PlayerPacketOutEvent.class);
 
     public PlayerSocketConnection(SocketChannel channel, SocketAddress remoteAddress, Thread readThread, Thread writeThread) {
@@ -104,6 +130,16 @@ public class PlayerSocketConnection extends PlayerConnection {
         this.remoteAddress = remoteAddress;
         this.writeThread = writeThread;
         this.readThread = readThread;
+        this.worker = null;
+    }
+
+    public PlayerSocketConnection(SocketChannel channel, SocketAddress remoteAddress, SelectorWorker worker) {
+        super();
+        this.channel = channel;
+        this.remoteAddress = remoteAddress;
+        this.writeThread = null;
+        this.readThread = null;
+        this.worker = worker;
     }
 
     public void read(PacketParser<ClientPacket> packetParser) throws IOException {
@@ -201,23 +237,57 @@ public class PlayerSocketConnection extends PlayerConnection {
     @Override
     public void sendPacket(SendablePacket packet) {
         this.packetQueue.relaxedOffer(packet);
-        unlockWriteThread();
+        if (!ServerFlag.SOCKET_TICK_FLUSH || flushImmediately(packet)) unlockWriteThread();
     }
 
     @Override
     public void sendPackets(Collection<SendablePacket> packets) {
-        for (SendablePacket packet : packets) this.packetQueue.relaxedOffer(packet);
-        unlockWriteThread();
+        boolean immediate = !ServerFlag.SOCKET_TICK_FLUSH;
+        for (SendablePacket packet : packets) {
+            this.packetQueue.relaxedOffer(packet);
+            immediate |= flushImmediately(packet);
+        }
+        if (immediate) unlockWriteThread();
+    }
+
+    /**
+     * Wakes up the writer to send all queued packets, without waiting for the end of the tick.
+     * <p>
+     * Called by the ticker on every play connection when {@link ServerFlag#SOCKET_TICK_FLUSH} is enabled.
+     */
+    public void flush() {
+        if (!packetQueue.isEmpty()) unlockWriteThread();
+    }
+
+    private boolean flushImmediately(SendablePacket packet) {
+        // Only play packets are synchronized with the tick
+        return getServerState() != ConnectionState.PLAY || IMMEDIATE_FLUSH_PACKETS.contains(packet.getClass());
     }
 
-    // Requires ServerFlag.FASTER_SOCKET_WRITES
+    // Requires ServerFlag.FASTER_SOCKET_WRITES, ServerFlag.SOCKET_TICK_FLUSH, or the selector transport
     private void unlockWriteThread() {
-        if (!ServerFlag.FASTER_SOCKET_WRITES) return;
+        final SelectorWorker worker = this.worker;
+        if (worker != null) {
+            if (!this.writeSignaled.compareAndExchange(false, true)) worker.signalWrite(this);
+            return;
+        }
+        if (!parkWriteThread()) return;
         if (!this.writeSignaled.compareAndExchange(false, true)) {
             LockSupport.unpark(writeThread);
         }
     }
 
+    private static boolean parkWriteThread() {
+        return ServerFlag.FASTER_SOCKET_WRITES || ServerFlag.SOCKET_TICK_FLUSH;
+    }
+
+    @Override
+    public void disconnect() {
+        super.disconnect();
+        // Let the writer close the channel once the remaining packets are flushed
+        if (worker != null || parkWriteThread()) unlockWriteThread();
+    }
+
     @Override
     public SocketAddress getRemoteAddress() {
         return remoteAddress;
@@ -322,32 +392,12 @@ public class PlayerSocketConnection extends PlayerConnection {
         this.nonce = nonce;
     }
 
-    private boolean writeSendable(NetworkBuffer buffer, SendablePacket sendable, boolean compressed) {
-        final long start = buffer.writeIndex();
-        final boolean result = writePacketSync(buffer, sendable, compressed);
-        if (!result) return false;
-        // Encrypt data
-        final long length = buffer.writeIndex() - start;
-        final EncryptionContext encryptionContext = this.encryptionContext;
-        if (encryptionContext != null && length > 0) { // Encryption support
-            buffer.cipher(encryptionContext.encrypt(), start, length);
-        }
-        return true;
-    }
-
     private boolean writePacketSync(NetworkBuffer buffer, SendablePacket packet, boolean compressed) {
         final Player player = getPlayer();
         final ConnectionState state = getServerState();
         if (player != null) {
             // Outgoing event
-            if (outgoing.hasListener()) {
-                final ServerPacket serverPacket = SendablePacket.extractServerPacket(state, packet);
-                if (serverPacket != null) { // Events are not called for buffered packets
-                    PlayerPacketOutEvent event = new PlayerPacketOutEvent(player, serverPacket);
-                    outgoing.call(event);
-                    if (event.isCancelled()) return true;
-                }
-            }
+            if (isOutgoingCancelled(player, state, packet)) return true;
             // Translation
             if (MinestomAdventure.AUTOMATIC_COMPONENT_TRANSLATION && packet instanceof ServerPacket.ComponentHolding) {
                 packet = ((ServerPacket.ComponentHolding) packet).copyWithOperator(component ->
@@ -363,7 +413,7 @@ public class PlayerSocketConnection extends PlayerConnection {
                     var nextState = PacketVanilla.nextServerState(serverPacket, state);
                     if (nextState != state) setServerState(nextState);
 
-                    PacketWriting.writeFramedPacket(buffer, state, serverPacket, compressionThreshold);
+                    PacketWriting.writeFramedPacket(buffer, state, serverPacket, compressionThreshold, PacketVanilla.COMPRESSION_CACHE);
                     yield true;
                 }
                 case FramedPacket framedPacket -> {
@@ -375,12 +425,12 @@ public class PlayerSocketConnection extends PlayerConnection {
                     if (body != null) {
                         yield writeBuffer(buffer, body, 0, body.capacity());
                     } else {
-                        PacketWriting.writeFramedPacket(buffer, state, cachedPacket.packet(state), compressionThreshold);
+                        PacketWriting.writeFramedPacket(buffer, state, cachedPacket.packet(state), compressionThreshold, PacketVanilla.COMPRESSION_CACHE);
                         yield true;
                     }
                 }
                 case LazyPacket lazyPacket -> {
-                    PacketWriting.writeFramedPacket(buffer, state, lazyPacket.packet(), compressionThreshold);
+                    PacketWriting.writeFramedPacket(buffer, state, lazyPacket.packet(), compressionThreshold, PacketVanilla.COMPRESSION_CACHE);
                     yield true;
                 }
                 case BufferedPacket bufferedPacket -> {
@@ -396,6 +446,48 @@ public class PlayerSocketConnection extends PlayerConnection {
         }
     }
 
+    private boolean isOutgoingCancelled(Player player, ConnectionState state, SendablePacket packet) {
+        if (!outgoing.hasListener()) return false;
+        final ServerPacket serverPacket = SendablePacket.extractServerPacket(state, packet);
+        if (serverPacket == null) return false; // Events are not called for buffered packets
+        PlayerPacketOutEvent event = new PlayerPacketOutEvent(player, serverPacket);
+        outgoing.call(event);
+        return event.isCancelled();
+    }
+
+    /**
+     * Gets whether the packet body can be written straight from its shared buffer.
+     * <p>
+     * Encrypted connections need their own copy to cipher.
+     */
+    private boolean isZeroCopy(SendablePacket packet) {
+        if (encryptionContext != null) return false;
+        final long length = switch (packet) {
+            case FramedPacket framedPacket -> framedPacket.body().capacity();
+            case CachedPacket cachedPacket -> {
+                final NetworkBuffer body = cachedPacket.body(getServerState());
+                yield body != null ? body.capacity() : 0;
+            }
+            case BufferedPacket bufferedPacket -> bufferedPacket.length();
+            case ServerPacket ignored -> 0;
+            case LazyPacket ignored -> 0;
+        };
+        return length >= ZERO_COPY_THRESHOLD;
+    }
+
+    private NetworkBuffer sharedView(SendablePacket packet) {
+        return switch (packet) {
+            case FramedPacket framedPacket -> framedPacket.body().view(0, framedPacket.body().capacity());
+            case CachedPacket cachedPacket -> {
+                final NetworkBuffer body = Objects.requireNonNull(cachedPacket.body(getServerState()));
+                yield body.view(0, body.capacity());
+            }
+            case BufferedPacket bufferedPacket ->
+                    bufferedPacket.buffer().view(bufferedPacket.index(), bufferedPacket.length());
+            default -> throw new IllegalArgumentException("Packet does not have a shared body: " + packet);
+        };
+    }
+
     private boolean writeBuffer(NetworkBuffer buffer, NetworkBuffer body, long index, long length) {
         if (buffer.writableBytes() < length) {
             // Not enough space in the buffer
@@ -406,25 +498,16 @@ public class PlayerSocketConnection extends PlayerConnection {
         return true;
     }
 
-    private NetworkBuffer writeLeftover = null;
-
     public void flushSync() throws IOException {
         // Write leftover if any
-        NetworkBuffer leftover = this.writeLeftover;
-        if (leftover != null) {
-            final boolean success = leftover.writeChannel(channel);
-            if (success) {
-                this.writeLeftover = null;
-                PacketVanilla.PACKET_POOL.add(leftover);
-            } else {
-                // Failed to write the whole leftover, try again next flush
-                return;
-            }
+        if (!writeLeftover()) {
+            // Failed to write the whole leftover, try again next flush
+            return;
         }
         // Consume queued packets
         var packetQueue = this.packetQueue;
         if (packetQueue.isEmpty()) {
-            if (!ServerFlag.FASTER_SOCKET_WRITES) {
+            if (!parkWriteThread()) {
                 try {
                     // Can probably be improved by waking up at the end of the tick
                     // But this work well enough and without additional state.
@@ -436,33 +519,157 @@ public class PlayerSocketConnection extends PlayerConnection {
                 assert this.writeThread == Thread.currentThread(): "writeThread should be the current thread";
                 this.writeSignaled.set(false);
                 LockSupport.park(this);
-                assert this.packetQueue.peek() != null : "packet queue should not be empty";
+                // Queue may be empty if woken up by a disconnection
             }
         }
+        writeQueue();
+    }
+
+    /**
+     * Writes as many queued packets as the socket accepts without blocking.
+     * <p>
+     * Used by the selector transport, the channel must be in non-blocking mode.
+     *
+     * @return true if everything has been written, false if the socket send buffer is full
+     * @throws IOException if the channel cannot be written to
+     */
+    @ApiStatus.Internal
+    public boolean flushNonBlocking() throws IOException {
+        // Packets sent from now on must signal the worker again
+        this.writeSignaled.set(false);
+        while (writeLeftover()) {
+            if (packetQueue.isEmpty()) return true;
+            writeQueue();
+        }
+        return false;
+    }
+
+    /**
+     * Writes the buffers remaining from the previous flush.
+     *
+     * @return true if all buffers have been fully written
+     */
+    private boolean writeLeftover() throws IOException {
+        final NetworkBuffer[] buffers = this.writeBuffers;
+        int start = this.writeBuffersStart;
+        final int end = this.writeBuffersEnd;
+        if (start == end) return true;
+        final long count = NetworkBuffer.writeChannel(channel, buffers, start, end - start);
+        this.socketWrites++;
+        this.socketWrittenBytes += count;
+        NetworkMetrics.recordSocketWrite(count);
+        // Release fully written buffers, read-only ones are views of shared packets and are not pooled
+        while (start < end && buffers[start].readableBytes() == 0) {
+            final NetworkBuffer buffer = buffers[start];
+            if (!buffer.isReadOnly()) PacketVanilla.PACKET_POOL.add(buffer);
+            buffers[start++] = null;
+        }
+        if (start == end) {
+            this.writeBuffersStart = this.writeBuffersEnd = 0;
+            return true;
+        }
+        // Keep the buffers if not fully written
+        this.writeBuffersStart = start;
+        return false;
+    }
+
+    /**
+     * Gives the buffers that could not be written back to the pool.
+     * <p>
+     * Called by the writer once the channel is closed.
+     */
+    @ApiStatus.Internal
+    public void releaseWriteBuffers() {
+        final NetworkBuffer[] buffers = this.writeBuffers;
+        for (int i = writeBuffersStart; i < writeBuffersEnd; i++) {
+            final NetworkBuffer buffer = buffers[i];
+            if (!buffer.isReadOnly()) PacketVanilla.PACKET_POOL.add(buffer);
+            buffers[i] = null;
+        }
+        this.writeBuffersStart = this.writeBuffersEnd = 0;
+    }
+
+    private void writeQueue() throws IOException {
         if (!channel.isConnected()) throw new EOFException("Channel is closed");
-        NetworkBuffer buffer = PacketVanilla.PACKET_POOL.get();
-        // Write to buffer
-        PacketWriting.writeQueue(buffer, packetQueue, 1, (b, packet) -> {
-            final boolean compressed = sentPacketCounter.get() > compressionStart;
-            final boolean success = writeSendable(b, packet, compressed);
-            if (success) sentPacketCounter.getAndIncrement();
-            return success;
-        });
-        // Write to channel
-        final boolean success = buffer.writeChannel(channel);
-        // Keep the buffer if not fully written
-        if (success) PacketVanilla.PACKET_POOL.add(buffer);
-        else this.writeLeftover = buffer;
-    }
-
-    public Thread readThread() {
+        // Serialize as many packets as possible, and send them with a single gathering write
+        // Large shared bodies (viewable & cached packets) are referenced instead of being copied
+        final NetworkBuffer[] buffers = this.writeBuffers;
+        SendablePacket next;
+        while (writeBuffersEnd < buffers.length && (next = packetQueue.peek()) != null) {
+            if (isZeroCopy(next)) {
+                packetQueue.poll();
+                sentPacketCounter.getAndIncrement();
+                final Player player = getPlayer();
+                if (player != null && isOutgoingCancelled(player, getServerState(), next)) continue;
+                buffers[writeBuffersEnd++] = sharedView(next);
+                continue;
+            }
+            NetworkBuffer buffer = PacketVanilla.PACKET_POOL.get();
+            buffers[writeBuffersEnd++] = buffer;
+            PacketWriting.writeQueue(buffer, packetQueue, 1, (b, packet) -> {
+                // Stop at the next shared body, it will get its own entry
+                if (isZeroCopy(packet)) return false;
+                // A buffer is ciphered as a whole, it cannot span the moment encryption gets enabled
+                if (b.writeIndex() == 0) this.writeEncryption = this.encryptionContext;
+                else if (this.writeEncryption != this.encryptionContext) return false;
+                final boolean compressed = sentPacketCounter.get() > compressionStart;
+                final boolean success = writePacketSync(b, packet, compressed);
+                if (success) sentPacketCounter.getAndIncrement();
+                return success;
+            });
+            if (buffer.writeIndex() == 0) break; // Nothing could be written, try again next flush
+            // Encrypt the whole buffer with a single cipher call instead of once per packet
+            final EncryptionContext encryption = this.writeEncryption;
+            if (encryption != null) buffer.cipher(encryption.encrypt(), 0, buffer.writeIndex());
+        }
+        writeLeftover();
+    }
+
+    /**
+     * Gets the number of socket write calls performed by this connection.
+     *
+     * @return the number of write syscalls
+     */
+    public long socketWrites() {
+        return socketWrites;
+    }
+
+    /**
+     * Gets the number of bytes written to the socket by this connection.
+     *
+     * @return the number of written bytes
+     */
+    public long socketWrittenBytes() {
+        return socketWrittenBytes;
+    }
+
+    /**
+     * Gets the thread reading this connection.
+     *
+     * @return the reader thread, null when using the selector transport
+     */
+    public @Nullable Thread readThread() {
         return readThread;
     }
 
-    public Thread writeThread() {
+    /**
+     * Gets the thread writing to this connection.
+     *
+     * @return the writer thread, null when using the selector transport
+     */
+    public @Nullable Thread writeThread() {
         return writeThread;
     }
 
+    /**
+     * Gets the selector worker handling this connection.
+     *
+     * @return the selector worker, null when using dedicated reader/writer threads
+     */
+    public @Nullable SelectorWorker worker() {
+        return worker;
+    }
+
     record EncryptionContext(Cipher encrypt, Cipher decrypt) {
     }
 }
@@ -0,0 +1,206 @@
+package net.minestom.server.network.socket;
+
+import net.minestom.server.MinecraftServer;
+import net.minestom.server.network.ConnectionState;
+import net.minestom.server.network.packet.PacketParser;
+import net.minestom.server.network.packet.client.ClientPacket;
+import net.minestom.server.network.player.PlayerSocketConnection;
+import net.minestom.server.utils.collection.ConcurrentMessageQueues;
+import org.jctools.queues.MessagePassingQueue;
+import org.jetbrains.annotations.ApiStatus;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.net.SocketException;
+import java.nio.channels.CancelledKeyException;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.SocketChannel;
+import java.util.Iterator;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Event-loop transport multiplexing many {@link PlayerSocketConnection} over a single NIO {@link Selector}.
+ * <p>
+ * Used instead of the reader/writer virtual threads when {@link net.minestom.server.ServerFlag#SOCKET_SELECTOR_THREADS} is positive.
+ * Reads are performed as soon as the channel is readable, writes are triggered by {@link #signalWrite(PlayerSocketConnection)}
+ * and continue through {@link SelectionKey#OP_WRITE} interest when the socket send buffer is full.
+ */
+@ApiStatus.Internal
+public final class SelectorWorker {
+    private final PacketParser<ClientPacket> packetParser;
+    private final Selector selector;
+    private final Thread thread;
+
+    private final MessagePassingQueue<PlayerSocketConnection> registrations = ConcurrentMessageQueues.mpscUnboundedArrayQueue(64);
+    private final MessagePassingQueue<PlayerSocketConnection> pendingWrites = ConcurrentMessageQueues.mpscUnboundedArrayQueue(1024);
+    private final MessagePassingQueue<Runnable> tasks = ConcurrentMessageQueues.mpscUnboundedArrayQueue(64);
+    // Avoid calling Selector#wakeup (a syscall) once per signal
+    private final AtomicBoolean wakeupSignaled = new AtomicBoolean(false);
+
+    private volatile boolean stop;
+
+    SelectorWorker(PacketParser<ClientPacket> packetParser, Thread.Builder threadBuilder) throws IOException {
+        this.packetParser = packetParser;
+        this.selector = Selector.open();
+        this.thread = threadBuilder.unstarted(this::run);
+    }
+
+    void start() {
+        this.thread.start();
+    }
+
+    void stop() {
+        this.stop = true;
+        this.selector.wakeup();
+    }
+
+    /**
+     * Registers a new connection to this worker, the channel must be in non-blocking mode.
+     *
+     * @param connection the connection to register
+     */
+    void register(PlayerSocketConnection connection) {
+        this.registrations.relaxedOffer(connection);
+        wakeup();
+    }
+
+    /**
+     * Notifies the worker that the connection has packets waiting to be flushed.
+     * <p>
+     * Deduplication is the responsibility of the caller.
+     *
+     * @param connection the connection to flush
+     */
+    public void signalWrite(PlayerSocketConnection connection) {
+        this.pendingWrites.relaxedOffer(connection);
+        wakeup();
+    }
+
+    public Thread thread() {
+        return thread;
+    }
+
+    private void wakeup() {
+        if (!wakeupSignaled.compareAndExchange(false, true)) {
+            selector.wakeup();
+        }
+    }
+
+    private void run() {
+        while (!stop) {
+            try {
+                selector.select();
+                // Must be reset before draining the queues, signals coming after will wake up the next select
+                this.wakeupSignaled.set(false);
+                this.registrations.drain(this::processRegistration);
+                this.tasks.drain(Runnable::run);
+                this.pendingWrites.drain(this::processWrite);
+                processSelectedKeys();
+            } catch (Throwable e) {
+                MinecraftServer.getExceptionManager().handleException(e);
+            }
+        }
+        // Close all remaining connections
+        for (SelectionKey key : selector.keys()) {
+            closeQuietly(key);
+        }
+        try {
+            selector.close();
+        } catch (IOException e) {
+            MinecraftServer.getExceptionManager().handleException(e);
+        }
+    }
+
+    private void processRegistration(PlayerSocketConnection connection) {
+        try {
+            connection.getChannel().register(selector, SelectionKey.OP_READ, connection);
+        } catch (ClosedChannelException ignored) {
+            connection.disconnect();
+        }
+    }
+
+    private void processSelectedKeys() {
+        Iterator<SelectionKey> iterator = selector.selectedKeys().iterator();
+        while (iterator.hasNext()) {
+            final SelectionKey key = iterator.next();
+            iterator.remove();
+            final PlayerSocketConnection connection = (PlayerSocketConnection) key.attachment();
+            try {
+                if (key.isValid() && key.isWritable()) processWrite(connection);
+                if (key.isValid() && key.isReadable()) processRead(key, connection);
+            } catch (CancelledKeyException ignored) {
+                // Connection got closed in-between
+            }
+        }
+    }
+
+    private void processRead(SelectionKey key, PlayerSocketConnection connection) {
+        if (connection.getClientState() != ConnectionState.PLAY) {
+            // Handshake, login and configuration packets may block (player provider, login plugin messages, auth)
+            // Stop listening for reads until the packets have been processed on a virtual thread
+            key.interestOps(key.interestOps() & ~SelectionKey.OP_READ);
+            Thread.ofVirtual().name("Ms-Socket-Reader-" + connection.getRemoteAddress()).start(() -> {
+                if (!read(connection)) return;
+                this.tasks.relaxedOffer(() -> {
+                    if (key.isValid()) key.interestOps(key.interestOps() | SelectionKey.OP_READ);
+                });
+                wakeup();
+            });
+            return;
+        }
+        read(connection);
+    }
+
+    private boolean read(PlayerSocketConnection connection) {
+        try {
+            connection.read(packetParser);
+            return true;
+        } catch (ClosedChannelException ignored) {
+            return false; // We closed the socket during read
+        } catch (EOFException e) {
+            connection.disconnect();
+            return false;
+        } catch (Throwable e) {
+            boolean isExpected = e instanceof SocketException && "Connection reset".equals(e.getMessage());
+            if (!isExpected) MinecraftServer.getExceptionManager().handleException(e);
+            connection.disconnect();
+            return false;
+        }
+    }
+
+    private void processWrite(PlayerSocketConnection connection) {
+        final SocketChannel channel = connection.getChannel();
+        final SelectionKey key = channel.keyFor(selector);
+        if (key == null || !key.isValid()) return; // Not yet registered, or already closed
+        try {
+            final boolean flushed = connection.flushNonBlocking();
+            if (flushed && !connection.isOnline()) {
+                closeQuietly(key);
+                return;
+            }
+            // Only listen for write readiness when the socket send buffer is full
+            final int ops = key.interestOps();
+            final int newOps = flushed ? ops & ~SelectionKey.OP_WRITE : ops | SelectionKey.OP_WRITE;
+            if (ops != newOps) key.interestOps(newOps);
+        } catch (ClosedChannelException ignored) {
+            // We closed the socket during write
+        } catch (Throwable e) {
+            boolean isExpected = e instanceof IOException && "Broken pipe".equals(e.getMessage());
+            if (!isExpected) MinecraftServer.getExceptionManager().handleException(e);
+            connection.disconnect();
+            closeQuietly(key);
+        }
+    }
+
+    private static void closeQuietly(SelectionKey key) {
+        key.cancel();
+        if (key.attachment() instanceof PlayerSocketConnection connection) connection.releaseWriteBuffers();
+        try {
+            key.channel().close();
+        } catch (IOException ignored) {
+            // Disconnect
+        }
+    }
+}
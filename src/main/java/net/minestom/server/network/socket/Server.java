@@ -23,14 +23,29 @@ public final class Server {
     private volatile boolean stop;
 
     private final PacketParser<ClientPacket> packetParser;
+    private final int selectorThreads;
+    private SelectorWorker[] workers;
 
     private ServerSocketChannel serverSocket;
     private SocketAddress socketAddress;
     private String address;
     private int port;
 
-    public Server(PacketParser<ClientPacket> packetParser) {
+    /**
+     * Creates a server.
+     *
+     * @param packetParser    the parser used for incoming packets
+     * @param selectorThreads the number of selector threads multiplexing connections,
+     *                        0 to use one reader and one writer virtual thread per connection
+     */
+    public Server(PacketParser<ClientPacket> packetParser, int selectorThreads) {
+        Check.argCondition(selectorThreads < 0, "selectorThreads cannot be negative");
         this.packetParser = packetParser;
+        this.selectorThreads = selectorThreads;
+    }
+
+    public Server(PacketParser<ClientPacket> packetParser) {
+        this(packetParser, ServerFlag.SOCKET_SELECTOR_THREADS);
     }
 
     public Server() {
@@ -67,6 +82,10 @@ public final class Server {
 
     @ApiStatus.Internal
     public void start() {
+        if (selectorThreads > 0) {
+            startSelectors();
+            return;
+        }
         // Use named thread builders for logging
         var readBuilder = Thread.ofVirtual().name("Ms-Socket-Reader-", 0);
         var writeBuilder = Thread.ofVirtual().name("Ms-Socket-Writer-", 0);
@@ -91,6 +110,39 @@ public final class Server {
         });
     }
 
+    private void startSelectors() {
+        var selectorBuilder = Thread.ofPlatform().daemon().name("Ms-Socket-Selector-", 0);
+        SelectorWorker[] workers = new SelectorWorker[selectorThreads];
+        try {
+            for (int i = 0; i < workers.length; i++) {
+                workers[i] = new SelectorWorker(packetParser, selectorBuilder);
+            }
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+        this.workers = workers;
+        for (SelectorWorker worker : workers) worker.start();
+        Thread.ofVirtual().name("Ms-Socket-Server").start(() -> {
+            int next = 0;
+            while (!stop) {
+                try {
+                    final SocketChannel client = serverSocket.accept();
+                    configureSocket(client);
+                    client.configureBlocking(false);
+                    // Round-robin distribution, connections are expected to be evenly loaded
+                    final SelectorWorker worker = workers[next];
+                    next = (next + 1) % workers.length;
+                    PlayerSocketConnection connection = new PlayerSocketConnection(client, client.getRemoteAddress(), worker);
+                    worker.register(connection);
+                } catch (AsynchronousCloseException ignored) {
+                    // We are exiting, bye bye!
+                } catch (IOException e) {
+                    throw new RuntimeException(e);
+                }
+            }
+        });
+    }
+
     private void configureSocket(SocketChannel channel) throws IOException {
         if (channel.getLocalAddress() instanceof InetSocketAddress) {
             Socket socket = channel.socket();
@@ -123,6 +175,14 @@ public final class Server {
 
     private void playerWriteLoop(PlayerSocketConnection connection) {
         Check.notNull(connection, "connection cannot be null");
+        try {
+            writeLoop(connection);
+        } finally {
+            connection.releaseWriteBuffers();
+        }
+    }
+
+    private void writeLoop(PlayerSocketConnection connection) {
         while (!stop) {
             try {
                 connection.flushSync();
@@ -157,6 +217,10 @@ public final class Server {
 
     public void stop() {
         this.stop = true;
+        final SelectorWorker[] workers = this.workers;
+        if (workers != null) {
+            for (SelectorWorker worker : workers) worker.stop();
+        }
         try {
             if (serverSocket != null) {
                 this.serverSocket.close();
@@ -175,6 +239,15 @@ public final class Server {
         return packetParser;
     }
 
+    /**
+     * Gets the number of selector threads multiplexing connections.
+     *
+     * @return the number of selector threads, 0 if each connection has its own reader and writer threads
+     */
+    public int selectorThreads() {
+        return selectorThreads;
+    }
+
     public SocketAddress socketAddress() {
         return socketAddress;
     }
@@ -11,6 +11,7 @@ import net.minestom.server.entity.Entity;
 import net.minestom.server.entity.Player;
 import net.minestom.server.network.ConnectionState;
 import net.minestom.server.network.NetworkBuffer;
+import net.minestom.server.network.NetworkBufferPool;
 import net.minestom.server.network.packet.PacketWriting;
 import net.minestom.server.network.packet.server.BufferedPacket;
 import net.minestom.server.network.packet.server.ServerPacket;
@@ -74,12 +75,17 @@ public final class PacketViewableUtils {
     }
 
     private static final class ViewableStorage {
-        private static final ObjectPool<NetworkBuffer> POOL = ObjectPool.pool(
-                () -> NetworkBuffer.resizableBuffer(ServerFlag.POOLED_BUFFER_SIZE, MinecraftServer.process()),
-                NetworkBuffer::clear);
+        private static final NetworkBufferPool POOL = new NetworkBufferPool(
+                capacity -> NetworkBuffer.resizableBuffer(capacity, MinecraftServer.process()),
+                ServerFlag.POOLED_BUFFER_SIZE);
         // Player id -> list of offsets to ignore (32:32 bits)
         private final Int2ObjectMap<LongArrayList> entityIdMap = new Int2ObjectOpenHashMap<>();
-        private final NetworkBuffer buffer = POOL.getAndRegister(this);
+        private final NetworkBuffer buffer = POOL.get();
+
+        ViewableStorage() {
+            // Storages live as long as their viewable
+            POOL.register(this, buffer);
+        }
 
         private synchronized void append(ServerPacket serverPacket, @Nullable Player exception) {
             final long start = buffer.writeIndex();
@@ -2,6 +2,7 @@ package net.minestom.server.utils.collection;
 
 import net.minestom.server.ServerFlag;
 import org.jctools.queues.MessagePassingQueue;
+import org.jctools.queues.MpmcArrayQueue;
 import org.jctools.queues.MpmcUnboundedXaddArrayQueue;
 import org.jctools.queues.MpscArrayQueue;
 import org.jctools.queues.MpscUnboundedXaddArrayQueue;
@@ -17,6 +18,10 @@ public final class ConcurrentMessageQueues {
         return ServerFlag.UNSAFE_COLLECTIONS ? new MpscArrayQueue<>(capacity) : new MpscAtomicArrayQueue<>(capacity);
     }
 
+    public static <T> MessagePassingQueue<T> mpmcArrayQueue(int capacity) {
+        return ServerFlag.UNSAFE_COLLECTIONS ? new MpmcArrayQueue<>(capacity) : new MpmcAtomicArrayQueue<>(capacity);
+    }
+
     public static <T> MessagePassingQueue<T> mpscUnboundedArrayQueue(int chunkSize) {
         return ServerFlag.UNSAFE_COLLECTIONS ? new MpscUnboundedXaddArrayQueue<>(chunkSize) : new MpscUnboundedAtomicArrayQueue<>(chunkSize);
     }
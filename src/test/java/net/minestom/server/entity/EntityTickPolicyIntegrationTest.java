@@ -0,0 +1,90 @@
+package net.minestom.server.entity;
+
+import net.minestom.server.coordinate.ChunkRange;
+import net.minestom.server.coordinate.Pos;
+import net.minestom.server.coordinate.Vec;
+import net.minestom.server.instance.Instance;
+import net.minestom.testing.Env;
+import net.minestom.testing.EnvTest;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@EnvTest
+public class EntityTickPolicyIntegrationTest {
+    private static final int TICKS = 40;
+
+    @Test
+    public void idleEntitySkipsTicks(Env env) {
+        var instance = env.createFlatInstance();
+        instance.setEntityTickPolicy(EntityTickPolicy.DEFAULT);
+        var entity = new Entity(EntityType.ZOMBIE);
+        entity.setInstance(instance, new Pos(0, 40, 0)).join();
+
+        for (int i = 0; i < TICKS; i++) env.tick();
+
+        // No viewer, ticked every 20 ticks
+        var stats = instance.entityTickStats();
+        assertTrue(stats.skipped() > 0);
+        assertTrue(stats.ticked() <= 4, "ticked " + stats.ticked());
+        // Alive ticks include the skipped ones
+        assertTrue(entity.getAliveTicks() > TICKS - 20 && entity.getAliveTicks() <= TICKS);
+    }
+
+    @Test
+    public void entityTypePolicy(Env env) {
+        var instance = env.createFlatInstance();
+        instance.setEntityTickPolicy(EntityTickPolicy.DEFAULT);
+        instance.setEntityTickPolicy(EntityType.ZOMBIE, EntityTickPolicy.EVERY_TICK);
+        assertSame(EntityTickPolicy.DEFAULT, instance.getEntityTickPolicy(EntityType.SKELETON));
+        var entity = new Entity(EntityType.ZOMBIE);
+        entity.setInstance(instance, new Pos(0, 40, 0)).join();
+
+        for (int i = 0; i < TICKS; i++) env.tick();
+
+        assertEquals(TICKS, entity.getAliveTicks());
+        assertEquals(0, instance.entityTickStats().skipped());
+    }
+
+    @Test
+    public void movementCatchesUp(Env env) {
+        var reducedInstance = env.createFlatInstance();
+        loadChunks(reducedInstance);
+        reducedInstance.setEntityTickPolicy(EntityTickPolicy.DEFAULT.withIntervals(2, 4, 5));
+        var fullInstance = env.createFlatInstance();
+        loadChunks(fullInstance);
+
+        // Knocked back, with gravity and drag
+        var reduced = new Entity(EntityType.ZOMBIE);
+        reduced.setInstance(reducedInstance, new Pos(0.5, 45, 0.5)).join();
+        reduced.setVelocity(new Vec(12, 6, 4));
+        var full = new Entity(EntityType.ZOMBIE);
+        full.setInstance(fullInstance, new Pos(0.5, 45, 0.5)).join();
+        full.setVelocity(new Vec(12, 6, 4));
+
+        List<Pos> positions = new ArrayList<>();
+        List<Vec> velocities = new ArrayList<>();
+        positions.add(full.getPosition());
+        velocities.add(full.getVelocity());
+        for (int i = 0; i < TICKS; i++) {
+            env.tick();
+            positions.add(full.getPosition());
+            velocities.add(full.getVelocity());
+        }
+
+        assertTrue(reducedInstance.entityTickStats().skipped() > 0);
+        assertEquals(0, fullInstance.entityTickStats().skipped());
+        assertTrue(full.isOnGround(), "the entity must land during the test");
+        // Same state as when ticked every tick, at the last tick of the reduced entity
+        final int ticks = (int) reduced.getAliveTicks();
+        assertTrue(positions.get(ticks).samePoint(reduced.getPosition()), positions.get(ticks) + " " + reduced.getPosition());
+        assertTrue(velocities.get(ticks).samePoint(reduced.getVelocity()), velocities.get(ticks) + " " + reduced.getVelocity());
+    }
+
+    private static void loadChunks(Instance instance) {
+        ChunkRange.chunksInRange(0, 0, 4, (x, z) -> instance.loadChunk(x, z).join());
+    }
+}
@@ -192,6 +192,151 @@ public class PathfinderIntegrationTest {
         validateNodes(nav.getNodes(), i);
     }
 
+    @Test
+    public void testReusedSearch(Env env) {
+        var i = env.createFlatInstance();
+
+        ChunkRange.chunksInRange(0, 0, 10, (x, z) -> {
+            i.loadChunk(x, z).join();
+        });
+
+        for (int x = -6; x <= 6; x++) {
+            i.setBlock(x, 40, 5, Block.STONE);
+            i.setBlock(x, 41, 5, Block.STONE);
+        }
+
+        var boundingBox = new LivingEntity(EntityType.ZOMBIE).getBoundingBox();
+        var generator = new GroundNodeGenerator();
+        // Searches of a thread share their state, the second must not see the first
+        PPath first = PathGenerator.generate(i, new Pos(0.5, 40, 0.5), new Pos(0.5, 40, 10.5),
+                1, 50, 50, boundingBox, true, generator, null);
+        PPath second = PathGenerator.generate(i, new Pos(0.5, 40, 0.5), new Pos(0.5, 40, 10.5),
+                1, 50, 50, boundingBox, true, generator, null);
+
+        assertEquals(PPath.State.COMPUTED, first.getState());
+        validateNodes(first.getNodes(), i);
+        assertEquals(first.getNodes(), second.getNodes());
+        // Around the wall
+        assertTrue(first.getNodes().stream().anyMatch(node -> Math.abs(node.x()) > 6));
+    }
+
+    @Test
+    public void testHierarchical(Env env) {
+        var i = env.createFlatInstance();
+
+        ChunkRange.chunksInRange(0, 0, 10, (x, z) -> {
+            i.loadChunk(x, z).join();
+        });
+
+        for (int x = -24; x <= 24; x++) {
+            for (int y = 40; y <= 42; y++) i.setBlock(x, y, 40, Block.STONE);
+        }
+
+        try (var pathfinder = new HierarchicalPathfinder(i)) {
+            var boundingBox = new LivingEntity(EntityType.ZOMBIE).getBoundingBox();
+            PPath path = new PPath(150, 20, null);
+            pathfinder.planner.compute(i, new Pos(0.5, 40, 0.5), new Pos(0.5, 40, 80.5),
+                    1, 150, 20, boundingBox, true, new GroundNodeGenerator(), path, null);
+
+            assertNotEquals(PPath.State.INVALID, path.getState());
+            List<PNode> nodes = walkedNodes(path.getNodes());
+            validateNodes(nodes, i);
+            // Around the wall
+            assertTrue(nodes.stream().anyMatch(node -> Math.abs(node.x()) > 24));
+        }
+    }
+
+    @Test
+    public void testSectionGraphInvalidation(Env env) {
+        var i = env.createFlatInstance();
+
+        ChunkRange.chunksInRange(0, 0, 2, (x, z) -> {
+            i.loadChunk(x, z).join();
+        });
+
+        try (var pathfinder = new HierarchicalPathfinder(i)) {
+            var graph = pathfinder.graph;
+            var layer = SectionGraph.Layer.GROUND;
+            assertSame(graph.locate(i, layer, new Pos(2, 40, 2), 0), graph.locate(i, layer, new Pos(2, 40, 12), 0));
+
+            // Split the section
+            for (int x = 0; x < 16; x++) {
+                i.setBlock(x, 40, 8, Block.STONE);
+                i.setBlock(x, 41, 8, Block.STONE);
+            }
+            var first = graph.locate(i, layer, new Pos(2, 40, 2), 0);
+            var second = graph.locate(i, layer, new Pos(2, 40, 12), 0);
+            assertNotNull(first);
+            assertNotNull(second);
+            assertNotSame(first, second);
+        }
+    }
+
+    @Test
+    public void testFlowField(Env env) {
+        var i = env.createFlatInstance();
+
+        ChunkRange.chunksInRange(0, 0, 10, (x, z) -> {
+            i.loadChunk(x, z).join();
+        });
+
+        try (var pathfinder = new HierarchicalPathfinder(i)) {
+            var field = pathfinder.flowField(new Pos(0.5, 40, 80.5));
+            for (Pos start : List.of(new Pos(0.5, 40, 0.5), new Pos(20.5, 40, -10.5))) {
+                var zombie = new LivingEntity(EntityType.ZOMBIE);
+                zombie.setInstance(i, start).join();
+
+                Navigator nav = new Navigator(zombie);
+                nav.setPathfindingService(null);
+                assertTrue(nav.followFlowField(field));
+                assertNotEquals(PPath.State.INVALID, nav.getState());
+                List<PNode> nodes = walkedNodes(nav.getNodes());
+                validateNodes(nodes, i);
+                // Towards the target
+                assertTrue(nodes.getLast().z() > start.z() + 16);
+            }
+        }
+    }
+
+    private static List<PNode> walkedNodes(List<PNode> nodes) {
+        return nodes.stream().filter(node -> node.getType() != PNode.Type.REPATH).toList();
+    }
+
+    @Test
+    public void testAsync(Env env) {
+        var i = env.createFlatInstance();
+
+        ChunkRange.chunksInRange(0, 0, 10, (x, z) -> {
+            i.loadChunk(x, z).join();
+        });
+
+        try (var service = new PathfindingService(1, 0)) {
+            var zombie1 = new LivingEntity(EntityType.ZOMBIE);
+            zombie1.setInstance(i, new Pos(0.2, 40, 0.2));
+            var zombie2 = new LivingEntity(EntityType.ZOMBIE);
+            zombie2.setInstance(i, new Pos(0.8, 40, 0.8));
+
+            Navigator nav1 = new Navigator(zombie1);
+            nav1.setPathfindingService(service);
+            Navigator nav2 = new Navigator(zombie2);
+            nav2.setPathfindingService(service);
+            nav1.setPathTo(new Pos(0, 40, 10));
+            nav2.setPathTo(new Pos(0, 40, 10));
+
+            final long deadline = System.nanoTime() + 5_000_000_000L;
+            while (nav1.getState() == PPath.State.CALCULATING || nav2.getState() == PPath.State.CALCULATING) {
+                assertTrue(System.nanoTime() < deadline, "Path not computed");
+                Thread.onSpinWait();
+            }
+
+            validateNodes(nav1.getNodes(), i);
+            validateNodes(nav2.getNodes(), i);
+            assertEquals(nav1.getNodes().size(), nav2.getNodes().size());
+            assertEquals(1, service.stats().computed());
+            assertEquals(1, service.stats().deduplicated());
+        }
+    }
+
     @Test
     public void testGravitySnap(Env env) {
         var i = env.createFlatInstance();
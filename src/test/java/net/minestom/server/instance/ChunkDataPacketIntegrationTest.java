@@ -0,0 +1,62 @@
+package net.minestom.server.instance;
+
+import net.minestom.server.MinecraftServer;
+import net.minestom.server.instance.block.Block;
+import net.minestom.server.instance.palette.Palette;
+import net.minestom.server.network.ConnectionState;
+import net.minestom.server.network.NetworkBuffer;
+import net.minestom.server.network.packet.server.CachedPacket;
+import net.minestom.server.network.packet.server.play.ChunkDataPacket;
+import net.minestom.server.world.biome.Biome;
+import net.minestom.testing.Env;
+import net.minestom.testing.EnvTest;
+import org.junit.jupiter.api.Test;
+
+import static net.minestom.server.network.NetworkBuffer.SHORT;
+import static org.junit.jupiter.api.Assertions.*;
+
+@EnvTest
+public class ChunkDataPacketIntegrationTest {
+
+    @Test
+    public void sectionEncodingCache(Env env) {
+        var instance = env.createFlatInstance();
+        var chunk = instance.loadChunk(0, 0).join();
+        final int biomeCount = MinecraftServer.getBiomeRegistry().size();
+
+        assertArrayEquals(expectedData(chunk), packetData(chunk));
+        final byte[] untouched = chunk.getSection(0).encoded(biomeCount);
+        final byte[] modified = chunk.getSection(3).encoded(biomeCount);
+
+        synchronized (chunk) {
+            chunk.setBlock(1, 50, 2, Block.DIAMOND_BLOCK);
+            chunk.setBiome(0, 50, 0, Biome.DESERT);
+        }
+        assertArrayEquals(expectedData(chunk), packetData(chunk));
+        assertSame(untouched, chunk.getSection(0).encoded(biomeCount));
+        assertNotSame(modified, chunk.getSection(3).encoded(biomeCount));
+
+        // Direct palette modifications require an invalidation
+        synchronized (chunk) {
+            chunk.getSection(0).blockPalette().fill(Block.GLASS.stateId());
+            chunk.invalidate();
+        }
+        assertArrayEquals(expectedData(chunk), packetData(chunk));
+    }
+
+    private static byte[] packetData(Chunk chunk) {
+        var packet = (ChunkDataPacket) ((CachedPacket) chunk.getFullDataPacket()).packet(ConnectionState.PLAY);
+        return packet.chunkData().data();
+    }
+
+    private static byte[] expectedData(Chunk chunk) {
+        var biomeSerializer = Palette.biomeSerializer(MinecraftServer.getBiomeRegistry().size());
+        return NetworkBuffer.makeArray(buffer -> {
+            for (Section section : chunk.getSections()) {
+                buffer.write(SHORT, (short) section.blockPalette().count());
+                buffer.write(Palette.BLOCK_SERIALIZER, section.blockPalette());
+                buffer.write(biomeSerializer, section.biomePalette());
+            }
+        });
+    }
+}
@@ -0,0 +1,54 @@
+package net.minestom.server.instance;
+
+import net.minestom.server.coordinate.Pos;
+import net.minestom.server.instance.block.Block;
+import net.minestom.testing.Env;
+import net.minestom.testing.EnvTest;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@EnvTest
+public class ChunkEvictionIntegrationTest {
+
+    @Test
+    public void coldStorage(Env env) {
+        InstanceContainer instance = (InstanceContainer) env.createFlatInstance();
+        instance.loadChunk(0, 0).join();
+        instance.setBlock(8, 50, 8, Block.GOLD_BLOCK);
+
+        instance.setChunkEvictionPolicy(ChunkEvictionPolicy.idle(1).withColdStorage(1 << 20));
+        assertTrue(env.tickWhile(() -> instance.getChunk(0, 0) != null, Duration.ofSeconds(5)));
+        // Compressed in the background
+        assertTrue(env.tickWhile(() -> instance.chunkLifecycleStats().frozen() == 0, Duration.ofSeconds(5)));
+        var stats = instance.chunkLifecycleStats();
+        assertEquals(0, stats.hotChunks());
+        assertEquals(1, stats.coldChunks());
+        assertEquals(1, stats.frozen());
+        assertTrue(stats.coldBytes() > 0);
+
+        // Loaded back from cold storage
+        instance.setChunkEvictionPolicy(null);
+        instance.loadChunk(0, 0).join();
+        assertEquals(Block.GOLD_BLOCK, instance.getBlock(8, 50, 8));
+        assertEquals(Block.STONE, instance.getBlock(8, 20, 8));
+        stats = instance.chunkLifecycleStats();
+        assertEquals(0, stats.coldChunks());
+        assertEquals(0, stats.coldBytes());
+        assertEquals(1, stats.thawed());
+    }
+
+    @Test
+    public void viewedChunksKept(Env env) {
+        InstanceContainer instance = (InstanceContainer) env.createFlatInstance();
+        instance.loadChunk(0, 0).join();
+        instance.loadChunk(32, 32).join();
+        env.createPlayer(instance, new Pos(0, 40, 0));
+
+        instance.setChunkEvictionPolicy(ChunkEvictionPolicy.idle(1).withColdStorage(1 << 20));
+        assertTrue(env.tickWhile(() -> instance.getChunk(32, 32) != null, Duration.ofSeconds(5)));
+        assertNotNull(instance.getChunk(0, 0));
+    }
+}
@@ -216,6 +216,35 @@ public class EntityTrackerTest {
         assertEquals(0, entities.size());
     }
 
+    @Test
+    public void nearbyAfterMoves() {
+        var ent1 = new Entity(EntityType.ZOMBIE);
+        var ent2 = new Entity(EntityType.ZOMBIE);
+        var ent3 = new Entity(EntityType.ZOMBIE);
+        EntityTracker tracker = EntityTracker.newTracker();
+        tracker.register(ent1, new Vec(1, 0, 1), EntityTracker.Target.ENTITIES, null);
+        tracker.register(ent2, new Vec(2, 0, 2), EntityTracker.Target.ENTITIES, null);
+        tracker.register(ent3, new Vec(3, 0, 3), EntityTracker.Target.ENTITIES, null);
+
+        // Move inside the chunk
+        tracker.move(ent3, new Vec(12, 0, 12), EntityTracker.Target.ENTITIES, null);
+        Set<Entity> entities = new HashSet<>();
+        tracker.nearbyEntities(new Vec(12, 0, 12), 1, EntityTracker.Target.ENTITIES, entities::add);
+        assertEquals(Set.of(ent3), entities);
+
+        // Leaving the chunk moves the last entity into the freed slot
+        tracker.move(ent1, new Vec(40, 0, 40), EntityTracker.Target.ENTITIES, null);
+        tracker.move(ent3, new Vec(2, 0, 3), EntityTracker.Target.ENTITIES, null);
+        entities.clear();
+        tracker.nearbyEntities(new Vec(2, 0, 2), 1.5, EntityTracker.Target.ENTITIES, entities::add);
+        assertEquals(Set.of(ent2, ent3), entities);
+
+        tracker.unregister(ent2, EntityTracker.Target.ENTITIES, null);
+        entities.clear();
+        tracker.nearbyEntities(new Vec(2, 0, 2), 64, EntityTracker.Target.ENTITIES, entities::add);
+        assertEquals(Set.of(ent1, ent3), entities);
+    }
+
     @Test
     public void collectionView() {
         var ent1 = new Entity(EntityType.ZOMBIE);
@@ -1,6 +1,8 @@
 package net.minestom.server.instance;
 
+import net.minestom.server.coordinate.Area;
 import net.minestom.server.coordinate.Point;
+import net.minestom.server.coordinate.Vec;
 import net.minestom.server.instance.block.Block;
 import net.minestom.server.instance.generator.GenerationUnit;
 import net.minestom.server.world.biome.Biome;
@@ -8,6 +10,8 @@ import net.minestom.testing.Env;
 import net.minestom.testing.EnvTest;
 import org.junit.jupiter.api.Test;
 
+import java.util.concurrent.atomic.AtomicInteger;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 @EnvTest
@@ -106,4 +110,38 @@ public class GeneratorForkIntegrationTest {
         });
         instance.loadChunk(0, 0).join();
     }
+
+    @Test
+    public void pregenerate(Env env) {
+        var manager = env.process().instance();
+        var instance = manager.createInstanceContainer(ChunkLoader.noop());
+        instance.setGenerator(unit -> {
+            unit.modifier().fillHeight(0, 1, Block.STONE);
+            // Forks into the next chunk along X
+            var u = unit.fork(unit.absoluteStart(), unit.absoluteEnd().add(16, 0, 0));
+            u.modifier().setRelative(16, 65, 0, Block.GOLD_BLOCK);
+        });
+        instance.loadChunk(0, 0).join();
+
+        AtomicInteger batches = new AtomicInteger();
+        var pregeneration = instance.pregenerate(Area.cuboid(new Vec(-40, 0, -40), new Vec(39, 0, 39)),
+                ignored -> batches.incrementAndGet());
+        pregeneration.future().join();
+        assertEquals(36, pregeneration.total());
+        assertEquals(35, pregeneration.generated());
+        assertEquals(1, pregeneration.skipped());
+        assertEquals(1d, pregeneration.progress());
+        assertTrue(batches.get() > 0);
+
+        for (int chunkX = -3; chunkX <= 2; chunkX++) {
+            for (int chunkZ = -3; chunkZ <= 2; chunkZ++) {
+                assertNotNull(instance.getChunk(chunkX, chunkZ));
+                assertEquals(Block.STONE, instance.getBlock(chunkX * 16, 0, chunkZ * 16));
+                // Fork from the chunk at chunkX - 1, applied before publication
+                if (chunkX > -3) {
+                    assertEquals(Block.GOLD_BLOCK, instance.getBlock(chunkX * 16, 1, chunkZ * 16), chunkX + ", " + chunkZ);
+                }
+            }
+        }
+    }
 }
@@ -3,22 +3,30 @@ package net.minestom.server.instance;
 import net.kyori.adventure.key.Key;
 import net.kyori.adventure.nbt.CompoundBinaryTag;
 import net.minestom.server.adventure.MinestomAdventure;
+import net.minestom.server.coordinate.BlockVec;
+import net.minestom.server.coordinate.CoordConversion;
 import net.minestom.server.coordinate.Pos;
 import net.minestom.server.coordinate.Vec;
 import net.minestom.server.instance.block.Block;
 import net.minestom.server.instance.block.BlockHandler;
 import net.minestom.server.network.packet.server.play.BlockChangePacket;
 import net.minestom.server.network.packet.server.play.BlockEntityDataPacket;
+import net.minestom.server.network.packet.server.play.MultiBlockChangePacket;
+import net.minestom.server.network.packet.server.play.WorldEventPacket;
 import net.minestom.server.tag.Tag;
+import net.minestom.server.worldevent.WorldEvent;
 import net.minestom.testing.Env;
 import net.minestom.testing.EnvTest;
 import org.junit.jupiter.api.Test;
 
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 import static net.minestom.testing.TestUtils.assertPoint;
-import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.*;
 
 @EnvTest
 public class InstanceBlockPacketIntegrationTest {
@@ -89,4 +97,58 @@ public class InstanceBlockPacketIntegrationTest {
 
         assertEquals(block, instance.getBlock(blockPoint));
     }
+
+    @Test
+    public void batchSectionChanges(Env env) {
+        var instance = (InstanceContainer) env.createFlatInstance();
+        instance.setBlockChangeBatching(true);
+        var connection = env.createConnection();
+        connection.connect(instance, new Pos(0, 40, 0));
+
+        var tracker = connection.trackIncoming();
+        instance.setBlock(1, 41, 1, Block.STONE);
+        instance.setBlock(2, 41, 1, Block.DIRT);
+        instance.setBlock(2, 41, 1, Block.GLASS); // Replaces the previous change
+        instance.setBlock(1, 70, 1, Block.STONE); // Other section
+        tracker.assertEmpty();
+
+        tracker = connection.trackIncoming();
+        env.tick();
+        var packets = tracker.collect();
+        var multiBlockChanges = packets.stream()
+                .filter(MultiBlockChangePacket.class::isInstance).map(MultiBlockChangePacket.class::cast).toList();
+        assertEquals(1, multiBlockChanges.size());
+        assertEquals(new MultiBlockChangePacket(0, 2, 0, new long[0]).chunkSectionPosition(),
+                multiBlockChanges.getFirst().chunkSectionPosition());
+        assertEquals(Set.of(
+                CoordConversion.encodeSectionBlockChange(1, 41 & 15, 1, Block.STONE.stateId()),
+                CoordConversion.encodeSectionBlockChange(2, 41 & 15, 1, Block.GLASS.stateId())
+        ), Arrays.stream(multiBlockChanges.getFirst().blocks()).boxed().collect(Collectors.toSet()));
+        var blockChanges = packets.stream().filter(BlockChangePacket.class::isInstance).toList();
+        assertEquals(List.of(new BlockChangePacket(new BlockVec(1, 70, 1), Block.STONE.stateId())), blockChanges);
+
+        var stats = instance.blockChangeStats();
+        assertEquals(4, stats.changes());
+        assertEquals(2, stats.packetsSent());
+        assertEquals(2, stats.packetsSaved());
+        assertTrue(stats.bytesSaved() > 0);
+    }
+
+    @Test
+    public void chunkPacketOrdering(Env env) {
+        var instance = (InstanceContainer) env.createFlatInstance();
+        instance.setBlockChangeBatching(true);
+        var connection = env.createConnection();
+        connection.connect(instance, new Pos(0, 40, 0));
+
+        var tracker = connection.trackIncoming();
+        instance.setBlock(5, 41, 0, Block.STONE);
+        // Packets sent through the chunk must be received after the change
+        instance.getChunkAt(5, 0).sendPacketToViewers(new WorldEventPacket(WorldEvent.PARTICLES_DESTROY_BLOCK.id(),
+                new Vec(5, 41, 0), Block.STONE.stateId(), false));
+        var packets = tracker.collect();
+        assertEquals(2, packets.size(), packets.toString());
+        assertInstanceOf(BlockChangePacket.class, packets.get(0));
+        assertInstanceOf(WorldEventPacket.class, packets.get(1));
+    }
 }
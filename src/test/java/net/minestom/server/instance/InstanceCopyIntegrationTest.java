@@ -0,0 +1,88 @@
+package net.minestom.server.instance;
+
+import net.kyori.adventure.nbt.CompoundBinaryTag;
+import net.minestom.server.instance.block.Block;
+import net.minestom.testing.Env;
+import net.minestom.testing.EnvTest;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@EnvTest
+public class InstanceCopyIntegrationTest {
+
+    @Test
+    public void copyOnWrite(Env env) {
+        var instance = (InstanceContainer) env.createFlatInstance();
+        instance.loadChunk(0, 0).join();
+        final Block chest = Block.CHEST.withNbt(CompoundBinaryTag.builder().putString("test", "value").build());
+        instance.setBlock(1, 50, 1, chest);
+
+        var copy = instance.copy();
+        assertEquals(Block.STONE, copy.getBlock(0, 39, 0));
+        assertEquals(chest, copy.getBlock(1, 50, 1));
+
+        // Modifying the copy must not affect the source
+        copy.setBlock(0, 39, 0, Block.DIAMOND_BLOCK);
+        copy.setBlock(1, 50, 1, Block.AIR);
+        assertEquals(Block.STONE, instance.getBlock(0, 39, 0));
+        assertEquals(chest, instance.getBlock(1, 50, 1));
+
+        // Nor the source the copy
+        instance.setBlock(2, 39, 2, Block.GOLD_BLOCK);
+        instance.setBlock(3, 50, 3, chest);
+        assertEquals(Block.STONE, copy.getBlock(2, 39, 2));
+        assertEquals(Block.AIR, copy.getBlock(3, 50, 3));
+        assertEquals(Block.DIAMOND_BLOCK, copy.getBlock(0, 39, 0));
+        assertEquals(Block.AIR, copy.getBlock(1, 50, 1));
+    }
+
+    @Test
+    public void copyWhileSettingBlocks(Env env) throws InterruptedException {
+        var instance = (InstanceContainer) env.createFlatInstance();
+        instance.loadChunk(0, 0).join();
+        final Block[] blocks = {Block.STONE, Block.DIAMOND_BLOCK, Block.GOLD_BLOCK,
+                Block.CHEST.withNbt(CompoundBinaryTag.builder().putString("test", "value").build())};
+
+        AtomicBoolean running = new AtomicBoolean(true);
+        Thread writer = Thread.ofPlatform().start(() -> {
+            int i = 0;
+            while (running.get()) {
+                instance.setBlock(i % 16, 50, (i / 16) % 16, blocks[i % blocks.length]);
+                i++;
+            }
+        });
+        try {
+            List<Instance> copies = new ArrayList<>();
+            List<Block[]> snapshots = new ArrayList<>();
+            for (int i = 0; i < 50; i++) {
+                var copy = instance.copy();
+                copies.add(copy);
+                snapshots.add(layer(copy));
+            }
+            // Later changes to the source must not leak into the copies
+            Thread.sleep(50);
+            for (int i = 0; i < copies.size(); i++) {
+                assertArrayEquals(snapshots.get(i), layer(copies.get(i)));
+            }
+        } finally {
+            running.set(false);
+            writer.join();
+        }
+    }
+
+    private static Block[] layer(Instance instance) {
+        Block[] layer = new Block[16 * 16];
+        for (int x = 0; x < 16; x++) {
+            for (int z = 0; z < 16; z++) {
+                layer[x * 16 + z] = instance.getBlock(x, 50, z);
+            }
+        }
+        return layer;
+    }
+}
@@ -0,0 +1,75 @@
+package net.minestom.server.instance;
+
+import net.minestom.server.instance.block.Block;
+import net.minestom.server.network.packet.server.play.data.LightData;
+import net.minestom.testing.Env;
+import net.minestom.testing.EnvTest;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@EnvTest
+public class LightUpdateDeltaIntegrationTest {
+
+    @Test
+    public void unchangedSectionsSkipped(Env env) {
+        Instance instance = env.createFlatInstance();
+        instance.setChunkSupplier(LightingChunk::new);
+        for (int x = -1; x <= 1; x++) {
+            for (int z = -1; z <= 1; z++) {
+                instance.loadChunk(x, z).join();
+            }
+        }
+        LightingChunk.relight(instance, instance.getChunks());
+        LightingChunk chunk = (LightingChunk) instance.getChunk(0, 0);
+        assertNotNull(chunk);
+        assertFalse(isEmpty(chunk.createLightData(false)));
+
+        // Light is unchanged
+        instance.setBlock(8, 10, 8, Block.DIRT);
+        assertTrue(isEmpty(chunk.createLightData(false)));
+
+        // Only the section of the glowstone is lit, the stone around it blocks the light
+        instance.setBlock(8, 20, 8, Block.GLOWSTONE);
+        LightData lightData = chunk.createLightData(false);
+        final int maskIndex = (20 - chunk.getMinSection() * Chunk.CHUNK_SECTION_SIZE) / Chunk.CHUNK_SECTION_SIZE + 1;
+        assertEquals(1, lightData.blockMask().cardinality());
+        assertTrue(lightData.blockMask().get(maskIndex));
+        assertTrue(lightData.skyMask().isEmpty());
+        assertTrue(lightData.emptyBlockMask().isEmpty());
+        assertTrue(lightData.emptySkyMask().isEmpty());
+
+        // Full updates are never filtered
+        assertFalse(isEmpty(chunk.createLightData(true)));
+    }
+
+    @Test
+    public void fullLightResetsSentSections(Env env) {
+        Instance instance = env.createFlatInstance();
+        instance.setChunkSupplier(LightingChunk::new);
+        for (int x = -1; x <= 1; x++) {
+            for (int z = -1; z <= 1; z++) {
+                instance.loadChunk(x, z).join();
+            }
+        }
+        LightingChunk.relight(instance, instance.getChunks());
+        LightingChunk chunk = (LightingChunk) instance.getChunk(0, 0);
+        assertNotNull(chunk);
+        chunk.createLightData(false);
+
+        // A new viewer receives the light of the glowstone with the full chunk
+        instance.setBlock(8, 20, 8, Block.GLOWSTONE);
+        chunk.createLightData(true);
+
+        // Back to the light of the last partial update, which the new viewer does not have
+        instance.setBlock(8, 20, 8, Block.STONE);
+        LightData lightData = chunk.createLightData(false);
+        final int maskIndex = (20 - chunk.getMinSection() * Chunk.CHUNK_SECTION_SIZE) / Chunk.CHUNK_SECTION_SIZE + 1;
+        assertTrue(lightData.blockMask().get(maskIndex) || lightData.emptyBlockMask().get(maskIndex));
+    }
+
+    private static boolean isEmpty(LightData lightData) {
+        return lightData.skyMask().isEmpty() && lightData.blockMask().isEmpty() &&
+                lightData.emptySkyMask().isEmpty() && lightData.emptyBlockMask().isEmpty();
+    }
+}
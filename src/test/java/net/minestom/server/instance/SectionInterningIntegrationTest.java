@@ -0,0 +1,61 @@
+package net.minestom.server.instance;
+
+import net.minestom.server.coordinate.Area;
+import net.minestom.server.coordinate.Vec;
+import net.minestom.server.instance.block.Block;
+import net.minestom.server.instance.generator.GenerationUnit;
+import net.minestom.server.instance.palette.PaletteInterner;
+import net.minestom.testing.Env;
+import net.minestom.testing.EnvTest;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@EnvTest
+public class SectionInterningIntegrationTest {
+
+    @Test
+    public void identicalSections(Env env) {
+        var instance = env.process().instance().createInstanceContainer(ChunkLoader.noop());
+        instance.enableSectionInterning(true);
+        instance.setGenerator(SectionInterningIntegrationTest::platform);
+        for (int x = 0; x < 4; x++) {
+            for (int z = 0; z < 4; z++) {
+                instance.loadChunk(x, z).join();
+            }
+        }
+
+        final Section first = instance.getChunk(0, 0).getSectionAt(64);
+        final Section other = instance.getChunk(3, 3).getSectionAt(64);
+        assertSame(first.blockPalette().indexedValues(), other.blockPalette().indexedValues());
+
+        final PaletteInterner.Stats stats = instance.getSectionInterner().stats();
+        assertEquals(15, stats.shared());
+        assertTrue(stats.bytesSaved() > 0);
+
+        // Modifications only affect their own chunk
+        instance.setBlock(3 * 16, 64, 3 * 16, Block.DIRT);
+        assertEquals(Block.DIRT, instance.getBlock(3 * 16, 64, 3 * 16));
+        assertEquals(Block.STONE, instance.getBlock(0, 64, 0));
+    }
+
+    @Test
+    public void pregeneratedSections(Env env) {
+        var instance = env.process().instance().createInstanceContainer(ChunkLoader.noop());
+        instance.enableSectionInterning(true);
+        instance.setGenerator(SectionInterningIntegrationTest::platform);
+        instance.pregenerate(Area.cuboid(new Vec(0, 0, 0), new Vec(63, 0, 63))).future().join();
+
+        final Section first = instance.getChunk(0, 0).getSectionAt(64);
+        final Section other = instance.getChunk(3, 3).getSectionAt(64);
+        assertSame(first.blockPalette().indexedValues(), other.blockPalette().indexedValues());
+        assertEquals(15, instance.getSectionInterner().stats().shared());
+    }
+
+    private static void platform(GenerationUnit unit) {
+        // Same single platform in every chunk
+        final var start = unit.absoluteStart();
+        unit.modifier().fill(start.withY(64), start.add(8, 0, 8).withY(65), Block.STONE);
+        unit.modifier().setBlock(start.add(4, 0, 4).withY(65), Block.GLASS);
+    }
+}
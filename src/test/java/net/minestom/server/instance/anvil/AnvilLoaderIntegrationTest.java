@@ -27,14 +27,19 @@ import org.junit.jupiter.params.provider.ValueSources;
 import java.io.IOException;
 import java.nio.file.*;
 import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Consumer;
 
 import static net.minestom.server.network.NetworkBuffer.SHORT;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 @EnvTest
 public class AnvilLoaderIntegrationTest {
@@ -66,6 +71,27 @@ public class AnvilLoaderIntegrationTest {
         }
     }
 
+    @Test
+    public void parallelLoadVanillaRegion(Env env) throws Exception {
+        var worldFolder = extractWorld("anvil_vanilla_sample");
+        AnvilLoader chunkLoader = new AnvilLoader(worldFolder);
+        Instance instance = env.createFlatInstance(chunkLoader);
+
+        // Whole region at once, reads of the same region file overlap
+        List<CompletableFuture<Chunk>> futures = new ArrayList<>();
+        for (int chunkX = 0; chunkX < 32; chunkX++) {
+            for (int chunkZ = 0; chunkZ < 32; chunkZ++) {
+                futures.add(instance.loadChunk(chunkX, chunkZ));
+            }
+        }
+        CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).get(30, TimeUnit.SECONDS);
+        for (CompletableFuture<Chunk> future : futures) {
+            Chunk chunk = future.join();
+            assertNotNull(chunk);
+            instance.unloadChunk(chunk);
+        }
+    }
+
     @Test
     public void parallelSaveNonexistentFiles(Env env) throws Exception {
         var worldFolder = Files.createTempDirectory("minestom-test-world-parallel-save");
@@ -373,6 +399,34 @@ public class AnvilLoaderIntegrationTest {
         }
     }
 
+    @Test
+    public void writeBehindCoalescing(Env env) throws IOException {
+        var worldFolder = Files.createTempDirectory("minestom-test-world-write-behind");
+        AnvilLoader chunkLoader = new AnvilLoader(worldFolder);
+        Instance instance = env.createFlatInstance(chunkLoader);
+        Chunk chunk = instance.loadChunk(0, 0).join();
+
+        final int saveCount = 50;
+        List<CompletableFuture<Void>> futures = new ArrayList<>();
+        for (int i = 0; i < saveCount; i++) {
+            chunk.setBlock(0, 50, 0, i % 2 == 0 ? Block.STONE : Block.DIRT);
+            futures.add(chunkLoader.saveChunkAsync(chunk));
+        }
+        chunk.setBlock(0, 50, 0, Block.DIAMOND_BLOCK);
+        futures.add(chunkLoader.saveChunkAsync(chunk));
+        futures.forEach(CompletableFuture::join);
+
+        var stats = chunkLoader.saveStats();
+        assertEquals(0, stats.queueDepth());
+        assertEquals(saveCount + 1, stats.saved() + stats.coalesced());
+        assertTrue(stats.maxLatencyNanos() > 0);
+
+        // The latest save must win even if compression finished out of order
+        var secondInstance = env.createEmptyInstance(new AnvilLoader(worldFolder));
+        secondInstance.loadChunk(0, 0).join();
+        assertEquals(Block.DIAMOND_BLOCK, secondInstance.getBlock(0, 50, 0));
+    }
+
     private static Path extractWorld(String resourceName) throws IOException {
         final Path worldFolder = Files.createTempDirectory("minestom-test-world-" + resourceName);
 
@@ -2,6 +2,7 @@ package net.minestom.server.instance.light;
 
 import net.minestom.server.ServerProcess;
 import net.minestom.server.coordinate.Vec;
+import net.minestom.server.instance.Chunk;
 import net.minestom.server.instance.Instance;
 import net.minestom.server.instance.LightingChunk;
 import net.minestom.server.instance.block.Block;
@@ -9,7 +10,9 @@ import net.minestom.testing.Env;
 import net.minestom.testing.EnvTest;
 import org.junit.jupiter.api.Test;
 
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 import static java.util.Map.entry;
 import static net.minestom.server.instance.BlockLightMergeIntegrationTest.assertLightInstance;
@@ -65,4 +68,34 @@ public class WorldRelightIntegrationTest {
         );
         assertLightInstance(instance, expectedLights);
     }
+
+    @Test
+    public void testParallelRegions(Env env) {
+        Instance instance = env.createFlatInstance();
+        instance.setChunkSupplier(LightingChunk::new);
+        for (int x = -1; x <= 1; x++) {
+            for (int z = -1; z <= 1; z++) {
+                instance.loadChunk(x, z).join();
+                instance.loadChunk(x + 20, z).join();
+            }
+        }
+        instance.setBlock(8, 50, 8, Block.GLOWSTONE);
+        instance.setBlock(20 * 16 + 8, 50, 8, Block.GLOWSTONE);
+
+        // Distant regions are relit concurrently
+        List<Chunk> first = instance.getChunks().stream().filter(chunk -> chunk.getChunkX() < 10).toList();
+        List<Chunk> second = instance.getChunks().stream().filter(chunk -> chunk.getChunkX() >= 10).toList();
+        CompletableFuture.allOf(
+                CompletableFuture.runAsync(() -> LightingChunk.relight(instance, first)),
+                CompletableFuture.runAsync(() -> LightingChunk.relight(instance, second))
+        ).join();
+
+        var expectedLights = Map.ofEntries(
+                entry(new Vec(8, 50, 8), 15),
+                entry(new Vec(12, 50, 8), 11),
+                entry(new Vec(20 * 16 + 8, 50, 8), 15),
+                entry(new Vec(20 * 16 + 12, 50, 8), 11)
+        );
+        assertLightInstance(instance, expectedLights);
+    }
 }
@@ -0,0 +1,71 @@
+package net.minestom.server.instance.mapped;
+
+import net.minestom.server.instance.Chunk;
+import net.minestom.server.instance.Instance;
+import net.minestom.server.instance.Section;
+import net.minestom.server.instance.anvil.AnvilLoader;
+import net.minestom.server.instance.block.Block;
+import net.minestom.testing.Env;
+import net.minestom.testing.EnvTest;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@EnvTest
+public class MappedChunkLoaderTest {
+    private static final Path WORLD_RESOURCES = Path.of("src", "test", "resources", "net", "minestom", "server", "instance");
+
+    @Test
+    public void convertAnvil(Env env) throws IOException {
+        final Path anvilWorld = WORLD_RESOURCES.resolve("anvil_loader");
+        final Path output = Files.createTempFile("minestom-test-mapped", ".msmc");
+        MappedChunkWriter.convertAnvil(anvilWorld, output);
+
+        final MappedChunkLoader mappedLoader = new MappedChunkLoader(output);
+        assertTrue(mappedLoader.chunkCount() > 0);
+        Instance instance = env.createFlatInstance(mappedLoader);
+        AnvilLoader anvilLoader = new AnvilLoader(anvilWorld);
+        int compared = 0;
+        for (int chunkX = -2; chunkX < 2; chunkX++) {
+            for (int chunkZ = -2; chunkZ < 2; chunkZ++) {
+                final Chunk anvilChunk = anvilLoader.loadChunk(instance, chunkX, chunkZ);
+                if (anvilChunk == null) continue;
+                final Chunk mappedChunk = instance.loadChunk(chunkX, chunkZ).join();
+                compared++;
+
+                final List<Section> anvilSections = anvilChunk.getSections();
+                final List<Section> mappedSections = mappedChunk.getSections();
+                for (int i = 0; i < anvilSections.size(); i++) {
+                    assertTrue(anvilSections.get(i).blockPalette().compare(mappedSections.get(i).blockPalette()));
+                    assertTrue(anvilSections.get(i).biomePalette().compare(mappedSections.get(i).biomePalette()));
+                    assertArrayEquals(anvilSections.get(i).skyLight().array(), mappedSections.get(i).skyLight().array());
+                    assertArrayEquals(anvilSections.get(i).blockLight().array(), mappedSections.get(i).blockLight().array());
+                }
+                // Block entities
+                for (int y = anvilChunk.getMinSection() * 16; y < anvilChunk.getMaxSection() * 16; y++) {
+                    for (int z = 0; z < Chunk.CHUNK_SIZE_Z; z++) {
+                        for (int x = 0; x < Chunk.CHUNK_SIZE_X; x++) {
+                            assertEquals(anvilChunk.getBlock(x, y, z, Block.Getter.Condition.CACHED),
+                                    mappedChunk.getBlock(x, y, z, Block.Getter.Condition.CACHED));
+                        }
+                    }
+                }
+                anvilLoader.unloadChunk(anvilChunk);
+            }
+        }
+        assertTrue(compared > 0);
+        assertEquals(Block.POTTED_POPPY, instance.getBlock(-1, 2, -3));
+    }
+
+    @Test
+    public void invalidFile() throws IOException {
+        final Path output = Files.createTempFile("minestom-test-mapped", ".msmc");
+        Files.write(output, new byte[64]);
+        assertThrows(IOException.class, () -> new MappedChunkLoader(output));
+    }
+}
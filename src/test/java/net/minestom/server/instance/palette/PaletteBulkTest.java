@@ -0,0 +1,87 @@
+package net.minestom.server.instance.palette;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PaletteBulkTest {
+    private static final int[] SIZES = {1, 7, 64, 4096};
+
+    @Test
+    public void packRoundTrip() {
+        final Random random = new Random(0);
+        for (PaletteBulk.Operations operations : operations()) {
+            for (int bitsPerEntry = 1; bitsPerEntry <= 30; bitsPerEntry++) {
+                for (int size : SIZES) {
+                    final int[] entries = random.ints(size, 0, 1 << bitsPerEntry).toArray();
+                    final long[] packed = new long[packedLength(size, bitsPerEntry)];
+                    operations.pack(entries, bitsPerEntry, size, packed);
+                    assertArrayEquals(referencePack(entries, bitsPerEntry), packed, "bpe " + bitsPerEntry + ", size " + size);
+
+                    final int[] unpacked = new int[size];
+                    operations.unpack(packed, bitsPerEntry, size, unpacked);
+                    assertArrayEquals(entries, unpacked, "bpe " + bitsPerEntry + ", size " + size);
+                }
+            }
+        }
+    }
+
+    @Test
+    public void packMasksEntries() {
+        for (PaletteBulk.Operations operations : operations()) {
+            final long[] packed = new long[1];
+            operations.pack(new int[]{0xFF, 0x1}, 4, 2, packed);
+            assertEquals(0x1F, packed[0]);
+        }
+    }
+
+    @Test
+    public void count() {
+        final Random random = new Random(0);
+        for (PaletteBulk.Operations operations : operations()) {
+            for (int bitsPerEntry = 1; bitsPerEntry <= 15; bitsPerEntry++) {
+                for (int size : SIZES) {
+                    final int[] entries = random.ints(size, 0, Math.min(4, 1 << bitsPerEntry)).toArray();
+                    final long[] packed = referencePack(entries, bitsPerEntry);
+                    for (int value = 0; value < 4; value++) {
+                        int expected = 0;
+                        for (int entry : entries) if (entry == value) expected++;
+                        assertEquals(expected, operations.count(packed, bitsPerEntry, size, value),
+                                "bpe " + bitsPerEntry + ", size " + size + ", value " + value);
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    public void nestedBuffers() {
+        final int[] first = PaletteBulk.borrowBuffer(4096);
+        final int[] second = PaletteBulk.borrowBuffer(4096);
+        assertNotSame(first, second);
+        PaletteBulk.releaseBuffer(second);
+        PaletteBulk.releaseBuffer(first);
+        assertSame(first, PaletteBulk.borrowBuffer(64));
+        PaletteBulk.releaseBuffer(first);
+    }
+
+    private static PaletteBulk.Operations[] operations() {
+        return new PaletteBulk.Operations[]{PaletteBulk.SCALAR, PaletteBulk.OPERATIONS};
+    }
+
+    private static int packedLength(int size, int bitsPerEntry) {
+        final int valuesPerLong = 64 / bitsPerEntry;
+        return (size + valuesPerLong - 1) / valuesPerLong;
+    }
+
+    private static long[] referencePack(int[] entries, int bitsPerEntry) {
+        final int valuesPerLong = 64 / bitsPerEntry;
+        long[] result = new long[packedLength(entries.length, bitsPerEntry)];
+        for (int i = 0; i < entries.length; i++) {
+            result[i / valuesPerLong] |= (long) entries[i] << (i % valuesPerLong) * bitsPerEntry;
+        }
+        return result;
+    }
+}
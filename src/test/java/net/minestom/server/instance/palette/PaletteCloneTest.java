@@ -36,6 +36,39 @@ public class PaletteCloneTest {
         }
     }
 
+    @Test
+    public void copyOnWrite() {
+        for (Palette original : testPalettes()) {
+            original.set(0, 0, 0, 42);
+            original.set(1, 0, 0, 84);
+            Palette first = original.clone();
+            Palette second = original.clone();
+
+            // Writes to any of the palettes sharing the content must stay local
+            first.set(0, 0, 0, 1);
+            second.replace(84, 7);
+            original.set(1, 1, 1, 3);
+
+            assertEquals(42, original.get(0, 0, 0));
+            assertEquals(84, original.get(1, 0, 0));
+            assertEquals(3, original.get(1, 1, 1));
+
+            assertEquals(1, first.get(0, 0, 0));
+            assertEquals(84, first.get(1, 0, 0));
+            assertEquals(0, first.get(1, 1, 1));
+
+            assertEquals(42, second.get(0, 0, 0));
+            assertEquals(7, second.get(1, 0, 0));
+            assertEquals(0, second.get(1, 1, 1));
+
+            Palette copied = Palette.sized(original.dimension(), 1, 5, 15, 3);
+            copied.copyFrom(original);
+            copied.setAll((x, y, z) -> x + 1);
+            assertEquals(42, original.get(0, 0, 0));
+            assertEquals(1, copied.get(0, 0, 0));
+        }
+    }
+
     @Test
     public void cloneIndependence() {
         var palettes = testPalettes();
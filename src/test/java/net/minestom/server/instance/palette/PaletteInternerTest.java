@@ -0,0 +1,81 @@
+package net.minestom.server.instance.palette;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PaletteInternerTest {
+
+    @Test
+    public void shareIdentical() {
+        PaletteInterner interner = new PaletteInterner(16);
+        Palette first = platform();
+        Palette second = platform();
+        assertFalse(interner.intern(first));
+        assertTrue(interner.intern(second));
+        assertSame(first.indexedValues(), second.indexedValues());
+        assertTrue(first.compare(second));
+        // Interning again changes nothing
+        assertFalse(interner.intern(second));
+
+        var stats = interner.stats();
+        assertEquals(2, stats.interned());
+        assertEquals(1, stats.shared());
+        assertEquals(1, stats.distinct());
+        assertTrue(stats.bytesSaved() > 0);
+    }
+
+    @Test
+    public void copyOnWrite() {
+        PaletteInterner interner = new PaletteInterner(16);
+        Palette first = platform();
+        Palette second = platform();
+        interner.intern(first);
+        interner.intern(second);
+
+        second.set(1, 1, 1, 3);
+        assertEquals(3, second.get(1, 1, 1));
+        assertEquals(0, first.get(1, 1, 1));
+        assertNotSame(first.indexedValues(), second.indexedValues());
+
+        // The interned content is unchanged
+        Palette third = platform();
+        assertTrue(interner.intern(third));
+        assertSame(first.indexedValues(), third.indexedValues());
+    }
+
+    @Test
+    public void uniform() {
+        PaletteInterner interner = new PaletteInterner(16);
+        Palette palette = Palette.blocks();
+        palette.fill(2);
+        palette.set(0, 0, 0, 1);
+        palette.set(0, 0, 0, 2);
+        assertNotEquals(0, palette.bitsPerEntry());
+        assertTrue(interner.intern(palette));
+        assertEquals(0, palette.bitsPerEntry());
+        assertEquals(2, palette.singleValue());
+        assertEquals(1, interner.stats().uniform());
+    }
+
+    @Test
+    public void capacity() {
+        PaletteInterner interner = new PaletteInterner(0);
+        Palette first = platform();
+        Palette second = platform();
+        assertFalse(interner.intern(first));
+        assertFalse(interner.intern(second));
+        assertNotSame(first.indexedValues(), second.indexedValues());
+    }
+
+    private static Palette platform() {
+        Palette palette = Palette.blocks();
+        for (int x = 4; x < 12; x++) {
+            for (int z = 4; z < 12; z++) {
+                palette.set(x, 0, z, 1);
+            }
+        }
+        palette.set(8, 1, 8, 2);
+        return palette;
+    }
+}
@@ -983,6 +983,28 @@ public class PaletteTest {
         assertEquals(testPalette.maxSize() - 12, testPalette.count());
     }
 
+    @Test
+    public void loadRaw() {
+        Random random = new Random(12345);
+        for (int valueCount : new int[]{1, 2, 200, 5000}) {
+            Palette palette = Palette.blocks();
+            palette.setAll((x, y, z) -> random.nextInt(valueCount));
+            final long[] values = palette.indexedValues();
+            final int count = palette.bitsPerEntry() == 0 ? palette.singleValue() : palette.count();
+            final int[] paletteValues = palette.paletteValues();
+
+            Palette loaded = Palette.blocks();
+            loaded.loadRaw(palette.bitsPerEntry(), count, paletteValues, values != null ? values.clone() : null);
+            assertTrue(palette.compare(loaded));
+            assertEquals(palette.count(), loaded.count());
+            // Must remain writable
+            loaded.set(0, 0, 0, 6000);
+            assertEquals(6000, loaded.get(0, 0, 0));
+        }
+        assertThrows(IllegalArgumentException.class, () -> Palette.blocks().loadRaw(4, 0, new int[]{0}, new long[1]));
+        assertThrows(IllegalArgumentException.class, () -> Palette.blocks().loadRaw(12, 0, null, new long[1024]));
+    }
+
     private static List<Palette> testPalettes() {
         return List.of(
                 Palette.sized(2, 1, 5, 15, 3),
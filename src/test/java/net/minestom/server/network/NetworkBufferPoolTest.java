@@ -0,0 +1,89 @@
+package net.minestom.server.network;
+
+import org.junit.jupiter.api.Test;
+
+import java.lang.ref.WeakReference;
+import java.util.List;
+
+import static net.minestom.testing.TestUtils.waitUntilCleared;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class NetworkBufferPoolTest {
+
+    private static NetworkBufferPool pool(boolean leakDetection) {
+        return new NetworkBufferPool(NetworkBuffer::staticBuffer, 16 * 1024, 1024 * 1024, leakDetection);
+    }
+
+    @Test
+    public void sizeClasses() {
+        var pool = pool(false);
+        assertEquals(16 * 1024, pool.get().capacity());
+        assertEquals(4 * 1024, pool.get(1).capacity());
+        assertEquals(4 * 1024, pool.get(4 * 1024).capacity());
+        assertEquals(64 * 1024, pool.get(16 * 1024 + 1).capacity());
+        assertEquals(2 * 1024 * 1024, pool.get(2 * 1024 * 1024).capacity());
+        // Oversized
+        assertEquals(3 * 1024 * 1024, pool.get(3 * 1024 * 1024).capacity());
+        assertEquals(6, pool.outstanding());
+    }
+
+    @Test
+    public void reuse() {
+        var pool = pool(false);
+        var buffer = pool.get();
+        buffer.write(NetworkBuffer.INT, 5);
+        pool.add(buffer);
+        assertEquals(0, pool.outstanding());
+
+        var reused = pool.get();
+        assertSame(buffer, reused);
+        assertEquals(0, reused.writeIndex(), "Pooled buffers must be cleared");
+
+        List<NetworkBufferPool.Stats> stats = pool.stats();
+        var stats16k = stats.get(1);
+        assertEquals(16 * 1024, stats16k.capacity());
+        assertEquals(1, stats16k.hits());
+        assertEquals(1, stats16k.misses());
+        assertEquals(0, stats16k.pooled());
+    }
+
+    @Test
+    public void grownBuffer() {
+        var pool = pool(false);
+        var buffer = pool.get(4 * 1024);
+        buffer.resize(100 * 1024);
+        pool.add(buffer);
+        assertEquals(1, pool.stats().get(2).pooled());
+        // Cannot satisfy 256K
+        assertNotSame(buffer, pool.get(256 * 1024));
+        assertSame(buffer, pool.get(64 * 1024));
+    }
+
+    @Test
+    public void doubleRelease() {
+        var pool = pool(false);
+        var buffer = pool.get();
+        pool.add(buffer);
+        assertThrows(IllegalStateException.class, () -> pool.add(buffer));
+    }
+
+    @Test
+    public void leakDetection() {
+        var pool = pool(true);
+        var ref = new WeakReference<>(pool.get());
+        waitUntilCleared(ref);
+        for (int i = 0; i < 100 && pool.leaks() == 0; i++) {
+            try {
+                Thread.sleep(10);
+            } catch (InterruptedException e) {
+                throw new RuntimeException(e);
+            }
+        }
+        assertEquals(1, pool.leaks());
+
+        // Released buffers are not leaks
+        var released = pool.get();
+        pool.add(released);
+        assertEquals(1, pool.leaks());
+    }
+}
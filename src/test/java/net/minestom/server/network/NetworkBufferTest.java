@@ -10,7 +10,13 @@ import org.jetbrains.annotations.Nullable;
 import org.jetbrains.annotations.UnknownNullability;
 import org.junit.jupiter.api.Test;
 
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.GatheringByteChannel;
+import java.nio.channels.WritableByteChannel;
 import java.nio.charset.StandardCharsets;
 import java.util.*;
 import java.util.function.Consumer;
@@ -485,8 +491,8 @@ public class NetworkBufferTest {
 
     @Test
     public void testStringUtf8ModifiedWrite() throws IOException {
-        var stream = new java.io.ByteArrayOutputStream();
-        java.io.DataOutputStream out = new java.io.DataOutputStream(stream);
+        var stream = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(stream);
         out.writeUTF("Hello");
 
         assertBufferType(STRING_IO_UTF8, "Hello", stream.toByteArray());
@@ -495,8 +501,8 @@ public class NetworkBufferTest {
 
     @Test
     public void testStringUtf8ModifiedRead() throws IOException {
-        var stream = new java.io.ByteArrayOutputStream();
-        java.io.DataOutputStream out = new java.io.DataOutputStream(stream);
+        var stream = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(stream);
         out.writeUTF("Hello");
         var buffer = NetworkBuffer.wrap(stream.toByteArray(), 0, stream.size());
         assertEquals("Hello", buffer.read(STRING_IO_UTF8));
@@ -512,8 +518,8 @@ public class NetworkBufferTest {
         assertThrows(IllegalArgumentException.class, () -> buffer.read(STRING_IO_UTF8)); // oom
         buffer.clear();
 
-        var stream = new java.io.ByteArrayOutputStream();
-        java.io.DataOutputStream out = new java.io.DataOutputStream(stream);
+        var stream = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(stream);
         out.writeUTF("Hello");
         var byteArray = stream.toByteArray();
 
@@ -599,6 +605,73 @@ public class NetworkBufferTest {
         assertBufferTypeOptional(type, value, null);
     }
 
+    @Test
+    public void gatheringWrite() throws IOException {
+        var first = NetworkBuffer.resizableBuffer(16);
+        first.write(INT, 1);
+        var second = NetworkBuffer.resizableBuffer(16);
+        second.write(INT, 2);
+        second.write(INT, 3);
+        second.read(INT); // Skip the first int
+
+        var stream = new ByteArrayOutputStream();
+        var channel = Channels.newChannel(stream);
+        final long count = NetworkBuffer.writeChannel(new GatheringChannel(channel), new NetworkBuffer[]{first, second}, 0, 2);
+        assertEquals(8, count);
+        assertEquals(0, first.readableBytes());
+        assertEquals(0, second.readableBytes());
+
+        var result = NetworkBuffer.wrap(stream.toByteArray(), 0, 8);
+        assertEquals(1, result.read(INT));
+        assertEquals(3, result.read(INT));
+    }
+
+    @Test
+    public void readOnlyView() {
+        var buffer = NetworkBuffer.resizableBuffer(16);
+        buffer.write(INT, 1);
+        buffer.write(INT, 2);
+        assertThrows(UnsupportedOperationException.class, () -> buffer.view(0, 4));
+
+        buffer.readOnly();
+        var view = buffer.view(4, 4);
+        assertTrue(view.isReadOnly());
+        assertEquals(4, view.capacity());
+        assertEquals(4, view.readableBytes());
+        assertEquals(2, view.read(INT));
+        assertThrows(UnsupportedOperationException.class, () -> view.write(INT, 3));
+        assertThrows(IndexOutOfBoundsException.class, () -> buffer.view(4, 8));
+    }
+
+    private record GatheringChannel(WritableByteChannel channel) implements GatheringByteChannel {
+        @Override
+        public long write(ByteBuffer[] srcs, int offset, int length) throws IOException {
+            long count = 0;
+            for (int i = offset; i < offset + length; i++) count += channel.write(srcs[i]);
+            return count;
+        }
+
+        @Override
+        public long write(ByteBuffer[] srcs) throws IOException {
+            return write(srcs, 0, srcs.length);
+        }
+
+        @Override
+        public int write(ByteBuffer src) throws IOException {
+            return channel.write(src);
+        }
+
+        @Override
+        public boolean isOpen() {
+            return channel.isOpen();
+        }
+
+        @Override
+        public void close() throws IOException {
+            channel.close();
+        }
+    }
+
     static <T> void assertBufferTypeCollection(NetworkBuffer.Type<T> type, List<T> values, byte @Nullable [] expected) {
         var buffer = NetworkBuffer.resizableBuffer(MinecraftServer.process());
         buffer.write(type.list(), values);
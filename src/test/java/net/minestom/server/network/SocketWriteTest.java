@@ -1,16 +1,18 @@
 package net.minestom.server.network;
 
+import net.minestom.server.MinecraftServer;
+import net.minestom.server.network.packet.CompressionCache;
 import net.minestom.server.network.packet.PacketVanilla;
 import net.minestom.server.network.packet.PacketWriting;
 import net.minestom.server.network.packet.server.ServerPacket;
 import org.junit.jupiter.api.Test;
 
 import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.zip.Deflater;
 
-import static net.minestom.server.network.NetworkBuffer.INT;
-import static net.minestom.server.network.NetworkBuffer.STRING;
-import static org.junit.jupiter.api.Assertions.assertEquals;
-import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static net.minestom.server.network.NetworkBuffer.*;
+import static org.junit.jupiter.api.Assertions.*;
 
 public class SocketWriteTest {
 
@@ -92,6 +94,62 @@ public class SocketWriteTest {
         assertEquals((3 + 3 + 1 + 4) * 2, buffer.writeIndex(), "Invalid buffer position");
     }
 
+    @Test
+    public void writeCompressionSkipped() {
+        var string = "Hello world!".repeat(200);
+        var stringLength = string.getBytes(StandardCharsets.UTF_8).length;
+        var lengthLength = getVarIntSize(stringLength);
+
+        MinecraftServer.setCompressionStrategy(CompressionStrategy.perPacket(Deflater.DEFAULT_COMPRESSION,
+                Map.of(CompressiblePacket.class, CompressionStrategy.SKIP)));
+        try {
+            var buffer = PacketVanilla.PACKET_POOL.get();
+            PacketWriting.writeFramedPacket(buffer, CompressiblePacket.SERIALIZER, 1, new CompressiblePacket(string), 256);
+
+            // Compressed format with a data length of 0
+            assertEquals(3 + 3 + 1 + lengthLength + stringLength, buffer.writeIndex(), "Packet should not be compressed");
+            assertEquals(0, (int) buffer.readAt(3, VAR_INT_3));
+        } finally {
+            MinecraftServer.setCompressionStrategy(CompressionStrategy.vanilla());
+        }
+    }
+
+    @Test
+    public void invalidCompressionLevel() {
+        assertThrows(IllegalArgumentException.class, () -> CompressionStrategy.perPacket(10, Map.of()));
+        assertThrows(IllegalArgumentException.class, () -> CompressionStrategy.perPacket(Deflater.DEFAULT_COMPRESSION,
+                Map.of(CompressiblePacket.class, -2)));
+    }
+
+    @Test
+    public void writeCompressedCached() {
+        var cache = new CompressionCache(1024 * 1024, 256);
+        var packet = new CompressiblePacket("Hello world!".repeat(200));
+
+        var expected = NetworkBuffer.resizableBuffer();
+        PacketWriting.writeFramedPacket(expected, CompressiblePacket.SERIALIZER, 1, packet, 256);
+
+        var first = NetworkBuffer.resizableBuffer();
+        PacketWriting.writeFramedPacket(first, CompressiblePacket.SERIALIZER, 1, packet, 256, cache);
+        assertEquals(1, cache.count());
+        var second = NetworkBuffer.resizableBuffer();
+        PacketWriting.writeFramedPacket(second, CompressiblePacket.SERIALIZER, 1, packet, 256, cache);
+        assertEquals(1, cache.count());
+
+        assertArrayEquals(expected.read(RAW_BYTES), first.read(RAW_BYTES));
+        expected.readIndex(0);
+        assertArrayEquals(expected.read(RAW_BYTES), second.read(RAW_BYTES));
+
+        // Different content must not hit
+        var other = NetworkBuffer.resizableBuffer();
+        PacketWriting.writeFramedPacket(other, CompressiblePacket.SERIALIZER, 1, new CompressiblePacket("Hello world?".repeat(200)), 256, cache);
+        assertEquals(2, cache.count());
+
+        cache.clear();
+        assertEquals(0, cache.count());
+        assertEquals(0, cache.usedBytes());
+    }
+
     private static int getVarIntSize(int input) {
         return (input & 0xFFFFFF80) == 0
                 ? 1 : (input & 0xFFFFC000) == 0
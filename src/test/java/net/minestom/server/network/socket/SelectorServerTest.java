@@ -0,0 +1,72 @@
+package net.minestom.server.network.socket;
+
+import net.minestom.server.MinecraftServer;
+import net.minestom.server.network.ConnectionState;
+import net.minestom.server.network.NetworkBuffer;
+import net.minestom.server.network.packet.PacketReading;
+import net.minestom.server.network.packet.PacketVanilla;
+import net.minestom.server.network.packet.PacketWriting;
+import net.minestom.server.network.packet.client.handshake.ClientHandshakePacket;
+import net.minestom.server.network.packet.client.status.StatusRequestPacket;
+import net.minestom.server.network.packet.server.ServerPacket;
+import net.minestom.server.network.packet.server.status.ResponsePacket;
+import net.minestom.testing.Env;
+import net.minestom.testing.EnvTest;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.channels.SocketChannel;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.DataFormatException;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+@EnvTest
+public class SelectorServerTest {
+
+    @Test
+    public void statusRoundTrip(Env env) throws Exception {
+        // These like to fail on github actions
+        assumeTrue(System.getenv("GITHUB_ACTIONS") == null);
+
+        var server = new Server(PacketVanilla.CLIENT_PACKET_PARSER, 2);
+        server.init(new InetSocketAddress("localhost", 0));
+        assertEquals(2, server.selectorThreads());
+        server.start();
+        try {
+            // Multiple clients to spread over both selectors
+            for (int i = 0; i < 4; i++) {
+                try (SocketChannel client = SocketChannel.open(new InetSocketAddress("localhost", server.getPort()))) {
+                    NetworkBuffer buffer = NetworkBuffer.resizableBuffer(MinecraftServer.process());
+                    PacketWriting.writeFramedPacket(buffer, ConnectionState.HANDSHAKE,
+                            new ClientHandshakePacket(MinecraftServer.PROTOCOL_VERSION, "localhost", server.getPort(), ClientHandshakePacket.Intent.STATUS), 0);
+                    PacketWriting.writeFramedPacket(buffer, ConnectionState.STATUS, new StatusRequestPacket(), 0);
+                    while (!buffer.writeChannel(client)) ;
+
+                    ServerPacket packet = readPacket(client);
+                    assertInstanceOf(ResponsePacket.class, packet);
+                }
+            }
+        } finally {
+            server.stop();
+        }
+    }
+
+    private static ServerPacket readPacket(SocketChannel client) throws IOException, DataFormatException {
+        NetworkBuffer buffer = NetworkBuffer.resizableBuffer(MinecraftServer.process());
+        final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (System.nanoTime() < deadline) {
+            buffer.ensureWritable(1024);
+            buffer.readChannel(client);
+            final long readIndex = buffer.readIndex();
+            var result = PacketReading.readServer(buffer, ConnectionState.STATUS, false);
+            if (result instanceof PacketReading.Result.Success<ServerPacket> success) {
+                return success.packets().getFirst().packet();
+            }
+            buffer.readIndex(readIndex);
+        }
+        return fail("No response received");
+    }
+}